@@ -14,6 +14,9 @@
  * limitations under the License.
  */
 package io.nem.symbol.core.crypto;
+
+import java.nio.ByteBuffer;
+
 /** Interface for encryption and decryption of data. */
 public interface BlockCipher {
 
@@ -32,4 +35,42 @@ public interface BlockCipher {
    * @return The decrypted message or null if decryption failed.
    */
   byte[] decrypt(final byte[] input);
+
+  /**
+   * Encrypts the remaining bytes of the input and writes the encrypted message to the output,
+   * without intermediate copies of the message.
+   *
+   * @param input The message to encrypt. Its position is moved to its limit.
+   * @param output The buffer receiving the encrypted message. It must have {@link
+   *     #getEncryptedSize(int)} bytes remaining, its position is moved after the written bytes.
+   * @return The number of bytes written to the output.
+   */
+  int encrypt(final ByteBuffer input, final ByteBuffer output);
+
+  /**
+   * Decrypts the remaining bytes of the input and writes the decrypted message to the output,
+   * without intermediate copies of the message.
+   *
+   * @param input The message to decrypt. Its position is moved to its limit.
+   * @param output The buffer receiving the decrypted message. It must have {@link
+   *     #getDecryptedSize(int)} bytes remaining, its position is moved after the written bytes.
+   * @return The number of bytes written to the output.
+   */
+  int decrypt(final ByteBuffer input, final ByteBuffer output);
+
+  /**
+   * Gets the size of the encrypted message of a message.
+   *
+   * @param inputLength The length of the message to encrypt.
+   * @return The encrypted message size.
+   */
+  int getEncryptedSize(final int inputLength);
+
+  /**
+   * Gets the size of the decrypted message of an encrypted message.
+   *
+   * @param inputLength The length of the message to decrypt.
+   * @return The decrypted message size.
+   */
+  int getDecryptedSize(final int inputLength);
 }
@@ -32,6 +32,22 @@ public interface CryptoEngine {
    */
   DsaSigner createDsaSigner(final KeyPair keyPair);
 
+  /**
+   * Creates a signing context, a DSA signer that prepares the private key once for all its
+   * signatures.
+   *
+   * @param keyPair The key pair, it must have the private key.
+   * @return The signing context.
+   */
+  SigningContext createSigningContext(final KeyPair keyPair);
+
+  /**
+   * Creates a DSA batch verifier.
+   *
+   * @return The DSA batch verifier.
+   */
+  DsaBatchVerifier createDsaBatchVerifier();
+
   /**
    * Creates a key generator.
    *
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+import org.bouncycastle.crypto.digests.SHA512Digest;
+
+/**
+ * Hash functions backed by digest instances that are reused per thread, so hashing doesn't pay for
+ * a provider lookup on every call. The JDK implementation is used when the running JVM provides
+ * the algorithm (SHA3 is available from Java 9), otherwise the BouncyCastle one.
+ *
+ * <p>Besides byte arrays, the inputs can be array slices and {@link ByteBuffer}s so callers don't
+ * need to concatenate or copy the data before hashing it.
+ */
+public enum DigestEngine implements Hasher {
+
+  /** The SHA3-256 algorithm. */
+  SHA3_256("SHA3-256", () -> new SHA3Digest(256)),
+
+  /** The SHA3-512 algorithm. */
+  SHA3_512("SHA3-512", () -> new SHA3Digest(512)),
+
+  /** The KECCAK-256 algorithm. */
+  KECCAK_256(null, () -> new KeccakDigest(256)),
+
+  /** The KECCAK-512 algorithm. */
+  KECCAK_512(null, () -> new KeccakDigest(512)),
+
+  /** The SHA-256 algorithm. */
+  SHA_256("SHA-256", SHA256Digest::new),
+
+  /** The SHA-512 algorithm. */
+  SHA_512("SHA-512", SHA512Digest::new),
+
+  /** The RIPEMD-160 algorithm. */
+  RIPEMD_160(null, RIPEMD160Digest::new);
+
+  /** The size of the chunks used to copy direct buffers. */
+  private static final int CHUNK_SIZE = 256;
+
+  /** The digest of the calling thread. */
+  private final ThreadLocal<DigestState> state;
+
+  /** The name of the provider of the digests. */
+  private final String providerName;
+
+  DigestEngine(final String jdkAlgorithm, final Supplier<Digest> fallback) {
+    final Supplier<Digest> factory =
+        isAvailableInJdk(jdkAlgorithm) ? () -> new MessageDigestAdapter(jdkAlgorithm) : fallback;
+    this.providerName = factory.get() instanceof MessageDigestAdapter ? "SUN" : "BC";
+    this.state = ThreadLocal.withInitial(() -> new DigestState(factory.get()));
+  }
+
+  private static boolean isAvailableInJdk(final String jdkAlgorithm) {
+    if (jdkAlgorithm == null) {
+      return false;
+    }
+    try {
+      MessageDigest.getInstance(jdkAlgorithm, "SUN");
+      return true;
+    } catch (GeneralSecurityException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Gets the name of the provider of the digests, SUN for the JDK or BC for BouncyCastle.
+   *
+   * @return The provider name.
+   */
+  public String getProviderName() {
+    return this.providerName;
+  }
+
+  /**
+   * Gets the size of the hashes in bytes.
+   *
+   * @return The hash size.
+   */
+  public int getDigestSize() {
+    return this.state.get().digest.getDigestSize();
+  }
+
+  @Override
+  public byte[] hash(final byte[]... inputs) {
+    final Digest digest = this.start();
+    for (final byte[] input : inputs) {
+      digest.update(input, 0, input.length);
+    }
+    return finish(digest);
+  }
+
+  @Override
+  public byte[] hash(final byte[] input, final int offset, final int length) {
+    final Digest digest = this.start();
+    digest.update(input, offset, length);
+    return finish(digest);
+  }
+
+  /**
+   * Hashes input[offset, offset + length) and writes the hash to output without allocating.
+   *
+   * @param input The array holding the data.
+   * @param offset The offset of the data.
+   * @param length The length of the data.
+   * @param output The array receiving the hash.
+   * @param outputOffset The offset in output where the hash is written.
+   */
+  public void hash(
+      final byte[] input,
+      final int offset,
+      final int length,
+      final byte[] output,
+      final int outputOffset) {
+    final Digest digest = this.start();
+    digest.update(input, offset, length);
+    digest.doFinal(output, outputOffset);
+  }
+
+  @Override
+  public byte[] hash(final ByteBuffer... inputs) {
+    final DigestState current = this.state.get();
+    current.digest.reset();
+    for (final ByteBuffer input : inputs) {
+      update(current, input);
+    }
+    return finish(current.digest);
+  }
+
+  private Digest start() {
+    final Digest digest = this.state.get().digest;
+    digest.reset();
+    return digest;
+  }
+
+  private static byte[] finish(final Digest digest) {
+    final byte[] result = new byte[digest.getDigestSize()];
+    digest.doFinal(result, 0);
+    return result;
+  }
+
+  /** Updates the digest with the remaining bytes of the buffer without moving its position. */
+  private static void update(final DigestState current, final ByteBuffer input) {
+    if (input.hasArray()) {
+      current.digest.update(
+          input.array(), input.arrayOffset() + input.position(), input.remaining());
+      return;
+    }
+    for (int index = input.position(); index < input.limit(); index += CHUNK_SIZE) {
+      final int length = Math.min(CHUNK_SIZE, input.limit() - index);
+      for (int i = 0; i < length; i++) {
+        current.chunk[i] = input.get(index + i);
+      }
+      current.digest.update(current.chunk, 0, length);
+    }
+  }
+
+  /** The digest of a thread and its scratch buffer. */
+  private static class DigestState {
+
+    private final Digest digest;
+
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+
+    private DigestState(final Digest digest) {
+      this.digest = digest;
+    }
+  }
+
+  /** Exposes a JDK {@link MessageDigest} as a BouncyCastle {@link Digest}. */
+  private static class MessageDigestAdapter implements Digest {
+
+    private final MessageDigest messageDigest;
+
+    private MessageDigestAdapter(final String algorithm) {
+      try {
+        this.messageDigest = MessageDigest.getInstance(algorithm, "SUN");
+      } catch (GeneralSecurityException e) {
+        throw new CryptoException(e.getMessage(), e);
+      }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+      return this.messageDigest.getAlgorithm();
+    }
+
+    @Override
+    public int getDigestSize() {
+      return this.messageDigest.getDigestLength();
+    }
+
+    @Override
+    public void update(final byte in) {
+      this.messageDigest.update(in);
+    }
+
+    @Override
+    public void update(final byte[] in, final int inOff, final int len) {
+      this.messageDigest.update(in, inOff, len);
+    }
+
+    @Override
+    public int doFinal(final byte[] out, final int outOff) {
+      try {
+        return this.messageDigest.digest(out, outOff, this.getDigestSize());
+      } catch (GeneralSecurityException e) {
+        throw new CryptoException(e.getMessage(), e);
+      }
+    }
+
+    @Override
+    public void reset() {
+      this.messageDigest.reset();
+    }
+  }
+}
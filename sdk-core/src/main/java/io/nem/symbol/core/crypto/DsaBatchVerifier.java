@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import java.util.List;
+
+/**
+ * Interface that supports the verification of many signatures, from possibly different signers, in
+ * one go. The three lists are parallel, the item i of each list belongs to the same signature.
+ */
+public interface DsaBatchVerifier {
+
+  /**
+   * Verifies that all the signatures are valid.
+   *
+   * @param data The original messages.
+   * @param signatures The generated signatures.
+   * @param publicKeys The public keys of the signers.
+   * @return true if all the signatures are valid.
+   */
+  boolean verifyBatch(
+      final List<byte[]> data, final List<Signature> signatures, final List<PublicKey> publicKeys);
+
+  /**
+   * Finds the first invalid signature. The whole batch is verified first, the signatures are only
+   * verified one by one when the batch is invalid.
+   *
+   * @param data The original messages.
+   * @param signatures The generated signatures.
+   * @param publicKeys The public keys of the signers.
+   * @return the index of the first invalid signature or -1 if all the signatures are valid.
+   */
+  int findFirstInvalid(
+      final List<byte[]> data, final List<Signature> signatures, final List<PublicKey> publicKeys);
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import java.nio.ByteBuffer;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A 32 bytes hash like the transaction, merkle component and block hashes.
+ *
+ * <p>The hash is stored as four longs, so it's compact, equality is a byte level comparison and
+ * its hash code is computed once. The hex form is only computed the first time it's requested and
+ * hex strings can be compared with {@link #equalsHex(CharSequence)} without decoding them.
+ */
+public final class Hash256 {
+
+  /** The size of the hashes in bytes. */
+  public static final int SIZE = 32;
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /** Bytes 0 to 7 of the hash, big endian. */
+  private final long value0;
+
+  /** Bytes 8 to 15 of the hash, big endian. */
+  private final long value1;
+
+  /** Bytes 16 to 23 of the hash, big endian. */
+  private final long value2;
+
+  /** Bytes 24 to 31 of the hash, big endian. */
+  private final long value3;
+
+  private final int hashCode;
+
+  /** The lazily computed upper case hex. */
+  private volatile String hex;
+
+  private Hash256(long value0, long value1, long value2, long value3) {
+    this.value0 = value0;
+    this.value1 = value1;
+    this.value2 = value2;
+    this.value3 = value3;
+    // the bits of a hash are already evenly distributed.
+    this.hashCode = (int) (value0 ^ (value0 >>> 32));
+  }
+
+  /**
+   * Creates a hash from its bytes.
+   *
+   * @param bytes the hash (32 bytes).
+   * @return the hash.
+   */
+  public static Hash256 fromBytes(byte[] bytes) {
+    Validate.notNull(bytes, "bytes must not be null");
+    Validate.isTrue(bytes.length == SIZE, "Hash size " + bytes.length + " is not " + SIZE);
+    return fromBytes(bytes, 0);
+  }
+
+  /**
+   * Creates a hash from the bytes stored at bytes[offset, offset + 32).
+   *
+   * @param bytes the array holding the hash.
+   * @param offset the offset of the hash.
+   * @return the hash.
+   */
+  public static Hash256 fromBytes(byte[] bytes, int offset) {
+    Validate.notNull(bytes, "bytes must not be null");
+    Validate.isTrue(
+        offset >= 0 && offset + SIZE <= bytes.length,
+        "bytes doesn't have " + SIZE + " bytes at offset " + offset);
+    return new Hash256(
+        getLong(bytes, offset),
+        getLong(bytes, offset + 8),
+        getLong(bytes, offset + 16),
+        getLong(bytes, offset + 24));
+  }
+
+  /**
+   * Creates a hash from the bytes stored at buffer[index, index + 32). The position of the buffer
+   * is not changed.
+   *
+   * @param buffer the buffer holding the hash.
+   * @param index the index of the hash.
+   * @return the hash.
+   */
+  public static Hash256 fromByteBuffer(ByteBuffer buffer, int index) {
+    Validate.notNull(buffer, "buffer must not be null");
+    Validate.isTrue(
+        index >= 0 && index + SIZE <= buffer.limit(),
+        "buffer doesn't have " + SIZE + " bytes at index " + index);
+    long[] values = new long[4];
+    for (int i = 0; i < SIZE; i++) {
+      values[i / 8] = (values[i / 8] << 8) | (buffer.get(index + i) & 0xFF);
+    }
+    return new Hash256(values[0], values[1], values[2], values[3]);
+  }
+
+  /**
+   * Creates a hash from its hex, upper or lower case.
+   *
+   * @param hex the hex (64 characters).
+   * @return the hash.
+   * @throws IllegalArgumentException if the hex is not a 32 bytes hex.
+   */
+  public static Hash256 fromHex(String hex) {
+    Validate.notNull(hex, "hex must not be null");
+    Validate.isTrue(hex.length() == SIZE * 2, "%s is not a %s bytes hex", hex, SIZE);
+    long[] values = new long[4];
+    boolean upperCase = true;
+    for (int i = 0; i < SIZE * 2; i++) {
+      char c = hex.charAt(i);
+      int digit = digit(c);
+      Validate.isTrue(digit >= 0, "%s is not a %s bytes hex", hex, SIZE);
+      upperCase &= c <= 'F';
+      values[i / 16] = (values[i / 16] << 4) | digit;
+    }
+    Hash256 hash = new Hash256(values[0], values[1], values[2], values[3]);
+    if (upperCase) {
+      // the given string is already the hex of the hash.
+      hash.hex = hex;
+    }
+    return hash;
+  }
+
+  /**
+   * Returns the bytes of the hash.
+   *
+   * @return a new array with the 32 bytes.
+   */
+  public byte[] getBytes() {
+    byte[] bytes = new byte[SIZE];
+    this.writeBytes(bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Writes the hash to bytes[offset, offset + 32) without allocating.
+   *
+   * @param bytes the array receiving the hash.
+   * @param offset the offset where the hash is written.
+   */
+  public void writeBytes(byte[] bytes, int offset) {
+    putLong(bytes, offset, this.value0);
+    putLong(bytes, offset + 8, this.value1);
+    putLong(bytes, offset + 16, this.value2);
+    putLong(bytes, offset + 24, this.value3);
+  }
+
+  /** @return the upper case hex of the hash, computed once. */
+  public String toHex() {
+    String result = this.hex;
+    if (result == null) {
+      result = toHexUncached();
+      this.hex = result;
+    }
+    return result;
+  }
+
+  /**
+   * Checks if a hex, upper or lower case, represents this hash. The hex is not decoded and nothing
+   * is allocated.
+   *
+   * @param hex the hex, it may be null.
+   * @return true if the hex represents this hash.
+   */
+  public boolean equalsHex(CharSequence hex) {
+    if (hex == null || hex.length() != SIZE * 2) {
+      return false;
+    }
+    for (int i = 0; i < SIZE * 2; i++) {
+      if (digit(hex.charAt(i)) != this.nibble(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String toHexUncached() {
+    char[] chars = new char[SIZE * 2];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = HEX_DIGITS[this.nibble(i)];
+    }
+    return new String(chars);
+  }
+
+  /** Returns the 4 bits of the hash at the given hex position. */
+  private int nibble(int index) {
+    long value;
+    switch (index / 16) {
+      case 0:
+        value = this.value0;
+        break;
+      case 1:
+        value = this.value1;
+        break;
+      case 2:
+        value = this.value2;
+        break;
+      default:
+        value = this.value3;
+        break;
+    }
+    return (int) (value >>> ((15 - index % 16) * 4)) & 0xF;
+  }
+
+  /** Returns the value of a hex digit or -1 if the character is not a hex digit. */
+  private static int digit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    char lower = (char) (c | 0x20);
+    if (lower >= 'a' && lower <= 'f') {
+      return lower - 'a' + 10;
+    }
+    return -1;
+  }
+
+  private static long getLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  private static void putLong(byte[] bytes, int offset, long value) {
+    for (int i = 7; i >= 0; i--) {
+      bytes[offset + i] = (byte) value;
+      value >>>= 8;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Hash256)) {
+      return false;
+    }
+    Hash256 hash256 = (Hash256) o;
+    return value0 == hash256.value0
+        && value1 == hash256.value1
+        && value2 == hash256.value2
+        && value3 == hash256.value3;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /** @return the upper case hex of the hash. */
+  @Override
+  public String toString() {
+    return toHex();
+  }
+}
@@ -14,9 +14,43 @@
  * limitations under the License.
  */
 package io.nem.symbol.core.crypto;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /** Function that hashes inputs according to the preconfigured schema. */
 @FunctionalInterface
 public interface Hasher {
 
   byte[] hash(byte[]... inputs);
+
+  /**
+   * Hashes the slice input[offset, offset + length). Implementations like {@link DigestEngine}
+   * hash the slice in place, this default copies it.
+   *
+   * @param input The array holding the data.
+   * @param offset The offset of the data.
+   * @param length The length of the data.
+   * @return The hash of the slice.
+   */
+  default byte[] hash(final byte[] input, final int offset, final int length) {
+    return hash(Arrays.copyOfRange(input, offset, offset + length));
+  }
+
+  /**
+   * Hashes the concatenated remaining bytes of the buffers. The positions of the buffers are not
+   * changed. Implementations like {@link DigestEngine} hash the buffers in place, this default
+   * copies them.
+   *
+   * @param inputs The buffers to concatenate and hash.
+   * @return The hash of the concatenated buffers.
+   */
+  default byte[] hash(final ByteBuffer... inputs) {
+    final byte[][] arrays = new byte[inputs.length][];
+    for (int i = 0; i < inputs.length; i++) {
+      arrays[i] = new byte[inputs[i].remaining()];
+      inputs[i].duplicate().get(arrays[i]);
+    }
+    return hash(arrays);
+  }
 }
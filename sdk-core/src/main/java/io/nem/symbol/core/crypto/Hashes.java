@@ -15,8 +15,6 @@
  */
 package io.nem.symbol.core.crypto;
 
-import io.nem.symbol.core.utils.ExceptionUtils;
-import java.security.MessageDigest;
 import java.security.Security;
 import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.digests.SHA256Digest;
@@ -24,31 +22,9 @@ import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
 import org.bouncycastle.crypto.params.HKDFParameters;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
-/** Static class that exposes hash functions. */
+/** Static class that exposes hash functions. The hashing is delegated to {@link DigestEngine}. */
 public class Hashes {
 
-  /** The provider. */
-  private static final String BC = "BC";
-
-  /** The SHA256 algorithm. */
-  private static final String SHA_256 = "SHA256";
-
-  /** The SHA512 algorithm. */
-  private static final String SHA_512 = "SHA512";
-
-  /** The RIPEMD_160 algorithm. */
-  private static final String RIPEMD_160 = "RIPEMD160";
-
-  /** The SHA3-256 algorithm. */
-  private static final String SHA_3_256 = "SHA3-256";
-
-  /** The SHA3-512 algorithm. */
-  private static final String SHA_3_512 = "SHA3-512";
-  /** The KECCAK-256 algorithm. */
-  private static final String KECCAK_256 = "KECCAK-256";
-  /** The KECCAK-512 algorithm. */
-  private static final String KECCAK_512 = "KECCAK-512";
-
   /** Private constructor for this utility class. */
   private Hashes() {}
 
@@ -65,7 +41,7 @@ public class Hashes {
    */
   @SuppressWarnings("squid:S00100")
   public static byte[] sha3_256(final byte[]... inputs) {
-    return hash(SHA_3_256, inputs);
+    return DigestEngine.SHA3_256.hash(inputs);
   }
 
   /**
@@ -77,7 +53,7 @@ public class Hashes {
    */
   @SuppressWarnings("squid:S00100")
   public static byte[] sha3_512(final byte[]... inputs) {
-    return hash(SHA_3_512, inputs);
+    return DigestEngine.SHA3_512.hash(inputs);
   }
 
   /**
@@ -88,7 +64,7 @@ public class Hashes {
    * @throws CryptoException if the hash operation failed.
    */
   public static byte[] ripemd160(final byte[]... inputs) {
-    return hash(RIPEMD_160, inputs);
+    return DigestEngine.RIPEMD_160.hash(inputs);
   }
 
   /**
@@ -99,7 +75,7 @@ public class Hashes {
    * @throws CryptoException if the hash operation failed.
    */
   public static byte[] keccak256(final byte[]... inputs) {
-    return hash(KECCAK_256, inputs);
+    return DigestEngine.KECCAK_256.hash(inputs);
   }
 
   /**
@@ -110,7 +86,7 @@ public class Hashes {
    * @throws CryptoException if the hash operation failed.
    */
   public static byte[] keccak512(final byte[]... inputs) {
-    return hash(KECCAK_512, inputs);
+    return DigestEngine.KECCAK_512.hash(inputs);
   }
 
   /**
@@ -121,7 +97,7 @@ public class Hashes {
    * @throws CryptoException if the hash operation failed.
    */
   public static byte[] sha512(final byte[]... inputs) {
-    return hash(SHA_512, inputs);
+    return DigestEngine.SHA_512.hash(inputs);
   }
 
   /**
@@ -132,8 +108,8 @@ public class Hashes {
    * @throws CryptoException if the hash operation failed.
    */
   public static byte[] hash256(final byte[]... inputs) {
-    byte[] hashedSha256 = hash(SHA_256, inputs);
-    return hash(SHA_256, hashedSha256);
+    byte[] hashedSha256 = DigestEngine.SHA_256.hash(inputs);
+    return DigestEngine.SHA_256.hash(hashedSha256);
   }
 
   /**
@@ -144,22 +120,8 @@ public class Hashes {
    * @throws CryptoException if the hash operation failed.
    */
   public static byte[] hash160(final byte[]... inputs) {
-    byte[] hashedSha256 = hash(SHA_256, inputs);
-    return hash(RIPEMD_160, hashedSha256);
-  }
-
-  private static byte[] hash(final String algorithm, final byte[]... inputs) {
-    return ExceptionUtils.propagate(
-        () -> {
-          final MessageDigest digest = MessageDigest.getInstance(algorithm, BC);
-
-          for (final byte[] input : inputs) {
-            digest.update(input);
-          }
-
-          return digest.digest();
-        },
-        e -> new CryptoException(e.getMessage(), e));
+    byte[] hashedSha256 = DigestEngine.SHA_256.hash(inputs);
+    return DigestEngine.RIPEMD_160.hash(hashedSha256);
   }
 
   /**
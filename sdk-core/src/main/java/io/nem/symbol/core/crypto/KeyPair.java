@@ -29,6 +29,11 @@ public class KeyPair {
 
   private final PublicKey publicKey;
 
+  private final CryptoEngine engine;
+
+  /** The signing context, created the first time it's used. */
+  private volatile SigningContext signingContext;
+
   private KeyPair(
       final Optional<PrivateKey> privateKey, final PublicKey publicKey, CryptoEngine engine) {
     Validate.notNull(privateKey, "Optional PrivateKey must not be null");
@@ -39,6 +44,7 @@ public class KeyPair {
     }
     this.privateKey = privateKey;
     this.publicKey = publicKey;
+    this.engine = engine;
   }
 
   /**
@@ -133,4 +139,20 @@ public class KeyPair {
   public boolean hasPrivateKey() {
     return privateKey.isPresent();
   }
+
+  /**
+   * Gets the signing context of this key pair. The context is created the first time and then
+   * reused, so the private key is only prepared once for all the signatures.
+   *
+   * @return the signing context.
+   * @throws IllegalStateException if the private key hasn't been set.
+   */
+  public SigningContext getSigningContext() {
+    SigningContext context = this.signingContext;
+    if (context == null) {
+      context = this.engine.createSigningContext(this);
+      this.signingContext = context;
+    }
+    return context;
+  }
 }
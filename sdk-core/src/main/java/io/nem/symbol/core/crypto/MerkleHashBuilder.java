@@ -15,55 +15,129 @@
  */
 package io.nem.symbol.core.crypto;
 
+import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
+import io.nem.symbol.sdk.model.blockchain.Position;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
 
-/** Merkle hash builder. */
+/**
+ * Merkle hash builder.
+ *
+ * <p>The leaves are stored back to back in a single array and the tree is reduced level by level,
+ * so computing the root is linear in the number of leaves and only two level buffers are
+ * allocated. When a level has an odd number of hashes the last one is paired with itself. The
+ * pairs of the large levels are hashed in parallel.
+ */
 public class MerkleHashBuilder {
 
-  private final List<byte[]> hashes;
+  /** The size of the hashes of the tree. */
+  private static final int HASH_SIZE = 32;
+
+  /** The min number of pairs of a level for it to be hashed in parallel. */
+  private static final int PARALLEL_THRESHOLD = 4096;
+
+  private static final DigestEngine HASHER = DigestEngine.SHA3_256;
+
+  /** The leaves, one after the other. */
+  private byte[] leaves;
+
+  /** The number of leaves. */
+  private int size;
 
   /** Constructor. */
   public MerkleHashBuilder() {
-    this.hashes = new ArrayList<>();
+    this(16);
   }
 
-  private byte[] getRootHash(List<byte[]> hashes) {
-    if (hashes.isEmpty()) {
-      return new byte[32];
+  /**
+   * Constructor.
+   *
+   * @param expectedSize The expected number of leaves, used to size the storage of the leaves.
+   */
+  public MerkleHashBuilder(final int expectedSize) {
+    Validate.isTrue(expectedSize >= 0, "expectedSize must not be negative");
+    this.leaves = new byte[Math.max(1, expectedSize) * HASH_SIZE];
+  }
+
+  /**
+   * Get the merkle tree root hash.
+   *
+   * @return Root hash.
+   */
+  public byte[] getRootHash() {
+    if (this.size == 0) {
+      return new byte[HASH_SIZE];
     }
 
-    // build the merkle tree
-    int numRemainingHashes = hashes.size();
+    // build the merkle root
+    final byte[][] levels = this.createLevelBuffers();
+    int count = this.size;
+    int current = 0;
+    while (count > 1) {
+      count = hashLevel(levels[current], count, levels[1 - current]);
+      current = 1 - current;
+    }
 
-    Hasher hasher = Hashes::sha3_256;
-    while (numRemainingHashes > 1) {
+    return Arrays.copyOf(levels[current], HASH_SIZE);
+  }
 
-      for (int i = 0; i < numRemainingHashes; i += 2) {
-        if (i + 1 < numRemainingHashes) {
-          hashes.add(i / 2, hasher.hash(hashes.get(i), hashes.get(i + 1)));
-          continue;
-        }
+  /**
+   * Gets the merkle path of a leaf, the sibling hashes from the leaf up to the root. Folding the
+   * leaf with the path using {@link #computeRootHash(byte[], List)} gives the root hash.
+   *
+   * @param index The index of the leaf, in the order the leaves were added.
+   * @return The merkle path, empty when the tree has a single leaf.
+   */
+  public List<MerklePathItem> getMerklePath(final int index) {
+    Validate.isTrue(
+        index >= 0 && index < this.size, "index %s must be in [0, %s)", index, this.size);
 
-        // if there is an odd number of hashes, duplicate the last one
-        hashes.add(i / 2, hasher.hash(hashes.get(i), hashes.get(i)));
-        ++numRemainingHashes;
-      }
+    final List<MerklePathItem> path = new ArrayList<>();
+    final byte[][] levels = this.createLevelBuffers();
+    int count = this.size;
+    int position = index;
+    int current = 0;
+    while (count > 1) {
+      final byte[] level = levels[current];
+      // a lone last hash is paired with itself, so its sibling is on the right
+      final boolean left = (position & 1) == 1;
+      final int sibling = left ? position - 1 : Math.min(position + 1, count - 1);
+      path.add(
+          new MerklePathItem(
+              left ? Position.LEFT : Position.RIGHT,
+              Hash256.fromBytes(level, sibling * HASH_SIZE)));
 
-      numRemainingHashes /= 2;
+      count = hashLevel(level, count, levels[1 - current]);
+      position /= 2;
+      current = 1 - current;
     }
 
-    return hashes.get(0);
+    return path;
   }
 
   /**
-   * Get the merkle tree root hash.
+   * Folds a leaf with its merkle path.
    *
-   * @return Root hash.
+   * @param leaf The leaf hash.
+   * @param path The merkle path of the leaf.
+   * @return The root hash of the tree the path belongs to.
    */
-  public byte[] getRootHash() {
-    // build the merkle root
-    return getRootHash(hashes);
+  public static byte[] computeRootHash(final byte[] leaf, final List<MerklePathItem> path) {
+    Validate.isTrue(leaf.length == HASH_SIZE, "leaf must be %s bytes", HASH_SIZE);
+    final byte[] pair = new byte[2 * HASH_SIZE];
+    final byte[] hash = Arrays.copyOf(leaf, HASH_SIZE);
+    for (final MerklePathItem item : path) {
+      // a path hash that is not 32 bytes is rejected when it's decoded.
+      final Hash256 sibling = item.getHash256();
+      final boolean left = item.getPosition() == Position.LEFT;
+      sibling.writeBytes(pair, left ? 0 : HASH_SIZE);
+      System.arraycopy(hash, 0, pair, left ? HASH_SIZE : 0, HASH_SIZE);
+      HASHER.hash(pair, 0, pair.length, hash, 0);
+    }
+    return hash;
   }
 
   /**
@@ -72,6 +146,59 @@ public class MerkleHashBuilder {
    * @param hash Hash to add.
    */
   public void update(final byte[] hash) {
-    hashes.add(hash);
+    Validate.isTrue(hash.length == HASH_SIZE, "hash must be %s bytes", HASH_SIZE);
+    if ((this.size + 1) * HASH_SIZE > this.leaves.length) {
+      this.leaves = Arrays.copyOf(this.leaves, this.leaves.length * 2);
+    }
+    System.arraycopy(hash, 0, this.leaves, this.size * HASH_SIZE, HASH_SIZE);
+    this.size++;
+  }
+
+  /**
+   * Gets the number of leaves added to the tree.
+   *
+   * @return The number of leaves.
+   */
+  public int getSize() {
+    return this.size;
+  }
+
+  /**
+   * Creates the two buffers the levels are alternated in, the first one holding the leaves. Each
+   * buffer has room for one extra hash so a lone last hash can be duplicated in place.
+   */
+  private byte[][] createLevelBuffers() {
+    final byte[] first = Arrays.copyOf(this.leaves, (this.size + 1) * HASH_SIZE);
+    final byte[] second = new byte[((this.size + 1) / 2 + 1) * HASH_SIZE];
+    return new byte[][] {first, second};
+  }
+
+  /**
+   * Hashes the pairs of a level into the next one.
+   *
+   * @param level The level, it must have room for count + 1 hashes.
+   * @param count The number of hashes of the level.
+   * @param next The array receiving the next level.
+   * @return The number of hashes of the next level.
+   */
+  private static int hashLevel(final byte[] level, final int count, final byte[] next) {
+    if ((count & 1) == 1) {
+      // if there is an odd number of hashes, duplicate the last one
+      System.arraycopy(level, (count - 1) * HASH_SIZE, level, count * HASH_SIZE, HASH_SIZE);
+    }
+
+    final int pairs = (count + 1) / 2;
+    if (pairs >= PARALLEL_THRESHOLD) {
+      IntStream.range(0, pairs).parallel().forEach(i -> hashPair(level, next, i));
+    } else {
+      for (int i = 0; i < pairs; i++) {
+        hashPair(level, next, i);
+      }
+    }
+    return pairs;
+  }
+
+  private static void hashPair(final byte[] level, final byte[] next, final int index) {
+    HASHER.hash(level, 2 * index * HASH_SIZE, 2 * HASH_SIZE, next, index * HASH_SIZE);
   }
 }
@@ -15,17 +15,21 @@
  */
 package io.nem.symbol.core.crypto;
 
-import io.nem.symbol.core.utils.ArrayUtils;
 import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.network.NetworkType;
-import java.util.Arrays;
 
 /** Utility class that knows how to create an address based on a public key. */
 public class RawAddress {
 
   public static final int NUM_CHECKSUM_BYTES = 3;
 
+  /** The size of a ripemd160 hash. */
+  private static final int RIPEMD_160_SIZE = 20;
+
+  /** The size of a raw address, network type byte, ripemd160 hash and checksum. */
+  public static final int RAW_ADDRESS_SIZE = 1 + RIPEMD_160_SIZE + NUM_CHECKSUM_BYTES;
+
   /** Private utility class constructor. */
   private RawAddress() {
     // private utility class constructor.
@@ -40,41 +44,51 @@ public class RawAddress {
    * @return an encoded address that can be used to identify accounts.
    */
   public static String generateAddress(final String publicKey, final NetworkType networkType) {
-
-    byte networkTypeValue = (byte) networkType.getValue();
-    // step 1: sha3 hash of the public key
     byte[] publicKeyBytes;
     try {
       publicKeyBytes = ConvertUtils.fromHexToBytes(publicKey);
     } catch (Exception e) {
       throw new IllegalArgumentException("Public key is not valid");
     }
-    final byte[] publicKeyHash = Hashes.sha3_256(publicKeyBytes);
-
-    // step 2: ripemd160 hash of (1)
-    final byte[] ripemd160StepOneHash = Hashes.ripemd160(publicKeyHash);
-
-    // step 3: add network type byte in front of (2)
-    final byte[] versionPrefixedRipemd160Hash =
-        ArrayUtils.concat(new byte[] {networkTypeValue}, ripemd160StepOneHash);
-
-    // step 4: get the checksum of (3)
-    final byte[] stepThreeChecksum = generateChecksum(versionPrefixedRipemd160Hash);
-
-    // step 5: concatenate (3) and (4)
-    final byte[] concatStepThreeAndStepSix =
-        ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
+    final byte[] address = new byte[RAW_ADDRESS_SIZE];
+    generateAddress(publicKeyBytes, 0, publicKeyBytes.length, networkType, address, 0);
 
     // step 6: base32 encode (5)
-    String base32 = Base32Encoder.getString(concatStepThreeAndStepSix);
+    String base32 = Base32Encoder.getString(address);
     return base32.substring(0, base32.length() - 1);
   }
 
-  private static byte[] generateChecksum(final byte[] input) {
-    // step 1: sha3 hash of (input
-    final byte[] stepThreeHash = Hashes.sha3_256(input);
+  /**
+   * Generates the raw (decoded) address of a public key directly from its bytes, without going
+   * through hex or base32 strings.
+   *
+   * @param publicKey the array holding the public key.
+   * @param offset the offset of the public key.
+   * @param length the length of the public key.
+   * @param networkType the network type
+   * @param address the array receiving the raw address ({@link #RAW_ADDRESS_SIZE} bytes).
+   * @param addressOffset the offset in address where the raw address is written.
+   */
+  public static void generateAddress(
+      final byte[] publicKey,
+      final int offset,
+      final int length,
+      final NetworkType networkType,
+      final byte[] address,
+      final int addressOffset) {
+    final byte[] hash = new byte[32];
+
+    // step 1: sha3 hash of the public key
+    DigestEngine.SHA3_256.hash(publicKey, offset, length, hash, 0);
 
-    // step 2: get the first X bytes of (1)
-    return Arrays.copyOfRange(stepThreeHash, 0, NUM_CHECKSUM_BYTES);
+    // step 2: ripemd160 hash of (1)
+    // step 3: add network type byte in front of (2)
+    address[addressOffset] = (byte) networkType.getValue();
+    DigestEngine.RIPEMD_160.hash(hash, 0, hash.length, address, addressOffset + 1);
+
+    // step 4: get the checksum of (3)
+    // step 5: concatenate (3) and (4)
+    DigestEngine.SHA3_256.hash(address, addressOffset, 1 + RIPEMD_160_SIZE, hash, 0);
+    System.arraycopy(hash, 0, address, addressOffset + 1 + RIPEMD_160_SIZE, NUM_CHECKSUM_BYTES);
   }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+/**
+ * A {@link DsaSigner} bound to a private key whose per key work, like expanding the private key,
+ * is done once when the context is created instead of on every signature. Contexts are thread safe
+ * and meant to be reused for all the signatures of a key.
+ */
+public interface SigningContext extends DsaSigner {
+
+  /**
+   * Gets the public key of the signatures.
+   *
+   * @return the public key.
+   */
+  PublicKey getPublicKey();
+
+  /**
+   * Signs data[offset, offset + length).
+   *
+   * @param data The array holding the message to sign.
+   * @param offset The offset of the message.
+   * @param length The length of the message.
+   * @return The generated signature.
+   */
+  Signature sign(final byte[] data, final int offset, final int length);
+}
@@ -17,8 +17,10 @@ package io.nem.symbol.core.crypto.ed25519;
 
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.crypto.engines.AESEngine;
@@ -41,6 +43,15 @@ public class AESGCM {
   /** The standard authentication tag length (16 bytes). */
   public static final int TAG_LENGTH = AUTH_TAG_BIT_LENGTH / 8;
 
+  /** The size of the chunks processed through the scratch buffers. */
+  private static final int CHUNK_SIZE = 1024;
+
+  /**
+   * The cipher of the calling thread. GCM ciphers can be initialised again with a new key and IV,
+   * so each thread reuses the same AES engine and GCM tables for all its messages.
+   */
+  private static final ThreadLocal<CipherState> STATE = ThreadLocal.withInitial(CipherState::new);
+
   /**
    * Generates a random 96 bit (12 byte) Initialisation Vector(IV) for use in AES-GCM encryption.
    *
@@ -53,42 +64,31 @@ public class AESGCM {
   }
 
   /**
-   * Creates a new AES/GCM/NoPadding cipher.
+   * Gets the AES/GCM/NoPadding cipher of the calling thread initialised with the given key and IV.
    *
    * @param secretKey The AES key. Must not be {@code null}.
-   * @param forEncryption If {@code true} creates an encryption cipher, else creates a decryption
-   *     cipher.
+   * @param forEncryption If {@code true} initialises the cipher for encryption, else for
+   *     decryption.
    * @param iv The initialisation vector (IV). Must not be {@code null}.
-   * @return The AES/GCM/NoPadding cipher.
+   * @return The state holding the initialised cipher.
    */
-  private static GCMBlockCipher createAESGCMCipher(
+  private static CipherState initCipher(
       final byte[] secretKey, final boolean forEncryption, final byte[] iv) {
-
-    // Initialise AES cipher
-    BlockCipher cipher = createCipher(secretKey, forEncryption);
-
-    // Create GCM cipher with AES
-    GCMBlockCipher gcm = new GCMBlockCipher(cipher);
-
-    final KeyParameter keyParam = new KeyParameter(secretKey);
-    final CipherParameters params = new ParametersWithIV(keyParam, iv);
-    gcm.init(forEncryption, params);
-    return gcm;
+    final CipherState current = STATE.get();
+    final CipherParameters params = new ParametersWithIV(new KeyParameter(secretKey), iv);
+    try {
+      current.cipher.init(forEncryption, params);
+    } catch (IllegalArgumentException e) {
+      // The cipher refuses to encrypt twice with the key and IV of its previous encryption. Callers
+      // choosing their own IV are allowed to do it, a fresh cipher has no previous encryption.
+      current.cipher = createCipher();
+      current.cipher.init(forEncryption, params);
+    }
+    return current;
   }
 
-  /**
-   * Creates a new AES cipher.
-   *
-   * @param secretKey The AES key. Must not be {@code null}.
-   * @param forEncryption If {@code true} creates an AES encryption cipher, else creates an AES
-   *     decryption cipher.
-   * @return The AES cipher.
-   */
-  private static AESEngine createCipher(final byte[] secretKey, final boolean forEncryption) {
-    AESEngine cipher = new AESEngine();
-    CipherParameters cipherParams = new KeyParameter(secretKey);
-    cipher.init(forEncryption, cipherParams);
-    return cipher;
+  private static GCMBlockCipher createCipher() {
+    return new GCMBlockCipher(new AESEngine());
   }
 
   /**
@@ -102,35 +102,65 @@ public class AESGCM {
    */
   public static AuthenticatedCipherText encrypt(
       final byte[] secretKey, final byte[] iv, final byte[] plainText) throws RuntimeException {
+    final ByteBuffer output = ByteBuffer.allocate(getEncryptedSize(plainText.length));
+    encrypt(secretKey, iv, ByteBuffer.wrap(plainText), output);
+    final byte[] encrypted = output.array();
+    return new AuthenticatedCipherText(
+        Arrays.copyOfRange(encrypted, TAG_LENGTH + IV_LENGTH, encrypted.length),
+        Arrays.copyOfRange(encrypted, 0, TAG_LENGTH),
+        iv);
+  }
 
-    // Initialise AES/GCM cipher for encryption
-    GCMBlockCipher cipher = createAESGCMCipher(secretKey, true, iv);
-
-    // Prepare output buffer
-    int outputLength = cipher.getOutputSize(plainText.length);
-    byte[] output = new byte[outputLength];
-
-    // Produce cipher text
-    int outputOffset = cipher.processBytes(plainText, 0, plainText.length, output, 0);
+  /**
+   * Encrypts the remaining bytes of the plain text using AES/GCM/NoPadding and writes the result
+   * to the output with the layout tag | IV | cipher text. The engines are reused by the calling
+   * thread, so no buffer proportional to the message size is allocated.
+   *
+   * <p>The position of the plain text is moved to its limit and the position of the output is
+   * moved after the written bytes.
+   *
+   * @param secretKey The AES key. Must not be {@code null}.
+   * @param iv The initialisation vector (IV) (12 bytes). Must not be {@code null}.
+   * @param plainText The plain text. Must not be {@code null}.
+   * @param output The buffer receiving the encrypted message. It must have {@link
+   *     #getEncryptedSize(int)} bytes remaining.
+   * @throws CryptoException If encryption failed.
+   */
+  public static void encrypt(
+      final byte[] secretKey,
+      final byte[] iv,
+      final ByteBuffer plainText,
+      final ByteBuffer output) {
+    Validate.isTrue(iv.length == IV_LENGTH, "iv must have " + IV_LENGTH + " bytes");
+    final int plainTextLength = plainText.remaining();
+    final int encryptedSize = getEncryptedSize(plainTextLength);
+    if (output.remaining() < encryptedSize) {
+      throw new CryptoException(
+          "Cannot encrypt. Output has "
+              + output.remaining()
+              + " bytes remaining when "
+              + encryptedSize
+              + " are required.");
+    }
+    final CipherState current = initCipher(secretKey, true, iv);
+    final int start = output.position();
+    output.position(start + TAG_LENGTH);
+    output.put(iv);
+    process(current, plainText, plainTextLength, output);
 
-    // Produce authentication tag
+    // The final call returns the last partial block followed by the tag, the tag goes in front.
+    final int length;
     try {
-      outputOffset += cipher.doFinal(output, outputOffset);
+      length = current.cipher.doFinal(current.out, 0);
     } catch (InvalidCipherTextException e) {
       throw new CryptoException(
           "Could Not Generate GCM Authentication: " + ExceptionUtils.getMessage(e), e);
     }
-
-    // Split output into cipher text and authentication tag
-    int authTagLength = AUTH_TAG_BIT_LENGTH / 8;
-
-    byte[] cipherText = new byte[outputOffset - authTagLength];
-    byte[] authTag = new byte[authTagLength];
-
-    System.arraycopy(output, 0, cipherText, 0, cipherText.length);
-    System.arraycopy(output, outputOffset - authTagLength, authTag, 0, authTag.length);
-
-    return new AuthenticatedCipherText(cipherText, authTag, iv);
+    output.put(current.out, 0, length - TAG_LENGTH);
+    final int end = output.position();
+    output.position(start);
+    output.put(current.out, length - TAG_LENGTH, TAG_LENGTH);
+    output.position(end);
   }
 
   /**
@@ -146,31 +176,140 @@ public class AESGCM {
   public static byte[] decrypt(
       final byte[] secretKey, final byte[] iv, final byte[] cipherText, final byte[] authTag)
       throws RuntimeException {
+    final ByteBuffer input = ByteBuffer.allocate(TAG_LENGTH + IV_LENGTH + cipherText.length);
+    input.put(authTag).put(iv).put(cipherText).flip();
+    final byte[] output = new byte[cipherText.length];
+    decrypt(secretKey, input, ByteBuffer.wrap(output));
+    return output;
+  }
 
-    // Initialise AES/GCM cipher for decryption
-    GCMBlockCipher cipher = createAESGCMCipher(secretKey, false, iv);
+  /**
+   * Decrypts the remaining bytes of an encrypted message with the layout tag | IV | cipher text
+   * using AES/GCM/NoPadding and writes the plain text to the output. The engines are reused by the
+   * calling thread, so no buffer proportional to the message size is allocated.
+   *
+   * <p>The position of the input is moved to its limit and the position of the output is moved
+   * after the written bytes. If the authentication fails, the bytes written to the output are
+   * zeroed and its position is left unchanged.
+   *
+   * @param secretKey The AES key. Must not be {@code null}.
+   * @param input The encrypted message. Must not be {@code null}.
+   * @param output The buffer receiving the plain text. It must have {@link
+   *     #getDecryptedSize(int)} bytes remaining.
+   * @throws CryptoException If decryption failed.
+   */
+  public static void decrypt(
+      final byte[] secretKey, final ByteBuffer input, final ByteBuffer output) {
+    final int plainTextLength = getDecryptedSize(input.remaining());
+    if (output.remaining() < plainTextLength) {
+      throw new CryptoException(
+          "Cannot decrypt. Output has "
+              + output.remaining()
+              + " bytes remaining when "
+              + plainTextLength
+              + " are required.");
+    }
+    final CipherState current = STATE.get();
+    input.get(current.tag);
+    final byte[] iv = new byte[IV_LENGTH];
+    input.get(iv);
+    initCipher(secretKey, false, iv);
+
+    // The cipher expects the tag after the cipher text.
+    final int start = output.position();
+    process(current, input, plainTextLength, output);
+    final int length = current.cipher.processBytes(current.tag, 0, TAG_LENGTH, current.out, 0);
+    output.put(current.out, 0, length);
+    try {
+      final int finalLength = current.cipher.doFinal(current.out, 0);
+      output.put(current.out, 0, finalLength);
+    } catch (InvalidCipherTextException e) {
+      // Don't leave unauthenticated plain text in the output.
+      for (int i = start; i < output.position(); i++) {
+        output.put(i, (byte) 0);
+      }
+      output.position(start);
+      throw new CryptoException("Could decrypt value: " + ExceptionUtils.getMessage(e), e);
+    }
+  }
+
+  /**
+   * Gets the size of the encrypted message of a plain text, tag | IV | cipher text.
+   *
+   * @param plainTextLength The plain text length.
+   * @return The encrypted message size.
+   */
+  public static int getEncryptedSize(final int plainTextLength) {
+    return TAG_LENGTH + IV_LENGTH + plainTextLength;
+  }
 
-    // Join cipher text and authentication tag to produce cipher input
-    byte[] input = new byte[cipherText.length + authTag.length];
+  /**
+   * Gets the size of the plain text of an encrypted message, tag | IV | cipher text.
+   *
+   * @param encryptedLength The encrypted message length.
+   * @return The plain text size.
+   * @throws CryptoException If the encrypted message is too small.
+   */
+  public static int getDecryptedSize(final int encryptedLength) {
+    final int minSize = TAG_LENGTH + IV_LENGTH;
+    if (encryptedLength < minSize) {
+      throw new CryptoException(
+          "Cannot decrypt input. Size is "
+              + encryptedLength
+              + " when at least "
+              + minSize
+              + " is expected.");
+    }
+    return encryptedLength - minSize;
+  }
 
-    System.arraycopy(cipherText, 0, input, 0, cipherText.length);
-    System.arraycopy(authTag, 0, input, cipherText.length, authTag.length);
+  /**
+   * Processes length bytes of the input in chunks and writes the result to the output. Array backed
+   * buffers are processed in place, direct buffers are copied through the scratch arrays.
+   */
+  private static void process(
+      final CipherState current,
+      final ByteBuffer input,
+      final int length,
+      final ByteBuffer output) {
+    int remaining = length;
+    while (remaining > 0) {
+      final int chunk = Math.min(CHUNK_SIZE, remaining);
+      final byte[] in;
+      final int inOffset;
+      if (input.hasArray()) {
+        in = input.array();
+        inOffset = input.arrayOffset() + input.position();
+        input.position(input.position() + chunk);
+      } else {
+        input.get(current.in, 0, chunk);
+        in = current.in;
+        inOffset = 0;
+      }
+      if (output.hasArray()) {
+        // The cipher never outputs more bytes than it has been given so far.
+        final int produced =
+            current.cipher.processBytes(
+                in, inOffset, chunk, output.array(), output.arrayOffset() + output.position());
+        output.position(output.position() + produced);
+      } else {
+        final int produced = current.cipher.processBytes(in, inOffset, chunk, current.out, 0);
+        output.put(current.out, 0, produced);
+      }
+      remaining -= chunk;
+    }
+  }
 
-    int outputLength = cipher.getOutputSize(input.length);
+  /** The cipher of a thread and its scratch buffers. */
+  private static class CipherState {
 
-    byte[] output = new byte[outputLength];
+    private GCMBlockCipher cipher = createCipher();
 
-    // Decrypt
-    int outputOffset = cipher.processBytes(input, 0, input.length, output, 0);
+    private final byte[] in = new byte[CHUNK_SIZE];
 
-    // Validate authentication tag
-    try {
-      outputOffset += cipher.doFinal(output, outputOffset);
-    } catch (InvalidCipherTextException e) {
-      throw new CryptoException("Could decrypt value: " + ExceptionUtils.getMessage(e), e);
-    }
+    private final byte[] out = new byte[CHUNK_SIZE + 2 * TAG_LENGTH];
 
-    return output;
+    private final byte[] tag = new byte[TAG_LENGTH];
   }
 
   /** Prevents public instantiation. */
@@ -15,9 +15,6 @@
  */
 package io.nem.symbol.core.crypto.ed25519;
 
-import static io.nem.symbol.core.crypto.ed25519.AESGCM.IV_LENGTH;
-import static io.nem.symbol.core.crypto.ed25519.AESGCM.TAG_LENGTH;
-
 import io.nem.symbol.core.crypto.BlockCipher;
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.core.crypto.Hashes;
@@ -26,7 +23,7 @@ import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
-import io.nem.symbol.core.utils.ArrayUtils;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /** Implementation of the block cipher for Ed25519. */
@@ -36,9 +33,47 @@ public class Ed25519BlockCipher implements BlockCipher {
 
   private final KeyPair recipientKeyPair;
 
+  /** The optional cache of decoded public keys, it may be null. */
+  private final Ed25519GroupElementCache groupElementCache;
+
+  /** The optional cache of shared keys, it may be null. */
+  private final Ed25519SharedKeyCache sharedKeyCache;
+
   public Ed25519BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+    this(senderKeyPair, recipientKeyPair, null);
+  }
+
+  /**
+   * Creates a block cipher that reuses the decoded public keys from a cache.
+   *
+   * @param senderKeyPair The sender KeyPair.
+   * @param recipientKeyPair The recipient KeyPair.
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   */
+  public Ed25519BlockCipher(
+      final KeyPair senderKeyPair,
+      final KeyPair recipientKeyPair,
+      final Ed25519GroupElementCache groupElementCache) {
+    this(senderKeyPair, recipientKeyPair, groupElementCache, null);
+  }
+
+  /**
+   * Creates a block cipher that reuses the decoded public keys and the shared keys from caches.
+   *
+   * @param senderKeyPair The sender KeyPair.
+   * @param recipientKeyPair The recipient KeyPair.
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   * @param sharedKeyCache The cache of shared keys. If null, no cache is used.
+   */
+  public Ed25519BlockCipher(
+      final KeyPair senderKeyPair,
+      final KeyPair recipientKeyPair,
+      final Ed25519GroupElementCache groupElementCache,
+      final Ed25519SharedKeyCache sharedKeyCache) {
     this.senderKeyPair = senderKeyPair;
     this.recipientKeyPair = recipientKeyPair;
+    this.groupElementCache = groupElementCache;
+    this.sharedKeyCache = sharedKeyCache;
   }
 
   @Override
@@ -47,17 +82,48 @@ public class Ed25519BlockCipher implements BlockCipher {
   }
 
   public byte[] encrypt(final byte[] plainText, final byte[] ivData) {
-    AuthenticatedCipherText encryptResult = encode(plainText, ivData);
-    byte[] authTag = encryptResult.getAuthenticationTag();
-    byte[] cipherText = encryptResult.getCipherText();
-    return ArrayUtils.concat(authTag, encryptResult.getIv(), cipherText);
+    final byte[] output = new byte[this.getEncryptedSize(plainText.length)];
+    this.encrypt(ByteBuffer.wrap(plainText), ivData, ByteBuffer.wrap(output));
+    return output;
+  }
+
+  @Override
+  public int encrypt(final ByteBuffer plainText, final ByteBuffer output) {
+    return this.encrypt(plainText, AESGCM.generateIV(), output);
+  }
+
+  /**
+   * Encrypts the remaining bytes of the plain text with the given IV and writes tag | IV | cipher
+   * text to the output.
+   *
+   * @param plainText The plain text. Its position is moved to its limit.
+   * @param ivData The IV (12 bytes).
+   * @param output The buffer receiving the encrypted message.
+   * @return The number of bytes written to the output.
+   */
+  public int encrypt(final ByteBuffer plainText, final byte[] ivData, final ByteBuffer output) {
+    final int start = output.position();
+    final byte[] sharedKey =
+        this.deriveSharedKey(
+            this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
+    try {
+      AESGCM.encrypt(sharedKey, ivData, plainText, output);
+    } finally {
+      Arrays.fill(sharedKey, (byte) 0);
+    }
+    return output.position() - start;
   }
 
   public AuthenticatedCipherText encode(final byte[] plainText, final byte[] ivData) {
     // Derive shared key.
     final byte[] sharedKey =
-        getSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
-    return AESGCM.encrypt(sharedKey, ivData, plainText);
+        this.deriveSharedKey(
+            this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
+    try {
+      return AESGCM.encrypt(sharedKey, ivData, plainText);
+    } finally {
+      Arrays.fill(sharedKey, (byte) 0);
+    }
   }
 
   @Override
@@ -65,35 +131,97 @@ public class Ed25519BlockCipher implements BlockCipher {
     if (input == null) {
       throw new CryptoException("Cannot decrypt. Input is required.");
     }
-    int minSize = TAG_LENGTH + IV_LENGTH;
-    if (input.length < minSize) {
-      throw new CryptoException(
-          "Cannot decrypt input. Size is "
-              + input.length
-              + " when at least "
-              + minSize
-              + " is expected.");
+    final byte[] output = new byte[this.getDecryptedSize(input.length)];
+    this.decrypt(ByteBuffer.wrap(input), ByteBuffer.wrap(output));
+    return output;
+  }
+
+  @Override
+  public int decrypt(final ByteBuffer input, final ByteBuffer output) {
+    final int start = output.position();
+    final byte[] sharedKey =
+        this.deriveSharedKey(
+            this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
+    try {
+      AESGCM.decrypt(sharedKey, input, output);
+    } finally {
+      Arrays.fill(sharedKey, (byte) 0);
     }
-    final byte[] authTag = Arrays.copyOfRange(input, 0, TAG_LENGTH);
-    final byte[] ivData = Arrays.copyOfRange(input, TAG_LENGTH, IV_LENGTH + TAG_LENGTH);
-    final byte[] cypherText = Arrays.copyOfRange(input, TAG_LENGTH + IV_LENGTH, input.length);
-    return decode(authTag, ivData, cypherText);
+    return output.position() - start;
   }
 
   public byte[] decode(byte[] authTag, byte[] ivData, byte[] cypherText) {
     final byte[] sharedKey =
-        getSharedKey(this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
-    return AESGCM.decrypt(sharedKey, ivData, cypherText, authTag);
+        this.deriveSharedKey(
+            this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
+    try {
+      return AESGCM.decrypt(sharedKey, ivData, cypherText, authTag);
+    } finally {
+      Arrays.fill(sharedKey, (byte) 0);
+    }
+  }
+
+  @Override
+  public int getEncryptedSize(final int inputLength) {
+    return AESGCM.getEncryptedSize(inputLength);
+  }
+
+  @Override
+  public int getDecryptedSize(final int inputLength) {
+    return AESGCM.getDecryptedSize(inputLength);
+  }
+
+  /** Derives the shared key or gets a copy of it from the shared key cache. */
+  private byte[] deriveSharedKey(final PrivateKey privateKey, final PublicKey publicKey) {
+    if (this.sharedKeyCache == null) {
+      return getSharedKey(privateKey, publicKey, this.groupElementCache);
+    }
+    return this.sharedKeyCache.getSharedKey(
+        privateKey, publicKey, () -> getSharedKey(privateKey, publicKey, this.groupElementCache));
   }
 
   public static byte[] getSharedKey(final PrivateKey privateKey, final PublicKey publicKey) {
-    return Hashes.sha256ForSharedKey(getSharedSecret(privateKey, publicKey));
+    return getSharedKey(privateKey, publicKey, null);
+  }
+
+  /**
+   * Derives the shared key reusing the decoded public key from a cache.
+   *
+   * @param privateKey The local private key.
+   * @param publicKey The remote public key.
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   * @return the shared key.
+   */
+  public static byte[] getSharedKey(
+      final PrivateKey privateKey,
+      final PublicKey publicKey,
+      final Ed25519GroupElementCache groupElementCache) {
+    return Hashes.sha256ForSharedKey(getSharedSecret(privateKey, publicKey, groupElementCache));
   }
 
   public static byte[] getSharedSecret(final PrivateKey privateKey, final PublicKey publicKey) {
-    final Ed25519GroupElement senderA =
-        new Ed25519EncodedGroupElement(publicKey.getBytes()).decode();
-    senderA.precomputeForScalarMultiplication();
+    return getSharedSecret(privateKey, publicKey, null);
+  }
+
+  /**
+   * Derives the shared secret reusing the decoded public key from a cache.
+   *
+   * @param privateKey The local private key.
+   * @param publicKey The remote public key.
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   * @return the shared secret.
+   */
+  public static byte[] getSharedSecret(
+      final PrivateKey privateKey,
+      final PublicKey publicKey,
+      final Ed25519GroupElementCache groupElementCache) {
+    final Ed25519GroupElement senderA;
+    if (groupElementCache == null) {
+      senderA = new Ed25519EncodedGroupElement(publicKey.getBytes()).decode();
+      senderA.precomputeForScalarMultiplication();
+    } else {
+      senderA = groupElementCache.getForScalarMultiplication(publicKey);
+    }
     return senderA
         .scalarMultiply(Ed25519Utils.prepareForScalarMultiply(privateKey))
         .encode()
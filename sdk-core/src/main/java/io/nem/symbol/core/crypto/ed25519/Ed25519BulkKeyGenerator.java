@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoException;
+import io.nem.symbol.core.crypto.RawAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Generates large amounts of key pairs and their addresses, for example to provision deposit
+ * accounts.
+ *
+ * <p>The keys are generated in batches by parallel workers. The public keys of a batch are derived
+ * with {@link Ed25519InPlaceOperations#derivePublicKeys}, which shares one field inversion between
+ * all the keys of the batch, and the addresses are computed from the raw public keys with {@link
+ * RawAddress#generateAddress(byte[], int, int, NetworkType, byte[], int)}. The generated keys are
+ * handed to a {@link KeySink} as soon as their batch is done, nothing is accumulated.
+ */
+public class Ed25519BulkKeyGenerator {
+
+  /** The default number of keys derived together. */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  /** The number of characters of a plain address. */
+  private static final int PLAIN_ADDRESS_SIZE = 39;
+
+  /** The base32 alphabet of the plain addresses. */
+  private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+  /** Receives the generated keys. */
+  @FunctionalInterface
+  public interface KeySink {
+
+    /**
+     * Accepts a generated key pair. The sink is called concurrently by all the workers, so it must
+     * be thread safe. The arrays are new for every call and owned by the sink.
+     *
+     * @param privateKey the raw private key (32 bytes).
+     * @param publicKey the raw public key (32 bytes).
+     * @param rawAddress the raw address ({@link RawAddress#RAW_ADDRESS_SIZE} bytes).
+     */
+    void accept(byte[] privateKey, byte[] publicKey, byte[] rawAddress);
+  }
+
+  private final NetworkType networkType;
+
+  private final Executor executor;
+
+  private final int parallelism;
+
+  private final int batchSize;
+
+  /**
+   * Creates a generator that uses all the cores of the common fork join pool.
+   *
+   * @param networkType the network type of the addresses.
+   */
+  public Ed25519BulkKeyGenerator(final NetworkType networkType) {
+    this(
+        networkType,
+        ForkJoinPool.commonPool(),
+        ForkJoinPool.commonPool().getParallelism(),
+        DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param networkType the network type of the addresses.
+   * @param executor the executor running the workers.
+   * @param parallelism the number of workers.
+   * @param batchSize the number of keys derived together by a worker.
+   */
+  public Ed25519BulkKeyGenerator(
+      final NetworkType networkType,
+      final Executor executor,
+      final int parallelism,
+      final int batchSize) {
+    Validate.notNull(networkType, "networkType is required");
+    Validate.notNull(executor, "executor is required");
+    Validate.isTrue(parallelism > 0, "parallelism must be positive");
+    Validate.isTrue(batchSize > 0, "batchSize must be positive");
+    this.networkType = networkType;
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Generates key pairs and hands them to the sink. It returns once all of them have been handed.
+   *
+   * @param count the number of key pairs to generate.
+   * @param sink the sink receiving the key pairs.
+   */
+  public void generate(final long count, final KeySink sink) {
+    Validate.isTrue(count >= 0, "count must not be negative");
+    Validate.notNull(sink, "sink is required");
+    final AtomicLong remaining = new AtomicLong(count);
+    this.run(() -> remaining.get() > 0, address -> remaining.getAndDecrement() > 0, sink);
+  }
+
+  /**
+   * Generates key pairs whose plain address starts with the given prefix and hands them to the
+   * sink. It returns once all of them have been handed. Every character after the first two
+   * multiplies the expected number of generated keys by 32.
+   *
+   * @param prefix the prefix of the plain addresses, for example "TA".
+   * @param count the number of matching key pairs to generate.
+   * @param sink the sink receiving the matching key pairs.
+   */
+  public void generateVanity(final String prefix, final long count, final KeySink sink) {
+    Validate.notNull(prefix, "prefix is required");
+    Validate.isTrue(count >= 0, "count must not be negative");
+    Validate.notNull(sink, "sink is required");
+    Validate.isTrue(prefix.length() <= PLAIN_ADDRESS_SIZE, "prefix %s is too long", prefix);
+    final int[] digits = new int[prefix.length()];
+    for (int i = 0; i < digits.length; i++) {
+      digits[i] = BASE32_ALPHABET.indexOf(Character.toUpperCase(prefix.charAt(i)));
+      Validate.isTrue(digits[i] >= 0, "prefix %s is not base32", prefix);
+    }
+    final byte[] network = {(byte) networkType.getValue()};
+    Validate.isTrue(
+        digits.length == 0 || digits[0] == base32Digit(network, 0),
+        "%s addresses start with %s",
+        networkType,
+        BASE32_ALPHABET.charAt(base32Digit(network, 0)));
+    final AtomicLong remaining = new AtomicLong(count);
+    this.run(
+        () -> remaining.get() > 0,
+        address -> startsWith(address, digits) && remaining.getAndDecrement() > 0,
+        sink);
+  }
+
+  /** Runs the workers until more is false or one of them fails. */
+  private void run(final BooleanSupplier more, final AddressFilter filter, final KeySink sink) {
+    final AtomicBoolean failed = new AtomicBoolean();
+    final BooleanSupplier keepGoing = () -> !failed.get() && more.getAsBoolean();
+    final CompletableFuture<?>[] workers = new CompletableFuture<?>[this.parallelism];
+    for (int i = 0; i < this.parallelism; i++) {
+      workers[i] =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  this.work(keepGoing, filter, sink);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              this.executor);
+    }
+    try {
+      CompletableFuture.allOf(workers).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new CryptoException(e.getMessage(), e);
+    }
+  }
+
+  /** Generates batches of keys until more is false. */
+  private void work(final BooleanSupplier more, final AddressFilter filter, final KeySink sink) {
+    final SecureRandom random = new SecureRandom();
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final byte[] privateKeys = new byte[this.batchSize * 32];
+    final byte[] publicKeys = new byte[this.batchSize * 32];
+    final byte[] address = new byte[RawAddress.RAW_ADDRESS_SIZE];
+    try {
+      while (more.getAsBoolean()) {
+        random.nextBytes(privateKeys);
+        operations.derivePublicKeys(privateKeys, this.batchSize, publicKeys);
+        for (int i = 0; i < this.batchSize; i++) {
+          RawAddress.generateAddress(publicKeys, i * 32, 32, this.networkType, address, 0);
+          if (filter.accept(address)) {
+            sink.accept(
+                Arrays.copyOfRange(privateKeys, i * 32, i * 32 + 32),
+                Arrays.copyOfRange(publicKeys, i * 32, i * 32 + 32),
+                address.clone());
+          }
+        }
+      }
+    } finally {
+      Arrays.fill(privateKeys, (byte) 0);
+    }
+  }
+
+  /** Checks if the base32 encoding of the raw address starts with the given base32 digits. */
+  private static boolean startsWith(final byte[] rawAddress, final int[] digits) {
+    for (int i = 0; i < digits.length; i++) {
+      if (base32Digit(rawAddress, i) != digits[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Gets the index-th base32 digit of bytes, the 5 bits starting at bit 5 * index. */
+  private static int base32Digit(final byte[] bytes, final int index) {
+    final int bit = index * 5;
+    final int first = bytes[bit / 8] & 0xFF;
+    final int second = bit / 8 + 1 < bytes.length ? bytes[bit / 8 + 1] & 0xFF : 0;
+    return (((first << 8) | second) >> (11 - bit % 8)) & 0x1F;
+  }
+
+  /** Decides if a generated key is handed to the sink. */
+  @FunctionalInterface
+  private interface AddressFilter {
+
+    boolean accept(byte[] rawAddress);
+  }
+}
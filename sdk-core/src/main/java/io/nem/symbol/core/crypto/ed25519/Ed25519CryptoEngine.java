@@ -18,14 +18,51 @@ package io.nem.symbol.core.crypto.ed25519;
 import io.nem.symbol.core.crypto.BlockCipher;
 import io.nem.symbol.core.crypto.CryptoEngine;
 import io.nem.symbol.core.crypto.Curve;
+import io.nem.symbol.core.crypto.DsaBatchVerifier;
 import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyAnalyzer;
 import io.nem.symbol.core.crypto.KeyGenerator;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.SigningContext;
 
 /** Class that wraps the Ed25519 specific implementation. */
 public class Ed25519CryptoEngine implements CryptoEngine {
 
+  /** The optional cache of decoded public keys, it may be null. */
+  private final Ed25519GroupElementCache groupElementCache;
+
+  /** The optional cache of shared keys, it may be null. */
+  private final Ed25519SharedKeyCache sharedKeyCache;
+
+  /** Creates an engine that decodes the public keys on every operation. */
+  public Ed25519CryptoEngine() {
+    this(null);
+  }
+
+  /**
+   * Creates an engine whose signers, batch verifiers and block ciphers share a cache of decoded
+   * public keys.
+   *
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   */
+  public Ed25519CryptoEngine(final Ed25519GroupElementCache groupElementCache) {
+    this(groupElementCache, null);
+  }
+
+  /**
+   * Creates an engine whose signers, batch verifiers and block ciphers share a cache of decoded
+   * public keys and whose block ciphers share a cache of shared keys.
+   *
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   * @param sharedKeyCache The cache of shared keys. If null, no cache is used.
+   */
+  public Ed25519CryptoEngine(
+      final Ed25519GroupElementCache groupElementCache,
+      final Ed25519SharedKeyCache sharedKeyCache) {
+    this.groupElementCache = groupElementCache;
+    this.sharedKeyCache = sharedKeyCache;
+  }
+
   @Override
   public Curve getCurve() {
     return Ed25519Curve.ed25519();
@@ -33,7 +70,17 @@ public class Ed25519CryptoEngine implements CryptoEngine {
 
   @Override
   public DsaSigner createDsaSigner(final KeyPair keyPair) {
-    return new Ed25519DsaSigner(keyPair);
+    return new Ed25519DsaSigner(keyPair, this.groupElementCache);
+  }
+
+  @Override
+  public SigningContext createSigningContext(final KeyPair keyPair) {
+    return new Ed25519SigningContext(keyPair, this.groupElementCache);
+  }
+
+  @Override
+  public DsaBatchVerifier createDsaBatchVerifier() {
+    return new Ed25519DsaBatchVerifier(this.groupElementCache);
   }
 
   @Override
@@ -44,7 +91,8 @@ public class Ed25519CryptoEngine implements CryptoEngine {
   @Override
   public BlockCipher createBlockCipher(
       final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
-    return new Ed25519BlockCipher(senderKeyPair, recipientKeyPair);
+    return new Ed25519BlockCipher(
+        senderKeyPair, recipientKeyPair, this.groupElementCache, this.sharedKeyCache);
   }
 
   @Override
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.DsaBatchVerifier;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.utils.ArrayUtils;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of the DSA batch verifier for Ed25519.
+ *
+ * <p>For random 128 bits scalars z_i, a batch is valid when 8 * sum(z_i * (S_i * B - h_i * A_i -
+ * R_i)) is the neutral element. The sum is computed with a single multi scalar multiplication, so
+ * the doublings are shared by all the signatures of the batch.
+ *
+ * <p>The results follow the cofactored semantics: the small order components of R_i and A_i are
+ * cleared by the cofactor instead of being checked. A signature accepted by {@link
+ * Ed25519DsaSigner#verify(byte[], Signature)} is always accepted in a batch, but a signature whose
+ * R or A has a small order component may be accepted in a batch and rejected by the single
+ * verification. {@link #findFirstInvalid(List, List, List)} uses the same semantics.
+ */
+public class Ed25519DsaBatchVerifier implements DsaBatchVerifier {
+
+  /** The max number of signatures that are verified in one multi scalar multiplication. */
+  private static final int MAX_BATCH_SIZE = 64;
+
+  private static final Ed25519EncodedFieldElement ZERO_SHORT =
+      new Ed25519EncodedFieldElement(new byte[32]);
+
+  private final SecureRandom random = new SecureRandom();
+
+  /** The optional cache of decoded public keys, it may be null. */
+  private final Ed25519GroupElementCache groupElementCache;
+
+  /** Creates a Ed25519 DSA batch verifier. */
+  public Ed25519DsaBatchVerifier() {
+    this(null);
+  }
+
+  /**
+   * Creates a Ed25519 DSA batch verifier that reuses the decoded public keys from a cache.
+   *
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   */
+  public Ed25519DsaBatchVerifier(final Ed25519GroupElementCache groupElementCache) {
+    this.groupElementCache = groupElementCache;
+  }
+
+  @Override
+  public boolean verifyBatch(
+      final List<byte[]> data, final List<Signature> signatures, final List<PublicKey> publicKeys) {
+    validateSizes(data, signatures, publicKeys);
+    for (int start = 0; start < data.size(); start += MAX_BATCH_SIZE) {
+      final int end = Math.min(start + MAX_BATCH_SIZE, data.size());
+      if (!this.verifyChunk(data, signatures, publicKeys, start, end)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int findFirstInvalid(
+      final List<byte[]> data, final List<Signature> signatures, final List<PublicKey> publicKeys) {
+    validateSizes(data, signatures, publicKeys);
+    for (int start = 0; start < data.size(); start += MAX_BATCH_SIZE) {
+      final int end = Math.min(start + MAX_BATCH_SIZE, data.size());
+      if (this.verifyChunk(data, signatures, publicKeys, start, end)) {
+        continue;
+      }
+      for (int i = start; i < end; i++) {
+        if (!this.verifyChunk(data, signatures, publicKeys, i, i + 1)) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private boolean verifyChunk(
+      final List<byte[]> data,
+      final List<Signature> signatures,
+      final List<PublicKey> publicKeys,
+      final int start,
+      final int end) {
+    final int count = end - start;
+    final Ed25519GroupElement[] groupElements = new Ed25519GroupElement[2 * count];
+    final Ed25519EncodedFieldElement[] fieldElements = new Ed25519EncodedFieldElement[2 * count];
+    Ed25519EncodedFieldElement sSum = ZERO_SHORT;
+    for (int i = start; i < end; i++) {
+      final Signature signature = signatures.get(i);
+      final byte[] rawEncodedR = signature.getBinaryR();
+      final PublicKey publicKey = publicKeys.get(i);
+      final byte[] rawEncodedA = publicKey.getBytes();
+      if (!isCanonicalSignature(signature)
+          || 1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])) {
+        return false;
+      }
+      final Ed25519GroupElement a = this.decodePublicKey(publicKey);
+      final Ed25519GroupElement r = decode(rawEncodedR);
+      if (a == null || r == null || !isCanonicalEncoding(r, rawEncodedR)) {
+        return false;
+      }
+
+      // h = H(encodedR, encodedA, data) mod group order
+      final byte[] h = Hashes.sha512(rawEncodedR, rawEncodedA, data.get(i));
+      final Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(h).modQ();
+      final Ed25519EncodedFieldElement z = this.generateRandomScalar();
+      final int j = i - start;
+      groupElements[2 * j] = a;
+      fieldElements[2 * j] = z.multiplyAndAddModQ(hModQ, ZERO_SHORT);
+      groupElements[2 * j + 1] = r;
+      fieldElements[2 * j + 1] = z;
+      sSum = z.multiplyAndAddModQ(new Ed25519EncodedFieldElement(signature.getBinaryS()), sSum);
+    }
+
+    // Multiplied by the cofactor 8, the result is in P2 and each doubling returns P x P.
+    return this.multiScalarMultiply(groupElements, fieldElements, sSum)
+        .dbl()
+        .toP2()
+        .dbl()
+        .toP2()
+        .dbl()
+        .isNeutral();
+  }
+
+  /**
+   * Computes sSum * B - sum(fieldElements_i * groupElements_i), the only scalar multiplication done
+   * per batch.
+   *
+   * @param groupElements The group elements in P3 coordinate system.
+   * @param fieldElements The scalars of the group elements.
+   * @param sSum The scalar of the base point.
+   * @return The resulting group element in P2 coordinate system.
+   */
+  Ed25519GroupElement multiScalarMultiply(
+      final Ed25519GroupElement[] groupElements,
+      final Ed25519EncodedFieldElement[] fieldElements,
+      final Ed25519EncodedFieldElement sSum) {
+    return Ed25519Group.BASE_POINT.multiScalarMultiplyVariableTime(
+        groupElements, fieldElements, sSum);
+  }
+
+  private static void validateSizes(
+      final List<byte[]> data, final List<Signature> signatures, final List<PublicKey> publicKeys) {
+    Validate.notNull(data, "data must not be null");
+    Validate.notNull(signatures, "signatures must not be null");
+    Validate.notNull(publicKeys, "publicKeys must not be null");
+    Validate.isTrue(
+        data.size() == signatures.size() && data.size() == publicKeys.size(),
+        "data, signatures and publicKeys must have the same size");
+  }
+
+  private static boolean isCanonicalSignature(final Signature signature) {
+    return 0 > signature.getS().compareTo(Ed25519Group.GROUP_ORDER)
+        && 0 < signature.getS().compareTo(BigInteger.ZERO);
+  }
+
+  private Ed25519GroupElement decodePublicKey(final PublicKey publicKey) {
+    if (this.groupElementCache == null) {
+      return decode(publicKey.getBytes());
+    }
+    try {
+      return this.groupElementCache.getForDoubleScalarMultiplication(publicKey);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static Ed25519GroupElement decode(final byte[] rawEncoded) {
+    try {
+      return new Ed25519EncodedGroupElement(rawEncoded).decode();
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * The single verification compares the encoded R so it rejects the non canonical encodings that
+   * the decoding accepts. The decoded element is affine, its encoding doesn't need an inversion.
+   */
+  private static boolean isCanonicalEncoding(
+      final Ed25519GroupElement decoded, final byte[] rawEncoded) {
+    final byte[] encoded = decoded.getY().encode().getRaw();
+    encoded[31] |= (decoded.getX().isNegative() ? (byte) 0x80 : 0);
+    return Arrays.equals(encoded, rawEncoded);
+  }
+
+  /** Generates a random 128 bits scalar. */
+  private Ed25519EncodedFieldElement generateRandomScalar() {
+    final byte[] z = new byte[32];
+    final byte[] randomBytes = new byte[16];
+    this.random.nextBytes(randomBytes);
+    System.arraycopy(randomBytes, 0, z, 0, randomBytes.length);
+    return new Ed25519EncodedFieldElement(z);
+  }
+}
@@ -34,13 +34,28 @@ public class Ed25519DsaSigner implements DsaSigner {
 
   private final KeyPair keyPair;
 
+  /** The optional cache of decoded public keys, it may be null. */
+  private final Ed25519GroupElementCache groupElementCache;
+
   /**
    * Creates a Ed25519 DSA signer.
    *
    * @param keyPair The key pair to use.
    */
   public Ed25519DsaSigner(final KeyPair keyPair) {
+    this(keyPair, null);
+  }
+
+  /**
+   * Creates a Ed25519 DSA signer that reuses the decoded public key from a cache.
+   *
+   * @param keyPair The key pair to use.
+   * @param groupElementCache The cache of decoded public keys. If null, no cache is used.
+   */
+  public Ed25519DsaSigner(
+      final KeyPair keyPair, final Ed25519GroupElementCache groupElementCache) {
     this.keyPair = keyPair;
+    this.groupElementCache = groupElementCache;
   }
 
   /**
@@ -130,8 +145,7 @@ public class Ed25519DsaSigner implements DsaSigner {
     final Ed25519EncodedFieldElement hModQ = h.modQ();
 
     // Must compute A.
-    final Ed25519GroupElement a = new Ed25519EncodedGroupElement(rawEncodedA).decode();
-    a.precomputeForDoubleScalarMultiplication();
+    final Ed25519GroupElement a = this.getPrecomputedPublicKey();
 
     // R = encodedS * B - H(encodedR, encodedA, data) * A
     final Ed25519GroupElement calculatedR =
@@ -144,6 +158,17 @@ public class Ed25519DsaSigner implements DsaSigner {
     return 1 == result;
   }
 
+  private Ed25519GroupElement getPrecomputedPublicKey() {
+    if (this.groupElementCache != null) {
+      return this.groupElementCache.getForDoubleScalarMultiplication(
+          this.getKeyPair().getPublicKey());
+    }
+    final Ed25519GroupElement a =
+        new Ed25519EncodedGroupElement(this.getKeyPair().getPublicKey().getBytes()).decode();
+    a.precomputeForDoubleScalarMultiplication();
+    return a;
+  }
+
   @Override
   public boolean isCanonicalSignature(final Signature signature) {
     return 0 > signature.getS().compareTo(Ed25519Group.GROUP_ORDER)
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.utils.LruCache;
+
+/**
+ * Bounded LRU cache of decoded public keys. The tables that speed up the scalar multiplications
+ * are precomputed on demand and kept with the decoded group element, so the hot signers don't pay
+ * the decoding and precomputation on every verification or shared key derivation.
+ *
+ * <p>An element with the double scalar multiplication table uses about 2 KB, the single scalar
+ * multiplication table adds about 60 KB.
+ */
+public class Ed25519GroupElementCache {
+
+  /** The default max number of cached public keys. */
+  public static final int DEFAULT_MAX_SIZE = 4096;
+
+  private final LruCache<PublicKey, Ed25519GroupElement> cache;
+
+  /** Constructor using the default max size. */
+  public Ed25519GroupElementCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the max number of cached public keys.
+   */
+  public Ed25519GroupElementCache(int maxSize) {
+    this.cache = new LruCache<>(maxSize);
+  }
+
+  /**
+   * Gets the decoded public key without any precomputed table.
+   *
+   * @param publicKey the public key.
+   * @return the group element in P3 coordinate system.
+   * @throws IllegalArgumentException if the public key is not a valid point.
+   */
+  public Ed25519GroupElement getDecoded(PublicKey publicKey) {
+    return this.cache.computeIfAbsent(publicKey, Ed25519GroupElementCache::decode);
+  }
+
+  /**
+   * Gets the decoded public key precomputed for double scalar multiplication (verification).
+   *
+   * @param publicKey the public key.
+   * @return the group element in P3 coordinate system.
+   * @throws IllegalArgumentException if the public key is not a valid point.
+   */
+  public Ed25519GroupElement getForDoubleScalarMultiplication(PublicKey publicKey) {
+    final Ed25519GroupElement groupElement = getDecoded(publicKey);
+    // Synchronizing publishes the table to the threads that later get the same element.
+    synchronized (groupElement) {
+      groupElement.precomputeForDoubleScalarMultiplication();
+    }
+    return groupElement;
+  }
+
+  /**
+   * Gets the decoded public key precomputed for scalar multiplication (shared secrets).
+   *
+   * @param publicKey the public key.
+   * @return the group element in P3 coordinate system.
+   * @throws IllegalArgumentException if the public key is not a valid point.
+   */
+  public Ed25519GroupElement getForScalarMultiplication(PublicKey publicKey) {
+    final Ed25519GroupElement groupElement = getDecoded(publicKey);
+    synchronized (groupElement) {
+      groupElement.precomputeForScalarMultiplication();
+    }
+    return groupElement;
+  }
+
+  /** @return the number of cached public keys. */
+  public int size() {
+    return this.cache.size();
+  }
+
+  /** @return the number of lookups that found the public key in the cache. */
+  public long getHitCount() {
+    return this.cache.getHitCount();
+  }
+
+  /** @return the number of lookups that had to decode the public key. */
+  public long getMissCount() {
+    return this.cache.getMissCount();
+  }
+
+  /** Removes all the cached public keys. */
+  public void clear() {
+    this.cache.clear();
+  }
+
+  private static Ed25519GroupElement decode(PublicKey publicKey) {
+    return new Ed25519EncodedGroupElement(publicKey.getBytes()).decode();
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoException;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519ArithmeticContext;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.utils.ArrayUtils;
+import java.util.Arrays;
+import org.bouncycastle.crypto.digests.SHA512Digest;
+
+/**
+ * Ed25519 key derivation, signing, verification and shared secret computation working on raw
+ * byte arrays with near-zero allocation. The arithmetic runs on an {@link
+ * Ed25519ArithmeticContext} and all the hashes and scalars are kept in buffers owned by this
+ * object. The results are identical to the ones of {@link Ed25519KeyGenerator}, {@link
+ * Ed25519DsaSigner} and {@link Ed25519BlockCipher}.
+ *
+ * <p>Instances are not thread safe, use {@link #current()} to get the one bound to the calling
+ * thread.
+ */
+public class Ed25519InPlaceOperations {
+
+  private static final ThreadLocal<Ed25519InPlaceOperations> CURRENT =
+      ThreadLocal.withInitial(Ed25519InPlaceOperations::new);
+
+  private static final byte[] GROUP_ORDER = ArrayUtils.toByteArray(Ed25519Group.GROUP_ORDER, 32);
+
+  private final Ed25519ArithmeticContext context = new Ed25519ArithmeticContext();
+  private final SHA512Digest digest = new SHA512Digest();
+  private final byte[] hash = new byte[64];
+  private final byte[] longScalar = new byte[64];
+  private final byte[] a = new byte[32];
+  private final byte[] r = new byte[32];
+  private final byte[] h = new byte[32];
+  private final byte[] s = new byte[32];
+  private final byte[] encoded = new byte[32];
+  private byte[] scalars = new byte[0];
+
+  /**
+   * Gets the instance bound to the calling thread.
+   *
+   * @return The instance of the calling thread.
+   */
+  public static Ed25519InPlaceOperations current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Derives the public key of a private key.
+   *
+   * @param privateKey The raw private key (32 bytes).
+   * @param publicKey The array receiving the raw public key (32 bytes).
+   */
+  public void derivePublicKey(final byte[] privateKey, final byte[] publicKey) {
+    this.prepareForScalarMultiply(privateKey);
+    this.context.scalarMultiplyBase(this.a, publicKey);
+    this.clear();
+  }
+
+  /**
+   * Derives the public keys of a batch of private keys sharing a single field inversion between
+   * all of them, see {@link Ed25519ArithmeticContext#scalarMultiplyBaseBatch}.
+   *
+   * @param privateKeys The raw private keys stored back to back (count * 32 bytes).
+   * @param count The number of private keys.
+   * @param publicKeys The array receiving the raw public keys back to back (count * 32 bytes).
+   */
+  public void derivePublicKeys(final byte[] privateKeys, final int count, final byte[] publicKeys) {
+    if (this.scalars.length < count * 32) {
+      this.scalars = new byte[count * 32];
+    }
+    for (int i = 0; i < count; i++) {
+      this.digest.update(privateKeys, i * 32, 32);
+      this.digest.doFinal(this.hash, 0);
+      clamp(this.hash, this.scalars, i * 32);
+    }
+    this.context.scalarMultiplyBaseBatch(this.scalars, count, publicKeys);
+    Arrays.fill(this.scalars, 0, count * 32, (byte) 0);
+    this.clear();
+  }
+
+  /**
+   * Signs data[offset, offset + length).
+   *
+   * @param privateKey The raw private key (32 bytes).
+   * @param publicKey The raw public key matching the private key (32 bytes).
+   * @param data The array holding the data to sign.
+   * @param offset The offset of the data.
+   * @param length The length of the data.
+   * @param signature The array receiving the signature (64 bytes, R followed by S).
+   */
+  public void sign(
+      final byte[] privateKey,
+      final byte[] publicKey,
+      final byte[] data,
+      final int offset,
+      final int length,
+      final byte[] signature) {
+    this.prepareForScalarMultiply(privateKey);
+    this.signPrepared(publicKey, data, offset, length, signature);
+  }
+
+  /**
+   * Computes the expanded form of a private key, the clamped scalar followed by the nonce prefix.
+   * Signing with the expanded key skips hashing the private key.
+   *
+   * @param privateKey The raw private key (32 bytes).
+   * @param expandedKey The array receiving the expanded key (64 bytes).
+   */
+  public void expandPrivateKey(final byte[] privateKey, final byte[] expandedKey) {
+    this.prepareForScalarMultiply(privateKey);
+    System.arraycopy(this.a, 0, expandedKey, 0, 32);
+    System.arraycopy(this.hash, 32, expandedKey, 32, 32);
+    this.clear();
+  }
+
+  /**
+   * Signs data[offset, offset + length) with an expanded private key, see {@link
+   * #expandPrivateKey(byte[], byte[])}.
+   *
+   * @param expandedKey The expanded private key (64 bytes).
+   * @param publicKey The raw public key matching the private key (32 bytes).
+   * @param data The array holding the data to sign.
+   * @param offset The offset of the data.
+   * @param length The length of the data.
+   * @param signature The array receiving the signature (64 bytes, R followed by S).
+   */
+  public void signExpanded(
+      final byte[] expandedKey,
+      final byte[] publicKey,
+      final byte[] data,
+      final int offset,
+      final int length,
+      final byte[] signature) {
+    System.arraycopy(expandedKey, 0, this.a, 0, 32);
+    System.arraycopy(expandedKey, 32, this.hash, 32, 32);
+    this.signPrepared(publicKey, data, offset, length, signature);
+  }
+
+  /** Signs with the scalar in a and the nonce prefix in the upper half of hash. */
+  private void signPrepared(
+      final byte[] publicKey,
+      final byte[] data,
+      final int offset,
+      final int length,
+      final byte[] signature) {
+    // r = H(hash_b,...,hash_2b-1, data) mod group order where b=256.
+    this.digest.update(this.hash, 32, 32);
+    this.digest.update(data, offset, length);
+    this.digest.doFinal(this.longScalar, 0);
+    Ed25519EncodedFieldElement.modQ(this.longScalar, this.r);
+
+    // R = r * base point.
+    this.context.scalarMultiplyBase(this.r, this.encoded);
+
+    // S = (r + H(encodedR, encodedA, data) * a) mod group order.
+    this.digest.update(this.encoded, 0, 32);
+    this.digest.update(publicKey, 0, 32);
+    this.digest.update(data, offset, length);
+    this.digest.doFinal(this.longScalar, 0);
+    Ed25519EncodedFieldElement.modQ(this.longScalar, this.h);
+    Ed25519EncodedFieldElement.multiplyAndAddModQ(this.h, this.a, this.r, this.s);
+    this.clear();
+
+    if (!isCanonicalScalar(this.s, 0)) {
+      throw new CryptoException("Generated signature is not canonical");
+    }
+
+    System.arraycopy(this.encoded, 0, signature, 0, 32);
+    System.arraycopy(this.s, 0, signature, 32, 32);
+  }
+
+  /**
+   * Verifies the signature of data[offset, offset + length). Invalid public keys don't verify any
+   * signature.
+   *
+   * @param publicKey The raw public key (32 bytes).
+   * @param data The array holding the signed data.
+   * @param offset The offset of the data.
+   * @param length The length of the data.
+   * @param signature The signature (64 bytes, R followed by S).
+   * @return true if the signature is valid, false otherwise.
+   */
+  public boolean verify(
+      final byte[] publicKey,
+      final byte[] data,
+      final int offset,
+      final int length,
+      final byte[] signature) {
+    if (!isCanonicalScalar(signature, 32) || isZero(publicKey)) {
+      return false;
+    }
+
+    // h = H(encodedR, encodedA, data) mod group order.
+    this.digest.update(signature, 0, 32);
+    this.digest.update(publicKey, 0, 32);
+    this.digest.update(data, offset, length);
+    this.digest.doFinal(this.longScalar, 0);
+    Ed25519EncodedFieldElement.modQ(this.longScalar, this.h);
+
+    // R = S * B - h * A
+    System.arraycopy(signature, 32, this.s, 0, 32);
+    try {
+      this.context.doubleScalarMultiplyVariableTime(publicKey, this.h, this.s, this.encoded);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+
+    // Compare calculated R to given R.
+    int result = 0;
+    for (int i = 0; i < 32; i++) {
+      result |= this.encoded[i] ^ signature[i];
+    }
+
+    return 0 == result;
+  }
+
+  /**
+   * Computes the shared secret of a private key and a remote public key.
+   *
+   * @param privateKey The raw local private key (32 bytes).
+   * @param publicKey The raw remote public key (32 bytes).
+   * @param sharedSecret The array receiving the shared secret (32 bytes).
+   * @throws IllegalArgumentException if the public key is not a valid group element.
+   */
+  public void getSharedSecret(
+      final byte[] privateKey, final byte[] publicKey, final byte[] sharedSecret) {
+    this.prepareForScalarMultiply(privateKey);
+    try {
+      this.context.scalarMultiply(publicKey, this.a, sharedSecret);
+    } finally {
+      this.clear();
+    }
+  }
+
+  /**
+   * Hashes the private key into hash and stores the clamped lower half in a. See {@link
+   * Ed25519Utils#prepareForScalarMultiply}.
+   *
+   * @param privateKey The raw private key.
+   */
+  private void prepareForScalarMultiply(final byte[] privateKey) {
+    this.digest.update(privateKey, 0, privateKey.length);
+    this.digest.doFinal(this.hash, 0);
+    clamp(this.hash, this.a, 0);
+  }
+
+  /** Copies the lower half of the private key hash to scalar[offset, offset + 32) and clamps it. */
+  private static void clamp(final byte[] hash, final byte[] scalar, final int offset) {
+    System.arraycopy(hash, 0, scalar, offset, 32);
+    scalar[offset + 31] &= 0x7F;
+    scalar[offset + 31] |= 0x40;
+    scalar[offset] &= 0xF8;
+  }
+
+  /** Wipes all the buffers derived from the private key. */
+  private void clear() {
+    Arrays.fill(this.hash, (byte) 0);
+    Arrays.fill(this.longScalar, (byte) 0);
+    Arrays.fill(this.a, (byte) 0);
+    Arrays.fill(this.r, (byte) 0);
+  }
+
+  /**
+   * Checks that 0 &lt; value &lt; group order where value is the little endian scalar stored at
+   * bytes[offset, offset + 32).
+   */
+  private static boolean isCanonicalScalar(final byte[] bytes, final int offset) {
+    for (int i = 31; i >= 0; i--) {
+      final int value = bytes[offset + i] & 0xFF;
+      final int order = GROUP_ORDER[i] & 0xFF;
+      if (value != order) {
+        return value < order && !isZero(bytes, offset);
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean isZero(final byte[] bytes) {
+    return isZero(bytes, 0);
+  }
+
+  private static boolean isZero(final byte[] bytes, final int offset) {
+    int result = 0;
+    for (int i = 0; i < 32; i++) {
+      result |= bytes[offset + i];
+    }
+
+    return 0 == result;
+  }
+}
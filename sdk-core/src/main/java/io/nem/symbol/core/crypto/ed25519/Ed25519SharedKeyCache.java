@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.DigestEngine;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.utils.LruCache;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of the shared keys derived from a local private key and a remote public key,
+ * so exchanging many messages with the same counterparties only derives each shared key once.
+ *
+ * <p>The entries are keyed by a hash of the two keys, the private keys are not stored. The cached
+ * shared keys are zeroed when they are evicted or cleared, and the callers get copies that they
+ * should wipe after use.
+ */
+public class Ed25519SharedKeyCache {
+
+  /** The default max number of cached shared keys. */
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  private final LruCache<KeyId, byte[]> cache;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  /** Constructor using the default max size. */
+  public Ed25519SharedKeyCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the max number of cached shared keys.
+   */
+  public Ed25519SharedKeyCache(int maxSize) {
+    this.cache = new LruCache<>(maxSize, sharedKey -> Arrays.fill(sharedKey, (byte) 0));
+  }
+
+  /**
+   * Gets a copy of the shared key of a private key and a public key, deriving it if it's not
+   * cached.
+   *
+   * @param privateKey the local private key.
+   * @param publicKey the remote public key.
+   * @param sharedKeyFactory derives the shared key when it's not cached.
+   * @return a copy of the shared key.
+   */
+  public byte[] getSharedKey(
+      PrivateKey privateKey, PublicKey publicKey, Supplier<byte[]> sharedKeyFactory) {
+    final KeyId id = new KeyId(privateKey, publicKey);
+    // The copies are made holding the lock so a key being evicted and zeroed is never copied.
+    synchronized (this.cache) {
+      final byte[] cached = this.cache.get(id);
+      if (cached != null) {
+        this.hitCount.incrementAndGet();
+        return cached.clone();
+      }
+    }
+    this.missCount.incrementAndGet();
+    final byte[] sharedKey = sharedKeyFactory.get();
+    synchronized (this.cache) {
+      this.cache.computeIfAbsent(id, key -> sharedKey.clone());
+    }
+    return sharedKey;
+  }
+
+  /** @return the number of cached shared keys. */
+  public int size() {
+    return this.cache.size();
+  }
+
+  /** @return the number of lookups that found the shared key in the cache. */
+  public long getHitCount() {
+    return this.hitCount.get();
+  }
+
+  /** @return the number of lookups that had to derive the shared key. */
+  public long getMissCount() {
+    return this.missCount.get();
+  }
+
+  /** Removes and zeroes all the cached shared keys. */
+  public void clear() {
+    synchronized (this.cache) {
+      this.cache.clear();
+    }
+  }
+
+  /** The hash of a private key and a public key. */
+  private static class KeyId {
+
+    private final byte[] hash;
+
+    private KeyId(PrivateKey privateKey, PublicKey publicKey) {
+      this.hash = DigestEngine.SHA3_256.hash(privateKey.getBytes(), publicKey.getBytes());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof KeyId && Arrays.equals(this.hash, ((KeyId) o).hash);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(this.hash);
+    }
+  }
+}
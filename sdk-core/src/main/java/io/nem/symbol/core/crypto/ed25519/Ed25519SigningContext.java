@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SigningContext;
+
+/**
+ * Ed25519 signing context. The private key is hashed and clamped once when the context is created,
+ * so each signature only costs the nonce hash, one fixed base multiplication and the challenge
+ * hash. The signatures are identical to the ones of {@link Ed25519DsaSigner}.
+ */
+public class Ed25519SigningContext extends Ed25519DsaSigner implements SigningContext {
+
+  /** The clamped scalar followed by the nonce prefix. */
+  private final byte[] expandedKey = new byte[64];
+
+  /** The encoded public key. */
+  private final byte[] publicKey;
+
+  /**
+   * Creates a signing context.
+   *
+   * @param keyPair The key pair to use, it must have the private key.
+   * @param groupElementCache The cache of decoded public keys used to verify. If null, no cache is
+   *     used.
+   */
+  public Ed25519SigningContext(
+      final KeyPair keyPair, final Ed25519GroupElementCache groupElementCache) {
+    super(keyPair, groupElementCache);
+    Ed25519InPlaceOperations.current()
+        .expandPrivateKey(keyPair.getPrivateKey().getBytes(), this.expandedKey);
+    this.publicKey = keyPair.getPublicKey().getBytes();
+  }
+
+  @Override
+  public PublicKey getPublicKey() {
+    return this.getKeyPair().getPublicKey();
+  }
+
+  @Override
+  public Signature sign(final byte[] data) {
+    return this.sign(data, 0, data.length);
+  }
+
+  @Override
+  public Signature sign(final byte[] data, final int offset, final int length) {
+    final byte[] signature = new byte[64];
+    Ed25519InPlaceOperations.current()
+        .signExpanded(this.expandedKey, this.publicKey, data, offset, length, signature);
+    return new Signature(signature);
+  }
+}
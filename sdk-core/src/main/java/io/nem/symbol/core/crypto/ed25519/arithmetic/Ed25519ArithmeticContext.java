@@ -0,0 +1,580 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.add;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.cmov;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.copy;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.encode;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.invert;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.isNegative;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.isNonZero;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.multiply;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.negate;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.pow2to252sub4;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.square;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.squareAndDouble;
+import static io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FieldElement.subtract;
+
+import io.nem.symbol.core.utils.ArrayUtils;
+import io.nem.symbol.core.utils.ByteUtils;
+import java.util.Arrays;
+
+/**
+ * Allocation-free backend for the Ed25519 group operations. All the intermediate values live in
+ * limb arrays that are allocated once per context and overwritten in place, so a scalar
+ * multiplication doesn't create any garbage. The formulas and the precomputed base point tables
+ * are the ones of {@link Ed25519GroupElement}, hence the encoded results are identical.
+ *
+ * <p>Contexts are not thread safe. Either use one context per thread or guard it externally.
+ */
+public class Ed25519ArithmeticContext {
+
+  private static final int[] ONE = Ed25519Field.ONE.getRaw();
+  private static final int[] D = Ed25519Field.D.getRaw();
+  private static final int[] D_TIMES_TWO = Ed25519Field.D_Times_TWO.getRaw();
+  private static final int[] I = Ed25519Field.I.getRaw();
+
+  // field element temporaries used by the group operations
+  private final int[] t0 = new int[10];
+  private final int[] t1 = new int[10];
+  private final int[] t2 = new int[10];
+  private final int[] t3 = new int[10];
+
+  // field element temporaries used by encoding, decoding and inversion
+  private final int[] u = new int[10];
+  private final int[] v = new int[10];
+  private final int[] w = new int[10];
+  private final int[] v3 = new int[10];
+  private final int[] x = new int[10];
+  private final int[] y = new int[10];
+  private final int[] i0 = new int[10];
+  private final int[] i1 = new int[10];
+  private final int[] i2 = new int[10];
+  private final int[] i3 = new int[10];
+  private final byte[] scratch = new byte[32];
+  private final byte[] encodedScratch = new byte[32];
+
+  // scalar representations
+  private final byte[] scalar = new byte[32];
+  private final byte[] digits = new byte[64];
+  private final byte[] aSlide = new byte[256];
+  private final byte[] bSlide = new byte[256];
+
+  // group elements
+  private final Ed25519MutableGroupElement p1xp1 = new Ed25519MutableGroupElement();
+  private final Ed25519MutableGroupElement p2 = new Ed25519MutableGroupElement();
+  private final Ed25519MutableGroupElement p3 = new Ed25519MutableGroupElement();
+  private final Ed25519MutableGroupElement decoded = new Ed25519MutableGroupElement();
+  private final Ed25519MutableGroupElement selected = new Ed25519MutableGroupElement();
+  private final Ed25519MutableGroupElement negated = new Ed25519MutableGroupElement();
+  private final Ed25519MutableGroupElement[] table = new Ed25519MutableGroupElement[8];
+
+  // projective coordinates and running products of the points of a batch, grown on demand
+  private int[][] batchX = new int[0][];
+  private int[][] batchY = new int[0][];
+  private int[][] batchZ = new int[0][];
+  private int[][] batchProducts = new int[0][];
+
+  /** Creates a context. */
+  public Ed25519ArithmeticContext() {
+    for (int i = 0; i < this.table.length; i++) {
+      this.table[i] = new Ed25519MutableGroupElement();
+    }
+  }
+
+  /**
+   * Computes a * B where B is the base point and writes the encoded result. Constant time.
+   *
+   * @param a The encoded scalar (32 bytes, a[31] &lt;= 127).
+   * @param encoded The array receiving the encoded group element (32 bytes).
+   */
+  public void scalarMultiplyBase(final byte[] a, final byte[] encoded) {
+    this.scalarMultiplyBaseIntoP3(a);
+    this.encodePoint(this.p3, encoded);
+  }
+
+  /**
+   * Computes a_i * B for count scalars where B is the base point and writes the encoded results.
+   * Constant time. Encoding a point requires a field inversion that costs about as much as a tenth
+   * of the multiplication, the batch shares a single inversion between all the points (Montgomery's
+   * trick) so each point only pays three field multiplications for it.
+   *
+   * @param scalars The encoded scalars stored back to back (count * 32 bytes, a_i[31] &lt;= 127).
+   * @param count The number of scalars.
+   * @param encoded The array receiving the encoded group elements back to back (count * 32 bytes).
+   */
+  public void scalarMultiplyBaseBatch(final byte[] scalars, final int count, final byte[] encoded) {
+    if (count <= 0) {
+      return;
+    }
+    this.ensureBatchCapacity(count);
+    for (int i = 0; i < count; i++) {
+      System.arraycopy(scalars, i * 32, this.scalar, 0, 32);
+      this.scalarMultiplyBaseIntoP3(this.scalar);
+      copy(this.p3.x, this.batchX[i]);
+      copy(this.p3.y, this.batchY[i]);
+      copy(this.p3.z, this.batchZ[i]);
+
+      // products[i] = z_0 * ... * z_i
+      if (i == 0) {
+        copy(this.p3.z, this.batchProducts[0]);
+      } else {
+        multiply(this.batchProducts[i - 1], this.p3.z, this.batchProducts[i]);
+      }
+    }
+    Arrays.fill(this.scalar, (byte) 0);
+
+    // w = 1 / (z_0 * ... * z_(count - 1)), then peel one z off per point from the last one.
+    invert(this.batchProducts[count - 1], this.w, this.i0, this.i1, this.i2, this.i3);
+    for (int i = count - 1; i > 0; i--) {
+      multiply(this.w, this.batchProducts[i - 1], this.u);
+      multiply(this.w, this.batchZ[i], this.w);
+      this.encodeAffine(this.batchX[i], this.batchY[i], this.u, encoded, i * 32);
+    }
+    this.encodeAffine(this.batchX[0], this.batchY[0], this.w, encoded, 0);
+  }
+
+  /**
+   * Computes a * B where B is the base point into p3. Constant time.
+   *
+   * @param a The encoded scalar (32 bytes, a[31] &lt;= 127).
+   */
+  private void scalarMultiplyBaseIntoP3(final byte[] a) {
+    final Ed25519GroupElement[][] precomputed = Ed25519Group.BASE_POINT.getPrecomputedForSingle();
+    Ed25519GroupElement.toRadix16(a, this.digits);
+    this.p3.setNeutral();
+    for (int i = 1; i < 64; i += 2) {
+      this.selectPrecomputed(precomputed[i / 2], this.digits[i]);
+      this.addPrecomputed(this.p3, this.selected.x, this.selected.y, this.selected.z);
+      toP3(this.p1xp1, this.p3);
+    }
+
+    this.doubleP1xP1(this.p3);
+    toP2(this.p1xp1, this.p2);
+    this.doubleP1xP1(this.p2);
+    toP2(this.p1xp1, this.p2);
+    this.doubleP1xP1(this.p2);
+    toP2(this.p1xp1, this.p2);
+    this.doubleP1xP1(this.p2);
+    toP3(this.p1xp1, this.p3);
+
+    for (int i = 0; i < 64; i += 2) {
+      this.selectPrecomputed(precomputed[i / 2], this.digits[i]);
+      this.addPrecomputed(this.p3, this.selected.x, this.selected.y, this.selected.z);
+      toP3(this.p1xp1, this.p3);
+    }
+  }
+
+  /** Grows the batch buffers so they can hold count points. */
+  private void ensureBatchCapacity(final int count) {
+    if (this.batchZ.length >= count) {
+      return;
+    }
+    this.batchX = new int[count][10];
+    this.batchY = new int[count][10];
+    this.batchZ = new int[count][10];
+    this.batchProducts = new int[count][10];
+  }
+
+  /**
+   * Computes a * A where A is an arbitrary encoded group element and writes the encoded result.
+   * Constant time with respect to a.
+   *
+   * @param encodedA The encoded group element A (32 bytes).
+   * @param a The encoded scalar (32 bytes, a[31] &lt;= 127).
+   * @param encoded The array receiving the encoded group element (32 bytes).
+   * @throws IllegalArgumentException if encodedA is not a valid group element.
+   */
+  public void scalarMultiply(final byte[] encodedA, final byte[] a, final byte[] encoded) {
+    this.decodePoint(encodedA, this.decoded);
+
+    // table[j] = (j + 1) * A
+    toCached(this.decoded, this.table[0]);
+    copyPoint(this.decoded, this.p3);
+    for (int j = 1; j < 8; j++) {
+      this.addCached(this.p3, this.table[0]);
+      toP3(this.p1xp1, this.p3);
+      toCached(this.p3, this.table[j]);
+    }
+
+    Ed25519GroupElement.toRadix16(a, this.digits);
+    this.p3.setNeutral();
+    for (int i = 63; i >= 0; i--) {
+      this.doubleP1xP1(this.p3);
+      toP2(this.p1xp1, this.p2);
+      this.doubleP1xP1(this.p2);
+      toP2(this.p1xp1, this.p2);
+      this.doubleP1xP1(this.p2);
+      toP2(this.p1xp1, this.p2);
+      this.doubleP1xP1(this.p2);
+      toP3(this.p1xp1, this.p3);
+
+      this.selectCached(this.digits[i]);
+      this.addCached(this.p3, this.selected);
+      toP3(this.p1xp1, this.p3);
+    }
+
+    this.encodePoint(this.p3, encoded);
+  }
+
+  /**
+   * Computes b * B - a * A where B is the base point and A an arbitrary encoded group element and
+   * writes the encoded result. Variable time, only to be used with public values.
+   *
+   * @param encodedA The encoded group element A (32 bytes).
+   * @param a The first encoded scalar (32 bytes).
+   * @param b The second encoded scalar (32 bytes).
+   * @param encoded The array receiving the encoded group element (32 bytes).
+   * @throws IllegalArgumentException if encodedA is not a valid group element.
+   */
+  public void doubleScalarMultiplyVariableTime(
+      final byte[] encodedA, final byte[] a, final byte[] b, final byte[] encoded) {
+    this.decodePoint(encodedA, this.decoded);
+
+    // table[j] = (2 * j + 1) * A
+    this.doubleP1xP1(this.decoded);
+    toP3(this.p1xp1, this.p3);
+    toCached(this.p3, this.selected);
+    copyPoint(this.decoded, this.p3);
+    for (int j = 0; j < 8; j++) {
+      toCached(this.p3, this.table[j]);
+      this.addCached(this.p3, this.selected);
+      toP3(this.p1xp1, this.p3);
+    }
+
+    final Ed25519GroupElement[] precomputed = Ed25519Group.BASE_POINT.getPrecomputedForDouble();
+    Ed25519GroupElement.slide(a, this.aSlide);
+    Ed25519GroupElement.slide(b, this.bSlide);
+    this.p2.setNeutral();
+
+    int i;
+    for (i = 255; i >= 0; --i) {
+      if (this.aSlide[i] != 0 || this.bSlide[i] != 0) {
+        break;
+      }
+    }
+
+    for (; i >= 0; --i) {
+      this.doubleP1xP1(this.p2);
+
+      if (this.aSlide[i] > 0) {
+        toP3(this.p1xp1, this.p3);
+        this.subtractCached(this.p3, this.table[this.aSlide[i] / 2]);
+      } else if (this.aSlide[i] < 0) {
+        toP3(this.p1xp1, this.p3);
+        this.addCached(this.p3, this.table[(-this.aSlide[i]) / 2]);
+      }
+
+      if (this.bSlide[i] > 0) {
+        final Ed25519GroupElement g = precomputed[this.bSlide[i] / 2];
+        toP3(this.p1xp1, this.p3);
+        this.addPrecomputed(this.p3, g.getX().getRaw(), g.getY().getRaw(), g.getZ().getRaw());
+      } else if (this.bSlide[i] < 0) {
+        final Ed25519GroupElement g = precomputed[(-this.bSlide[i]) / 2];
+        toP3(this.p1xp1, this.p3);
+        this.subtractPrecomputed(
+            this.p3, g.getX().getRaw(), g.getY().getRaw(), g.getZ().getRaw());
+      }
+
+      toP2(this.p1xp1, this.p2);
+    }
+
+    this.encodePoint(this.p2, encoded);
+  }
+
+  /**
+   * Decodes an encoded group element into the P3 coordinate system. Same algorithm as {@link
+   * Ed25519EncodedGroupElement#getAffineX()}.
+   *
+   * @param encoded The encoded group element.
+   * @param r The element receiving the decoded group element.
+   */
+  private void decodePoint(final byte[] encoded, final Ed25519MutableGroupElement r) {
+    Ed25519EncodedFieldElement.decode(encoded, this.y);
+    square(this.y, this.w);
+
+    // u = y^2 - 1
+    subtract(this.w, ONE, this.u);
+
+    // v = d * y^2 + 1
+    multiply(this.w, D, this.v);
+    add(this.v, ONE, this.v);
+
+    // x = sqrt(u / v), see Ed25519FieldElement.sqrt
+    square(this.v, this.v3);
+    multiply(this.v3, this.v, this.v3);
+    square(this.v3, this.x);
+    multiply(this.x, this.v, this.x);
+    multiply(this.x, this.u, this.x);
+    pow2to252sub4(this.x, this.w, this.i0, this.i1, this.i2);
+    multiply(this.w, this.x, this.x);
+    multiply(this.v3, this.u, this.w);
+    multiply(this.w, this.x, this.x);
+
+    // check v * x^2 = +-u
+    square(this.x, this.w);
+    multiply(this.w, this.v, this.w);
+    subtract(this.w, this.u, this.i0);
+    if (isNonZero(this.i0, this.scratch)) {
+      add(this.w, this.u, this.i0);
+      if (isNonZero(this.i0, this.scratch)) {
+        throw new IllegalArgumentException("not a valid Ed25519EncodedGroupElement.");
+      }
+
+      multiply(this.x, I, this.x);
+    }
+
+    if ((isNegative(this.x, this.scratch) ? 1 : 0) != ArrayUtils.getBit(encoded, 255)) {
+      negate(this.x, this.x);
+    }
+
+    copy(this.x, r.x);
+    copy(this.y, r.y);
+    copy(ONE, r.z);
+    multiply(this.x, this.y, r.t);
+  }
+
+  /**
+   * Encodes a group element given in the P2 or P3 coordinate system.
+   *
+   * @param p The group element.
+   * @param encoded The array receiving the encoded group element (32 bytes).
+   */
+  private void encodePoint(final Ed25519MutableGroupElement p, final byte[] encoded) {
+    invert(p.z, this.w, this.i0, this.i1, this.i2, this.i3);
+    multiply(p.x, this.w, this.x);
+    multiply(p.y, this.w, this.y);
+    encode(this.y, encoded);
+    if (isNegative(this.x, this.scratch)) {
+      encoded[31] |= (byte) 0x80;
+    }
+  }
+
+  /**
+   * Encodes the point (px / z, py / z) given the inverse of z and writes it to
+   * encoded[offset, offset + 32).
+   */
+  private void encodeAffine(
+      final int[] px,
+      final int[] py,
+      final int[] zInverse,
+      final byte[] encoded,
+      final int offset) {
+    multiply(px, zInverse, this.x);
+    multiply(py, zInverse, this.y);
+    encode(this.y, this.encodedScratch);
+    if (isNegative(this.x, this.scratch)) {
+      this.encodedScratch[31] |= (byte) 0x80;
+    }
+    System.arraycopy(this.encodedScratch, 0, encoded, offset, 32);
+  }
+
+  /**
+   * Doubles p given in the P2 or P3 coordinate system into p1xp1. See {@link
+   * Ed25519GroupElement#dbl()}.
+   *
+   * @param p The group element to double.
+   */
+  private void doubleP1xP1(final Ed25519MutableGroupElement p) {
+    final Ed25519MutableGroupElement r = this.p1xp1;
+    square(p.x, this.t0);
+    square(p.y, this.t1);
+    squareAndDouble(p.z, this.t2);
+    add(p.x, p.y, this.t3);
+    square(this.t3, this.t3);
+    add(this.t1, this.t0, r.y);
+    subtract(this.t1, this.t0, r.z);
+    subtract(this.t3, r.y, r.x);
+    subtract(this.t2, r.z, r.t);
+  }
+
+  /**
+   * Adds g given in the CACHED coordinate system to p given in the P3 coordinate system into
+   * p1xp1. See {@link Ed25519GroupElement#add(Ed25519GroupElement)}.
+   *
+   * @param p The group element in the P3 coordinate system.
+   * @param g The group element in the CACHED coordinate system.
+   */
+  private void addCached(final Ed25519MutableGroupElement p, final Ed25519MutableGroupElement g) {
+    final Ed25519MutableGroupElement r = this.p1xp1;
+    add(p.y, p.x, this.t0);
+    subtract(p.y, p.x, this.t1);
+    multiply(this.t0, g.x, this.t0);
+    multiply(this.t1, g.y, this.t1);
+    multiply(g.t, p.t, this.t2);
+    multiply(p.z, g.z, this.t3);
+    add(this.t3, this.t3, this.t3);
+    subtract(this.t0, this.t1, r.x);
+    add(this.t0, this.t1, r.y);
+    add(this.t3, this.t2, r.z);
+    subtract(this.t3, this.t2, r.t);
+  }
+
+  /**
+   * Subtracts g given in the CACHED coordinate system from p given in the P3 coordinate system into
+   * p1xp1. See {@link Ed25519GroupElement#subtract(Ed25519GroupElement)}.
+   *
+   * @param p The group element in the P3 coordinate system.
+   * @param g The group element in the CACHED coordinate system.
+   */
+  private void subtractCached(
+      final Ed25519MutableGroupElement p, final Ed25519MutableGroupElement g) {
+    final Ed25519MutableGroupElement r = this.p1xp1;
+    add(p.y, p.x, this.t0);
+    subtract(p.y, p.x, this.t1);
+    multiply(this.t0, g.y, this.t0);
+    multiply(this.t1, g.x, this.t1);
+    multiply(g.t, p.t, this.t2);
+    multiply(p.z, g.z, this.t3);
+    add(this.t3, this.t3, this.t3);
+    subtract(this.t0, this.t1, r.x);
+    add(this.t0, this.t1, r.y);
+    subtract(this.t3, this.t2, r.z);
+    add(this.t3, this.t2, r.t);
+  }
+
+  /**
+   * Adds g given in the PRECOMPUTED coordinate system to p given in the P3 coordinate system into
+   * p1xp1. See Ed25519GroupElement#precomputedAdd.
+   *
+   * @param p The group element in the P3 coordinate system.
+   * @param gx The x coordinate of g.
+   * @param gy The y coordinate of g.
+   * @param gz The z coordinate of g.
+   */
+  private void addPrecomputed(
+      final Ed25519MutableGroupElement p, final int[] gx, final int[] gy, final int[] gz) {
+    final Ed25519MutableGroupElement r = this.p1xp1;
+    add(p.y, p.x, this.t0);
+    subtract(p.y, p.x, this.t1);
+    multiply(this.t0, gx, this.t0);
+    multiply(this.t1, gy, this.t1);
+    multiply(gz, p.t, this.t2);
+    add(p.z, p.z, this.t3);
+    subtract(this.t0, this.t1, r.x);
+    add(this.t0, this.t1, r.y);
+    add(this.t3, this.t2, r.z);
+    subtract(this.t3, this.t2, r.t);
+  }
+
+  /**
+   * Subtracts g given in the PRECOMPUTED coordinate system from p given in the P3 coordinate
+   * system into p1xp1. See Ed25519GroupElement#precomputedSubtract.
+   *
+   * @param p The group element in the P3 coordinate system.
+   * @param gx The x coordinate of g.
+   * @param gy The y coordinate of g.
+   * @param gz The z coordinate of g.
+   */
+  private void subtractPrecomputed(
+      final Ed25519MutableGroupElement p, final int[] gx, final int[] gy, final int[] gz) {
+    final Ed25519MutableGroupElement r = this.p1xp1;
+    add(p.y, p.x, this.t0);
+    subtract(p.y, p.x, this.t1);
+    multiply(this.t0, gy, this.t0);
+    multiply(this.t1, gx, this.t1);
+    multiply(gz, p.t, this.t2);
+    add(p.z, p.z, this.t3);
+    subtract(this.t0, this.t1, r.x);
+    add(this.t0, this.t1, r.y);
+    subtract(this.t3, this.t2, r.z);
+    add(this.t3, this.t2, r.t);
+  }
+
+  /**
+   * Looks up |b| * B_pos in a row of the precomputed base point table and negates it if b is
+   * negative. No secret array indices, no secret branching.
+   *
+   * @param row The row of the precomputed table.
+   * @param b The digit in {-8, ..., 8}.
+   */
+  private void selectPrecomputed(final Ed25519GroupElement[] row, final int b) {
+    final int bNegative = ByteUtils.isNegativeConstantTime(b);
+    final int bAbs = b - (((-bNegative) & b) << 1);
+
+    this.selected.setNeutralPrecomputed();
+    for (int j = 0; j < 8; j++) {
+      final int move = ByteUtils.isEqualConstantTime(bAbs, j + 1);
+      cmov(this.selected.x, row[j].getX().getRaw(), move);
+      cmov(this.selected.y, row[j].getY().getRaw(), move);
+      cmov(this.selected.z, row[j].getZ().getRaw(), move);
+    }
+
+    copy(this.selected.y, this.negated.x);
+    copy(this.selected.x, this.negated.y);
+    negate(this.selected.z, this.negated.z);
+    cmov(this.selected.x, this.negated.x, bNegative);
+    cmov(this.selected.y, this.negated.y, bNegative);
+    cmov(this.selected.z, this.negated.z, bNegative);
+  }
+
+  /**
+   * Looks up |b| * A in the table of cached multiples and negates it if b is negative. No secret
+   * array indices, no secret branching.
+   *
+   * @param b The digit in {-8, ..., 8}.
+   */
+  private void selectCached(final int b) {
+    final int bNegative = ByteUtils.isNegativeConstantTime(b);
+    final int bAbs = b - (((-bNegative) & b) << 1);
+
+    this.selected.setNeutralCached();
+    for (int j = 0; j < 8; j++) {
+      final int move = ByteUtils.isEqualConstantTime(bAbs, j + 1);
+      cmov(this.selected.x, this.table[j].x, move);
+      cmov(this.selected.y, this.table[j].y, move);
+      cmov(this.selected.z, this.table[j].z, move);
+      cmov(this.selected.t, this.table[j].t, move);
+    }
+
+    copy(this.selected.y, this.negated.x);
+    copy(this.selected.x, this.negated.y);
+    negate(this.selected.t, this.negated.t);
+    cmov(this.selected.x, this.negated.x, bNegative);
+    cmov(this.selected.y, this.negated.y, bNegative);
+    cmov(this.selected.t, this.negated.t, bNegative);
+  }
+
+  private static void toP2(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p) {
+    multiply(r.x, r.t, p.x);
+    multiply(r.y, r.z, p.y);
+    multiply(r.z, r.t, p.z);
+  }
+
+  private static void toP3(final Ed25519MutableGroupElement r, final Ed25519MutableGroupElement p) {
+    multiply(r.x, r.t, p.x);
+    multiply(r.y, r.z, p.y);
+    multiply(r.z, r.t, p.z);
+    multiply(r.x, r.y, p.t);
+  }
+
+  private static void toCached(
+      final Ed25519MutableGroupElement p, final Ed25519MutableGroupElement c) {
+    add(p.y, p.x, c.x);
+    subtract(p.y, p.x, c.y);
+    copy(p.z, c.z);
+    multiply(p.t, D_TIMES_TWO, c.t);
+  }
+
+  private static void copyPoint(
+      final Ed25519MutableGroupElement p, final Ed25519MutableGroupElement r) {
+    copy(p.x, r.x);
+    copy(p.y, r.y);
+    copy(p.z, r.z);
+    copy(p.t, r.t);
+  }
+}
@@ -103,16 +103,29 @@ public class Ed25519EncodedFieldElement implements Serializable {
    * @return The field element in its 2^25.5 bit representation.
    */
   public Ed25519FieldElement decode() {
-    long h0 = fourBytesToLong(this.values, 0);
-    long h1 = threeBytesToLong(this.values, 4) << 6;
-    long h2 = threeBytesToLong(this.values, 7) << 5;
-    long h3 = threeBytesToLong(this.values, 10) << 3;
-    long h4 = threeBytesToLong(this.values, 13) << 2;
-    long h5 = fourBytesToLong(this.values, 16);
-    long h6 = threeBytesToLong(this.values, 20) << 7;
-    long h7 = threeBytesToLong(this.values, 23) << 5;
-    long h8 = threeBytesToLong(this.values, 26) << 4;
-    long h9 = (threeBytesToLong(this.values, 29) & 0x7FFFFF) << 2;
+    final int[] h = new int[10];
+    decode(this.values, h);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Decodes an encoded (32 byte) field element into the given 10 int limbs without allocating. The
+   * most significant bit is discarded.
+   *
+   * @param values The encoded field element (32 bytes).
+   * @param h The array receiving the 10 limbs of the decoded field element.
+   */
+  public static void decode(final byte[] values, final int[] h) {
+    long h0 = fourBytesToLong(values, 0);
+    long h1 = threeBytesToLong(values, 4) << 6;
+    long h2 = threeBytesToLong(values, 7) << 5;
+    long h3 = threeBytesToLong(values, 10) << 3;
+    long h4 = threeBytesToLong(values, 13) << 2;
+    long h5 = fourBytesToLong(values, 16);
+    long h6 = threeBytesToLong(values, 20) << 7;
+    long h7 = threeBytesToLong(values, 23) << 5;
+    long h8 = threeBytesToLong(values, 26) << 4;
+    long h9 = (threeBytesToLong(values, 29) & 0x7FFFFF) << 2;
     final long carry0;
     final long carry1;
     final long carry2;
@@ -157,7 +170,6 @@ public class Ed25519EncodedFieldElement implements Serializable {
     h9 += carry8;
     h8 -= carry8 << 26;
 
-    final int[] h = new int[10];
     h[0] = (int) h0;
     h[1] = (int) h1;
     h[2] = (int) h2;
@@ -168,8 +180,6 @@ public class Ed25519EncodedFieldElement implements Serializable {
     h[7] = (int) h7;
     h[8] = (int) h8;
     h[9] = (int) h9;
-
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -178,31 +188,44 @@ public class Ed25519EncodedFieldElement implements Serializable {
    * @return Encoded field element (32 bytes).
    */
   public Ed25519EncodedFieldElement modQ() {
+    final byte[] result = new byte[32];
+    modQ(this.values, result);
+    return new Ed25519EncodedFieldElement(result);
+  }
+
+  /**
+   * Reduces an encoded field element (64 bytes) modulo the group order q without allocating. The
+   * input is fully read before the result is written.
+   *
+   * @param values The encoded field element (64 bytes).
+   * @param result The array receiving the reduced encoded field element (32 bytes).
+   */
+  public static void modQ(final byte[] values, final byte[] result) {
     // s0, ..., s22 have 21 bits, s23 has 29 bits
-    long s0 = 0x1FFFFF & threeBytesToLong(this.values, 0);
-    long s1 = 0x1FFFFF & (fourBytesToLong(this.values, 2) >> 5);
-    long s2 = 0x1FFFFF & (threeBytesToLong(this.values, 5) >> 2);
-    long s3 = 0x1FFFFF & (fourBytesToLong(this.values, 7) >> 7);
-    long s4 = 0x1FFFFF & (fourBytesToLong(this.values, 10) >> 4);
-    long s5 = 0x1FFFFF & (threeBytesToLong(this.values, 13) >> 1);
-    long s6 = 0x1FFFFF & (fourBytesToLong(this.values, 15) >> 6);
-    long s7 = 0x1FFFFF & (threeBytesToLong(this.values, 18) >> 3);
-    long s8 = 0x1FFFFF & threeBytesToLong(this.values, 21);
-    long s9 = 0x1FFFFF & (fourBytesToLong(this.values, 23) >> 5);
-    long s10 = 0x1FFFFF & (threeBytesToLong(this.values, 26) >> 2);
-    long s11 = 0x1FFFFF & (fourBytesToLong(this.values, 28) >> 7);
-    long s12 = 0x1FFFFF & (fourBytesToLong(this.values, 31) >> 4);
-    long s13 = 0x1FFFFF & (threeBytesToLong(this.values, 34) >> 1);
-    long s14 = 0x1FFFFF & (fourBytesToLong(this.values, 36) >> 6);
-    long s15 = 0x1FFFFF & (threeBytesToLong(this.values, 39) >> 3);
-    long s16 = 0x1FFFFF & threeBytesToLong(this.values, 42);
-    long s17 = 0x1FFFFF & (fourBytesToLong(this.values, 44) >> 5);
-    final long s18 = 0x1FFFFF & (threeBytesToLong(this.values, 47) >> 2);
-    final long s19 = 0x1FFFFF & (fourBytesToLong(this.values, 49) >> 7);
-    final long s20 = 0x1FFFFF & (fourBytesToLong(this.values, 52) >> 4);
-    final long s21 = 0x1FFFFF & (threeBytesToLong(this.values, 55) >> 1);
-    final long s22 = 0x1FFFFF & (fourBytesToLong(this.values, 57) >> 6);
-    final long s23 = (fourBytesToLong(this.values, 60) >> 3);
+    long s0 = 0x1FFFFF & threeBytesToLong(values, 0);
+    long s1 = 0x1FFFFF & (fourBytesToLong(values, 2) >> 5);
+    long s2 = 0x1FFFFF & (threeBytesToLong(values, 5) >> 2);
+    long s3 = 0x1FFFFF & (fourBytesToLong(values, 7) >> 7);
+    long s4 = 0x1FFFFF & (fourBytesToLong(values, 10) >> 4);
+    long s5 = 0x1FFFFF & (threeBytesToLong(values, 13) >> 1);
+    long s6 = 0x1FFFFF & (fourBytesToLong(values, 15) >> 6);
+    long s7 = 0x1FFFFF & (threeBytesToLong(values, 18) >> 3);
+    long s8 = 0x1FFFFF & threeBytesToLong(values, 21);
+    long s9 = 0x1FFFFF & (fourBytesToLong(values, 23) >> 5);
+    long s10 = 0x1FFFFF & (threeBytesToLong(values, 26) >> 2);
+    long s11 = 0x1FFFFF & (fourBytesToLong(values, 28) >> 7);
+    long s12 = 0x1FFFFF & (fourBytesToLong(values, 31) >> 4);
+    long s13 = 0x1FFFFF & (threeBytesToLong(values, 34) >> 1);
+    long s14 = 0x1FFFFF & (fourBytesToLong(values, 36) >> 6);
+    long s15 = 0x1FFFFF & (threeBytesToLong(values, 39) >> 3);
+    long s16 = 0x1FFFFF & threeBytesToLong(values, 42);
+    long s17 = 0x1FFFFF & (fourBytesToLong(values, 44) >> 5);
+    final long s18 = 0x1FFFFF & (threeBytesToLong(values, 47) >> 2);
+    final long s19 = 0x1FFFFF & (fourBytesToLong(values, 49) >> 7);
+    final long s20 = 0x1FFFFF & (fourBytesToLong(values, 52) >> 4);
+    final long s21 = 0x1FFFFF & (threeBytesToLong(values, 55) >> 1);
+    final long s22 = 0x1FFFFF & (fourBytesToLong(values, 57) >> 6);
+    final long s23 = (fourBytesToLong(values, 60) >> 3);
     long carry0;
     long carry1;
     long carry2;
@@ -484,7 +507,6 @@ public class Ed25519EncodedFieldElement implements Serializable {
     s10 -= carry10 << 21;
 
     // s0, ..., s11 got 21 bits each.
-    final byte[] result = new byte[32];
     result[0] = (byte) (s0);
     result[1] = (byte) (s0 >> 8);
     result[2] = (byte) ((s0 >> 16) | (s1 << 5));
@@ -517,8 +539,6 @@ public class Ed25519EncodedFieldElement implements Serializable {
     result[29] = (byte) (s11 >> 1);
     result[30] = (byte) (s11 >> 9);
     result[31] = (byte) (s11 >> 17);
-
-    return new Ed25519EncodedFieldElement(result);
   }
 
   /**
@@ -532,42 +552,58 @@ public class Ed25519EncodedFieldElement implements Serializable {
    */
   public Ed25519EncodedFieldElement multiplyAndAddModQ(
       final Ed25519EncodedFieldElement b, final Ed25519EncodedFieldElement c) {
-    final long a0 = 0x1FFFFF & threeBytesToLong(this.values, 0);
-    final long a1 = 0x1FFFFF & (fourBytesToLong(this.values, 2) >> 5);
-    final long a2 = 0x1FFFFF & (threeBytesToLong(this.values, 5) >> 2);
-    final long a3 = 0x1FFFFF & (fourBytesToLong(this.values, 7) >> 7);
-    final long a4 = 0x1FFFFF & (fourBytesToLong(this.values, 10) >> 4);
-    final long a5 = 0x1FFFFF & (threeBytesToLong(this.values, 13) >> 1);
-    final long a6 = 0x1FFFFF & (fourBytesToLong(this.values, 15) >> 6);
-    final long a7 = 0x1FFFFF & (threeBytesToLong(this.values, 18) >> 3);
-    final long a8 = 0x1FFFFF & threeBytesToLong(this.values, 21);
-    final long a9 = 0x1FFFFF & (fourBytesToLong(this.values, 23) >> 5);
-    final long a10 = 0x1FFFFF & (threeBytesToLong(this.values, 26) >> 2);
-    final long a11 = (fourBytesToLong(this.values, 28) >> 7);
-    final long b0 = 0x1FFFFF & threeBytesToLong(b.values, 0);
-    final long b1 = 0x1FFFFF & (fourBytesToLong(b.values, 2) >> 5);
-    final long b2 = 0x1FFFFF & (threeBytesToLong(b.values, 5) >> 2);
-    final long b3 = 0x1FFFFF & (fourBytesToLong(b.values, 7) >> 7);
-    final long b4 = 0x1FFFFF & (fourBytesToLong(b.values, 10) >> 4);
-    final long b5 = 0x1FFFFF & (threeBytesToLong(b.values, 13) >> 1);
-    final long b6 = 0x1FFFFF & (fourBytesToLong(b.values, 15) >> 6);
-    final long b7 = 0x1FFFFF & (threeBytesToLong(b.values, 18) >> 3);
-    final long b8 = 0x1FFFFF & threeBytesToLong(b.values, 21);
-    final long b9 = 0x1FFFFF & (fourBytesToLong(b.values, 23) >> 5);
-    final long b10 = 0x1FFFFF & (threeBytesToLong(b.values, 26) >> 2);
-    final long b11 = (fourBytesToLong(b.values, 28) >> 7);
-    final long c0 = 0x1FFFFF & threeBytesToLong(c.values, 0);
-    final long c1 = 0x1FFFFF & (fourBytesToLong(c.values, 2) >> 5);
-    final long c2 = 0x1FFFFF & (threeBytesToLong(c.values, 5) >> 2);
-    final long c3 = 0x1FFFFF & (fourBytesToLong(c.values, 7) >> 7);
-    final long c4 = 0x1FFFFF & (fourBytesToLong(c.values, 10) >> 4);
-    final long c5 = 0x1FFFFF & (threeBytesToLong(c.values, 13) >> 1);
-    final long c6 = 0x1FFFFF & (fourBytesToLong(c.values, 15) >> 6);
-    final long c7 = 0x1FFFFF & (threeBytesToLong(c.values, 18) >> 3);
-    final long c8 = 0x1FFFFF & threeBytesToLong(c.values, 21);
-    final long c9 = 0x1FFFFF & (fourBytesToLong(c.values, 23) >> 5);
-    final long c10 = 0x1FFFFF & (threeBytesToLong(c.values, 26) >> 2);
-    final long c11 = (fourBytesToLong(c.values, 28) >> 7);
+    final byte[] result = new byte[32];
+    multiplyAndAddModQ(this.values, b.values, c.values, result);
+    return new Ed25519EncodedFieldElement(result);
+  }
+
+  /**
+   * Computes (a * b + c) modulo the group order q without allocating. All inputs are read before
+   * the result is written, so the result array may be one of the inputs.
+   *
+   * @param a The first encoded field element (32 bytes).
+   * @param b The encoded field element which is multiplied with a (32 bytes).
+   * @param c The encoded field element which is added (32 bytes).
+   * @param result The array receiving the encoded result (32 bytes).
+   */
+  public static void multiplyAndAddModQ(
+      final byte[] a, final byte[] b, final byte[] c, final byte[] result) {
+    final long a0 = 0x1FFFFF & threeBytesToLong(a, 0);
+    final long a1 = 0x1FFFFF & (fourBytesToLong(a, 2) >> 5);
+    final long a2 = 0x1FFFFF & (threeBytesToLong(a, 5) >> 2);
+    final long a3 = 0x1FFFFF & (fourBytesToLong(a, 7) >> 7);
+    final long a4 = 0x1FFFFF & (fourBytesToLong(a, 10) >> 4);
+    final long a5 = 0x1FFFFF & (threeBytesToLong(a, 13) >> 1);
+    final long a6 = 0x1FFFFF & (fourBytesToLong(a, 15) >> 6);
+    final long a7 = 0x1FFFFF & (threeBytesToLong(a, 18) >> 3);
+    final long a8 = 0x1FFFFF & threeBytesToLong(a, 21);
+    final long a9 = 0x1FFFFF & (fourBytesToLong(a, 23) >> 5);
+    final long a10 = 0x1FFFFF & (threeBytesToLong(a, 26) >> 2);
+    final long a11 = (fourBytesToLong(a, 28) >> 7);
+    final long b0 = 0x1FFFFF & threeBytesToLong(b, 0);
+    final long b1 = 0x1FFFFF & (fourBytesToLong(b, 2) >> 5);
+    final long b2 = 0x1FFFFF & (threeBytesToLong(b, 5) >> 2);
+    final long b3 = 0x1FFFFF & (fourBytesToLong(b, 7) >> 7);
+    final long b4 = 0x1FFFFF & (fourBytesToLong(b, 10) >> 4);
+    final long b5 = 0x1FFFFF & (threeBytesToLong(b, 13) >> 1);
+    final long b6 = 0x1FFFFF & (fourBytesToLong(b, 15) >> 6);
+    final long b7 = 0x1FFFFF & (threeBytesToLong(b, 18) >> 3);
+    final long b8 = 0x1FFFFF & threeBytesToLong(b, 21);
+    final long b9 = 0x1FFFFF & (fourBytesToLong(b, 23) >> 5);
+    final long b10 = 0x1FFFFF & (threeBytesToLong(b, 26) >> 2);
+    final long b11 = (fourBytesToLong(b, 28) >> 7);
+    final long c0 = 0x1FFFFF & threeBytesToLong(c, 0);
+    final long c1 = 0x1FFFFF & (fourBytesToLong(c, 2) >> 5);
+    final long c2 = 0x1FFFFF & (threeBytesToLong(c, 5) >> 2);
+    final long c3 = 0x1FFFFF & (fourBytesToLong(c, 7) >> 7);
+    final long c4 = 0x1FFFFF & (fourBytesToLong(c, 10) >> 4);
+    final long c5 = 0x1FFFFF & (threeBytesToLong(c, 13) >> 1);
+    final long c6 = 0x1FFFFF & (fourBytesToLong(c, 15) >> 6);
+    final long c7 = 0x1FFFFF & (threeBytesToLong(c, 18) >> 3);
+    final long c8 = 0x1FFFFF & threeBytesToLong(c, 21);
+    final long c9 = 0x1FFFFF & (fourBytesToLong(c, 23) >> 5);
+    final long c10 = 0x1FFFFF & (threeBytesToLong(c, 26) >> 2);
+    final long c11 = (fourBytesToLong(c, 28) >> 7);
     long s0;
     long s1;
     long s2;
@@ -969,7 +1005,6 @@ public class Ed25519EncodedFieldElement implements Serializable {
     s11 += carry10;
     s10 -= carry10 << 21;
 
-    final byte[] result = new byte[32];
     result[0] = (byte) (s0);
     result[1] = (byte) (s0 >> 8);
     result[2] = (byte) ((s0 >> 16) | (s1 << 5));
@@ -1002,8 +1037,6 @@ public class Ed25519EncodedFieldElement implements Serializable {
     result[29] = (byte) (s11 >> 1);
     result[30] = (byte) (s11 >> 9);
     result[31] = (byte) (s11 >> 17);
-
-    return new Ed25519EncodedFieldElement(result);
   }
 
   @Override
@@ -109,13 +109,23 @@ public class Ed25519FieldElement implements Serializable {
    * @return The field element this + val.
    */
   public Ed25519FieldElement add(final Ed25519FieldElement g) {
-    final int[] gValues = g.values;
     final int[] h = new int[10];
+    add(this.values, g.values, h);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Adds g to f and stores the result in h without allocating. <b>h = f + g</b> h may alias f
+   * or g.
+   *
+   * @param f The 10 limbs of the first field element.
+   * @param g The 10 limbs of the second field element.
+   * @param h The array receiving the 10 limbs of the result.
+   */
+  public static void add(final int[] f, final int[] g, final int[] h) {
     for (int i = 0; i < 10; i++) {
-      h[i] = this.values[i] + gValues[i];
+      h[i] = f[i] + g[i];
     }
-
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -133,13 +143,23 @@ public class Ed25519FieldElement implements Serializable {
    * @return The field element this - val.
    */
   public Ed25519FieldElement subtract(final Ed25519FieldElement g) {
-    final int[] gValues = g.values;
     final int[] h = new int[10];
+    subtract(this.values, g.values, h);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Subtracts g from f and stores the result in h without allocating. <b>h = f - g</b> h may alias
+   * f or g.
+   *
+   * @param f The 10 limbs of the first field element.
+   * @param g The 10 limbs of the second field element.
+   * @param h The array receiving the 10 limbs of the result.
+   */
+  public static void subtract(final int[] f, final int[] g, final int[] h) {
     for (int i = 0; i < 10; i++) {
-      h[i] = this.values[i] - gValues[i];
+      h[i] = f[i] - g[i];
     }
-
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -156,11 +176,21 @@ public class Ed25519FieldElement implements Serializable {
    */
   public Ed25519FieldElement negate() {
     final int[] h = new int[10];
+    negate(this.values, h);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Negates the field element f and stores the result in h without allocating. <b>h = -f</b> h may
+   * alias f.
+   *
+   * @param f The 10 limbs of the field element to negate.
+   * @param h The array receiving the 10 limbs of the result.
+   */
+  public static void negate(final int[] f, final int[] h) {
     for (int i = 0; i < 10; i++) {
-      h[i] = -this.values[i];
+      h[i] = -f[i];
     }
-
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -188,27 +218,41 @@ public class Ed25519FieldElement implements Serializable {
    * @return The (reasonably reduced) field element this * val.
    */
   public Ed25519FieldElement multiply(final Ed25519FieldElement g) {
-    final int[] gValues = g.values;
-    final int f0 = this.values[0];
-    final int f1 = this.values[1];
-    final int f2 = this.values[2];
-    final int f3 = this.values[3];
-    final int f4 = this.values[4];
-    final int f5 = this.values[5];
-    final int f6 = this.values[6];
-    final int f7 = this.values[7];
-    final int f8 = this.values[8];
-    final int f9 = this.values[9];
-    final int g0 = gValues[0];
-    final int g1 = gValues[1];
-    final int g2 = gValues[2];
-    final int g3 = gValues[3];
-    final int g4 = gValues[4];
-    final int g5 = gValues[5];
-    final int g6 = gValues[6];
-    final int g7 = gValues[7];
-    final int g8 = gValues[8];
-    final int g9 = gValues[9];
+    final int[] h = new int[10];
+    multiply(this.values, g.values, h);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Multiplies the field elements f and g and stores the result in h without allocating. <b>h = f
+   * * g</b> All limbs are read before h is written, so h may alias f or g. See the instance variant
+   * for bounds and implementation strategy.
+   *
+   * @param f The 10 limbs of the first field element.
+   * @param g The 10 limbs of the second field element.
+   * @param h The array receiving the 10 limbs of the result.
+   */
+  public static void multiply(final int[] f, final int[] g, final int[] h) {
+    final int f0 = f[0];
+    final int f1 = f[1];
+    final int f2 = f[2];
+    final int f3 = f[3];
+    final int f4 = f[4];
+    final int f5 = f[5];
+    final int f6 = f[6];
+    final int f7 = f[7];
+    final int f8 = f[8];
+    final int f9 = f[9];
+    final int g0 = g[0];
+    final int g1 = g[1];
+    final int g2 = g[2];
+    final int g3 = g[3];
+    final int g4 = g[4];
+    final int g5 = g[5];
+    final int g6 = g[6];
+    final int g7 = g[7];
+    final int g8 = g[8];
+    final int g9 = g[9];
     final int g1_19 = 19 * g1; /* 1.959375*2^29 */
     final int g2_19 = 19 * g2; /* 1.959375*2^30; still ok */
     final int g3_19 = 19 * g3;
@@ -433,7 +477,6 @@ public class Ed25519FieldElement implements Serializable {
     /* |h0| <= 2^25; from now on fits into int32 unchanged */
     /* |h1| <= 1.01*2^24 */
 
-    final int[] h = new int[10];
     h[0] = (int) h0;
     h[1] = (int) h1;
     h[2] = (int) h2;
@@ -444,8 +487,6 @@ public class Ed25519FieldElement implements Serializable {
     h[7] = (int) h7;
     h[8] = (int) h8;
     h[9] = (int) h9;
-
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -463,7 +504,20 @@ public class Ed25519FieldElement implements Serializable {
    * @return The square of this field element.
    */
   public Ed25519FieldElement square() {
-    return this.squareAndOptionalDouble(false);
+    final int[] h = new int[10];
+    squareAndOptionalDouble(this.values, h, false);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Squares the field element f and stores the result in h without allocating. <b>h = f * f</b> h
+   * may alias f.
+   *
+   * @param f The 10 limbs of the field element to square.
+   * @param h The array receiving the 10 limbs of the result.
+   */
+  public static void square(final int[] f, final int[] h) {
+    squareAndOptionalDouble(f, h, false);
   }
 
   /**
@@ -482,7 +536,20 @@ public class Ed25519FieldElement implements Serializable {
    * @return The square of this field element times 2.
    */
   public Ed25519FieldElement squareAndDouble() {
-    return this.squareAndOptionalDouble(true);
+    final int[] h = new int[10];
+    squareAndOptionalDouble(this.values, h, true);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Squares the field element f, multiplies by two and stores the result in h without allocating.
+   * <b>h = 2 * f * f</b> h may alias f.
+   *
+   * @param f The 10 limbs of the field element to square.
+   * @param h The array receiving the 10 limbs of the result.
+   */
+  public static void squareAndDouble(final int[] f, final int[] h) {
+    squareAndOptionalDouble(f, h, true);
   }
 
   /**
@@ -498,19 +565,22 @@ public class Ed25519FieldElement implements Serializable {
    *
    * <p>See multiply for discussion of implementation strategy.
    *
-   * @return The square of this field element times 2.
+   * @param f The 10 limbs of the field element to square.
+   * @param h The array receiving the 10 limbs of the result.
+   * @param dbl true if the square should be doubled, false otherwise.
    */
-  private Ed25519FieldElement squareAndOptionalDouble(final boolean dbl) {
-    final int f0 = this.values[0];
-    final int f1 = this.values[1];
-    final int f2 = this.values[2];
-    final int f3 = this.values[3];
-    final int f4 = this.values[4];
-    final int f5 = this.values[5];
-    final int f6 = this.values[6];
-    final int f7 = this.values[7];
-    final int f8 = this.values[8];
-    final int f9 = this.values[9];
+  private static void squareAndOptionalDouble(
+      final int[] f, final int[] h, final boolean dbl) {
+    final int f0 = f[0];
+    final int f1 = f[1];
+    final int f2 = f[2];
+    final int f3 = f[3];
+    final int f4 = f[4];
+    final int f5 = f[5];
+    final int f6 = f[6];
+    final int f7 = f[7];
+    final int f8 = f[8];
+    final int f9 = f[9];
     final int f0_2 = 2 * f0;
     final int f1_2 = 2 * f1;
     final int f2_2 = 2 * f2;
@@ -656,7 +726,6 @@ public class Ed25519FieldElement implements Serializable {
     h1 += carry0;
     h0 -= carry0 << 26;
 
-    final int[] h = new int[10];
     h[0] = (int) h0;
     h[1] = (int) h1;
     h[2] = (int) h2;
@@ -667,7 +736,6 @@ public class Ed25519FieldElement implements Serializable {
     h[7] = (int) h7;
     h[8] = (int) h8;
     h[9] = (int) h9;
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -835,8 +903,23 @@ public class Ed25519FieldElement implements Serializable {
   }
 
   /**
-   * Reduce this field element modulo field size p = 2^255 - 19 and return the result. The idea for
-   * the modulo p reduction algorithm is as follows:
+   * Encodes a given field element in its 32 byte 2^8 bit representation. This is done in two steps.
+   * Step 1: Reduce the value of the field element modulo p. Step 2: Convert the field element to
+   * the 32 byte representation.
+   *
+   * @return Encoded field element (32 bytes).
+   */
+  public Ed25519EncodedFieldElement encode() {
+    final byte[] s = new byte[32];
+    encode(this.values, s);
+    return new Ed25519EncodedFieldElement(s);
+  }
+
+  /**
+   * Encodes the field element f in its 32 byte 2^8 bit representation without allocating. Step 1:
+   * Reduce the value of the field element modulo field size p = 2^255 - 19. Step 2: Convert the
+   * field element to the 32 byte representation. The idea for the modulo p reduction algorithm is
+   * as follows:
    *
    * <pre>{@code
    * Assumption:
@@ -863,19 +946,21 @@ public class Ed25519FieldElement implements Serializable {
    * Inserting the expression for x into (1) we get the desired expression for q.
    * }</pre>
    *
-   * @return The mod p reduced field element;
+   * @param f The 10 limbs of the field element to encode.
+   * @param s The array receiving the encoded field element (32 bytes).
    */
-  private Ed25519FieldElement modP() {
-    int h0 = this.values[0];
-    int h1 = this.values[1];
-    int h2 = this.values[2];
-    int h3 = this.values[3];
-    int h4 = this.values[4];
-    int h5 = this.values[5];
-    int h6 = this.values[6];
-    int h7 = this.values[7];
-    int h8 = this.values[8];
-    int h9 = this.values[9];
+  public static void encode(final int[] f, final byte[] s) {
+    // Step 1:
+    int h0 = f[0];
+    int h1 = f[1];
+    int h2 = f[2];
+    int h3 = f[3];
+    int h4 = f[4];
+    int h5 = f[5];
+    int h6 = f[6];
+    int h7 = f[7];
+    int h8 = f[8];
+    int h9 = f[9];
     int q;
     final int carry0;
     final int carry1;
@@ -935,45 +1020,7 @@ public class Ed25519FieldElement implements Serializable {
     carry9 = h9 >> 25;
     h9 -= carry9 << 25;
 
-    final int[] h = new int[10];
-    h[0] = h0;
-    h[1] = h1;
-    h[2] = h2;
-    h[3] = h3;
-    h[4] = h4;
-    h[5] = h5;
-    h[6] = h6;
-    h[7] = h7;
-    h[8] = h8;
-    h[9] = h9;
-
-    return new Ed25519FieldElement(h);
-  }
-
-  /**
-   * Encodes a given field element in its 32 byte 2^8 bit representation. This is done in two steps.
-   * Step 1: Reduce the value of the field element modulo p. Step 2: Convert the field element to
-   * the 32 byte representation.
-   *
-   * @return Encoded field element (32 bytes).
-   */
-  public Ed25519EncodedFieldElement encode() {
-    // Step 1:
-    final Ed25519FieldElement g = this.modP();
-    final int[] gValues = g.getRaw();
-    final int h0 = gValues[0];
-    final int h1 = gValues[1];
-    final int h2 = gValues[2];
-    final int h3 = gValues[3];
-    final int h4 = gValues[4];
-    final int h5 = gValues[5];
-    final int h6 = gValues[6];
-    final int h7 = gValues[7];
-    final int h8 = gValues[8];
-    final int h9 = gValues[9];
-
     // Step 2:
-    final byte[] s = new byte[32];
     s[0] = (byte) (h0);
     s[1] = (byte) (h0 >> 8);
     s[2] = (byte) (h0 >> 16);
@@ -1006,8 +1053,6 @@ public class Ed25519FieldElement implements Serializable {
     s[29] = (byte) (h9 >> 2);
     s[30] = (byte) (h9 >> 10);
     s[31] = (byte) (h9 >> 18);
-
-    return new Ed25519EncodedFieldElement(s);
   }
 
   /**
@@ -1024,6 +1069,206 @@ public class Ed25519FieldElement implements Serializable {
     return this.encode().isNegative();
   }
 
+  /**
+   * Gets a value indicating whether or not the field element f is negative without allocating.
+   *
+   * @param f The 10 limbs of the field element.
+   * @param scratch A 32 byte array used for the encoding of f.
+   * @return true if f is in {1,3,5,...,q-2}, false otherwise.
+   */
+  public static boolean isNegative(final int[] f, final byte[] scratch) {
+    encode(f, scratch);
+    return (scratch[0] & 1) != 0;
+  }
+
+  /**
+   * Gets a value indicating whether or not the field element f is non-zero without allocating.
+   *
+   * @param f The 10 limbs of the field element.
+   * @param scratch A 32 byte array used for the encoding of f.
+   * @return true if f is non-zero, false otherwise.
+   */
+  public static boolean isNonZero(final int[] f, final byte[] scratch) {
+    encode(f, scratch);
+    int result = 0;
+    for (final byte b : scratch) {
+      result |= b;
+    }
+
+    return result != 0;
+  }
+
+  /**
+   * Copies the limbs of f into h.
+   *
+   * @param f The 10 limbs of the source field element.
+   * @param h The array receiving the 10 limbs.
+   */
+  public static void copy(final int[] f, final int[] h) {
+    System.arraycopy(f, 0, h, 0, 10);
+  }
+
+  /**
+   * Replaces f with g if b is 1 and keeps f if b is 0. The operation runs in constant time.
+   *
+   * @param f The 10 limbs of the field element that is conditionally replaced.
+   * @param g The 10 limbs of the replacement field element.
+   * @param b 1 to replace f, 0 to keep it.
+   */
+  public static void cmov(final int[] f, final int[] g, final int b) {
+    final int mask = -b;
+    for (int i = 0; i < 10; i++) {
+      f[i] ^= mask & (f[i] ^ g[i]);
+    }
+  }
+
+  /**
+   * Inverts the field element f and stores the result in h without allocating. Uses the same
+   * addition chain as {@link #invert()}. h may alias f but must not alias any temporary.
+   *
+   * @param f The 10 limbs of the field element to invert.
+   * @param h The array receiving the 10 limbs of the inverse.
+   * @param t0 First temporary of 10 limbs.
+   * @param t1 Second temporary of 10 limbs.
+   * @param t2 Third temporary of 10 limbs.
+   * @param t3 Fourth temporary of 10 limbs.
+   */
+  public static void invert(
+      final int[] f,
+      final int[] h,
+      final int[] t0,
+      final int[] t1,
+      final int[] t2,
+      final int[] t3) {
+    // 9
+    pow2to9(f, t3, t0);
+
+    // 11 == 9 + 2
+    square(f, t0);
+    multiply(t0, t3, t3);
+
+    // 2^252 - 2^2
+    pow2to252sub4(f, h, t0, t1, t2);
+
+    // 2^255 - 2^5
+    for (int i = 1; i < 4; ++i) {
+      square(h, h);
+    }
+
+    // 2^255 - 21
+    multiply(h, t3, h);
+  }
+
+  /**
+   * Computes f to the power of 9 and stores the result in h without allocating.
+   *
+   * @param f The 10 limbs of the field element.
+   * @param h The array receiving the 10 limbs of the result.
+   * @param t Temporary of 10 limbs.
+   */
+  private static void pow2to9(final int[] f, final int[] h, final int[] t) {
+    // 8 == 2 * 2 * 2
+    square(f, t);
+    square(t, t);
+    square(t, t);
+
+    // 9 == 1 + 8
+    multiply(f, t, h);
+  }
+
+  /**
+   * Computes f to the power of (2^252 - 4) and stores the result in h without allocating. Uses the
+   * same addition chain as the instance variant. h may alias f but must not alias any temporary.
+   *
+   * @param f The 10 limbs of the field element.
+   * @param h The array receiving the 10 limbs of the result.
+   * @param t0 First temporary of 10 limbs.
+   * @param t1 Second temporary of 10 limbs.
+   * @param t2 Third temporary of 10 limbs.
+   */
+  public static void pow2to252sub4(
+      final int[] f, final int[] h, final int[] t0, final int[] t1, final int[] t2) {
+    // 2 == 2 * 1
+    square(f, t0);
+
+    // 9
+    pow2to9(f, t1, t2);
+
+    // 11 == 9 + 2
+    multiply(t0, t1, t0);
+
+    // 22 == 2 * 11
+    square(t0, t0);
+
+    // 31 == 22 + 9
+    multiply(t1, t0, t0);
+
+    // 2^10 - 2^5
+    square(t0, t1);
+    for (int i = 1; i < 5; ++i) {
+      square(t1, t1);
+    }
+
+    // 2^10 - 2^0
+    multiply(t1, t0, t0);
+
+    // 2^20 - 2^10
+    square(t0, t1);
+    for (int i = 1; i < 10; ++i) {
+      square(t1, t1);
+    }
+
+    // 2^20 - 2^0
+    multiply(t1, t0, t1);
+
+    // 2^40 - 2^20
+    square(t1, t2);
+    for (int i = 1; i < 20; ++i) {
+      square(t2, t2);
+    }
+
+    // 2^40 - 2^0
+    multiply(t2, t1, t1);
+
+    // 2^50 - 2^10
+    for (int i = 0; i < 10; ++i) {
+      square(t1, t1);
+    }
+
+    // 2^50 - 2^0
+    multiply(t1, t0, t0);
+
+    // 2^100 - 2^50
+    square(t0, t1);
+    for (int i = 1; i < 50; ++i) {
+      square(t1, t1);
+    }
+
+    // 2^100 - 2^0
+    multiply(t1, t0, t1);
+
+    // 2^200 - 2^100
+    square(t1, t2);
+    for (int i = 1; i < 100; ++i) {
+      square(t2, t2);
+    }
+
+    // 2^200 - 2^0
+    multiply(t2, t1, t1);
+
+    // 2^250 - 2^50
+    for (int i = 0; i < 50; ++i) {
+      square(t1, t1);
+    }
+
+    // 2^250 - 2^0
+    multiply(t1, t0, t0);
+
+    // 2^252 - 2^2
+    square(t0, t0);
+    square(t0, h);
+  }
+
   @Override
   public int hashCode() {
     return Arrays.hashCode(this.values);
@@ -180,8 +180,18 @@ public class Ed25519GroupElement implements Serializable {
    * @return 64 bytes, each between -8 and 7
    */
   private static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
-    final byte[] a = encoded.getRaw();
     final byte[] e = new byte[64];
+    toRadix16(encoded.getRaw(), e);
+    return e;
+  }
+
+  /**
+   * Convert a to 2^16 bit representation without allocating.
+   *
+   * @param a The encoded field element (32 bytes).
+   * @param e The array receiving 64 bytes, each between -8 and 7.
+   */
+  static void toRadix16(final byte[] a, final byte[] e) {
     int i;
     for (i = 0; i < 32; i++) {
       e[2 * i] = (byte) (a[i] & 15);
@@ -197,8 +207,6 @@ public class Ed25519GroupElement implements Serializable {
       e[i] -= carry << 4;
     }
     e[63] += carry;
-
-    return e;
   }
 
   /**
@@ -211,10 +219,21 @@ public class Ed25519GroupElement implements Serializable {
    * @param encoded The encoded field element.
    * @return The byte array r in the above described form.
    */
-  @SuppressWarnings({"squid:S3034", "squid:S3776"})
   private static byte[] slide(final Ed25519EncodedFieldElement encoded) {
-    final byte[] a = encoded.getRaw();
     final byte[] r = new byte[256];
+    slide(encoded.getRaw(), r);
+    return r;
+  }
+
+  /**
+   * Calculates the sliding-windows base 2 representation of a without allocating. See {@link
+   * #slide(Ed25519EncodedFieldElement)}.
+   *
+   * @param a The encoded field element (32 bytes).
+   * @param r The array receiving the 256 digits.
+   */
+  @SuppressWarnings({"squid:S3034", "squid:S3776"})
+  static void slide(final byte[] a, final byte[] r) {
 
     // Put each bit of 'a' into a separate byte, 0 or 1
     for (int i = 0; i < 256; ++i) {
@@ -246,8 +265,6 @@ public class Ed25519GroupElement implements Serializable {
         }
       }
     }
-
-    return r;
   }
 
   /**
@@ -899,6 +916,122 @@ public class Ed25519GroupElement implements Serializable {
     return r;
   }
 
+  /**
+   * r = b * B - (a_1 * A_1 + ... + a_n * A_n) where a_i and b are encoded field elements and B is
+   * this point. B must have been previously precomputed for double scalar multiplication. The A_i
+   * don't need any precomputation, the missing tables are built in the CACHED coordinate system so
+   * no field inversion is needed. All the doublings are shared between the points (Straus' method).
+   *
+   * @param aGroupElements The group elements A_i in P3 coordinate system.
+   * @param a The encoded field elements a_i.
+   * @param b The encoded field element b.
+   * @return The resulting group element in the P2 coordinate system.
+   */
+  public Ed25519GroupElement multiScalarMultiplyVariableTime(
+      final Ed25519GroupElement[] aGroupElements,
+      final Ed25519EncodedFieldElement[] a,
+      final Ed25519EncodedFieldElement b) {
+    if (aGroupElements.length != a.length) {
+      throw new IllegalArgumentException("group elements and field elements must match in size");
+    }
+    final int count = aGroupElements.length;
+    final Ed25519GroupElement[][] aTables = new Ed25519GroupElement[count][];
+    final byte[][] aSlides = new byte[count][];
+    for (int j = 0; j < count; j++) {
+      aTables[j] =
+          aGroupElements[j].isPrecomputedForDoubleScalarMultiplication()
+              ? aGroupElements[j].precomputedForDouble
+              : aGroupElements[j].precomputeCachedOddMultiples();
+      aSlides[j] = slide(a[j]);
+    }
+    final byte[] bSlide = slide(b);
+    Ed25519GroupElement r = Ed25519Group.ZERO_P2;
+
+    int i;
+    for (i = 255; i >= 0; --i) {
+      if (bSlide[i] != 0 || hasNonZeroDigit(aSlides, i)) {
+        break;
+      }
+    }
+
+    for (; i >= 0; --i) {
+      Ed25519GroupElement tElement = r.dbl();
+
+      for (int j = 0; j < count; j++) {
+        final byte digit = aSlides[j][i];
+        if (digit > 0) {
+          tElement = tElement.toP3().subtractTableEntry(aTables[j][digit / 2]);
+        } else if (digit < 0) {
+          tElement = tElement.toP3().addTableEntry(aTables[j][(-digit) / 2]);
+        }
+      }
+
+      if (bSlide[i] > 0) {
+        tElement = tElement.toP3().precomputedAdd(this.precomputedForDouble[bSlide[i] / 2]);
+      } else if (bSlide[i] < 0) {
+        tElement = tElement.toP3().precomputedSubtract(this.precomputedForDouble[(-bSlide[i]) / 2]);
+      }
+
+      r = tElement.toP2();
+    }
+
+    return r;
+  }
+
+  private Ed25519GroupElement addTableEntry(final Ed25519GroupElement g) {
+    return g.coordinateSystem == CoordinateSystem.PRECOMPUTED
+        ? this.precomputedAdd(g)
+        : this.add(g);
+  }
+
+  private Ed25519GroupElement subtractTableEntry(final Ed25519GroupElement g) {
+    return g.coordinateSystem == CoordinateSystem.PRECOMPUTED
+        ? this.precomputedSubtract(g)
+        : this.subtract(g);
+  }
+
+  private static boolean hasNonZeroDigit(final byte[][] slides, final int position) {
+    for (final byte[] slide : slides) {
+      if (slide[position] != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Builds the table {this, 3 * this, 5 * this, ..., 15 * this} in the CACHED coordinate system.
+   * Unlike the table for double scalar multiplication, it doesn't require any field inversion.
+   *
+   * @return The table with the odd multiples of this group element.
+   */
+  private Ed25519GroupElement[] precomputeCachedOddMultiples() {
+    final Ed25519GroupElement[] table = new Ed25519GroupElement[8];
+    final Ed25519GroupElement doubled = this.dbl().toP3().toCached();
+    Ed25519GroupElement bi = this;
+    for (int i = 0; i < 8; i++) {
+      table[i] = bi.toCached();
+      bi = bi.add(doubled).toP3();
+    }
+    return table;
+  }
+
+  /**
+   * Determines if this group element is the neutral element. It doesn't require any field
+   * inversion.
+   *
+   * @return true if this is the neutral element, false otherwise.
+   */
+  public boolean isNeutral() {
+    switch (this.coordinateSystem) {
+      case P2:
+      case P3:
+        return !this.x.isNonZero() && !this.y.subtract(this.z).isNonZero();
+      default:
+        return this.toP2().isNeutral();
+    }
+  }
+
   /**
    * Verify that the group element satisfies the curve equation.
    *
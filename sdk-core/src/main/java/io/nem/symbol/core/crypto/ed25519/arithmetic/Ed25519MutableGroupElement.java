@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+/**
+ * A group element whose coordinates are preallocated limb arrays that are overwritten in place.
+ * Unlike {@link Ed25519GroupElement} it doesn't track its coordinate system, the owning {@link
+ * Ed25519ArithmeticContext} knows in which system each of its elements is. The meaning of the
+ * coordinates is the same as in {@link Ed25519GroupElement}, PRECOMPUTED elements don't use t.
+ */
+class Ed25519MutableGroupElement {
+
+  /** The X coordinate. */
+  final int[] x = new int[10];
+
+  /** The Y coordinate. */
+  final int[] y = new int[10];
+
+  /** The Z coordinate. */
+  final int[] z = new int[10];
+
+  /** The T coordinate. */
+  final int[] t = new int[10];
+
+  /**
+   * Sets the coordinates of this element to the neutral element in the P2 or P3 coordinate system
+   * (0, 1, 1, 0).
+   */
+  void setNeutral() {
+    setConstant(this.x, 0);
+    setConstant(this.y, 1);
+    setConstant(this.z, 1);
+    setConstant(this.t, 0);
+  }
+
+  /**
+   * Sets the coordinates of this element to the neutral element in the PRECOMPUTED coordinate
+   * system (1, 1, 0).
+   */
+  void setNeutralPrecomputed() {
+    setConstant(this.x, 1);
+    setConstant(this.y, 1);
+    setConstant(this.z, 0);
+  }
+
+  /**
+   * Sets the coordinates of this element to the neutral element in the CACHED coordinate system
+   * (1, 1, 1, 0).
+   */
+  void setNeutralCached() {
+    setConstant(this.x, 1);
+    setConstant(this.y, 1);
+    setConstant(this.z, 1);
+    setConstant(this.t, 0);
+  }
+
+  private static void setConstant(final int[] f, final int value) {
+    f[0] = value;
+    for (int i = 1; i < 10; i++) {
+      f[i] = 0;
+    }
+  }
+}
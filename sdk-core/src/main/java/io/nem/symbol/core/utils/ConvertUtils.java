@@ -31,6 +31,9 @@ public class ConvertUtils {
   private static final BigInteger UNSIGNED_LONG_MASK =
       BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
 
+  /** The upper case hex digits. */
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
   /** Private constructor of this utility class. */
   private ConvertUtils() {}
 
@@ -62,9 +65,28 @@ public class ConvertUtils {
    * @return The output hex string.
    */
   public static String toHex(final byte[] bytes) {
-    final Hex codec = new Hex();
-    final byte[] decodedBytes = codec.encode(bytes);
-    return StringEncoder.getString(decodedBytes).toUpperCase();
+    return toHex(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Converts bytes[offset, offset + length) to an upper case hex string in a single pass.
+   *
+   * @param bytes The array holding the bytes.
+   * @param offset The offset of the bytes.
+   * @param length The number of bytes.
+   * @return The output hex string.
+   */
+  public static String toHex(final byte[] bytes, final int offset, final int length) {
+    Validate.isTrue(
+        offset >= 0 && length >= 0 && offset + length <= bytes.length,
+        "Range [" + offset + ", " + (offset + length) + ") is out of the array bounds");
+    final char[] hex = new char[length * 2];
+    for (int i = 0; i < length; i++) {
+      final int value = bytes[offset + i] & 0xFF;
+      hex[2 * i] = HEX_DIGITS[value >>> 4];
+      hex[2 * i + 1] = HEX_DIGITS[value & 0x0F];
+    }
+    return new String(hex);
   }
 
   /**
@@ -201,6 +223,21 @@ public class ConvertUtils {
     return value.and(UNSIGNED_LONG_MASK);
   }
 
+  /**
+   * It converts a non negative BigInteger into a long holding the same unsigned int 64 bits, the
+   * inverse of {@link #toUnsignedBigInteger(long)}.
+   *
+   * @param value the non negative value.
+   * @return the long, values above {@link Long#MAX_VALUE} are negative.
+   * @throws IllegalArgumentException if the number is null, negative or doesn't fit in 64 bits
+   */
+  public static long toUnsignedLong(final BigInteger value) {
+    validateNotNegative(value);
+    Validate.isTrue(
+        value.bitLength() <= Long.SIZE, "BigInteger '" + value + "' must fit in 64 bits");
+    return value.longValue();
+  }
+
   /**
    * Determines whether or not a string is a hex string.
    *
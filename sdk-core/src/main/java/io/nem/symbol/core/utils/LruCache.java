@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A bounded, thread-safe map that evicts the least recently used entries once it's full. It keeps
+ * the hit and miss counters so the cache can be sized.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class LruCache<K, V> {
+
+  private final int maxSize;
+
+  private final Map<K, V> entries;
+
+  /** Called with the values that leave the cache, for example to wipe them. */
+  private final Consumer<? super V> evictionListener;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the max number of entries the cache holds.
+   */
+  public LruCache(int maxSize) {
+    this(maxSize, value -> {});
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the max number of entries the cache holds.
+   * @param evictionListener called, while holding the cache lock, with the values that leave the
+   *     cache: the evicted values, the cleared values and the computed values that are discarded
+   *     because another thread stored the same key first.
+   */
+  public LruCache(int maxSize, Consumer<? super V> evictionListener) {
+    Validate.isTrue(maxSize > 0, "maxSize must be greater than 0");
+    Validate.notNull(evictionListener, "evictionListener must not be null");
+    this.maxSize = maxSize;
+    this.evictionListener = evictionListener;
+    this.entries =
+        new LinkedHashMap<K, V>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > LruCache.this.maxSize) {
+              LruCache.this.evictionListener.accept(eldest.getValue());
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached value of the key, computing it if it's not present. The value is computed
+   * outside the lock, if two threads compute the same key concurrently the first stored value wins.
+   *
+   * @param key the key.
+   * @param mappingFunction the function that computes a missing value.
+   * @return the cached value.
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    Validate.notNull(key, "key must not be null");
+    V value = get(key);
+    if (value != null) {
+      this.hitCount.incrementAndGet();
+      return value;
+    }
+    this.missCount.incrementAndGet();
+    V newValue = Validate.notNull(mappingFunction.apply(key), "value must not be null");
+    synchronized (this.entries) {
+      V existing = this.entries.putIfAbsent(key, newValue);
+      if (existing != null) {
+        this.evictionListener.accept(newValue);
+        return existing;
+      }
+      return newValue;
+    }
+  }
+
+  /**
+   * Returns the cached value of the key. It doesn't change the hit and miss counters.
+   *
+   * @param key the key.
+   * @return the cached value or null if it's not present.
+   */
+  public V get(K key) {
+    synchronized (this.entries) {
+      return this.entries.get(key);
+    }
+  }
+
+  /** @return the number of cached entries. */
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  /** @return the max number of entries the cache holds. */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /** @return the number of lookups that found a cached value. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /** @return the number of lookups that had to compute the value. */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Removes all the cached entries. The counters are not reset. */
+  public void clear() {
+    synchronized (this.entries) {
+      this.entries.values().forEach(this.evictionListener);
+      this.entries.clear();
+    }
+  }
+}
@@ -36,6 +36,35 @@ public class StringEncoder {
     return s.getBytes(ENCODING_CHARSET);
   }
 
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of a string without encoding it. Unpaired
+   * surrogates count as the single replacement byte {@link #getBytes(String)} writes for them.
+   *
+   * @param s The input string.
+   * @return The number of bytes.
+   */
+  public static int getByteLength(final String s) {
+    int length = 0;
+    for (int i = 0; i < s.length(); i++) {
+      final char c = s.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (!Character.isSurrogate(c)) {
+        length += 3;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < s.length()
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += 1;
+      }
+    }
+    return length;
+  }
+
   /**
    * Converts a UTF-8 byte array to a string.
    *
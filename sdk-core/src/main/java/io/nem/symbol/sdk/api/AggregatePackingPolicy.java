@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Policy used by the {@link AggregatePackingService} to decide when the pending inner transactions
+ * are packed into an aggregate and how the aggregates are created.
+ *
+ * <p>With the flush by size policy, an aggregate is emitted when it's full, either because it
+ * reached the max number of transactions or because one more signer would exceed the max number of
+ * cosignatures. With the flush by time policy, the pending transactions are also packed every
+ * flush interval even if the aggregate is not full.
+ */
+public class AggregatePackingPolicy {
+
+  /** The interval between flushes, null to flush only full aggregates. */
+  private final Duration flushInterval;
+
+  /** The max number of inner transactions per aggregate, null to use the network's limit. */
+  private Integer maxTransactionsPerAggregate;
+
+  /** The fee multiplier used to calculate the max fee of the aggregates. */
+  private long feeMultiplier;
+
+  /** The min number of cosignatures used to calculate the max fee of the aggregates. */
+  private int requiredCosignatures;
+
+  /** The time the aggregates are valid for, from the moment they are packed. */
+  private Duration deadline = Duration.ofHours(2);
+
+  private AggregatePackingPolicy(Duration flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  /**
+   * Creates a policy that packs an aggregate once it's full. The last aggregate is packed when the
+   * inner transactions complete.
+   *
+   * @return the policy.
+   */
+  public static AggregatePackingPolicy flushBySize() {
+    return new AggregatePackingPolicy(null);
+  }
+
+  /**
+   * Creates a policy that packs an aggregate once it's full or when the flush interval elapses.
+   *
+   * @param flushInterval the interval between flushes.
+   * @return the policy.
+   */
+  public static AggregatePackingPolicy flushByTime(Duration flushInterval) {
+    Validate.notNull(flushInterval, "flushInterval must not be null");
+    Validate.isTrue(
+        !flushInterval.isNegative() && !flushInterval.isZero(), "flushInterval must be positive");
+    return new AggregatePackingPolicy(flushInterval);
+  }
+
+  /**
+   * Sets the max number of inner transactions per aggregate. The network's limit is used if it's
+   * lower.
+   *
+   * @param maxTransactionsPerAggregate the max number of inner transactions.
+   * @return this policy.
+   */
+  public AggregatePackingPolicy maxTransactionsPerAggregate(int maxTransactionsPerAggregate) {
+    Validate.isTrue(
+        maxTransactionsPerAggregate > 0, "maxTransactionsPerAggregate must be positive");
+    this.maxTransactionsPerAggregate = maxTransactionsPerAggregate;
+    return this;
+  }
+
+  /**
+   * Sets the fee multiplier used to calculate the max fee of the aggregates.
+   *
+   * @param feeMultiplier the fee multiplier.
+   * @return this policy.
+   */
+  public AggregatePackingPolicy feeMultiplier(long feeMultiplier) {
+    Validate.isTrue(feeMultiplier >= 0, "feeMultiplier must not be negative");
+    this.feeMultiplier = feeMultiplier;
+    return this;
+  }
+
+  /**
+   * Sets the min number of cosignatures of the aggregates, for example when they are signed by a
+   * multisig account. The fee of an aggregate covers at least these cosignatures plus one for each
+   * signer of its inner transactions other than the aggregate signer.
+   *
+   * @param requiredCosignatures the min number of cosignatures.
+   * @return this policy.
+   */
+  public AggregatePackingPolicy requiredCosignatures(int requiredCosignatures) {
+    Validate.isTrue(requiredCosignatures >= 0, "requiredCosignatures must not be negative");
+    this.requiredCosignatures = requiredCosignatures;
+    return this;
+  }
+
+  /**
+   * Sets the time the aggregates are valid for, 2 hours by default.
+   *
+   * @param deadline the time from the moment the aggregates are packed.
+   * @return this policy.
+   */
+  public AggregatePackingPolicy deadline(Duration deadline) {
+    Validate.notNull(deadline, "deadline must not be null");
+    Validate.isTrue(!deadline.isNegative() && !deadline.isZero(), "deadline must be positive");
+    this.deadline = deadline;
+    return this;
+  }
+
+  public Duration getFlushInterval() {
+    return flushInterval;
+  }
+
+  public Integer getMaxTransactionsPerAggregate() {
+    return maxTransactionsPerAggregate;
+  }
+
+  public long getFeeMultiplier() {
+    return feeMultiplier;
+  }
+
+  public int getRequiredCosignatures() {
+    return requiredCosignatures;
+  }
+
+  public Duration getDeadline() {
+    return deadline;
+  }
+}
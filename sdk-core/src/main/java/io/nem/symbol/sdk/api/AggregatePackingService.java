@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+
+/**
+ * Service that packs a stream of inner transactions into aggregate complete transactions ready to
+ * be signed, for example to announce thousands of transfers per block.
+ *
+ * <p>The aggregates respect the network's max transactions and max cosignatures per aggregate and
+ * their max fees are calculated from the policy's fee multiplier.
+ */
+public interface AggregatePackingService {
+
+  /**
+   * Packs inner transactions into aggregate complete transactions.
+   *
+   * <p>The inner transactions must have a signer. The signers of the inner transactions of an
+   * aggregate, other than the one signing the aggregate, need to cosign it, so an aggregate has at
+   * most max cosignatures per aggregate plus one distinct inner signers, assuming it's signed by
+   * one of them.
+   *
+   * @param innerTransactions the inner transactions in the order they are packed.
+   * @param policy the policy deciding when the aggregates are packed.
+   * @return the aggregates in the order of their inner transactions.
+   */
+  Observable<AggregateTransaction> packCompleteTransactions(
+      Observable<? extends Transaction> innerTransactions, AggregatePackingPolicy policy);
+}
@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import java.nio.ByteBuffer;
 
 /**
  * This interface allow users to serialize and deserialize transaction using the symbol binary
@@ -33,6 +34,29 @@ public interface BinarySerialization {
    */
   <T extends Transaction> byte[] serialize(T transaction);
 
+  /**
+   * It serializes a transaction into the destination buffer using the symbol buffer format. The
+   * payload is written at the buffer's position, which is advanced by the size of the payload.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction
+   * @param destination the buffer, heap or direct, with at least {@link
+   *     #serializedSize(Transaction)} remaining bytes.
+   * @return the number of written bytes.
+   * @throws java.nio.BufferOverflowException if the buffer doesn't have enough remaining bytes.
+   */
+  <T extends Transaction> int serialize(T transaction, ByteBuffer destination);
+
+  /**
+   * It returns the number of bytes {@link #serialize(Transaction, ByteBuffer)} writes, useful to
+   * allocate or reserve the destination buffer.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction
+   * @return the size of the serialized transaction.
+   */
+  <T extends Transaction> int serializedSize(T transaction);
+
   /**
    * It deserializes the symbol buffer payload into a transaction factory.
    *
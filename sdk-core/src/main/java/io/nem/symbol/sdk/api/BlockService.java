@@ -15,8 +15,13 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleVerificationResult;
+import io.nem.symbol.sdk.model.receipt.Statement;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
 
 /** Service with block related functions. */
 public interface BlockService {
@@ -38,4 +43,66 @@ public interface BlockService {
    * @return if the statement is valid in a block.
    */
   Observable<Boolean> isValidStatementInBlock(BigInteger height, String statementHash);
+
+  /**
+   * Validates many transaction hashes at once. Each block header is retrieved once and reused for
+   * all of its hashes, and the merkle paths are retrieved concurrently.
+   *
+   * @param transactionHashesByHeight the transaction hashes to validate grouped by block height.
+   * @return one result per hash, emitted as the verifications complete. Errors, like a block or a
+   *     merkle path that cannot be retrieved, are reported in the result of the affected hashes.
+   */
+  Observable<MerkleVerificationResult> isValidTransactionsInBlocks(
+      Map<BigInteger, List<String>> transactionHashesByHeight);
+
+  /**
+   * Validates many statement hashes at once. Each block header is retrieved once and reused for
+   * all of its hashes, and the merkle paths are retrieved concurrently.
+   *
+   * @param statementHashesByHeight the statement hashes to validate grouped by block height.
+   * @return one result per hash, emitted as the verifications complete. Errors, like a block or a
+   *     merkle path that cannot be retrieved, are reported in the result of the affected hashes.
+   */
+  Observable<MerkleVerificationResult> isValidStatementsInBlocks(
+      Map<BigInteger, List<String>> statementHashesByHeight);
+
+  /**
+   * Validates the transactions of a block locally, without any request. The block transactions
+   * hash is recomputed from the merkle component hashes of all the transactions of the block.
+   *
+   * <p>The merkle component hash of a transaction is its hash, except for the aggregates with
+   * cosignatures where the cosigners' public keys are also hashed. It's provided by {@link
+   * io.nem.symbol.sdk.model.transaction.TransactionInfo#getMerkleComponentHash()}.
+   *
+   * @param block the block.
+   * @param merkleComponentHashes the merkle component hashes of all the top level transactions of
+   *     the block, in block order.
+   * @return if the merkle component hashes are the ones of the block transactions.
+   */
+  boolean isValidBlockTransactions(BlockInfo block, List<String> merkleComponentHashes);
+
+  /**
+   * Validates the statements of a block locally, without any request. The block receipts hash is
+   * recomputed from all the statements of the block.
+   *
+   * @param block the block.
+   * @param statement all the statements of the block.
+   * @return if the statements are the ones of the block.
+   */
+  boolean isValidBlockStatement(BlockInfo block, Statement statement);
+
+  /**
+   * Validates the transactions and the statements of a block locally, without any request.
+   *
+   * @param block the block.
+   * @param merkleComponentHashes the merkle component hashes of all the top level transactions of
+   *     the block, in block order. See {@link #isValidBlockTransactions(BlockInfo, List)}.
+   * @param statement all the statements of the block.
+   * @return if both the transactions and the statements are the ones of the block.
+   */
+  default boolean isValidBlock(
+      BlockInfo block, List<String> merkleComponentHashes, Statement statement) {
+    return isValidBlockTransactions(block, merkleComponentHashes)
+        && isValidBlockStatement(block, statement);
+  }
 }
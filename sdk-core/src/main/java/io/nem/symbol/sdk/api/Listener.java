@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.core.crypto.Hash256;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
@@ -67,7 +68,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of Transaction with state confirmed
    */
   default Observable<Transaction> confirmed(Address address) {
-    return this.confirmed(address, null);
+    return this.confirmed(address, (String) null);
   }
 
   /**
@@ -79,6 +80,15 @@ public interface Listener extends Closeable {
    */
   Observable<Transaction> confirmed(Address address, String transactionHash);
 
+  /**
+   * Returns an observable stream of the transaction for the given address and transactionHash.
+   *
+   * @param address address we listen when a transaction is in confirmed state
+   * @param transactionHash the expected transaction hash
+   * @return an observable stream of Transaction with given transaction hash and state confirmed.
+   */
+  Observable<Transaction> confirmed(Address address, Hash256 transactionHash);
+
   /**
    * Returns an observable stream of the transaction of the given transactionHash. This stream is
    * integrated with the status listener. If an error message for the given transaction hash and
@@ -92,6 +102,17 @@ public interface Listener extends Closeable {
    */
   Observable<Transaction> confirmedOrError(Address address, String transactionHash);
 
+  /**
+   * Returns an observable stream of the transaction of the given transactionHash, raising a {@link
+   * TransactionStatusException} if an error message for the hash arrives first. See {@link
+   * #confirmedOrError(Address, String)}.
+   *
+   * @param address address we listen when a transaction is in confirmed state
+   * @param transactionHash the expected transaction hash
+   * @return an observable stream of Transaction with given transaction hash and state confirmed.
+   */
+  Observable<Transaction> confirmedOrError(Address address, Hash256 transactionHash);
+
   /**
    * Returns an observable stream of Transaction for a specific address. Each time a transaction is
    * in unconfirmed state an it involves the address, it emits a new Transaction in the event
@@ -101,7 +122,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of Transaction with state unconfirmed
    */
   default Observable<Transaction> unconfirmedAdded(Address address) {
-    return this.unconfirmedAdded(address, null);
+    return this.unconfirmedAdded(address, (String) null);
   }
 
   /**
@@ -115,6 +136,17 @@ public interface Listener extends Closeable {
    */
   Observable<Transaction> unconfirmedAdded(Address address, String transactionHash);
 
+  /**
+   * Returns an observable stream of Transaction for a specific address. Each time a transaction is
+   * in unconfirmed state an it involves the address, it emits a new Transaction in the event
+   * stream.
+   *
+   * @param address address we listen when a transaction is in unconfirmed state
+   * @param transactionHash the expected transaction hash
+   * @return an observable stream of Transaction with state unconfirmed
+   */
+  Observable<Transaction> unconfirmedAdded(Address address, Hash256 transactionHash);
+
   /**
    * Returns an observable stream of Transaction Hashes for specific address. Each time a
    * transaction with state unconfirmed changes its state, it emits a new message with the
@@ -124,7 +156,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of Strings with the transaction hash
    */
   default Observable<String> unconfirmedRemoved(Address address) {
-    return this.unconfirmedRemoved(address, null);
+    return this.unconfirmedRemoved(address, (String) null);
   }
 
   /**
@@ -138,6 +170,17 @@ public interface Listener extends Closeable {
    */
   Observable<String> unconfirmedRemoved(Address address, String transactionHash);
 
+  /**
+   * Returns an observable stream of Transaction Hashes for specific address. Each time a
+   * transaction with state unconfirmed changes its state, it emits a new message with the
+   * transaction hash in the event stream.
+   *
+   * @param address address we listen when a transaction is removed from unconfirmed state
+   * @param transactionHash the expected transaction hash
+   * @return an observable stream of Strings with the transaction hash
+   */
+  Observable<String> unconfirmedRemoved(Address address, Hash256 transactionHash);
+
   /**
    * Return an observable of {@link AggregateTransaction} for specific address. Each time an
    * aggregate bonded transaction is announced, it emits a new {@link AggregateTransaction} in the
@@ -147,7 +190,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of AggregateTransaction with missing signatures state
    */
   default Observable<AggregateTransaction> aggregateBondedAdded(Address address) {
-    return this.aggregateBondedAdded(address, null);
+    return this.aggregateBondedAdded(address, (String) null);
   }
 
   /**
@@ -165,6 +208,18 @@ public interface Listener extends Closeable {
   Observable<AggregateTransaction> aggregateBondedAddedOrError(
       Address address, String transactionHash);
 
+  /**
+   * Return an observable of {@link AggregateTransaction} for an specific address and transcation
+   * hash, raising a {@link TransactionStatusException} if an error message for the hash arrives
+   * first. See {@link #aggregateBondedAddedOrError(Address, String)}.
+   *
+   * @param address address we listen when a transaction with missing signatures state.
+   * @param transactionHash the expected transaction hash
+   * @return an observable stream of AggregateTransaction with missing signatures state
+   */
+  Observable<AggregateTransaction> aggregateBondedAddedOrError(
+      Address address, Hash256 transactionHash);
+
   /**
    * Return an observable of {@link AggregateTransaction} for specific address and hash. Each time
    * an aggregate bonded transaction is announced, it emits a new {@link AggregateTransaction} in
@@ -176,6 +231,17 @@ public interface Listener extends Closeable {
    */
   Observable<AggregateTransaction> aggregateBondedAdded(Address address, String transactionHash);
 
+  /**
+   * Return an observable of {@link AggregateTransaction} for specific address and hash. Each time
+   * an aggregate bonded transaction is announced, it emits a new {@link AggregateTransaction} in
+   * the event stream.
+   *
+   * @param address address we listen when a transaction with missing signatures state
+   * @param transactionHash the expected transaction hash
+   * @return an observable stream of AggregateTransaction with missing signatures state
+   */
+  Observable<AggregateTransaction> aggregateBondedAdded(Address address, Hash256 transactionHash);
+
   /**
    * Returns an observable stream of Transaction Hashes for specific address. Each time an aggregate
    * bonded transaction is announced, it emits a new message with the transaction hash in the event
@@ -185,7 +251,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of Strings with the transaction hash
    */
   default Observable<String> aggregateBondedRemoved(Address address) {
-    return this.aggregateBondedRemoved(address, null);
+    return this.aggregateBondedRemoved(address, (String) null);
   }
 
   /**
@@ -198,6 +264,16 @@ public interface Listener extends Closeable {
    */
   Observable<String> aggregateBondedRemoved(Address address, String transactionHash);
 
+  /**
+   * Returns an observable stream of of the hash for specific address. Each time an aggregate bonded
+   * transaction is announced, it emits a new message with the transaction hash in the event stream.
+   *
+   * @param address address we listen when a transaction is confirmed or rejected
+   * @param transactionHash the expected transaction hash (optional)
+   * @return an observable stream of Strings with the transaction hash
+   */
+  Observable<String> aggregateBondedRemoved(Address address, Hash256 transactionHash);
+
   /**
    * Returns an observable stream of {@link TransactionStatusError} for specific address. Each time
    * a transaction contains an error, it emits a new message with the transaction status error in
@@ -207,7 +283,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of {@link TransactionStatusError}
    */
   default Observable<TransactionStatusError> status(Address address) {
-    return this.status(address, null);
+    return this.status(address, (String) null);
   }
 
   /**
@@ -221,6 +297,17 @@ public interface Listener extends Closeable {
    */
   Observable<TransactionStatusError> status(Address address, String transactionHash);
 
+  /**
+   * Returns an observable stream of {@link TransactionStatusError} for specific address and hash.
+   * Each time a transaction contains an error, it emits a new message with the transaction status
+   * error in the event stream.
+   *
+   * @param address address we listen to be notified when some error happened
+   * @param transactionHash filter by transaction hash (optional)
+   * @return an observable stream of {@link TransactionStatusError}
+   */
+  Observable<TransactionStatusError> status(Address address, Hash256 transactionHash);
+
   /**
    * Returns an observable stream of {@link CosignatureSignedTransaction} for specific address. Each
    * time a cosigner signs a transaction the address initialized, it emits a new message with the
@@ -230,7 +317,7 @@ public interface Listener extends Closeable {
    * @return an observable stream of {@link CosignatureSignedTransaction}
    */
   default Observable<CosignatureSignedTransaction> cosignatureAdded(Address address) {
-    return this.cosignatureAdded(address, null);
+    return this.cosignatureAdded(address, (String) null);
   };
 
   /**
@@ -244,4 +331,16 @@ public interface Listener extends Closeable {
    */
   Observable<CosignatureSignedTransaction> cosignatureAdded(
       Address address, String parentTransactionHash);
+
+  /**
+   * Returns an observable stream of {@link CosignatureSignedTransaction} for specific address. Each
+   * time a cosigner signs a transaction the address initialized, it emits a new message with the
+   * cosignatory signed transaction in the even stream.
+   *
+   * @param address address we listen when a cosignatory is added to some transaction address sent
+   * @param parentTransactionHash filter by parent transaction hash (optional)
+   * @return an observable stream of {@link CosignatureSignedTransaction}
+   */
+  Observable<CosignatureSignedTransaction> cosignatureAdded(
+      Address address, Hash256 parentTransactionHash);
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.DecryptedMessage;
+import io.nem.symbol.sdk.model.message.EncryptedMessage;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Service that decrypts the {@link EncryptedMessage}s of streams of transactions in parallel.
+ *
+ * <p>Only the {@link TransferTransaction}s with an encrypted message and a known signer are
+ * decrypted, including the ones embedded in {@link AggregateTransaction}s. All the other
+ * transactions are dropped without touching their messages. The results are emitted in the same
+ * order as the transactions.
+ *
+ * <p>The messages received by the account are decrypted with the public key of the signer, the
+ * messages sent by the account are decrypted with the public key of the recipient. A message that
+ * cannot be decrypted, for example because it was encrypted for another account or because the
+ * public key of the recipient is not known, is emitted as a failed {@link DecryptedMessage} and
+ * doesn't stop the stream.
+ */
+public interface MessageDecryptionService {
+
+  /**
+   * Decrypts the messages of a flowable of transactions, for example the one returned by {@link
+   * PaginationStreamer#searchFlowable}. The transactions are requested as the results are
+   * consumed, so only a bounded number of them are in memory even for very long histories.
+   *
+   * @param transactions the transactions.
+   * @param keyPair the key pair of the account that sent or received the messages. It must have
+   *     the private key.
+   * @param recipientPublicKeys resolves the public keys of the recipients of the messages sent by
+   *     the account, empty if the public key is not known. It's called from the decryption
+   *     workers.
+   * @return the decrypted messages in the order of the transactions.
+   */
+  Flowable<DecryptedMessage> decryptMessages(
+      Flowable<? extends Transaction> transactions,
+      KeyPair keyPair,
+      Function<UnresolvedAddress, Optional<PublicKey>> recipientPublicKeys);
+
+  /**
+   * Decrypts the messages of an observable of transactions, for example the one returned by {@link
+   * PaginationStreamer#search}. Observables don't support backpressure, the transactions emitted
+   * while the workers are busy are buffered. Use {@link #decryptMessages(Flowable, KeyPair,
+   * Function)} to bound the memory when the source is faster than the decryption.
+   *
+   * @param transactions the transactions.
+   * @param keyPair the key pair of the account that sent or received the messages. It must have
+   *     the private key.
+   * @param recipientPublicKeys resolves the public keys of the recipients of the messages sent by
+   *     the account, empty if the public key is not known. It's called from the decryption
+   *     workers.
+   * @return the decrypted messages in the order of the transactions.
+   */
+  Observable<DecryptedMessage> decryptMessages(
+      Observable<? extends Transaction> transactions,
+      KeyPair keyPair,
+      Function<UnresolvedAddress, Optional<PublicKey>> recipientPublicKeys);
+
+  /**
+   * Decrypts the messages of a flowable of transactions without knowing the public keys of the
+   * recipients, so the messages sent by the account are emitted as failures.
+   *
+   * @param transactions the transactions.
+   * @param keyPair the key pair of the account that received the messages. It must have the
+   *     private key.
+   * @return the decrypted messages in the order of the transactions.
+   * @see #decryptMessages(Flowable, KeyPair, Function)
+   */
+  default Flowable<DecryptedMessage> decryptMessages(
+      Flowable<? extends Transaction> transactions, KeyPair keyPair) {
+    return decryptMessages(transactions, keyPair, recipient -> Optional.empty());
+  }
+
+  /**
+   * Decrypts the messages of an observable of transactions without knowing the public keys of the
+   * recipients, so the messages sent by the account are emitted as failures.
+   *
+   * @param transactions the transactions.
+   * @param keyPair the key pair of the account that received the messages. It must have the
+   *     private key.
+   * @return the decrypted messages in the order of the transactions.
+   * @see #decryptMessages(Observable, KeyPair, Function)
+   */
+  default Observable<DecryptedMessage> decryptMessages(
+      Observable<? extends Transaction> transactions, KeyPair keyPair) {
+    return decryptMessages(transactions, keyPair, recipient -> Optional.empty());
+  }
+}
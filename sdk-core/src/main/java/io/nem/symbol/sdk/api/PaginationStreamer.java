@@ -15,6 +15,8 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 
 /**
@@ -61,4 +63,33 @@ public class PaginationStreamer<E, C extends SearchCriteria<C>> {
               }
             });
   }
+
+  /**
+   * Streams the results in a flowable that honours backpressure. A page is only requested once all
+   * the entities of the previous page have been requested downstream, so slow consumers of long
+   * searches keep at most one page in memory.
+   *
+   * @param criteria the criteria
+   * @return the flowable of entities.
+   */
+  public Flowable<E> searchFlowable(C criteria) {
+    return this.searchFlowable(criteria, 1);
+  }
+
+  private Flowable<E> searchFlowable(C criteria, Integer pageNumber) {
+    return Flowable.defer(
+            () -> {
+              criteria.pageNumber(pageNumber);
+              return searcher.search(criteria).toFlowable(BackpressureStrategy.BUFFER);
+            })
+        .concatMap(
+            page -> {
+              if (page.isLast()) {
+                return Flowable.fromIterable(page.getData());
+              } else {
+                return Flowable.fromIterable(page.getData())
+                    .concatWith(this.searchFlowable(criteria, pageNumber + 1));
+              }
+            });
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Service that reads archives of serialized transactions stored back to back, each payload starting
+ * with its size like the ones created by {@link BinarySerialization#serialize}.
+ *
+ * <p>The archive is memory mapped and split at the transaction boundaries into chunks that are
+ * deserialized in parallel. The results are emitted in the same order as the payloads in the
+ * archive. Chunks are mapped and deserialized as the results are requested, so only a bounded part
+ * of the archive is being decoded or waiting to be emitted at any time.
+ */
+public interface TransactionArchiveService {
+
+  /**
+   * Reads the transactions of an archive file, from the start of the file to its end.
+   *
+   * @param channel the channel of the archive file, it must be readable.
+   * @return the transactions in the order of the archive.
+   */
+  Flowable<Transaction> readTransactions(FileChannel channel);
+
+  /**
+   * Reads the transactions of an archive file as factories, from the start of the file to its
+   * end. Factories allow changing the transactions before building them.
+   *
+   * @param channel the channel of the archive file, it must be readable.
+   * @return the transaction factories in the order of the archive.
+   */
+  Flowable<TransactionFactory<?>> readTransactionFactories(FileChannel channel);
+
+  /**
+   * Reads the transactions stored between the position and the limit of a buffer, for example an
+   * archive that is already mapped or in memory. The position of the buffer is not changed.
+   *
+   * @param archive the buffer holding the archive.
+   * @return the transactions in the order of the archive.
+   */
+  Flowable<Transaction> readTransactions(ByteBuffer archive);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.core.crypto.SigningContext;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.CosignatureTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.util.List;
+
+/**
+ * Service that signs large batches of transactions and cosignatures in parallel.
+ *
+ * <p>The inputs are consumed lazily, only a bounded number of them are being signed or waiting to
+ * be emitted at any time, so the inputs can be generated on the fly. The results are emitted in the
+ * same order as the inputs.
+ */
+public interface TransactionSigningService {
+
+  /**
+   * Signs transactions.
+   *
+   * @param transactions the transactions to sign.
+   * @param signer the signing context of the account that signs the transactions.
+   * @param generationHash the generation hash of the network.
+   * @return the signed transactions in the order of the transactions.
+   */
+  Observable<SignedTransaction> signTransactions(
+      Iterable<? extends Transaction> transactions, SigningContext signer, String generationHash);
+
+  /**
+   * Signs aggregate transactions together with their cosignatures.
+   *
+   * @param transactions the aggregate transactions to sign.
+   * @param initiator the signing context of the account that signs the aggregates.
+   * @param cosignatories the signing contexts of the accounts that cosign the aggregates.
+   * @param generationHash the generation hash of the network.
+   * @return the signed aggregates, including the cosignatures, in the order of the transactions.
+   */
+  Observable<SignedTransaction> signAggregateTransactions(
+      Iterable<? extends AggregateTransaction> transactions,
+      SigningContext initiator,
+      List<SigningContext> cosignatories,
+      String generationHash);
+
+  /**
+   * Cosigns announced aggregate transactions, for example all the pending bonded aggregates of a
+   * multisig account.
+   *
+   * @param cosignatureTransactions the cosignature requests.
+   * @param cosignatory the signing context of the account that cosigns the aggregates.
+   * @return the cosignatures in the order of the requests.
+   */
+  Observable<CosignatureSignedTransaction> cosignTransactions(
+      Iterable<CosignatureTransaction> cosignatureTransactions, SigningContext cosignatory);
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.sdk.api.AggregatePackingPolicy;
+import io.nem.symbol.sdk.api.AggregatePackingService;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.network.AggregateNetworkProperties;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link AggregatePackingService}. The limits are read from the network
+ * properties once per subscription, then the inner transactions are packed greedily in order.
+ */
+public class AggregatePackingServiceImpl implements AggregatePackingService {
+
+  private final RepositoryFactory repositoryFactory;
+  private final NetworkRepository networkRepository;
+
+  /** The scheduler of the flush by time timers. */
+  private final Scheduler scheduler;
+
+  public AggregatePackingServiceImpl(RepositoryFactory repositoryFactory) {
+    this(repositoryFactory, Schedulers.computation());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param repositoryFactory the repository factory.
+   * @param scheduler the scheduler of the flush by time timers.
+   */
+  AggregatePackingServiceImpl(RepositoryFactory repositoryFactory, Scheduler scheduler) {
+    this.repositoryFactory = repositoryFactory;
+    this.networkRepository = repositoryFactory.createNetworkRepository();
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public Observable<AggregateTransaction> packCompleteTransactions(
+      Observable<? extends Transaction> innerTransactions, AggregatePackingPolicy policy) {
+    Validate.notNull(innerTransactions, "innerTransactions is required");
+    Validate.notNull(policy, "policy is required");
+    return Observable.zip(
+            networkRepository.getNetworkProperties(),
+            repositoryFactory.getNetworkType(),
+            repositoryFactory.getEpochAdjustment(),
+            (properties, networkType, epochAdjustment) ->
+                new Packer(policy, properties, networkType, epochAdjustment))
+        .take(1)
+        .flatMap(packer -> pack(innerTransactions, policy, packer));
+  }
+
+  private Observable<AggregateTransaction> pack(
+      Observable<? extends Transaction> innerTransactions,
+      AggregatePackingPolicy policy,
+      Packer packer) {
+    Duration flushInterval = policy.getFlushInterval();
+    if (flushInterval == null) {
+      return innerTransactions
+          .<AggregateTransaction>concatMapIterable(packer::add)
+          .concatWith(Observable.defer(() -> Observable.fromIterable(packer.flush())));
+    }
+    // The buffers are cut by size too so a burst doesn't pile up transactions until the next
+    // flush, the packer may still split a buffer when it has too many signers.
+    return innerTransactions
+        .buffer(
+            flushInterval.toMillis(),
+            TimeUnit.MILLISECONDS,
+            scheduler,
+            packer.getMaxTransactions())
+        .concatMapIterable(
+            transactions -> {
+              List<AggregateTransaction> aggregates = new ArrayList<>();
+              transactions.forEach(transaction -> aggregates.addAll(packer.add(transaction)));
+              aggregates.addAll(packer.flush());
+              return aggregates;
+            });
+  }
+
+  /**
+   * Gets a numeric aggregate property from the network properties.
+   *
+   * @param properties the network properties.
+   * @param getter the getter of the property.
+   * @param name the name of the property.
+   * @return the property value.
+   */
+  private static int getAggregateProperty(
+      NetworkConfiguration properties,
+      Function<AggregateNetworkProperties, String> getter,
+      String name) {
+    if (properties.getPlugins() == null
+        || properties.getPlugins().getAggregate() == null
+        || getter.apply(properties.getPlugins().getAggregate()) == null) {
+      throw new IllegalStateException("Cannot get " + name + " from network properties.");
+    }
+    return Integer.parseInt(getter.apply(properties.getPlugins().getAggregate()).replace("'", ""));
+  }
+
+  /** Packs the inner transactions of one subscription, it's not thread safe. */
+  private static class Packer {
+
+    private final AggregatePackingPolicy policy;
+    private final NetworkType networkType;
+    private final Duration epochAdjustment;
+
+    /** The max number of inner transactions per aggregate. */
+    private final int maxTransactions;
+
+    /** The max number of distinct inner signers per aggregate, the signer plus the cosigners. */
+    private final int maxSigners;
+
+    /** The inner transactions of the next aggregate. */
+    private List<Transaction> transactions = new ArrayList<>();
+
+    /** The distinct signers of the inner transactions of the next aggregate. */
+    private final Set<PublicKey> signers = new HashSet<>();
+
+    private Packer(
+        AggregatePackingPolicy policy,
+        NetworkConfiguration properties,
+        NetworkType networkType,
+        Duration epochAdjustment) {
+      this.policy = policy;
+      this.networkType = networkType;
+      this.epochAdjustment = epochAdjustment;
+      int networkMaxTransactions =
+          getAggregateProperty(
+              properties,
+              AggregateNetworkProperties::getMaxTransactionsPerAggregate,
+              "maxTransactionsPerAggregate");
+      this.maxTransactions =
+          policy.getMaxTransactionsPerAggregate() == null
+              ? networkMaxTransactions
+              : Math.min(networkMaxTransactions, policy.getMaxTransactionsPerAggregate());
+      int maxCosignatures =
+          getAggregateProperty(
+              properties,
+              AggregateNetworkProperties::getMaxCosignaturesPerAggregate,
+              "maxCosignaturesPerAggregate");
+      // The aggregate signer doesn't cosign, so it's one more signer than cosignatures.
+      this.maxSigners = maxCosignatures + 1;
+      Validate.isTrue(
+          policy.getRequiredCosignatures() <= maxCosignatures,
+          "requiredCosignatures must not be greater than the network's maxCosignaturesPerAggregate "
+              + maxCosignatures);
+    }
+
+    private int getMaxTransactions() {
+      return maxTransactions;
+    }
+
+    /**
+     * Adds an inner transaction to the next aggregate.
+     *
+     * @param transaction the inner transaction.
+     * @return the aggregates completed by the transaction.
+     */
+    private List<AggregateTransaction> add(Transaction transaction) {
+      PublicKey signer =
+          transaction
+              .getSigner()
+              .orElseThrow(() -> new IllegalArgumentException("Inner transaction has no signer"))
+              .getPublicKey();
+      List<AggregateTransaction> aggregates = Collections.emptyList();
+      if (!signers.contains(signer) && signers.size() == maxSigners) {
+        aggregates = flush();
+      }
+      transactions.add(transaction);
+      signers.add(signer);
+      if (transactions.size() == maxTransactions) {
+        if (aggregates.isEmpty()) {
+          return flush();
+        }
+        aggregates = new ArrayList<>(aggregates);
+        aggregates.addAll(flush());
+      }
+      return aggregates;
+    }
+
+    /**
+     * Packs the pending inner transactions.
+     *
+     * @return the aggregate or an empty list if there are no pending inner transactions.
+     */
+    private List<AggregateTransaction> flush() {
+      if (transactions.isEmpty()) {
+        return Collections.emptyList();
+      }
+      int cosignatures = Math.max(policy.getRequiredCosignatures(), signers.size() - 1);
+      Deadline deadline =
+          Deadline.create(
+              epochAdjustment,
+              Math.toIntExact(policy.getDeadline().toMillis()),
+              ChronoUnit.MILLIS);
+      AggregateTransaction aggregate =
+          AggregateTransactionFactory.createComplete(networkType, deadline, transactions)
+              .calculateMaxFeeForAggregate(policy.getFeeMultiplier(), cosignatures)
+              .build();
+      transactions = new ArrayList<>();
+      signers.clear();
+      return Collections.singletonList(aggregate);
+    }
+  }
+}
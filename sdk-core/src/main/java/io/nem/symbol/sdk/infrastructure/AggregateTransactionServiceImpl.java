@@ -15,7 +15,7 @@
  */
 package io.nem.symbol.sdk.infrastructure;
 
-import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.sdk.api.AggregateTransactionService;
 import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.NetworkRepository;
@@ -23,12 +23,9 @@ import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
 import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
-import io.nem.symbol.sdk.model.account.PublicAccount;
-import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
-import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
+import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.MultisigAccountModificationTransaction;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
-import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.reactivex.Observable;
 import java.util.HashSet;
@@ -59,19 +56,19 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
         signedTransaction.getType() == TransactionType.AGGREGATE_COMPLETE,
         "signedTransaction type must be AGGREGATE_COMPLETE");
 
-    AggregateTransaction transaction =
-        (AggregateTransaction)
-            BinarySerializationImpl.INSTANCE.deserialize(
-                ConvertUtils.fromHexToBytes(signedTransaction.getPayload()));
+    // The signers and the inner transactions are read from the binary payload, only a multisig
+    // modification needs to be deserialized to know if it removes cosignatories.
+    AggregateTransactionView transaction =
+        AggregateTransactionView.wrap(signedTransaction.getPayloadByteBuffer());
+    NetworkType networkType = transaction.getNetworkType();
 
     /*
      * Include both initiator & cosigners
      */
-    Set<Address> signers =
-        transaction.getCosignatures().stream()
-            .map(AggregateTransactionCosignature::getSigner)
-            .map(PublicAccount::getAddress)
-            .collect(Collectors.toSet());
+    Set<Address> signers = new HashSet<>();
+    for (int i = 0; i < transaction.getCosignaturesCount(); i++) {
+      signers.add(toAddress(transaction.getCosigner(i), networkType));
+    }
 
     signers.add(signedTransaction.getSigner().getAddress());
 
@@ -79,11 +76,7 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
         .flatMap(
             innerTransaction ->
                 multisigRepository
-                    .getMultisigAccountInfo(
-                        innerTransaction
-                            .getSigner()
-                            .orElseThrow(IllegalArgumentException::new)
-                            .getAddress())
+                    .getMultisigAccountInfo(toAddress(innerTransaction.getSigner(), networkType))
                     .flatMap(
                         multisigAccountInfo ->
                             multisigAccountInfo.getMinRemoval() != 0
@@ -94,7 +87,9 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
                                     .map(
                                         graphInfo ->
                                             validateCosignatories(
-                                                graphInfo, signers, innerTransaction))
+                                                graphInfo,
+                                                signers,
+                                                isMultisigRemoval(innerTransaction)))
                                 : Observable.just(
                                     signers.stream()
                                         .anyMatch(
@@ -148,25 +143,15 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
    *
    * @param graphInfo - multisig account graph info
    * @param cosignatories - array of cosignatories extracted from aggregated transaction
-   * @param innerTransaction - the inner transaction of the aggregated transaction
+   * @param isMultisigRemoval - if the inner transaction removes cosignatories, minRemoval is used
+   *     instead of minApproval for cosignatories validation.
    * @return true if the cosignatories are enough to sign.
    */
   private boolean validateCosignatories(
-      MultisigAccountGraphInfo graphInfo,
-      Set<Address> cosignatories,
-      Transaction innerTransaction) {
+      MultisigAccountGraphInfo graphInfo, Set<Address> cosignatories, boolean isMultisigRemoval) {
     // Validate cosignatories from bottom level to top
     Set<Address> cosignatoriesReceived = new HashSet<>(cosignatories);
 
-    // Check inner transaction. If remove cosigner from multisig account,
-    // use minRemoval instead of minApproval for cosignatories validation.
-
-    boolean isMultisigRemoval =
-        (innerTransaction.getType() == TransactionType.MULTISIG_ACCOUNT_MODIFICATION)
-            && !((MultisigAccountModificationTransaction) innerTransaction)
-                .getAddressDeletions()
-                .isEmpty();
-
     Map<Integer, List<MultisigAccountInfo>> storedMap =
         new TreeMap<>(graphInfo.getMultisigEntries());
 
@@ -201,4 +186,19 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
                           }
                         }));
   }
+
+  /**
+   * @param innerTransaction the view of the inner transaction.
+   * @return if the inner transaction removes cosignatories from a multisig account.
+   */
+  private static boolean isMultisigRemoval(TransactionView innerTransaction) {
+    return innerTransaction.isType(TransactionType.MULTISIG_ACCOUNT_MODIFICATION)
+        && !((MultisigAccountModificationTransaction) innerTransaction.toTransaction())
+            .getAddressDeletions()
+            .isEmpty();
+  }
+
+  private static Address toAddress(PublicKey publicKey, NetworkType networkType) {
+    return Address.createFromPublicKey(publicKey.toHex(), networkType);
+  }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A read-only flyweight view of a serialized {@link AggregateTransaction}, see {@link
+ * TransactionView}. The inner transactions are exposed as embedded transaction views over the same
+ * buffer.
+ */
+public class AggregateTransactionView extends TransactionView {
+
+  /** The offset of the payload size in the body. */
+  private static final int PAYLOAD_SIZE_OFFSET = 32;
+
+  /** The offset of the first inner transaction in the body. */
+  private static final int TRANSACTIONS_OFFSET = 40;
+
+  /** The size of each cosignature, the version, the signer and the signature. */
+  private static final int COSIGNATURE_SIZE = 8 + PublicKey.SIZE + SIGNATURE_SIZE;
+
+  AggregateTransactionView(ByteBuffer buffer, int offset) {
+    super(buffer, offset, false);
+  }
+
+  /**
+   * Creates a view of the aggregate transaction starting at the position of the buffer. The
+   * position of the buffer is not changed.
+   *
+   * @param buffer the buffer holding the serialized transaction.
+   * @return the view.
+   * @throws IllegalArgumentException if the transaction is not an aggregate.
+   */
+  public static AggregateTransactionView wrap(ByteBuffer buffer) {
+    Validate.notNull(buffer, "buffer must not be null");
+    return new AggregateTransactionView(readOnly(buffer), buffer.position());
+  }
+
+  @Override
+  public AggregateTransactionView reset(int offset) {
+    super.reset(offset);
+    if (!isType(TransactionType.AGGREGATE_COMPLETE) && !isType(TransactionType.AGGREGATE_BONDED)) {
+      throw new IllegalArgumentException(
+          "Transaction type " + getTypeValue() + " is not an aggregate");
+    }
+    return this;
+  }
+
+  /** @return the merkle root hash of the inner transactions. */
+  public Hash256 getTransactionsHash() {
+    return Hash256.fromByteBuffer(buffer, getBodyOffset());
+  }
+
+  /** @return the size in bytes of the inner transactions, including their padding. */
+  public int getPayloadSize() {
+    return buffer.getInt(getBodyOffset() + PAYLOAD_SIZE_OFFSET);
+  }
+
+  /**
+   * Iterates the inner transactions. Each call to next creates a new embedded view, use {@link
+   * #forEachInnerTransaction(Consumer)} to scan them with a single view.
+   *
+   * @return the inner transactions.
+   */
+  public Iterable<TransactionView> getInnerTransactions() {
+    return () ->
+        new Iterator<TransactionView>() {
+          private int index = getTransactionsStart();
+
+          @Override
+          public boolean hasNext() {
+            return index < getTransactionsEnd();
+          }
+
+          @Override
+          public TransactionView next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            TransactionView view = new TransactionView(buffer, index, true);
+            index += BinarySerializationImpl.padSize(view.getSize());
+            return view;
+          }
+        };
+  }
+
+  /**
+   * Calls the consumer with each inner transaction. The same embedded view is moved from one
+   * transaction to the next, the consumer must not keep it.
+   *
+   * @param consumer the consumer of the inner transactions.
+   */
+  public void forEachInnerTransaction(Consumer<TransactionView> consumer) {
+    int end = getTransactionsEnd();
+    int index = getTransactionsStart();
+    if (index >= end) {
+      return;
+    }
+    TransactionView view = new TransactionView(buffer, index, true);
+    while (true) {
+      consumer.accept(view);
+      index += BinarySerializationImpl.padSize(view.getSize());
+      if (index >= end) {
+        return;
+      }
+      view.reset(index);
+    }
+  }
+
+  /** @return the number of cosignatures. */
+  public int getCosignaturesCount() {
+    return (getSize() - (getTransactionsEnd() - offset)) / COSIGNATURE_SIZE;
+  }
+
+  /**
+   * @param index the index of the cosignature.
+   * @return the public key of the cosigner at index.
+   */
+  public PublicKey getCosigner(int index) {
+    Validate.isTrue(
+        index >= 0 && index < getCosignaturesCount(),
+        "Cosignature index %d is out of bounds",
+        index);
+    byte[] signer = new byte[PublicKey.SIZE];
+    getBytes(getCosignerOffset(index), signer);
+    return new PublicKey(signer);
+  }
+
+  /**
+   * Looks for a cosignature of a public key without decoding the cosignatures.
+   *
+   * @param publicKey the public key.
+   * @return if the public key cosigned the aggregate.
+   */
+  public boolean isCosigner(PublicKey publicKey) {
+    int count = getCosignaturesCount();
+    for (int i = 0; i < count; i++) {
+      if (equalBytes(getCosignerOffset(i), publicKey.getBytes())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int getTransactionsStart() {
+    return getBodyOffset() + TRANSACTIONS_OFFSET;
+  }
+
+  private int getTransactionsEnd() {
+    return getTransactionsStart() + getPayloadSize();
+  }
+
+  private int getCosignerOffset(int index) {
+    // the version of the cosignature comes before the signer.
+    return getTransactionsEnd() + index * COSIGNATURE_SIZE + 8;
+  }
+}
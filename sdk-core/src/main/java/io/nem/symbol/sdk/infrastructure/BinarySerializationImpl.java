@@ -51,13 +51,10 @@ import io.nem.symbol.catapult.builders.MultisigAccountModificationTransactionBod
 import io.nem.symbol.catapult.builders.NamespaceIdDto;
 import io.nem.symbol.catapult.builders.NamespaceMetadataTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.NamespaceRegistrationTransactionBodyBuilder;
-import io.nem.symbol.catapult.builders.NetworkTypeDto;
 import io.nem.symbol.catapult.builders.NodeKeyLinkTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.SecretLockTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.SecretProofTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.Serializer;
-import io.nem.symbol.catapult.builders.SignatureDto;
-import io.nem.symbol.catapult.builders.TimestampDto;
 import io.nem.symbol.catapult.builders.TransactionBuilder;
 import io.nem.symbol.catapult.builders.TransactionBuilderFactory;
 import io.nem.symbol.catapult.builders.TransferTransactionBodyBuilder;
@@ -67,6 +64,9 @@ import io.nem.symbol.catapult.builders.UnresolvedMosaicIdDto;
 import io.nem.symbol.catapult.builders.VotingKeyDto;
 import io.nem.symbol.catapult.builders.VotingKeyLinkTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.VrfKeyLinkTransactionBodyBuilder;
+import io.nem.symbol.core.crypto.DigestEngine;
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.VotingKey;
 import io.nem.symbol.core.utils.ConvertUtils;
@@ -148,7 +148,9 @@ import io.nem.symbol.sdk.model.transaction.VrfKeyLinkTransaction;
 import io.nem.symbol.sdk.model.transaction.VrfKeyLinkTransactionFactory;
 import java.io.DataInputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.EnumMap;
@@ -168,6 +170,18 @@ public class BinarySerializationImpl implements BinarySerialization {
   /** Cached instance. */
   public static final BinarySerialization INSTANCE = new BinarySerializationImpl();
 
+  /** The size of the header of top level transactions. */
+  public static final int TRANSACTION_HEADER_SIZE = 128;
+
+  /** The size of the header of the transactions embedded in aggregates. */
+  public static final int EMBEDDED_TRANSACTION_HEADER_SIZE = 48;
+
+  /** The size of an unresolved address, either an address or a namespace alias. */
+  private static final int UNRESOLVED_ADDRESS_SIZE = 24;
+
+  /** The size of an unresolved mosaic, the mosaic id followed by the amount. */
+  private static final int UNRESOLVED_MOSAIC_SIZE = 16;
+
   /** The serializers, one per {@link TransactionType} must be registered. */
   private final Map<TransactionType, TransactionSerializer<?>> serializers =
       new EnumMap<>(TransactionType.class);
@@ -236,8 +250,37 @@ public class BinarySerializationImpl implements BinarySerialization {
   @Override
   public <T extends Transaction> byte[] serialize(T transaction) {
     Validate.notNull(transaction, "Transaction must not be null");
-    TransactionBuilder transactionBuilder = getTransactionBuilder(transaction);
-    return serializeTransaction(transactionBuilder.serialize(), transaction);
+    Serializer bodyBuilder = getBodyBuilder(transaction);
+    byte[] bytes = new byte[TRANSACTION_HEADER_SIZE + bodyBuilder.getSize()];
+    writeTransaction(transaction, bodyBuilder, ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  /**
+   * It serializes a transaction into the destination buffer without intermediate arrays for the
+   * header or the whole payload.
+   *
+   * @param transaction the transaction
+   * @param destination the buffer, heap or direct, the transaction is written to.
+   * @return the number of written bytes.
+   */
+  @Override
+  public <T extends Transaction> int serialize(T transaction, ByteBuffer destination) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    Validate.notNull(destination, "Destination must not be null");
+    return writeTransaction(transaction, getBodyBuilder(transaction), destination);
+  }
+
+  /**
+   * It returns the size of the payload {@link #serialize(Transaction, ByteBuffer)} writes.
+   *
+   * @param transaction the transaction
+   * @return the size of the serialized transaction.
+   */
+  @Override
+  public <T extends Transaction> int serializedSize(T transaction) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    return TRANSACTION_HEADER_SIZE + getBodyBuilder(transaction).getSize();
   }
 
   /**
@@ -249,67 +292,201 @@ public class BinarySerializationImpl implements BinarySerialization {
    */
   public <T extends Transaction> byte[] serializeEmbedded(T transaction) {
     Validate.notNull(transaction, "Transaction must not be null");
-    EmbeddedTransactionBuilder embeddedTransactionBuilder =
-        EmbeddedTransactionBuilder.create(
-            new KeyDto(getRequiredSignerBytes(transaction.getSigner())),
-            transaction.getVersion().byteValue(),
-            NetworkTypeDto.rawValueOf((byte) transaction.getNetworkType().getValue()),
-            EntityTypeDto.rawValueOf((short) transaction.getType().getValue()));
-    return serializeTransaction(embeddedTransactionBuilder.serialize(), transaction);
+    Serializer bodyBuilder = getBodyBuilder(transaction);
+    byte[] bytes = new byte[EMBEDDED_TRANSACTION_HEADER_SIZE + bodyBuilder.getSize()];
+    writeEmbeddedTransaction(transaction, bodyBuilder, ByteBuffer.wrap(bytes));
+    return bytes;
   }
 
   /**
-   * Creates the right {@link EmbeddedTransactionBuilder} from the transaction
+   * It serializes a transaction as an embedded transaction into the destination buffer.
    *
    * @param transaction the transaction
+   * @param destination the buffer, heap or direct, the transaction is written to.
    * @param <T> the transaction class
-   * @return the {@link EmbeddedTransactionBuilder}
+   * @return the number of written bytes.
+   */
+  public <T extends Transaction> int serializeEmbedded(T transaction, ByteBuffer destination) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    Validate.notNull(destination, "Destination must not be null");
+    return writeEmbeddedTransaction(transaction, getBodyBuilder(transaction), destination);
+  }
+
+  /**
+   * It serializes the transactions embedded in an aggregate, each one padded to 8 bytes, and
+   * computes the aggregate's transactions hash in the same pass. Each transaction is written
+   * straight into the destination and hashed from there, the payload and the hash don't require
+   * serializing the transactions twice.
+   *
+   * @param transactions the embedded transactions, they must have a signer.
+   * @param destination the buffer with at least {@link #getEmbeddedTransactionsSize(List)}
+   *     remaining bytes.
+   * @return the Merkle root of the SHA3-256 hashes of the embedded transactions.
+   */
+  public Hash256 serializeEmbeddedTransactions(
+      List<? extends Transaction> transactions, ByteBuffer destination) {
+    Validate.notNull(transactions, "Transactions must not be null");
+    Validate.notNull(destination, "Destination must not be null");
+    MerkleHashBuilder transactionsHashBuilder = new MerkleHashBuilder(transactions.size());
+    writeEmbeddedTransactions(transactions, destination, transactionsHashBuilder);
+    return Hash256.fromBytes(transactionsHashBuilder.getRootHash());
+  }
+
+  /**
+   * It returns the size of the transactions embedded in an aggregate including their padding.
+   *
+   * @param transactions the embedded transactions.
+   * @return the number of bytes {@link #serializeEmbeddedTransactions(List, ByteBuffer)} writes.
+   */
+  public int getEmbeddedTransactionsSize(List<? extends Transaction> transactions) {
+    int size = 0;
+    for (Transaction transaction : transactions) {
+      size += padSize(getEmbeddedSize(transaction));
+    }
+    return size;
+  }
+
+  /**
+   * Writes the padded embedded transactions.
+   *
+   * @param transactions the embedded transactions.
+   * @param destination the destination buffer.
+   * @param transactionsHashBuilder the builder receiving the hash of each transaction, null if the
+   *     hashes are not required.
+   */
+  private void writeEmbeddedTransactions(
+      List<? extends Transaction> transactions,
+      ByteBuffer destination,
+      MerkleHashBuilder transactionsHashBuilder) {
+    for (Transaction transaction : transactions) {
+      int start = destination.position();
+      int size = serializeEmbedded(transaction, destination);
+      if (transactionsHashBuilder != null) {
+        transactionsHashBuilder.update(hash(destination, start, size));
+      }
+      putZeros(destination, padSize(size) - size);
+    }
+  }
+
+  /** Hashes buffer[start, start + size) without moving the buffer's position. */
+  private static byte[] hash(ByteBuffer buffer, int start, int size) {
+    if (buffer.hasArray()) {
+      return DigestEngine.SHA3_256.hash(buffer.array(), buffer.arrayOffset() + start, size);
+    }
+    ByteBuffer slice = buffer.duplicate();
+    slice.limit(start + size);
+    slice.position(start);
+    return DigestEngine.SHA3_256.hash(slice);
+  }
+
+  /**
+   * Writes the top level transaction header followed by the body. The layout of the header is the
+   * one of the catbuffer {@link TransactionBuilder}, the numbers are little endian.
+   *
+   * @param transaction the transaction
+   * @param bodyBuilder the transaction's body builder
+   * @param destination the destination buffer, its byte order is restored after writing.
+   * @return the number of written bytes.
    */
-  private <T extends Transaction> EmbeddedTransactionBuilder toEmbeddedTransactionBuilder(
-      T transaction) {
-    return TransactionBuilderFactory.createEmbeddedTransactionBuilder(
-        SerializationUtils.toDataInput(serializeEmbedded(transaction)));
+  private int writeTransaction(
+      Transaction transaction, Serializer bodyBuilder, ByteBuffer destination) {
+    int size = TRANSACTION_HEADER_SIZE + bodyBuilder.getSize();
+    checkRemaining(destination, size);
+    ByteOrder order = destination.order();
+    destination.order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      destination.putInt(size);
+      destination.putInt(0);
+      if (transaction.getSignature().isPresent()) {
+        destination.put(ConvertUtils.getBytes(transaction.getSignature().get()));
+      } else {
+        putZeros(destination, 64);
+      }
+      if (transaction.getSigner().isPresent()) {
+        destination.put(transaction.getSigner().get().getPublicKey().getBytes());
+      } else {
+        putZeros(destination, 32);
+      }
+      destination.putInt(0);
+      putEntityHeader(transaction, destination);
+      destination.putLong(transaction.getMaxFeeAsLong());
+      destination.putLong(transaction.getDeadline().getValue());
+      writeBody(bodyBuilder, destination);
+    } finally {
+      destination.order(order);
+    }
+    return size;
   }
 
   /**
-   * Gets the top level {@link TransactionBuilder} for the given transaction
+   * Writes the embedded transaction header followed by the body. The layout of the header is the
+   * one of the catbuffer {@link EmbeddedTransactionBuilder}, the numbers are little endian.
    *
    * @param transaction the transaction
-   * @return the top level {@link TransactionBuilder}
+   * @param bodyBuilder the transaction's body builder
+   * @param destination the destination buffer, its byte order is restored after writing.
+   * @return the number of written bytes.
+   */
+  private int writeEmbeddedTransaction(
+      Transaction transaction, Serializer bodyBuilder, ByteBuffer destination) {
+    int size = EMBEDDED_TRANSACTION_HEADER_SIZE + bodyBuilder.getSize();
+    ByteBuffer signer = getRequiredSignerBytes(transaction.getSigner());
+    checkRemaining(destination, size);
+    ByteOrder order = destination.order();
+    destination.order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      destination.putInt(size);
+      destination.putInt(0);
+      destination.put(signer);
+      destination.putInt(0);
+      putEntityHeader(transaction, destination);
+      writeBody(bodyBuilder, destination);
+    } finally {
+      destination.order(order);
+    }
+    return size;
+  }
+
+  /** Writes the body, straight into the destination when the body builder supports it. */
+  private static void writeBody(Serializer bodyBuilder, ByteBuffer destination) {
+    if (bodyBuilder instanceof BufferSerializer) {
+      ((BufferSerializer) bodyBuilder).serialize(destination);
+    } else {
+      destination.put(bodyBuilder.serialize());
+    }
+  }
+
+  /** Writes the version, network type and transaction type shared by both headers. */
+  private static void putEntityHeader(Transaction transaction, ByteBuffer destination) {
+    destination.put(transaction.getVersion().byteValue());
+    destination.put((byte) transaction.getNetworkType().getValue());
+    destination.putShort((short) transaction.getType().getValue());
+  }
+
+  /**
+   * Fails before anything is written when the destination cannot hold the whole entity, so a
+   * short buffer is never left with a partial entity and a moved position.
    */
-  private TransactionBuilder getTransactionBuilder(Transaction transaction) {
-
-    final SignatureDto signatureDto =
-        transaction
-            .getSignature()
-            .map(SerializationUtils::toSignatureDto)
-            .orElseGet(() -> new SignatureDto(ByteBuffer.allocate(64)));
-
-    final ByteBuffer signerBuffer =
-        transaction
-            .getSigner()
-            .map(SerializationUtils::toByteBuffer)
-            .orElseGet(() -> ByteBuffer.allocate(32));
-
-    return TransactionBuilder.create(
-        signatureDto,
-        new KeyDto(signerBuffer),
-        transaction.getVersion().byteValue(),
-        NetworkTypeDto.rawValueOf((byte) transaction.getNetworkType().getValue()),
-        EntityTypeDto.rawValueOf((short) transaction.getType().getValue()),
-        new AmountDto(SerializationUtils.toUnsignedLong(transaction.getMaxFee())),
-        new TimestampDto(transaction.getDeadline().getValue()));
+  private static void checkRemaining(ByteBuffer destination, int size) {
+    if (destination.remaining() < size) {
+      throw new BufferOverflowException();
+    }
+  }
+
+  private static void putZeros(ByteBuffer destination, int count) {
+    for (int i = 0; i < count; i++) {
+      destination.put((byte) 0);
+    }
   }
 
   /**
-   * This method concats the common bytes to the serialized specific transaction.
+   * It validates the transaction can be serialized and returns its body builder.
    *
    * @param <T> the type of the transaction
-   * @param commonBytes the common byte array.
    * @param transaction the transaction.
-   * @return the serialized transaction.
+   * @return the body builder of the transaction.
    */
-  private <T extends Transaction> byte[] serializeTransaction(byte[] commonBytes, T transaction) {
+  private <T extends Transaction> Serializer getBodyBuilder(T transaction) {
     Validate.isTrue(
         transaction.isTransactionFullyLoaded(),
         "Partially loaded and incomplete transactions cannot be serialized.");
@@ -317,12 +494,12 @@ public class BinarySerializationImpl implements BinarySerialization {
     Validate.isTrue(
         transactionSerializer.getTransactionClass().isAssignableFrom(transaction.getClass()),
         "Invalid TransactionSerializer's transaction class.");
-    byte[] transactionBytes = transactionSerializer.toBodyBuilder(transaction).serialize();
-    return SerializationUtils.concat(commonBytes, transactionBytes);
+    return transactionSerializer.toBodyBuilder(transaction);
   }
 
   /**
-   * It returns the transaction's byte array size useful to calculate its fee.
+   * It returns the transaction's byte array size useful to calculate its fee. The size is computed
+   * from the transaction's fields, no catbuffer builder is created.
    *
    * @param <T> the type of the transaction
    * @param transaction the transaction
@@ -330,8 +507,37 @@ public class BinarySerializationImpl implements BinarySerialization {
    */
   @Override
   public <T extends Transaction> long getSize(T transaction) {
-    return getTransactionBuilder(transaction).getSize()
-        + resolveSerializer(transaction.getType()).toBodyBuilder(transaction).getSize();
+    Validate.notNull(transaction, "Transaction must not be null");
+    return TRANSACTION_HEADER_SIZE + getBodySize(transaction);
+  }
+
+  /**
+   * It returns the size of the transaction once embedded in an aggregate, without the padding
+   * that aligns the embedded transactions.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction
+   * @return the size of the embedded transaction.
+   */
+  public <T extends Transaction> int getEmbeddedSize(T transaction) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    return EMBEDDED_TRANSACTION_HEADER_SIZE + getBodySize(transaction);
+  }
+
+  private <T extends Transaction> int getBodySize(T transaction) {
+    TransactionSerializer<T> transactionSerializer = resolveSerializer(transaction.getType());
+    return transactionSerializer.getBodySize(transaction);
+  }
+
+  /**
+   * Returns the size of an embedded transaction once padded to the 8 bytes alignment of the
+   * aggregate payload.
+   *
+   * @param size the size of the embedded transaction.
+   * @return the padded size.
+   */
+  static int padSize(int size) {
+    return (size + 7) & ~7;
   }
 
   /**
@@ -390,15 +596,14 @@ public class BinarySerializationImpl implements BinarySerialization {
         NetworkType.rawValueOf(
             SerializationUtils.byteToUnsignedInt(builder.getNetwork().getValue()));
 
-    Deadline deadline =
-        new Deadline(SerializationUtils.toUnsignedBigInteger(builder.getDeadline().getTimestamp()));
+    Deadline deadline = new Deadline(builder.getDeadline().getTimestamp());
 
     TransactionFactory<?> factory =
         resolveSerializer(transactionType)
             .fromBodyBuilder(networkType, deadline, builder.getBody());
 
     factory.version(SerializationUtils.byteToUnsignedInt(builder.getVersion()));
-    factory.maxFee(SerializationUtils.toUnsignedBigInteger(builder.getFee()));
+    factory.maxFee(builder.getFee().getAmount());
     if (!areAllZeros(builder.getSignature().getSignature().array())) {
       factory.signature(SerializationUtils.toHexString(builder.getSignature().getSignature()));
     }
@@ -453,12 +658,26 @@ public class BinarySerializationImpl implements BinarySerialization {
             SerializationUtils.byteToUnsignedInt(builder.getNetwork().getValue()));
     TransactionFactory<?> factory =
         resolveSerializer(transactionType)
-            .fromBodyBuilder(networkType, new Deadline(BigInteger.ZERO), builder.getBody());
+            .fromBodyBuilder(networkType, new Deadline(0L), builder.getBody());
     factory.signer(SerializationUtils.toPublicAccount(builder.getSignerPublicKey(), networkType));
     factory.version(SerializationUtils.byteToUnsignedInt(builder.getVersion()));
     return factory.build();
   }
 
+  /**
+   * A body {@link Serializer} that can write its bytes straight into a buffer instead of returning
+   * a new array.
+   */
+  interface BufferSerializer extends Serializer {
+
+    /**
+     * Writes the bytes {@link #serialize()} would return at the buffer's position.
+     *
+     * @param destination the little endian destination buffer.
+     */
+    void serialize(ByteBuffer destination);
+  }
+
   /**
    * Interface of the serializer helper classes that know how to serialize/deserialize one type of
    * transaction from a payload.
@@ -495,6 +714,15 @@ public class BinarySerializationImpl implements BinarySerialization {
      * @return the catbuffer {@link Serializer}.
      */
     Serializer toBodyBuilder(T transaction);
+
+    /**
+     * Subclasses would need to know the size of the bytes {@link #toBodyBuilder(Transaction)}
+     * serializes, computed from the transaction's fields without creating the builders.
+     *
+     * @param transaction the transaction
+     * @return the size of the transaction's body.
+     */
+    int getBodySize(T transaction);
   }
 
   private static class TransferTransactionSerializer
@@ -538,6 +766,20 @@ public class BinarySerializationImpl implements BinarySerialization {
           getMessageBuffer(transaction));
     }
 
+    @Override
+    public int getBodySize(TransferTransaction transaction) {
+      // recipient, message size, mosaics count, reserved bytes, mosaics and message.
+      return UNRESOLVED_ADDRESS_SIZE
+          + 2
+          + 1
+          + 4
+          + 1
+          + transaction.getMosaics().size() * UNRESOLVED_MOSAIC_SIZE
+          + (transaction.getMessage().isPresent()
+              ? transaction.getMessage().get().getPayload().length
+              : 0);
+    }
+
     /**
      * Gets mosaic array.
      *
@@ -558,7 +800,7 @@ public class BinarySerializationImpl implements BinarySerialization {
         final UnresolvedMosaicBuilder mosaicBuilder =
             UnresolvedMosaicBuilder.create(
                 new UnresolvedMosaicIdDto(mosaic.getId().getIdAsLong()),
-                new AmountDto(SerializationUtils.toUnsignedLong(mosaic.getAmount())));
+                new AmountDto(mosaic.getAmountAsLong()));
         unresolvedMosaicList.add(mosaicBuilder);
       }
       return unresolvedMosaicList;
@@ -611,6 +853,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           new AmountDto(SerializationUtils.toUnsignedLong(transaction.getDelta())),
           MosaicSupplyChangeActionDto.rawValueOf((byte) transaction.getAction().getValue()));
     }
+
+    @Override
+    public int getBodySize(MosaicSupplyChangeTransaction transaction) {
+      // mosaic id, delta and action.
+      return 8 + 8 + 1;
+    }
   }
 
   private static class MosaicDefinitionTransactionSerializer
@@ -654,6 +902,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           (byte) transaction.getDivisibility());
     }
 
+    @Override
+    public int getBodySize(MosaicDefinitionTransaction transaction) {
+      // mosaic id, duration, nonce, flags and divisibility.
+      return 8 + 8 + 4 + 1 + 1;
+    }
+
     /**
      * Get the mosaic flags.
      *
@@ -704,6 +958,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           SerializationUtils.toKeyDto(transaction.getLinkedPublicKey()),
           LinkActionDto.rawValueOf(transaction.getLinkAction().getValue()));
     }
+
+    @Override
+    public int getBodySize(AccountKeyLinkTransaction transaction) {
+      // linked public key and link action.
+      return 32 + 1;
+    }
   }
 
   private static class AccountMetadataTransactionSerializer
@@ -743,6 +1003,16 @@ public class BinarySerializationImpl implements BinarySerialization {
           (short) transaction.getValueSizeDelta(),
           ByteBuffer.wrap(MetadataTransaction.toByteArray(transaction.getValue())));
     }
+
+    @Override
+    public int getBodySize(AccountMetadataTransaction transaction) {
+      // target address, key, value size delta, value size and value.
+      return UNRESOLVED_ADDRESS_SIZE
+          + 8
+          + 2
+          + 2
+          + StringEncoder.getByteLength(transaction.getValue());
+    }
   }
 
   private static class MosaicMetadataTransactionSerializer
@@ -785,6 +1055,17 @@ public class BinarySerializationImpl implements BinarySerialization {
           (short) transaction.getValueSizeDelta(),
           ByteBuffer.wrap(MetadataTransaction.toByteArray(transaction.getValue())));
     }
+
+    @Override
+    public int getBodySize(MosaicMetadataTransaction transaction) {
+      // target address, key, target mosaic id, value size delta, value size and value.
+      return UNRESOLVED_ADDRESS_SIZE
+          + 8
+          + 8
+          + 2
+          + 2
+          + StringEncoder.getByteLength(transaction.getValue());
+    }
   }
 
   private static class NamespaceMetadataTransactionSerializer
@@ -828,6 +1109,17 @@ public class BinarySerializationImpl implements BinarySerialization {
           (short) transaction.getValueSizeDelta(),
           ByteBuffer.wrap(MetadataTransaction.toByteArray(transaction.getValue())));
     }
+
+    @Override
+    public int getBodySize(NamespaceMetadataTransaction transaction) {
+      // target address, key, target namespace id, value size delta, value size and value.
+      return UNRESOLVED_ADDRESS_SIZE
+          + 8
+          + 8
+          + 2
+          + 2
+          + StringEncoder.getByteLength(transaction.getValue());
+    }
   }
 
   private static class NamespaceRegistrationTransactionSerializer
@@ -911,6 +1203,12 @@ public class BinarySerializationImpl implements BinarySerialization {
       }
       return txBuilder;
     }
+
+    @Override
+    public int getBodySize(NamespaceRegistrationTransaction transaction) {
+      // duration or parent id, namespace id, registration type, name size and name.
+      return 8 + 8 + 1 + 1 + StringEncoder.getByteLength(transaction.getNamespaceName());
+    }
   }
 
   private static class SecretLockTransactionSerializer
@@ -950,8 +1248,7 @@ public class BinarySerializationImpl implements BinarySerialization {
     public Serializer toBodyBuilder(SecretLockTransaction transaction) {
       UnresolvedMosaicIdDto mosaicId =
           new UnresolvedMosaicIdDto(transaction.getMosaic().getId().getIdAsLong());
-      AmountDto amount =
-          new AmountDto(SerializationUtils.toUnsignedLong(transaction.getMosaic().getAmount()));
+      AmountDto amount = new AmountDto(transaction.getMosaic().getAmountAsLong());
       UnresolvedMosaicBuilder unresolvedMosaicBuilder =
           UnresolvedMosaicBuilder.create(mosaicId, amount);
       return SecretLockTransactionBodyBuilder.create(
@@ -963,6 +1260,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           LockHashAlgorithmDto.rawValueOf((byte) transaction.getHashAlgorithm().getValue()));
     }
 
+    @Override
+    public int getBodySize(SecretLockTransaction transaction) {
+      // recipient, secret, mosaic, duration and hash algorithm.
+      return UNRESOLVED_ADDRESS_SIZE + 32 + UNRESOLVED_MOSAIC_SIZE + 8 + 1;
+    }
+
     /**
      * Gets secret buffer.
      *
@@ -1017,6 +1320,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           getProofBuffer(transaction));
     }
 
+    @Override
+    public int getBodySize(SecretProofTransaction transaction) {
+      // recipient, secret, proof size, hash algorithm and proof.
+      return UNRESOLVED_ADDRESS_SIZE + 32 + 2 + 1 + transaction.getProof().length() / 2;
+    }
+
     /**
      * Gets proof buffer
      *
@@ -1079,6 +1388,12 @@ public class BinarySerializationImpl implements BinarySerialization {
       AddressDto addressDto = SerializationUtils.toAddressDto(address);
       return AddressAliasTransactionBodyBuilder.create(namespaceIdDto, addressDto, aliasActionDto);
     }
+
+    @Override
+    public int getBodySize(AddressAliasTransaction transaction) {
+      // namespace id, address and alias action.
+      return 8 + UNRESOLVED_ADDRESS_SIZE + 1;
+    }
   }
 
   private static class MosaicAliasTransactionSerializer
@@ -1116,6 +1431,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           new MosaicIdDto(transaction.getMosaicId().getIdAsLong()),
           AliasActionDto.rawValueOf(transaction.getAliasAction().getValue()));
     }
+
+    @Override
+    public int getBodySize(MosaicAliasTransaction transaction) {
+      // namespace id, mosaic id and alias action.
+      return 8 + 8 + 1;
+    }
   }
 
   private static class HashLockTransactionSerializer
@@ -1153,12 +1474,17 @@ public class BinarySerializationImpl implements BinarySerialization {
       return HashLockTransactionBodyBuilder.create(
           UnresolvedMosaicBuilder.create(
               new UnresolvedMosaicIdDto(transaction.getMosaic().getId().getIdAsLong()),
-              new AmountDto(
-                  SerializationUtils.toUnsignedLong(transaction.getMosaic().getAmount()))),
+              new AmountDto(transaction.getMosaic().getAmountAsLong())),
           new BlockDurationDto(SerializationUtils.toUnsignedLong(transaction.getDuration())),
           new Hash256Dto(getHashBuffer(transaction)));
     }
 
+    @Override
+    public int getBodySize(HashLockTransaction transaction) {
+      // mosaic, duration and hash.
+      return UNRESOLVED_MOSAIC_SIZE + 8 + 32;
+    }
+
     /**
      * Gets hash buffer.
      *
@@ -1234,6 +1560,18 @@ public class BinarySerializationImpl implements BinarySerialization {
       return AccountAddressRestrictionTransactionBodyBuilder.create(
           flags, restrictionAdditions, restrictionDeletions);
     }
+
+    @Override
+    public int getBodySize(AccountAddressRestrictionTransaction transaction) {
+      // flags, additions count, deletions count, reserved bytes and the addresses.
+      return 2
+          + 1
+          + 1
+          + 4
+          + (transaction.getRestrictionAdditions().size()
+                  + transaction.getRestrictionDeletions().size())
+              * UNRESOLVED_ADDRESS_SIZE;
+    }
   }
 
   private static class AccountMosaicRestrictionTransactionSerializer
@@ -1299,6 +1637,18 @@ public class BinarySerializationImpl implements BinarySerialization {
       return AccountMosaicRestrictionTransactionBodyBuilder.create(
           flags, restrictionAdditions, restrictionDeletions);
     }
+
+    @Override
+    public int getBodySize(AccountMosaicRestrictionTransaction transaction) {
+      // flags, additions count, deletions count, reserved bytes and the mosaic ids.
+      return 2
+          + 1
+          + 1
+          + 4
+          + (transaction.getRestrictionAdditions().size()
+                  + transaction.getRestrictionDeletions().size())
+              * 8;
+    }
   }
 
   private static class AccountOperationRestrictionTransactionSerializer
@@ -1365,6 +1715,18 @@ public class BinarySerializationImpl implements BinarySerialization {
       return AccountOperationRestrictionTransactionBodyBuilder.create(
           flags, restrictionAdditions, restrictionDeletions);
     }
+
+    @Override
+    public int getBodySize(AccountOperationRestrictionTransaction transaction) {
+      // flags, additions count, deletions count, reserved bytes and the transaction types.
+      return 2
+          + 1
+          + 1
+          + 4
+          + (transaction.getRestrictionAdditions().size()
+                  + transaction.getRestrictionDeletions().size())
+              * 2;
+    }
   }
 
   private static class MosaicAddressRestrictionTransactionSerializer
@@ -1413,6 +1775,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           SerializationUtils.toUnsignedLong(transaction.getNewRestrictionValue()),
           unresolvedAddressDto);
     }
+
+    @Override
+    public int getBodySize(MosaicAddressRestrictionTransaction transaction) {
+      // mosaic id, restriction key, previous value, new value and target address.
+      return 8 + 8 + 8 + 8 + UNRESOLVED_ADDRESS_SIZE;
+    }
   }
 
   private static class MosaicGlobalRestrictionTransactionSerializer
@@ -1468,6 +1836,12 @@ public class BinarySerializationImpl implements BinarySerialization {
           MosaicRestrictionTypeDto.rawValueOf(transaction.getPreviousRestrictionType().getValue()),
           MosaicRestrictionTypeDto.rawValueOf(transaction.getNewRestrictionType().getValue()));
     }
+
+    @Override
+    public int getBodySize(MosaicGlobalRestrictionTransaction transaction) {
+      // mosaic id, reference mosaic id, restriction key, previous and new values and types.
+      return 8 + 8 + 8 + 8 + 8 + 1 + 1;
+    }
   }
 
   private static class MultisigAccountModificationTransactionSerializer
@@ -1530,6 +1904,19 @@ public class BinarySerializationImpl implements BinarySerialization {
           addressAdditions,
           addressDeletions);
     }
+
+    @Override
+    public int getBodySize(MultisigAccountModificationTransaction transaction) {
+      // removal delta, approval delta, additions count, deletions count, reserved bytes and the
+      // addresses.
+      return 1
+          + 1
+          + 1
+          + 1
+          + 4
+          + (transaction.getAddressAdditions().size() + transaction.getAddressDeletions().size())
+              * UNRESOLVED_ADDRESS_SIZE;
+    }
   }
 
   private static class AggregateTransactionSerializer
@@ -1592,28 +1979,83 @@ public class BinarySerializationImpl implements BinarySerialization {
 
     @Override
     public Serializer toBodyBuilder(AggregateTransaction transaction) {
+      return new AggregateTransactionBodySerializer(transaction, transactionSerialization);
+    }
 
-      List<EmbeddedTransactionBuilder> transactions =
-          transaction.getInnerTransactions().stream()
-              .map(transactionSerialization::toEmbeddedTransactionBuilder)
-              .collect(Collectors.toList());
+    @Override
+    public int getBodySize(AggregateTransaction transaction) {
+      // transactions hash, payload size, reserved bytes, the padded embedded transactions and the
+      // cosignatures.
+      return 32
+          + 4
+          + 4
+          + transactionSerialization.getEmbeddedTransactionsSize(
+              transaction.getInnerTransactions())
+          + transaction.getCosignatures().size() * AggregateTransactionFactory.COSIGNATURE_SIZE;
+    }
+  }
 
-      List<CosignatureBuilder> cosignatures =
-          transaction.getCosignatures().stream()
-              .map(this::getCosignatureBuilder)
-              .collect(Collectors.toList());
+  /**
+   * Writes the body of an aggregate transaction, the embedded transactions are serialized straight
+   * into the destination instead of being serialized and parsed back into catbuffer builders.
+   */
+  private static class AggregateTransactionBodySerializer implements BufferSerializer {
 
-      return AggregateTransactionBodyBuilder.create(
-          SerializationUtils.toHash256Dto(transaction.getTransactionsHash()),
-          transactions,
-          cosignatures);
+    private final AggregateTransaction transaction;
+
+    private final BinarySerializationImpl transactionSerialization;
+
+    private final int payloadSize;
+
+    /** The inner transactions serialized with the transactions hash, null if not available. */
+    private final ByteBuffer embeddedTransactionsPayload;
+
+    private AggregateTransactionBodySerializer(
+        AggregateTransaction transaction, BinarySerializationImpl transactionSerialization) {
+      this.transaction = transaction;
+      this.transactionSerialization = transactionSerialization;
+      this.embeddedTransactionsPayload =
+          transaction.getEmbeddedTransactionsPayload().orElse(null);
+      this.payloadSize =
+          embeddedTransactionsPayload != null
+              ? embeddedTransactionsPayload.remaining()
+              : transactionSerialization.getEmbeddedTransactionsSize(
+                  transaction.getInnerTransactions());
+    }
+
+    @Override
+    public int getSize() {
+      return 32
+          + 4
+          + 4
+          + payloadSize
+          + transaction.getCosignatures().size() * AggregateTransactionFactory.COSIGNATURE_SIZE;
     }
 
-    private CosignatureBuilder getCosignatureBuilder(AggregateTransactionCosignature c) {
-      return CosignatureBuilder.create(
-          SerializationUtils.toUnsignedLong(c.getVersion()),
-          SerializationUtils.toKeyDto(c.getSigner().getPublicKey()),
-          SerializationUtils.toSignatureDto(c.getSignature()));
+    @Override
+    public byte[] serialize() {
+      byte[] bytes = new byte[getSize()];
+      serialize(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN));
+      return bytes;
+    }
+
+    @Override
+    public void serialize(ByteBuffer destination) {
+      destination.put(ConvertUtils.getBytes(transaction.getTransactionsHash()));
+      destination.putInt(payloadSize);
+      destination.putInt(0);
+      if (embeddedTransactionsPayload != null) {
+        // written in the same pass the transactions hash was computed.
+        destination.put(embeddedTransactionsPayload.duplicate());
+      } else {
+        transactionSerialization.writeEmbeddedTransactions(
+            transaction.getInnerTransactions(), destination, null);
+      }
+      for (AggregateTransactionCosignature cosignature : transaction.getCosignatures()) {
+        destination.putLong(SerializationUtils.toUnsignedLong(cosignature.getVersion()));
+        destination.put(cosignature.getSigner().getPublicKey().getBytes());
+        destination.put(ConvertUtils.getBytes(cosignature.getSignature()));
+      }
     }
   }
 
@@ -1647,6 +2089,12 @@ public class BinarySerializationImpl implements BinarySerialization {
       LinkActionDto linkAction = LinkActionDto.rawValueOf(transaction.getLinkAction().getValue());
       return NodeKeyLinkTransactionBodyBuilder.create(linkedPublicKey, linkAction);
     }
+
+    @Override
+    public int getBodySize(NodeKeyLinkTransaction transaction) {
+      // linked public key and link action.
+      return 32 + 1;
+    }
   }
 
   private static class VrfKeyLinkTransactionBuilderSerializer
@@ -1679,6 +2127,12 @@ public class BinarySerializationImpl implements BinarySerialization {
       LinkActionDto linkAction = LinkActionDto.rawValueOf(transaction.getLinkAction().getValue());
       return VrfKeyLinkTransactionBodyBuilder.create(linkedPublicKey, linkAction);
     }
+
+    @Override
+    public int getBodySize(VrfKeyLinkTransaction transaction) {
+      // linked public key and link action.
+      return 32 + 1;
+    }
   }
 
   private static class VotingKeyLinkTransactionBuilderSerializer
@@ -1721,5 +2175,11 @@ public class BinarySerializationImpl implements BinarySerialization {
       return VotingKeyLinkTransactionBodyBuilder.create(
           linkedPublicKey, startEpoch, endEpoch, linkAction);
     }
+
+    @Override
+    public int getBodySize(VotingKeyLinkTransaction transaction) {
+      // linked voting key, start epoch, end epoch and link action.
+      return VotingKey.SIZE + 4 + 4 + 1;
+    }
   }
 }
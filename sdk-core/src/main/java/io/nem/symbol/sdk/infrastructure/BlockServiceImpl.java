@@ -15,30 +15,52 @@
  */
 package io.nem.symbol.sdk.infrastructure;
 
-import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
-import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
 import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
-import io.nem.symbol.sdk.model.blockchain.Position;
+import io.nem.symbol.sdk.model.blockchain.MerkleVerificationResult;
+import io.nem.symbol.sdk.model.receipt.Statement;
 import io.reactivex.Observable;
+import io.reactivex.Single;
 import io.reactivex.functions.BiFunction;
+import io.reactivex.functions.Function;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import org.apache.commons.lang3.Validate;
 
 /** Implementation of {@link BlockService} */
 public class BlockServiceImpl implements BlockService {
 
+  /** The default max number of concurrent requests of the batch verifications. */
+  public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
   /** The block repository. */
   private final BlockRepository blockRepository;
 
+  /** The max number of concurrent requests of the batch verifications. */
+  private final int maxConcurrency;
+
   /** @param repositoryFactory the repository factory. */
   public BlockServiceImpl(RepositoryFactory repositoryFactory) {
+    this(repositoryFactory, DEFAULT_MAX_CONCURRENCY);
+  }
+
+  /**
+   * @param repositoryFactory the repository factory.
+   * @param maxConcurrency the max number of concurrent requests of the batch verifications.
+   */
+  public BlockServiceImpl(RepositoryFactory repositoryFactory, int maxConcurrency) {
+    Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
     this.blockRepository = repositoryFactory.createBlockRepository();
+    this.maxConcurrency = maxConcurrency;
   }
 
   @Override
@@ -61,32 +83,52 @@ public class BlockServiceImpl implements BlockService {
         blockRepository.getMerkleReceipts(height, statementHash));
   }
 
+  @Override
+  public Observable<MerkleVerificationResult> isValidTransactionsInBlocks(
+      Map<BigInteger, List<String>> transactionHashesByHeight) {
+    Validate.notNull(transactionHashesByHeight, "transactionHashesByHeight is required");
+    return verifyInBlocks(
+        transactionHashesByHeight,
+        BlockInfo::getBlockTransactionsHash,
+        blockRepository::getMerkleTransaction);
+  }
+
+  @Override
+  public Observable<MerkleVerificationResult> isValidStatementsInBlocks(
+      Map<BigInteger, List<String>> statementHashesByHeight) {
+    Validate.notNull(statementHashesByHeight, "statementHashesByHeight is required");
+    return verifyInBlocks(
+        statementHashesByHeight,
+        BlockInfo::getBlockReceiptsHash,
+        blockRepository::getMerkleReceipts);
+  }
+
+  @Override
+  public boolean isValidBlockTransactions(BlockInfo block, List<String> merkleComponentHashes) {
+    Validate.notNull(block, "block is required");
+    Validate.notNull(merkleComponentHashes, "merkleComponentHashes is required");
+    MerkleHashBuilder builder = new MerkleHashBuilder(merkleComponentHashes.size());
+    merkleComponentHashes.forEach(hash -> builder.update(ConvertUtils.fromHexToBytes(hash)));
+    return Hash256.fromBytes(builder.getRootHash()).equalsHex(block.getBlockTransactionsHash());
+  }
+
+  @Override
+  public boolean isValidBlockStatement(BlockInfo block, Statement statement) {
+    Validate.notNull(block, "block is required");
+    Validate.notNull(statement, "statement is required");
+    return statement
+        .generateHash(block.getNetworkType())
+        .equalsIgnoreCase(block.getBlockReceiptsHash());
+  }
+
   private Observable<Boolean> getBooleanObservable(
       Observable<String> rootObservable,
       String leaf,
       Observable<MerkleProofInfo> merkleTransactionObservable) {
 
     BiFunction<String, MerkleProofInfo, Boolean> zipper =
-        (root, merkleProofInfo) -> {
-          List<MerklePathItem> merklePath = merkleProofInfo.getMerklePath();
-          if (merklePath.isEmpty()) {
-            // Single item tree, so leaf = HRoot0
-            return leaf.equalsIgnoreCase(root);
-          }
-
-          // 1 is left
-          java.util.function.BiFunction<String, MerklePathItem, String> accumulator =
-              (proofHash, pathItem) ->
-                  ConvertUtils.toHex(
-                      Hashes.sha3_256(
-                          ConvertUtils.fromHexToBytes(
-                              pathItem.getPosition() == Position.LEFT
-                                  ? pathItem.getHash() + proofHash
-                                  : proofHash + pathItem.getHash())));
-
-          String hroot0 = merklePath.stream().reduce(leaf, accumulator, (s1, s2) -> s1);
-          return root.equalsIgnoreCase(hroot0);
-        };
+        (root, merkleProofInfo) ->
+            isValidPath(ConvertUtils.fromHexToBytes(root), leaf, merkleProofInfo);
     return Observable.zip(rootObservable, merkleTransactionObservable, zipper)
         .onErrorReturn(
             (e) -> {
@@ -94,4 +136,90 @@ public class BlockServiceImpl implements BlockService {
               return false;
             });
   }
+
+  /**
+   * Verifies the hashes of many blocks. The block headers are retrieved first, then the merkle
+   * paths of all the hashes, both with at most maxConcurrency requests in flight.
+   */
+  private Observable<MerkleVerificationResult> verifyInBlocks(
+      Map<BigInteger, List<String>> hashesByHeight,
+      Function<BlockInfo, String> rootHashResolver,
+      BiFunction<BigInteger, String, Observable<MerkleProofInfo>> merkleProofResolver) {
+    return Observable.fromIterable(hashesByHeight.entrySet())
+        .flatMap(
+            entry ->
+                blockRepository
+                    .getBlockByHeight(entry.getKey())
+                    .map(block -> ConvertUtils.fromHexToBytes(rootHashResolver.apply(block)))
+                    .map(root -> new BlockRoot(entry, root, null))
+                    .onErrorReturn(e -> new BlockRoot(entry, null, e)),
+            maxConcurrency)
+        .flatMap(
+            blockRoot ->
+                Observable.fromIterable(blockRoot.hashes)
+                    .map(hash -> new PendingVerification(blockRoot, hash)))
+        .flatMap(
+            pending -> verifyInBlock(pending, merkleProofResolver).toObservable(), maxConcurrency);
+  }
+
+  private Single<MerkleVerificationResult> verifyInBlock(
+      PendingVerification pending,
+      BiFunction<BigInteger, String, Observable<MerkleProofInfo>> merkleProofResolver)
+      throws Exception {
+    BlockRoot blockRoot = pending.blockRoot;
+    if (blockRoot.error != null) {
+      return Single.just(
+          MerkleVerificationResult.failed(blockRoot.height, pending.hash, blockRoot.error));
+    }
+    return merkleProofResolver
+        .apply(blockRoot.height, pending.hash)
+        .firstOrError()
+        .map(
+            proof ->
+                MerkleVerificationResult.of(
+                    blockRoot.height,
+                    pending.hash,
+                    isValidPath(blockRoot.root, pending.hash, proof)))
+        .onErrorReturn(e -> MerkleVerificationResult.failed(blockRoot.height, pending.hash, e));
+  }
+
+  /** Folds the leaf with the merkle path on bytes and compares the result with the root. */
+  private static boolean isValidPath(byte[] root, String leaf, MerkleProofInfo merkleProofInfo) {
+    byte[] hroot0 =
+        MerkleHashBuilder.computeRootHash(
+            ConvertUtils.fromHexToBytes(leaf), merkleProofInfo.getMerklePath());
+    return Arrays.equals(root, hroot0);
+  }
+
+  /** The root hash of a block, or the error that prevented getting it. */
+  private static class BlockRoot {
+
+    private final BigInteger height;
+
+    private final List<String> hashes;
+
+    private final byte[] root;
+
+    private final Throwable error;
+
+    private BlockRoot(Entry<BigInteger, List<String>> entry, byte[] root, Throwable error) {
+      this.height = entry.getKey();
+      this.hashes = entry.getValue();
+      this.root = root;
+      this.error = error;
+    }
+  }
+
+  /** A hash waiting for its merkle path. */
+  private static class PendingVerification {
+
+    private final BlockRoot blockRoot;
+
+    private final String hash;
+
+    private PendingVerification(BlockRoot blockRoot, String hash) {
+      this.blockRoot = blockRoot;
+      this.hash = hash;
+    }
+  }
 }
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.infrastructure;
 
+import io.nem.symbol.core.crypto.Hash256;
 import io.nem.symbol.sdk.api.Listener;
 import io.nem.symbol.sdk.api.NamespaceRepository;
 import io.nem.symbol.sdk.model.account.Address;
@@ -35,6 +36,7 @@ import io.nem.symbol.sdk.model.transaction.RecipientTransaction;
 import io.nem.symbol.sdk.model.transaction.TargetAddressTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
 import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
 import io.nem.symbol.sdk.model.transaction.TransactionStatusException;
 import io.reactivex.Observable;
@@ -44,6 +46,7 @@ import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
@@ -172,7 +175,14 @@ public abstract class ListenerBase implements Listener {
 
   @Override
   public Observable<Transaction> confirmed(final Address address, final String transactionHash) {
-    return subscribeTransaction(ListenerChannel.CONFIRMED_ADDED, address, transactionHash);
+    return subscribeTransaction(
+        ListenerChannel.CONFIRMED_ADDED, address, transactionInfoFilter(transactionHash));
+  }
+
+  @Override
+  public Observable<Transaction> confirmed(final Address address, final Hash256 transactionHash) {
+    return subscribeTransaction(
+        ListenerChannel.CONFIRMED_ADDED, address, transactionInfoFilter(transactionHash));
   }
 
   @Override
@@ -180,33 +190,78 @@ public abstract class ListenerBase implements Listener {
     // I may move this method to the Listener
     Validate.notNull(transactionHash, "TransactionHash is required");
     return getTransactionOrRaiseError(
-        address, transactionHash, confirmed(address, transactionHash));
+        address, hashFilter(transactionHash), confirmed(address, transactionHash));
+  }
+
+  @Override
+  public Observable<Transaction> confirmedOrError(Address address, Hash256 transactionHash) {
+    Validate.notNull(transactionHash, "TransactionHash is required");
+    return getTransactionOrRaiseError(
+        address, hashFilter(transactionHash), confirmed(address, transactionHash));
   }
 
   @Override
   public Observable<Transaction> unconfirmedAdded(Address address, String transactionHash) {
-    return subscribeTransaction(ListenerChannel.UNCONFIRMED_ADDED, address, transactionHash);
+    return subscribeTransaction(
+        ListenerChannel.UNCONFIRMED_ADDED, address, transactionInfoFilter(transactionHash));
+  }
+
+  @Override
+  public Observable<Transaction> unconfirmedAdded(Address address, Hash256 transactionHash) {
+    return subscribeTransaction(
+        ListenerChannel.UNCONFIRMED_ADDED, address, transactionInfoFilter(transactionHash));
   }
 
   @Override
   public Observable<String> unconfirmedRemoved(Address address, String transactionHash) {
-    return subscribeTransactionHash(ListenerChannel.UNCONFIRMED_REMOVED, address, transactionHash);
+    return subscribeTransactionHash(
+        ListenerChannel.UNCONFIRMED_REMOVED, address, hashFilter(transactionHash));
+  }
+
+  @Override
+  public Observable<String> unconfirmedRemoved(Address address, Hash256 transactionHash) {
+    return subscribeTransactionHash(
+        ListenerChannel.UNCONFIRMED_REMOVED, address, hashFilter(transactionHash));
   }
 
   @Override
   public Observable<AggregateTransaction> aggregateBondedAdded(
       Address address, String transactionHash) {
-    return subscribeTransaction(ListenerChannel.AGGREGATE_BONDED_ADDED, address, transactionHash);
+    return subscribeTransaction(
+        ListenerChannel.AGGREGATE_BONDED_ADDED, address, transactionInfoFilter(transactionHash));
+  }
+
+  @Override
+  public Observable<AggregateTransaction> aggregateBondedAdded(
+      Address address, Hash256 transactionHash) {
+    return subscribeTransaction(
+        ListenerChannel.AGGREGATE_BONDED_ADDED, address, transactionInfoFilter(transactionHash));
   }
 
   @Override
   public Observable<String> aggregateBondedRemoved(Address address, String transactionHash) {
     return subscribeTransactionHash(
-        ListenerChannel.AGGREGATE_BONDED_REMOVED, address, transactionHash);
+        ListenerChannel.AGGREGATE_BONDED_REMOVED, address, hashFilter(transactionHash));
+  }
+
+  @Override
+  public Observable<String> aggregateBondedRemoved(Address address, Hash256 transactionHash) {
+    return subscribeTransactionHash(
+        ListenerChannel.AGGREGATE_BONDED_REMOVED, address, hashFilter(transactionHash));
   }
 
   @Override
   public Observable<TransactionStatusError> status(Address address, String transactionHash) {
+    return subscribeStatus(address, hashFilter(transactionHash));
+  }
+
+  @Override
+  public Observable<TransactionStatusError> status(Address address, Hash256 transactionHash) {
+    return subscribeStatus(address, hashFilter(transactionHash));
+  }
+
+  private Observable<TransactionStatusError> subscribeStatus(
+      Address address, Predicate<String> hashFilter) {
     Validate.notNull(address, "Address is required");
     validateOpen();
     this.subscribeTo(ListenerChannel.STATUS + "/" + address.plain());
@@ -214,14 +269,23 @@ public abstract class ListenerBase implements Listener {
         .filter(rawMessage -> rawMessage.getChannel().equals(ListenerChannel.STATUS))
         .filter(rawMessage -> fromAddress(rawMessage, address))
         .map(rawMessage -> (TransactionStatusError) rawMessage.getMessage())
-        .filter(
-            status ->
-                transactionHash == null || transactionHash.equalsIgnoreCase(status.getHash()));
+        .filter(status -> hashFilter == null || hashFilter.test(status.getHash()));
   }
 
   @Override
   public Observable<CosignatureSignedTransaction> cosignatureAdded(
       Address address, String parentTransactionHash) {
+    return subscribeCosignature(address, hashFilter(parentTransactionHash));
+  }
+
+  @Override
+  public Observable<CosignatureSignedTransaction> cosignatureAdded(
+      Address address, Hash256 parentTransactionHash) {
+    return subscribeCosignature(address, hashFilter(parentTransactionHash));
+  }
+
+  private Observable<CosignatureSignedTransaction> subscribeCosignature(
+      Address address, Predicate<String> parentHashFilter) {
     Validate.notNull(address, "Address is required");
     validateOpen();
     ListenerChannel channel = ListenerChannel.COSIGNATURE;
@@ -231,9 +295,7 @@ public abstract class ListenerBase implements Listener {
         .filter(rawMessage -> fromAddress(rawMessage, address))
         .map(rawMessage -> (CosignatureSignedTransaction) rawMessage.getMessage())
         .filter(
-            status ->
-                parentTransactionHash == null
-                    || parentTransactionHash.equalsIgnoreCase(status.getParentHash()));
+            status -> parentHashFilter == null || parentHashFilter.test(status.getParentHash()));
   }
 
   private void validateOpen() {
@@ -247,14 +309,51 @@ public abstract class ListenerBase implements Listener {
   public Observable<AggregateTransaction> aggregateBondedAddedOrError(
       Address address, String transactionHash) {
     return getTransactionOrRaiseError(
-        address, transactionHash, aggregateBondedAdded(address, transactionHash));
+        address, hashFilter(transactionHash), aggregateBondedAdded(address, transactionHash));
+  }
+
+  @Override
+  public Observable<AggregateTransaction> aggregateBondedAddedOrError(
+      Address address, Hash256 transactionHash) {
+    return getTransactionOrRaiseError(
+        address, hashFilter(transactionHash), aggregateBondedAdded(address, transactionHash));
+  }
+
+  /**
+   * Matches the hex hashes of the messages with the expected one ignoring the case.
+   *
+   * @param transactionHash the expected hash, null to match any hash.
+   * @return the filter or null if any hash matches.
+   */
+  private static Predicate<String> hashFilter(String transactionHash) {
+    return transactionHash == null ? null : transactionHash::equalsIgnoreCase;
+  }
+
+  /**
+   * Matches the hex hashes of the messages with the expected one without decoding them.
+   *
+   * @param transactionHash the expected hash, null to match any hash.
+   * @return the filter or null if any hash matches.
+   */
+  private static Predicate<String> hashFilter(Hash256 transactionHash) {
+    return transactionHash == null ? null : transactionHash::equalsHex;
+  }
+
+  private static Predicate<TransactionInfo> transactionInfoFilter(String transactionHash) {
+    return transactionHash == null
+        ? null
+        : info -> info.getHash().filter(transactionHash::equalsIgnoreCase).isPresent();
+  }
+
+  private static Predicate<TransactionInfo> transactionInfoFilter(Hash256 transactionHash) {
+    return transactionHash == null ? null : info -> info.hasHash(transactionHash);
   }
 
   private <T extends Transaction> Observable<T> getTransactionOrRaiseError(
-      Address address, String transactionHash, Observable<T> transactionListener) {
+      Address address, Predicate<String> hashFilter, Observable<T> transactionListener) {
     // I may move this method to the Listener
     IllegalStateException caller = new IllegalStateException("The Caller");
-    Observable<TransactionStatusError> errorListener = status(address, transactionHash);
+    Observable<TransactionStatusError> errorListener = subscribeStatus(address, hashFilter);
     Observable<Object> errorOrTransactionObservable =
         Observable.merge(transactionListener, errorListener).take(1);
     return errorOrTransactionObservable.map(
@@ -270,26 +369,21 @@ public abstract class ListenerBase implements Listener {
   }
 
   private <T extends Transaction> Observable<T> subscribeTransaction(
-      ListenerChannel channel, Address address, String transactionHash) {
+      ListenerChannel channel, Address address, Predicate<TransactionInfo> infoFilter) {
     Validate.notNull(address, "Address is required");
     validateOpen();
     this.subscribeTo(channel.toString() + "/" + address.plain());
     return getMessageSubject()
         .filter(rawMessage -> rawMessage.getChannel().equals(channel))
-        .flatMap(
-            rawMessage -> this.processTransactionFromMessage(rawMessage, address, transactionHash));
+        .flatMap(rawMessage -> this.processTransactionFromMessage(rawMessage, address, infoFilter));
   }
 
   private <T extends Transaction> Observable<T> processTransactionFromMessage(
-      ListenerMessage rawMessage, Address address, String transactionHash) {
+      ListenerMessage rawMessage, Address address, Predicate<TransactionInfo> infoFilter) {
     @SuppressWarnings("unchecked")
     T transaction = (T) rawMessage.getMessage();
 
-    if (transactionHash != null
-        && !transaction
-            .getTransactionInfo()
-            .filter(info -> info.getHash().filter(transactionHash::equalsIgnoreCase).isPresent())
-            .isPresent()) {
+    if (infoFilter != null && !transaction.getTransactionInfo().filter(infoFilter).isPresent()) {
       return Observable.empty();
     }
     if (fromAddress(rawMessage, address)) {
@@ -300,7 +394,7 @@ public abstract class ListenerBase implements Listener {
   }
 
   private Observable<String> subscribeTransactionHash(
-      ListenerChannel channel, Address address, String transactionHash) {
+      ListenerChannel channel, Address address, Predicate<String> hashFilter) {
     Validate.notNull(address, "Address is required");
     validateOpen();
     this.subscribeTo(channel + "/" + address.plain());
@@ -308,15 +402,14 @@ public abstract class ListenerBase implements Listener {
         .filter(rawMessage -> rawMessage.getChannel().equals(channel))
         .filter(rawMessage -> fromAddress(rawMessage, address))
         .map(rawMessage -> (String) rawMessage.getMessage())
-        .filter(hash -> transactionHash == null || transactionHash.equalsIgnoreCase(hash));
+        .filter(hash -> hashFilter == null || hashFilter.test(hash));
   }
 
   private boolean fromAddress(ListenerMessage rawMessage, Address address) {
-    try {
-      return address.equals(Address.createFromRawAddress(rawMessage.getChannelParams()));
-    } catch (IllegalArgumentException e) {
-      return false;
-    }
+    // The channel params are the plain address, comparing the strings avoids decoding and
+    // validating the address of every message.
+    String channelParams = rawMessage.getChannelParams();
+    return channelParams != null && address.plain().equalsIgnoreCase(channelParams);
   }
 
   public Observable<Boolean> transactionFromAddress(
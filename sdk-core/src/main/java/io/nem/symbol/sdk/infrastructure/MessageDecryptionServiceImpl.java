@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.symbol.core.crypto.ed25519.Ed25519SharedKeyCache;
+import io.nem.symbol.sdk.api.MessageDecryptionService;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.DecryptedMessage;
+import io.nem.symbol.sdk.model.message.EncryptedMessage;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link MessageDecryptionService}. Each eligible message is decrypted as a task
+ * of the executor and at most maxInFlight messages are being decrypted or waiting for an earlier
+ * one to be emitted.
+ *
+ * <p>The shared key is agreed with the other side of each transfer: the recipient when the key pair
+ * signed the transfer, the signer otherwise.
+ */
+public class MessageDecryptionServiceImpl implements MessageDecryptionService {
+
+  /** The executor running the decryptions. */
+  private final Scheduler scheduler;
+
+  /** The max number of messages being decrypted or waiting to be emitted. */
+  private final int maxInFlight;
+
+  /** The engine creating the block ciphers. */
+  private final CryptoEngine engine;
+
+  /**
+   * Constructor using the common fork join pool and an engine that caches the shared keys, so the
+   * key agreement is only computed once per sender.
+   */
+  public MessageDecryptionServiceImpl() {
+    this(
+        ForkJoinPool.commonPool(),
+        4 * ForkJoinPool.commonPool().getParallelism(),
+        new Ed25519CryptoEngine(null, new Ed25519SharedKeyCache()));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param executor the executor running the decryptions, for example a {@link ForkJoinPool}.
+   * @param maxInFlight the max number of messages being decrypted or waiting to be emitted.
+   * @param engine the engine creating the block ciphers.
+   */
+  public MessageDecryptionServiceImpl(Executor executor, int maxInFlight, CryptoEngine engine) {
+    Validate.notNull(executor, "executor is required");
+    Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+    Validate.notNull(engine, "engine is required");
+    this.scheduler = Schedulers.from(executor);
+    this.maxInFlight = maxInFlight;
+    this.engine = engine;
+  }
+
+  @Override
+  public Flowable<DecryptedMessage> decryptMessages(
+      Flowable<? extends Transaction> transactions,
+      KeyPair keyPair,
+      Function<UnresolvedAddress, Optional<PublicKey>> recipientPublicKeys) {
+    Validate.notNull(transactions, "transactions is required");
+    Validate.notNull(keyPair, "keyPair is required");
+    Validate.isTrue(keyPair.hasPrivateKey(), "keyPair private key is required");
+    Validate.notNull(recipientPublicKeys, "recipientPublicKeys is required");
+    // Transactions are pulled one at a time so the memory stays bounded by maxInFlight.
+    return transactions
+        .concatMapIterable(MessageDecryptionServiceImpl::getEncryptedTransfers, 1)
+        .concatMapEager(
+            transaction ->
+                Flowable.fromCallable(() -> decrypt(transaction, keyPair, recipientPublicKeys))
+                    .subscribeOn(scheduler),
+            maxInFlight,
+            1);
+  }
+
+  @Override
+  public Observable<DecryptedMessage> decryptMessages(
+      Observable<? extends Transaction> transactions,
+      KeyPair keyPair,
+      Function<UnresolvedAddress, Optional<PublicKey>> recipientPublicKeys) {
+    Validate.notNull(transactions, "transactions is required");
+    return decryptMessages(
+            transactions.toFlowable(BackpressureStrategy.BUFFER), keyPair, recipientPublicKeys)
+        .toObservable();
+  }
+
+  private static List<TransferTransaction> getEncryptedTransfers(Transaction transaction) {
+    if (transaction instanceof AggregateTransaction) {
+      return ((AggregateTransaction) transaction)
+          .getInnerTransactions().stream()
+              .filter(MessageDecryptionServiceImpl::isEncryptedTransfer)
+              .map(TransferTransaction.class::cast)
+              .collect(Collectors.toList());
+    }
+    if (isEncryptedTransfer(transaction)) {
+      return Collections.singletonList((TransferTransaction) transaction);
+    }
+    return Collections.emptyList();
+  }
+
+  private static boolean isEncryptedTransfer(Transaction transaction) {
+    return transaction instanceof TransferTransaction
+        && transaction.getSigner().isPresent()
+        && ((TransferTransaction) transaction)
+            .getMessage()
+            .filter(message -> message instanceof EncryptedMessage)
+            .isPresent();
+  }
+
+  private DecryptedMessage decrypt(
+      TransferTransaction transaction,
+      KeyPair keyPair,
+      Function<UnresolvedAddress, Optional<PublicKey>> recipientPublicKeys) {
+    try {
+      EncryptedMessage message = (EncryptedMessage) transaction.getMessage().get();
+      PublicKey signerPublicKey = transaction.getSigner().get().getPublicKey();
+      PublicKey otherPublicKey =
+          signerPublicKey.equals(keyPair.getPublicKey())
+              ? recipientPublicKeys
+                  .apply(transaction.getRecipient())
+                  .orElseThrow(
+                      () ->
+                          new IllegalArgumentException(
+                              "Public key of recipient "
+                                  + transaction.getRecipient().encoded(transaction.getNetworkType())
+                                  + " is not known"))
+              : signerPublicKey;
+      String plainText = message.decryptPayload(otherPublicKey, keyPair, engine);
+      return DecryptedMessage.of(transaction, plainText);
+    } catch (RuntimeException e) {
+      return DecryptedMessage.failed(transaction, e);
+    }
+  }
+}
@@ -30,7 +30,6 @@ import io.nem.symbol.catapult.builders.UnresolvedMosaicIdDto;
 import io.nem.symbol.catapult.builders.VotingKeyDto;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.VotingKey;
-import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.core.utils.StringEncoder;
@@ -76,7 +75,7 @@ public class SerializationUtils {
   public static Mosaic toMosaic(UnresolvedMosaicBuilder builder) {
     return new Mosaic(
         new MosaicId(toUnsignedBigInteger(builder.getMosaicId().getUnresolvedMosaicId())),
-        toUnsignedBigInteger(builder.getAmount().getAmount()));
+        builder.getAmount().getAmount());
   }
 
   /**
@@ -144,7 +143,7 @@ public class SerializationUtils {
    * @return the serialized {@link ByteBuffer}
    */
   public static ByteBuffer fromAddressToByteBuffer(Address resolvedAddress) {
-    return ByteBuffer.wrap(Base32Encoder.getBytes(resolvedAddress.plain()));
+    return ByteBuffer.wrap(resolvedAddress.getRawBytes());
   }
 
   /**
@@ -164,7 +163,7 @@ public class SerializationUtils {
    * @return the model {@link Address}
    */
   public static Address toAddress(AddressDto dto) {
-    return Address.createFromEncoded(ConvertUtils.toHex(dto.getAddress().array()));
+    return Address.createFromRawBytes(dto.getAddress().array());
   }
 
   /**
@@ -267,8 +266,7 @@ public class SerializationUtils {
    * @return the long.
    */
   public static long toUnsignedLong(final BigInteger number) {
-    ConvertUtils.validateNotNegative(number);
-    return number.longValue();
+    return ConvertUtils.toUnsignedLong(number);
   }
 
   /**
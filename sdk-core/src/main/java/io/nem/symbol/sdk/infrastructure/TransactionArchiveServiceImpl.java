@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.api.TransactionArchiveService;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.reactivex.Emitter;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link TransactionArchiveService}. The archive is mapped in windows of up to
+ * 1GB. Each window is walked reading only the size prefixes of the payloads and cut into chunks
+ * of about chunkSize bytes, a payload is never split. Each chunk is deserialized as a task of the
+ * executor and at most maxInFlight chunks are being deserialized or waiting for an earlier one to
+ * be emitted.
+ */
+public class TransactionArchiveServiceImpl implements TransactionArchiveService {
+
+  /** The max size of the mapped windows of the archive files. */
+  private static final int MAX_WINDOW_SIZE = 1 << 30;
+
+  /** The size of the size prefix of each payload. */
+  private static final int SIZE_PREFIX_SIZE = 4;
+
+  /** The serialization deserializing the payloads. */
+  private final BinarySerialization binarySerialization;
+
+  /** The executor running the deserialization. */
+  private final Scheduler scheduler;
+
+  /** The size in bytes above which a chunk is cut. */
+  private final int chunkSize;
+
+  /** The max number of chunks being deserialized or waiting to be emitted. */
+  private final int maxInFlight;
+
+  /** The max size of the mapped windows of the archive files. */
+  private final int windowSize;
+
+  /** Constructor using the common fork join pool and 1MB chunks. */
+  public TransactionArchiveServiceImpl() {
+    this(ForkJoinPool.commonPool(), 1 << 20, 2 * ForkJoinPool.commonPool().getParallelism());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param executor the executor running the deserialization, for example a {@link
+   *     ForkJoinPool}.
+   * @param chunkSize the size in bytes above which a chunk is cut. Chunks should hold many
+   *     payloads so the tasks are worth scheduling.
+   * @param maxInFlight the max number of chunks being deserialized or waiting to be emitted. It
+   *     should be at least the parallelism of the executor.
+   */
+  public TransactionArchiveServiceImpl(Executor executor, int chunkSize, int maxInFlight) {
+    this(BinarySerializationImpl.INSTANCE, executor, chunkSize, maxInFlight, MAX_WINDOW_SIZE);
+  }
+
+  TransactionArchiveServiceImpl(
+      BinarySerialization binarySerialization,
+      Executor executor,
+      int chunkSize,
+      int maxInFlight,
+      int windowSize) {
+    Validate.notNull(binarySerialization, "binarySerialization is required");
+    Validate.notNull(executor, "executor is required");
+    Validate.isTrue(chunkSize > 0, "chunkSize must be positive");
+    Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+    Validate.isTrue(windowSize >= SIZE_PREFIX_SIZE, "windowSize is too small");
+    this.binarySerialization = binarySerialization;
+    this.scheduler = Schedulers.from(executor);
+    this.chunkSize = chunkSize;
+    this.maxInFlight = maxInFlight;
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public Flowable<Transaction> readTransactions(FileChannel channel) {
+    return read(channel, binarySerialization::deserialize);
+  }
+
+  @Override
+  public Flowable<TransactionFactory<?>> readTransactionFactories(FileChannel channel) {
+    return read(channel, binarySerialization::deserializeToFactory);
+  }
+
+  @Override
+  public Flowable<Transaction> readTransactions(ByteBuffer archive) {
+    Validate.notNull(archive, "archive is required");
+    ByteBuffer theArchive = archive.slice();
+    WindowMapper mapper =
+        position -> {
+          ByteBuffer window = theArchive.duplicate();
+          window.position((int) position);
+          return window.slice();
+        };
+    return deserializeInOrder(
+        () -> new ChunkCursor(theArchive.limit(), mapper), binarySerialization::deserialize);
+  }
+
+  private <T> Flowable<T> read(FileChannel channel, Function<byte[], T> deserializer) {
+    Validate.notNull(channel, "channel is required");
+    WindowMapper mapper = position -> ExceptionUtils.propagate(() -> map(channel, position));
+    return deserializeInOrder(() -> new ChunkCursor(channel.size(), mapper), deserializer);
+  }
+
+  private ByteBuffer map(FileChannel channel, long position) throws IOException {
+    return channel.map(
+        MapMode.READ_ONLY, position, Math.min(windowSize, channel.size() - position));
+  }
+
+  /**
+   * Cuts the archive in chunks, deserializes them on the executor and emits the results in the
+   * order of the archive. Chunks are cut as earlier results are emitted, so at most maxInFlight of
+   * them are in memory.
+   */
+  private <T> Flowable<T> deserializeInOrder(
+      Callable<ChunkCursor> cursor, Function<byte[], T> deserializer) {
+    return Flowable.<ByteBuffer, ChunkCursor>generate(cursor, ChunkCursor::next)
+        .concatMapEager(
+            chunk ->
+                Flowable.fromCallable(() -> deserialize(chunk, deserializer))
+                    .subscribeOn(scheduler),
+            maxInFlight,
+            1)
+        .concatMapIterable(results -> results);
+  }
+
+  /** Deserializes the payloads of a chunk. */
+  private static <T> List<T> deserialize(ByteBuffer chunk, Function<byte[], T> deserializer)
+      throws Exception {
+    List<T> results = new ArrayList<>();
+    while (chunk.hasRemaining()) {
+      byte[] payload = new byte[chunk.getInt(chunk.position())];
+      chunk.get(payload);
+      results.add(deserializer.apply(payload));
+    }
+    return results;
+  }
+
+  /** Maps the windows of an archive. */
+  private interface WindowMapper {
+
+    /**
+     * @param position the position of the window in the archive.
+     * @return the window starting at position, up to the end of the archive.
+     */
+    ByteBuffer map(long position);
+  }
+
+  /** Walks the payloads of an archive window by window and cuts the chunks. */
+  private class ChunkCursor {
+
+    /** The size of the archive. */
+    private final long archiveSize;
+
+    /** The mapper of the archive windows. */
+    private final WindowMapper mapper;
+
+    /** The current little endian window. */
+    private ByteBuffer window;
+
+    /** The position of the current window in the archive. */
+    private long windowPosition;
+
+    /** The index in the current window of the next payload. */
+    private int index;
+
+    private ChunkCursor(long archiveSize, WindowMapper mapper) {
+      this.archiveSize = archiveSize;
+      this.mapper = mapper;
+    }
+
+    /** Emits the next chunk or completes at the end of the archive. */
+    private void next(Emitter<ByteBuffer> emitter) {
+      if (windowPosition + index >= archiveSize) {
+        emitter.onComplete();
+        return;
+      }
+      int start = cut();
+      if (start == index && start > 0) {
+        // the next payload crosses the end of the window, map a new window starting at it.
+        remap(windowPosition + start);
+        start = cut();
+      }
+      Validate.isTrue(
+          index > start, "Truncated transaction payload at position %d", windowPosition + start);
+      ByteBuffer chunk = window.duplicate();
+      chunk.limit(index);
+      chunk.position(start);
+      emitter.onNext(chunk.slice().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Moves the index over the payloads of the current window until the chunk is big enough.
+     *
+     * @return the index of the start of the chunk.
+     */
+    private int cut() {
+      if (window == null) {
+        remap(0);
+      }
+      int start = index;
+      while (index - start < chunkSize && window.limit() - index >= SIZE_PREFIX_SIZE) {
+        int size = window.getInt(index);
+        if (size < BinarySerializationImpl.TRANSACTION_HEADER_SIZE) {
+          throw new IllegalArgumentException(
+              "Invalid transaction size " + size + " at position " + (windowPosition + index));
+        }
+        if (size > window.limit() - index) {
+          break;
+        }
+        index += size;
+      }
+      return start;
+    }
+
+    private void remap(long position) {
+      window = mapper.map(position).order(ByteOrder.LITTLE_ENDIAN);
+      windowPosition = position;
+      index = 0;
+    }
+  }
+}
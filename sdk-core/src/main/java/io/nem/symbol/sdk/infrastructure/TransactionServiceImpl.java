@@ -587,7 +587,7 @@ public class TransactionServiceImpl implements TransactionService {
 
   private Transaction completeAndBuild(
       TransactionFactory<? extends Transaction> transactionFactory, Transaction transaction) {
-    transactionFactory.maxFee(transaction.getMaxFee());
+    transactionFactory.maxFee(transaction.getMaxFeeAsLong());
     transactionFactory.version(transaction.getVersion());
     transaction.getSignature().ifPresent(transactionFactory::signature);
     transaction.getSigner().ifPresent(transactionFactory::signer);
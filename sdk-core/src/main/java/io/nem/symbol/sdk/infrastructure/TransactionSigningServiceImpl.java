@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.SigningContext;
+import io.nem.symbol.sdk.api.TransactionSigningService;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.CosignatureTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link TransactionSigningService}. Each input is signed as a task of the
+ * executor and at most maxInFlight inputs are being signed or waiting for an earlier one to be
+ * emitted. The signing contexts are thread safe, so all the tasks share them.
+ */
+public class TransactionSigningServiceImpl implements TransactionSigningService {
+
+  /** The executor running the signatures. */
+  private final Scheduler scheduler;
+
+  /** The max number of inputs being signed or waiting to be emitted. */
+  private final int maxInFlight;
+
+  /** Constructor using the common fork join pool. */
+  public TransactionSigningServiceImpl() {
+    this(ForkJoinPool.commonPool(), 4 * ForkJoinPool.commonPool().getParallelism());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param executor the executor running the signatures, for example a {@link ForkJoinPool}.
+   * @param maxInFlight the max number of inputs being signed or waiting to be emitted. It should be
+   *     a few times the parallelism of the executor so its threads don't wait for a slow signature.
+   */
+  public TransactionSigningServiceImpl(Executor executor, int maxInFlight) {
+    Validate.notNull(executor, "executor is required");
+    Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+    this.scheduler = Schedulers.from(executor);
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public Observable<SignedTransaction> signTransactions(
+      Iterable<? extends Transaction> transactions, SigningContext signer, String generationHash) {
+    Validate.notNull(transactions, "transactions is required");
+    Validate.notNull(signer, "signer is required");
+    Validate.notNull(generationHash, "generationHash is required");
+    return signInOrder(transactions, transaction -> transaction.signWith(signer, generationHash));
+  }
+
+  @Override
+  public Observable<SignedTransaction> signAggregateTransactions(
+      Iterable<? extends AggregateTransaction> transactions,
+      SigningContext initiator,
+      List<SigningContext> cosignatories,
+      String generationHash) {
+    Validate.notNull(transactions, "transactions is required");
+    Validate.notNull(initiator, "initiator is required");
+    Validate.notNull(cosignatories, "cosignatories is required");
+    Validate.notNull(generationHash, "generationHash is required");
+    List<SigningContext> theCosignatories = new ArrayList<>(cosignatories);
+    return signInOrder(
+        transactions,
+        transaction ->
+            transaction.signTransactionWithCosigners(initiator, theCosignatories, generationHash));
+  }
+
+  @Override
+  public Observable<CosignatureSignedTransaction> cosignTransactions(
+      Iterable<CosignatureTransaction> cosignatureTransactions, SigningContext cosignatory) {
+    Validate.notNull(cosignatureTransactions, "cosignatureTransactions is required");
+    Validate.notNull(cosignatory, "cosignatory is required");
+    return signInOrder(
+        cosignatureTransactions,
+        cosignatureTransaction -> cosignatureTransaction.signWith(cosignatory));
+  }
+
+  /**
+   * Signs the inputs on the executor and emits the results in the order of the inputs. The inputs
+   * are requested as earlier results are emitted, so at most maxInFlight of them are in memory.
+   */
+  private <T, R> Observable<R> signInOrder(Iterable<? extends T> inputs, Function<T, R> signer) {
+    return Flowable.<T>fromIterable(inputs)
+        .concatMapEager(
+            input -> Flowable.fromCallable(() -> signer.apply(input)).subscribeOn(scheduler),
+            maxInFlight,
+            1)
+        .toObservable();
+  }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A read-only flyweight view of a serialized transaction. The fields are decoded lazily from their
+ * fixed offsets in the buffer, nothing is copied when the view is created. Views are meant to
+ * filter large amounts of payloads cheaply, the full {@link Transaction} model is only created by
+ * {@link #toTransaction()}.
+ *
+ * <p>A view can be moved to another transaction of the same buffer with {@link #reset(int)}, so a
+ * single instance can scan payloads stored back to back. Views are not thread safe.
+ */
+public class TransactionView {
+
+  /** The offset of the size in the entity header. */
+  private static final int SIZE_OFFSET = 0;
+
+  /** The offset of the signature in the header of top level transactions. */
+  private static final int SIGNATURE_OFFSET = 8;
+
+  /** The size of the transaction signatures. */
+  static final int SIGNATURE_SIZE = 64;
+
+  /** The offset of the signer in the header of top level transactions. */
+  private static final int SIGNER_OFFSET = 72;
+
+  /** The offset of the signer in the header of embedded transactions. */
+  private static final int EMBEDDED_SIGNER_OFFSET = 8;
+
+  /** The offset of the version, the network type and the type after the signer. */
+  private static final int VERSION_OFFSET_FROM_SIGNER = 36;
+
+  /** The offset of the max fee in the header of top level transactions. */
+  private static final int MAX_FEE_OFFSET = 112;
+
+  /** The offset of the deadline in the header of top level transactions. */
+  private static final int DEADLINE_OFFSET = 120;
+
+  /** The little endian read-only view of the buffer. */
+  final ByteBuffer buffer;
+
+  /** If the transaction is embedded in an aggregate. */
+  private final boolean embedded;
+
+  /** The index of the transaction in the buffer. */
+  int offset;
+
+  TransactionView(ByteBuffer buffer, int offset, boolean embedded) {
+    this.buffer = buffer;
+    this.embedded = embedded;
+    reset(offset);
+  }
+
+  /**
+   * Creates a view of the top level transaction starting at the position of the buffer. The
+   * position of the buffer is not changed.
+   *
+   * @param buffer the buffer holding the serialized transaction.
+   * @return the view.
+   */
+  public static TransactionView wrap(ByteBuffer buffer) {
+    Validate.notNull(buffer, "buffer must not be null");
+    return new TransactionView(readOnly(buffer), buffer.position(), false);
+  }
+
+  /**
+   * Creates a view of the embedded transaction starting at the position of the buffer. The
+   * position of the buffer is not changed.
+   *
+   * @param buffer the buffer holding the serialized embedded transaction.
+   * @return the view.
+   */
+  public static TransactionView wrapEmbedded(ByteBuffer buffer) {
+    Validate.notNull(buffer, "buffer must not be null");
+    return new TransactionView(readOnly(buffer), buffer.position(), true);
+  }
+
+  /**
+   * @param buffer the buffer.
+   * @return a little endian read-only view of the buffer.
+   */
+  static ByteBuffer readOnly(ByteBuffer buffer) {
+    return buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Moves this view to the transaction starting at the given index of the same buffer.
+   *
+   * @param offset the index of the transaction.
+   * @return this view.
+   * @throws IllegalArgumentException if the buffer doesn't hold a whole transaction at offset.
+   */
+  public TransactionView reset(int offset) {
+    int headerSize =
+        embedded
+            ? BinarySerializationImpl.EMBEDDED_TRANSACTION_HEADER_SIZE
+            : BinarySerializationImpl.TRANSACTION_HEADER_SIZE;
+    // The messages are only built when a check fails, the views are reset for every payload.
+    Validate.isTrue(
+        offset >= 0 && offset + headerSize <= buffer.limit(),
+        "buffer doesn't have a transaction header at index %d",
+        offset);
+    this.offset = offset;
+    int size = getSize();
+    if (size < headerSize || size > buffer.limit() - offset) {
+      throw new IllegalArgumentException(
+          "Transaction size " + size + " at index " + offset + " is out of the buffer bounds");
+    }
+    return this;
+  }
+
+  /** @return the index of the transaction in the buffer. */
+  public int getOffset() {
+    return offset;
+  }
+
+  /** @return if the transaction is embedded in an aggregate. */
+  public boolean isEmbedded() {
+    return embedded;
+  }
+
+  /** @return the size of the transaction in bytes. */
+  public int getSize() {
+    return buffer.getInt(offset + SIZE_OFFSET);
+  }
+
+  /** @return the index of the transaction body in the buffer. */
+  public int getBodyOffset() {
+    return offset
+        + (embedded
+            ? BinarySerializationImpl.EMBEDDED_TRANSACTION_HEADER_SIZE
+            : BinarySerializationImpl.TRANSACTION_HEADER_SIZE);
+  }
+
+  /** @return the size of the transaction body in bytes. */
+  public int getBodySize() {
+    return getSize() - (getBodyOffset() - offset);
+  }
+
+  /** @return the version of the transaction. */
+  public int getVersion() {
+    return buffer.get(getSignerOffset() + VERSION_OFFSET_FROM_SIGNER) & 0xFF;
+  }
+
+  /** @return the network type of the transaction. */
+  public NetworkType getNetworkType() {
+    return NetworkType.rawValueOf(
+        buffer.get(getSignerOffset() + VERSION_OFFSET_FROM_SIGNER + 1) & 0xFF);
+  }
+
+  /** @return the raw value of the transaction type, it doesn't resolve the enum value. */
+  public int getTypeValue() {
+    return buffer.getShort(getSignerOffset() + VERSION_OFFSET_FROM_SIGNER + 2) & 0xFFFF;
+  }
+
+  /** @return the transaction type. */
+  public TransactionType getType() {
+    return TransactionType.rawValueOf(getTypeValue());
+  }
+
+  /**
+   * @param type the transaction type.
+   * @return if the transaction is of the given type.
+   */
+  public boolean isType(TransactionType type) {
+    return getTypeValue() == type.getValue();
+  }
+
+  /** @return the signer public key of the transaction. */
+  public PublicKey getSigner() {
+    byte[] signer = new byte[PublicKey.SIZE];
+    getBytes(getSignerOffset(), signer);
+    return new PublicKey(signer);
+  }
+
+  /**
+   * Compares the signer of the transaction with a public key without decoding it.
+   *
+   * @param publicKey the public key.
+   * @return if the given public key signed the transaction.
+   */
+  public boolean isSigner(PublicKey publicKey) {
+    return equalBytes(getSignerOffset(), publicKey.getBytes());
+  }
+
+  /**
+   * Gets the signature of a top level transaction.
+   *
+   * @return the signature (64 bytes), all zeros if the transaction is not signed.
+   * @throws IllegalStateException if the transaction is embedded.
+   */
+  public byte[] getSignature() {
+    validateTopLevel("signature");
+    byte[] signature = new byte[SIGNATURE_SIZE];
+    getBytes(offset + SIGNATURE_OFFSET, signature);
+    return signature;
+  }
+
+  /**
+   * Gets the max fee of a top level transaction.
+   *
+   * @return the max fee as an unsigned long.
+   * @throws IllegalStateException if the transaction is embedded.
+   */
+  public long getMaxFee() {
+    validateTopLevel("max fee");
+    return buffer.getLong(offset + MAX_FEE_OFFSET);
+  }
+
+  /**
+   * Gets the deadline of a top level transaction.
+   *
+   * @return the deadline as an unsigned long.
+   * @throws IllegalStateException if the transaction is embedded.
+   */
+  public long getDeadline() {
+    validateTopLevel("deadline");
+    return buffer.getLong(offset + DEADLINE_OFFSET);
+  }
+
+  /**
+   * Copies the serialized transaction.
+   *
+   * @return the payload of the transaction.
+   */
+  public byte[] getPayload() {
+    byte[] payload = new byte[getSize()];
+    getBytes(offset, payload);
+    return payload;
+  }
+
+  /**
+   * Deserializes the full transaction model. This is the only method that goes through {@link
+   * BinarySerializationImpl}.
+   *
+   * @return the {@link Transaction} model.
+   */
+  public Transaction toTransaction() {
+    BinarySerializationImpl binarySerialization =
+        (BinarySerializationImpl) BinarySerializationImpl.INSTANCE;
+    byte[] payload = getPayload();
+    return embedded
+        ? binarySerialization.deserializeEmbedded(SerializationUtils.toDataInput(payload))
+        : binarySerialization.deserialize(payload);
+  }
+
+  /**
+   * Creates the typed view of a transfer transaction at the same index.
+   *
+   * @return the {@link TransferTransactionView}.
+   * @throws IllegalArgumentException if the transaction is not a transfer.
+   */
+  public TransferTransactionView asTransfer() {
+    return new TransferTransactionView(buffer, offset, embedded);
+  }
+
+  /**
+   * Creates the typed view of an aggregate transaction at the same index.
+   *
+   * @return the {@link AggregateTransactionView}.
+   * @throws IllegalArgumentException if the transaction is not an aggregate or it's embedded.
+   */
+  public AggregateTransactionView asAggregate() {
+    Validate.isTrue(!embedded, "Embedded transactions can't be aggregates");
+    return new AggregateTransactionView(buffer, offset);
+  }
+
+  void validateType(TransactionType type) {
+    if (!isType(type)) {
+      throw new IllegalArgumentException(
+          "Transaction type " + getTypeValue() + " is not " + type.getValue());
+    }
+  }
+
+  private void validateTopLevel(String field) {
+    if (embedded) {
+      throw new IllegalStateException("Embedded transactions don't have a " + field);
+    }
+  }
+
+  private int getSignerOffset() {
+    return offset + (embedded ? EMBEDDED_SIGNER_OFFSET : SIGNER_OFFSET);
+  }
+
+  /** Copies buffer[index, index + destination.length) without moving the buffer position. */
+  void getBytes(int index, byte[] destination) {
+    for (int i = 0; i < destination.length; i++) {
+      destination[i] = buffer.get(index + i);
+    }
+  }
+
+  /** Compares buffer[index, index + expected.length) with expected. */
+  boolean equalBytes(int index, byte[] expected) {
+    for (int i = 0; i < expected.length; i++) {
+      if (buffer.get(index + i) != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
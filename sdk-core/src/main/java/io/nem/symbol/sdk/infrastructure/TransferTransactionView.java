@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.Message;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A read-only flyweight view of a serialized {@link TransferTransaction}, see {@link
+ * TransactionView}.
+ */
+public class TransferTransactionView extends TransactionView {
+
+  /** The size of the unresolved addresses. */
+  private static final int RECIPIENT_SIZE = 24;
+
+  /** The offset of the message size in the body. */
+  private static final int MESSAGE_SIZE_OFFSET = 24;
+
+  /** The offset of the mosaics count in the body. */
+  private static final int MOSAICS_COUNT_OFFSET = 26;
+
+  /** The offset of the first mosaic in the body. */
+  private static final int MOSAICS_OFFSET = 32;
+
+  /** The size of each mosaic, the id and the amount. */
+  private static final int MOSAIC_SIZE = 16;
+
+  TransferTransactionView(ByteBuffer buffer, int offset, boolean embedded) {
+    super(buffer, offset, embedded);
+  }
+
+  /**
+   * Creates a view of the top level transfer transaction starting at the position of the buffer.
+   * The position of the buffer is not changed.
+   *
+   * @param buffer the buffer holding the serialized transaction.
+   * @return the view.
+   * @throws IllegalArgumentException if the transaction is not a transfer.
+   */
+  public static TransferTransactionView wrap(ByteBuffer buffer) {
+    Validate.notNull(buffer, "buffer must not be null");
+    return new TransferTransactionView(readOnly(buffer), buffer.position(), false);
+  }
+
+  @Override
+  public TransferTransactionView reset(int offset) {
+    super.reset(offset);
+    validateType(TransactionType.TRANSFER);
+    return this;
+  }
+
+  /** @return the recipient, an {@link Address} or a {@link NamespaceId}. */
+  public UnresolvedAddress getRecipient() {
+    int index = getBodyOffset();
+    // If bit 0 of byte 0 is set (like in 0x91), the recipient is a namespace id starting at byte 1.
+    if ((buffer.get(index) & 0x01) == 0x01) {
+      return NamespaceId.createFromId(ConvertUtils.toUnsignedBigInteger(buffer.getLong(index + 1)));
+    }
+    byte[] rawAddress = new byte[RECIPIENT_SIZE];
+    getBytes(index, rawAddress);
+    return Address.createFromRawBytes(rawAddress);
+  }
+
+  /**
+   * Compares the recipient of the transaction with an address without decoding it.
+   *
+   * @param address the address.
+   * @return if the address is the recipient of the transaction.
+   */
+  public boolean isRecipient(Address address) {
+    return equalBytes(getBodyOffset(), address.getRawBytes());
+  }
+
+  /** @return the number of mosaics. */
+  public int getMosaicsCount() {
+    return buffer.get(getBodyOffset() + MOSAICS_COUNT_OFFSET) & 0xFF;
+  }
+
+  /**
+   * @param index the index of the mosaic.
+   * @return the id of the mosaic at index as an unsigned long.
+   */
+  public long getMosaicId(int index) {
+    return buffer.getLong(getMosaicOffset(index));
+  }
+
+  /**
+   * @param index the index of the mosaic.
+   * @return the amount of the mosaic at index as an unsigned long.
+   */
+  public long getMosaicAmount(int index) {
+    return buffer.getLong(getMosaicOffset(index) + 8);
+  }
+
+  /**
+   * @param index the index of the mosaic.
+   * @return the mosaic at index.
+   */
+  public Mosaic getMosaic(int index) {
+    return new Mosaic(
+        new MosaicId(ConvertUtils.toUnsignedBigInteger(getMosaicId(index))),
+        getMosaicAmount(index));
+  }
+
+  /** @return the size of the message in bytes, including the message type. */
+  public int getMessageSize() {
+    return buffer.getShort(getBodyOffset() + MESSAGE_SIZE_OFFSET) & 0xFFFF;
+  }
+
+  /** @return the message if any. */
+  public Optional<Message> getMessage() {
+    byte[] payload = new byte[getMessageSize()];
+    getBytes(getBodyOffset() + MOSAICS_OFFSET + getMosaicsCount() * MOSAIC_SIZE, payload);
+    return Message.createFromPayload(payload);
+  }
+
+  private int getMosaicOffset(int index) {
+    Validate.isTrue(
+        index >= 0 && index < getMosaicsCount(), "Mosaic index %d is out of bounds", index);
+    return getBodyOffset() + MOSAICS_OFFSET + index * MOSAIC_SIZE;
+  }
+}
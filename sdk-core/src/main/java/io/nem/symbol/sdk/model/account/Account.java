@@ -15,11 +15,9 @@
  */
 package io.nem.symbol.sdk.model.account;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
-import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
-import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.crypto.SigningContext;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
 import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
@@ -109,6 +107,16 @@ public class Account {
     return keyPair;
   }
 
+  /**
+   * Account signing context, it prepares the private key once for all the signatures of the
+   * account.
+   *
+   * @return {@link SigningContext}
+   */
+  public SigningContext getSigningContext() {
+    return keyPair.getSigningContext();
+  }
+
   /**
    * Account address.
    *
@@ -156,14 +164,8 @@ public class Account {
    * @return {@link CosignatureSignedTransaction}
    */
   public CosignatureSignedTransaction signCosignatureTransaction(String transactionHash) {
-    DsaSigner signer = CryptoEngines.defaultEngine().createDsaSigner(this.getKeyPair());
-    byte[] bytes = ConvertUtils.fromHexToBytes(transactionHash);
-    byte[] signatureBytes = signer.sign(bytes).getBytes();
-    return new CosignatureSignedTransaction(
-        AggregateTransactionCosignature.DEFAULT_VERSION,
-        transactionHash,
-        ConvertUtils.toHex(signatureBytes),
-        this.getPublicAccount());
+    return CosignatureTransaction.signHash(
+        this.getSigningContext(), this.getPublicAccount(), transactionHash);
   }
 
   /**
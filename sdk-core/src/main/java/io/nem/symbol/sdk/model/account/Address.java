@@ -15,7 +15,7 @@
  */
 package io.nem.symbol.sdk.model.account;
 
-import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.DigestEngine;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.RawAddress;
 import io.nem.symbol.core.utils.Base32Encoder;
@@ -30,6 +30,11 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 /**
  * The address structure describes an address with its network.
  *
+ * <p>The address is stored as its 24 raw bytes packed into three longs, so addresses are compact,
+ * their hash code is computed once and equality is three long comparisons. The plain form is only
+ * computed the first time it's requested. See {@link AddressInterner} to share the instances of
+ * repeated addresses.
+ *
  * @since 1.0
  */
 public class Address implements UnresolvedAddress {
@@ -43,10 +48,22 @@ public class Address implements UnresolvedAddress {
   /** The checksum size. */
   private static final int CHECKSUM_SIZE = RawAddress.NUM_CHECKSUM_BYTES;
 
-  private final String plainAddress;
+  /** Bytes 0 to 7 of the raw address, big endian. */
+  private final long raw0;
+
+  /** Bytes 8 to 15 of the raw address, big endian. */
+  private final long raw1;
+
+  /** Bytes 16 to 23 of the raw address, big endian. */
+  private final long raw2;
 
   private final NetworkType networkType;
 
+  private final int hashCode;
+
+  /** The lazily computed plain address. */
+  private volatile String plainAddress;
+
   /**
    * Constructor
    *
@@ -54,11 +71,17 @@ public class Address implements UnresolvedAddress {
    * @param networkType Network type
    */
   public Address(String prettyOrRaw, NetworkType networkType) {
-    this.plainAddress = toPlainAddress(Validate.notNull(prettyOrRaw, "address must not be null"));
+    String plain = toPlainAddress(Validate.notNull(prettyOrRaw, "address must not be null"));
     this.networkType = Objects.requireNonNull(networkType, "networkType must not be null");
-    Optional<String> validationError = validatePlainAddress(this.plainAddress);
+    byte[] rawAddress = new byte[RAW_ADDRESS_SIZE];
+    Optional<String> validationError = validatePlainAddress(plain, rawAddress);
     Validate.isTrue(!validationError.isPresent(), validationError.orElse(""));
-    char addressNetwork = this.plainAddress.charAt(0);
+    this.raw0 = getLong(rawAddress, 0);
+    this.raw1 = getLong(rawAddress, 8);
+    this.raw2 = getLong(rawAddress, 16);
+    this.hashCode = computeHashCode(this.raw0, this.raw1, this.raw2);
+    this.plainAddress = plain;
+    char addressNetwork = plain.charAt(0);
     if (networkType.equals(NetworkType.MAIN_NET) && addressNetwork != 'N') {
       throw new IllegalArgumentException("MAIN_NET Address must start with N");
     } else if (networkType.equals(NetworkType.TEST_NET) && addressNetwork != 'T') {
@@ -70,6 +93,61 @@ public class Address implements UnresolvedAddress {
     }
   }
 
+  /**
+   * Creates an address from validated raw bytes.
+   *
+   * @param rawAddress the raw address.
+   * @param offset the offset of the raw address.
+   * @param networkType the network type matching the first byte.
+   */
+  private Address(byte[] rawAddress, int offset, NetworkType networkType) {
+    this.raw0 = getLong(rawAddress, offset);
+    this.raw1 = getLong(rawAddress, offset + 8);
+    this.raw2 = getLong(rawAddress, offset + 16);
+    this.networkType = networkType;
+    this.hashCode = computeHashCode(this.raw0, this.raw1, this.raw2);
+  }
+
+  /**
+   * Creates an address from its raw bytes, the network type byte, the ripemd160 hash of the public
+   * key and the checksum. No string is created.
+   *
+   * @param rawAddress the raw address (24 bytes).
+   * @return {@link Address}
+   * @throws IllegalArgumentException if the bytes are not a valid address.
+   */
+  public static Address createFromRawBytes(byte[] rawAddress) {
+    Validate.notNull(rawAddress, "rawAddress must not be null");
+    if (rawAddress.length != RAW_ADDRESS_SIZE) {
+      // the plain validation reports the size problem.
+      return createFromRawAddress(toPlainAddress(rawAddress));
+    }
+    return createFromRawBytes(rawAddress, 0);
+  }
+
+  /**
+   * Creates an address from the raw bytes stored at rawAddress[offset, offset + 24). No string is
+   * created.
+   *
+   * @param rawAddress the array holding the raw address.
+   * @param offset the offset of the raw address.
+   * @return {@link Address}
+   * @throws IllegalArgumentException if the bytes are not a valid address.
+   */
+  public static Address createFromRawBytes(byte[] rawAddress, int offset) {
+    Validate.notNull(rawAddress, "rawAddress must not be null");
+    Validate.isTrue(
+        offset >= 0 && offset + RAW_ADDRESS_SIZE <= rawAddress.length,
+        "rawAddress doesn't have " + RAW_ADDRESS_SIZE + " bytes at offset " + offset);
+    NetworkType networkType = resolveNetworkType(rawAddress[offset]);
+    if (networkType == null || !isValidChecksum(rawAddress, offset)) {
+      // the plain validation reports the problem.
+      return createFromRawAddress(
+          toPlainAddress(Arrays.copyOfRange(rawAddress, offset, offset + RAW_ADDRESS_SIZE)));
+    }
+    return new Address(rawAddress, offset, networkType);
+  }
+
   /**
    * It normalizes a plain or pretty address into an upercase plain address.
    *
@@ -119,7 +197,7 @@ public class Address implements UnresolvedAddress {
    * @return {@link Address}
    */
   public static Address createFromEncoded(String encodedAddress) {
-    return Address.createFromRawAddress(fromEncodedToPlain(encodedAddress));
+    return Address.createFromRawBytes(ConvertUtils.fromHexToBytes(encodedAddress));
   }
 
   /**
@@ -132,7 +210,17 @@ public class Address implements UnresolvedAddress {
    * @see RawAddress
    */
   public static Address createFromPublicKey(String publicKey, NetworkType networkType) {
-    return new Address(RawAddress.generateAddress(publicKey, networkType), networkType);
+    Validate.notNull(networkType, "networkType must not be null");
+    byte[] publicKeyBytes;
+    try {
+      publicKeyBytes = ConvertUtils.fromHexToBytes(publicKey);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Public key is not valid");
+    }
+    byte[] rawAddress = new byte[RAW_ADDRESS_SIZE];
+    RawAddress.generateAddress(
+        publicKeyBytes, 0, publicKeyBytes.length, networkType, rawAddress, 0);
+    return new Address(rawAddress, 0, networkType);
   }
 
   /**
@@ -185,6 +273,17 @@ public class Address implements UnresolvedAddress {
    * @return the error message or emtpy if the address is valid.
    */
   public static Optional<String> validatePlainAddress(String plainAddress) {
+    return validatePlainAddress(plainAddress, null);
+  }
+
+  /**
+   * Checks if a plain address is valid and copies its raw bytes when it is.
+   *
+   * @param plainAddress the address to be checked.
+   * @param rawAddress the array receiving the raw address if it's valid, it may be null.
+   * @return the error message or emtpy if the address is valid.
+   */
+  private static Optional<String> validatePlainAddress(String plainAddress, byte[] rawAddress) {
     try {
       if (plainAddress == null) {
         return Optional.of("Plain Address it nos provided");
@@ -219,7 +318,8 @@ public class Address implements UnresolvedAddress {
 
       int checksumBegin = RAW_ADDRESS_SIZE - CHECKSUM_SIZE;
       byte[] expectedChecksum =
-          Arrays.copyOf(Hashes.sha3_256(Arrays.copyOf(decodedArray, checksumBegin)), CHECKSUM_SIZE);
+          Arrays.copyOf(
+              DigestEngine.SHA3_256.hash(decodedArray, 0, checksumBegin), CHECKSUM_SIZE);
 
       byte[] providedChecksum =
           Arrays.copyOfRange(decodedArray, checksumBegin, decodedArray.length);
@@ -233,6 +333,9 @@ public class Address implements UnresolvedAddress {
                 + ConvertUtils.toHex(expectedChecksum)
                 + "' is expected");
       }
+      if (rawAddress != null) {
+        System.arraycopy(decodedArray, 0, rawAddress, 0, RAW_ADDRESS_SIZE);
+      }
       return Optional.empty();
     } catch (IllegalArgumentException e) {
       return Optional.of(
@@ -250,7 +353,11 @@ public class Address implements UnresolvedAddress {
    * @return an random address.
    */
   public static Address generateRandom(NetworkType networkType) {
-    return Address.createFromPublicKey(PublicKey.generateRandom().toHex(), networkType);
+    Validate.notNull(networkType, "networkType must not be null");
+    byte[] rawAddress = new byte[RAW_ADDRESS_SIZE];
+    RawAddress.generateAddress(
+        PublicKey.generateRandom().getBytes(), 0, 32, networkType, rawAddress, 0);
+    return new Address(rawAddress, 0, networkType);
   }
 
   /**
@@ -259,7 +366,36 @@ public class Address implements UnresolvedAddress {
    * @return String
    */
   public String plain() {
-    return this.plainAddress;
+    String plain = this.plainAddress;
+    if (plain == null) {
+      plain = toPlainAddress(this.getRawBytes());
+      this.plainAddress = plain;
+    }
+    return plain;
+  }
+
+  /**
+   * Returns the raw address, the network type byte, the ripemd160 hash of the public key and the
+   * checksum.
+   *
+   * @return a new array with the 24 raw bytes.
+   */
+  public byte[] getRawBytes() {
+    byte[] rawAddress = new byte[RAW_ADDRESS_SIZE];
+    this.writeRawBytes(rawAddress, 0);
+    return rawAddress;
+  }
+
+  /**
+   * Writes the raw address to rawAddress[offset, offset + 24) without allocating.
+   *
+   * @param rawAddress the array receiving the raw address.
+   * @param offset the offset where the raw address is written.
+   */
+  public void writeRawBytes(byte[] rawAddress, int offset) {
+    putLong(rawAddress, offset, this.raw0);
+    putLong(rawAddress, offset + 8, this.raw1);
+    putLong(rawAddress, offset + 16, this.raw2);
   }
 
   /**
@@ -288,7 +424,7 @@ public class Address implements UnresolvedAddress {
    * @return the encoded plain address.
    */
   public String encoded() {
-    return fromPlainToEncoded(plain());
+    return ConvertUtils.toHex(this.getRawBytes());
   }
 
   /**
@@ -297,30 +433,74 @@ public class Address implements UnresolvedAddress {
    * @return String
    */
   public String pretty() {
-    return this.plainAddress.replaceAll("(.{6})", "$1-");
+    return plain().replaceAll("(.{6})", "$1-");
   }
 
   /**
-   * Concert a encoded address to a plain one
+   * Concerts an encoded to a plain one
    *
-   * @param plain the plain address.
+   * @param encoded the encoded address.
    * @return the encoded address.
    */
-  private static String fromPlainToEncoded(String plain) {
-    byte[] bytes = Base32Encoder.getBytes(plain);
-    return ConvertUtils.toHex(bytes);
+  private static String fromEncodedToPlain(String encoded) {
+    return toPlainAddress(ConvertUtils.fromHexToBytes(encoded));
   }
 
   /**
-   * Concerts an encoded to a plain one
+   * Converts raw address bytes to the plain address.
    *
-   * @param encoded the encoded address.
-   * @return the encoded address.
+   * @param rawAddress the raw address.
+   * @return the plain address.
    */
-  private static String fromEncodedToPlain(String encoded) {
-    byte[] bytes = ConvertUtils.fromHexToBytes(encoded);
-    String rawAddress = Base32Encoder.getString(bytes);
-    return rawAddress.substring(0, rawAddress.length() - 1);
+  private static String toPlainAddress(byte[] rawAddress) {
+    String plain = Base32Encoder.getString(rawAddress);
+    return plain.substring(0, plain.length() - 1);
+  }
+
+  /**
+   * Resolves the network type from the first raw byte.
+   *
+   * @param networkByte the network type byte.
+   * @return the network type or null if the byte is not a known network type.
+   */
+  private static NetworkType resolveNetworkType(byte networkByte) {
+    for (NetworkType networkType : NetworkType.values()) {
+      if (networkType.getValue() == (networkByte & 0xFF)) {
+        return networkType;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isValidChecksum(byte[] rawAddress, int offset) {
+    int checksumBegin = RAW_ADDRESS_SIZE - CHECKSUM_SIZE;
+    byte[] hash = DigestEngine.SHA3_256.hash(rawAddress, offset, checksumBegin);
+    for (int i = 0; i < CHECKSUM_SIZE; i++) {
+      if (hash[i] != rawAddress[offset + checksumBegin + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long getLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  private static void putLong(byte[] bytes, int offset, long value) {
+    for (int i = 7; i >= 0; i--) {
+      bytes[offset + i] = (byte) value;
+      value >>>= 8;
+    }
+  }
+
+  private static int computeHashCode(long raw0, long raw1, long raw2) {
+    // raw1 is part of a hash, its bits are already evenly distributed.
+    return Long.hashCode(raw1) * 31 + Long.hashCode(raw0 ^ raw2);
   }
 
   /**
@@ -337,12 +517,14 @@ public class Address implements UnresolvedAddress {
       return false;
     }
     Address address1 = (Address) o;
-    return Objects.equals(plainAddress, address1.plainAddress)
+    return raw1 == address1.raw1
+        && raw0 == address1.raw0
+        && raw2 == address1.raw2
         && networkType == address1.networkType;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(plainAddress, networkType);
+    return hashCode;
   }
 }
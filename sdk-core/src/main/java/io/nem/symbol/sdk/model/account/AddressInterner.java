@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.utils.LruCache;
+
+/**
+ * Shares the instances of equal addresses. Streams of transactions, receipts and listener messages
+ * keep repeating the same few addresses, interning them keeps a single copy of each one, with its
+ * plain form computed once, instead of one copy per occurrence.
+ *
+ * <p>The interner is bounded, the least recently used addresses are dropped once it's full.
+ */
+public class AddressInterner {
+
+  /** The default max number of interned addresses. */
+  public static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final LruCache<Address, Address> addresses;
+
+  /** Constructor using {@link #DEFAULT_MAX_SIZE}. */
+  public AddressInterner() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the max number of interned addresses.
+   */
+  public AddressInterner(int maxSize) {
+    this.addresses = new LruCache<>(maxSize);
+  }
+
+  /**
+   * Returns the interned address equal to the given one, interning the given one if there is none.
+   *
+   * @param address the address.
+   * @return the shared instance equal to the address.
+   */
+  public Address intern(Address address) {
+    return this.addresses.computeIfAbsent(address, key -> key);
+  }
+
+  /**
+   * Creates the address of the raw bytes stored at rawAddress[offset, offset + 24) and interns it.
+   *
+   * @param rawAddress the array holding the raw address.
+   * @param offset the offset of the raw address.
+   * @return the shared instance of the address.
+   */
+  public Address intern(byte[] rawAddress, int offset) {
+    return intern(Address.createFromRawBytes(rawAddress, offset));
+  }
+
+  /** @return the number of interned addresses. */
+  public int size() {
+    return this.addresses.size();
+  }
+
+  /** Drops all the interned addresses. */
+  public void clear() {
+    this.addresses.clear();
+  }
+}
@@ -15,6 +15,8 @@
  */
 package io.nem.symbol.sdk.model.blockchain;
 
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
@@ -22,6 +24,7 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
+import org.apache.commons.lang3.Validate;
 
 /** The block info structure describes basic information of a block. */
 public class BlockInfo implements Stored {
@@ -130,6 +133,15 @@ public class BlockInfo implements Stored {
     return hash;
   }
 
+  /**
+   * Returns the block hash, decoded from its hex.
+   *
+   * @return Hash256
+   */
+  public Hash256 getHash256() {
+    return Hash256.fromHex(hash);
+  }
+
   /**
    * Returns block generation hash.
    *
@@ -139,6 +151,15 @@ public class BlockInfo implements Stored {
     return generationHash;
   }
 
+  /**
+   * Returns the block generation hash, decoded from its hex.
+   *
+   * @return Hash256
+   */
+  public Hash256 getGenerationHash256() {
+    return Hash256.fromHex(generationHash);
+  }
+
   /**
    * Returns total fee paid to the account harvesting the block.
    *
@@ -148,6 +169,16 @@ public class BlockInfo implements Stored {
     return totalFee;
   }
 
+  /**
+   * Returns total fee paid to the account harvesting the block as a long.
+   *
+   * @return long
+   * @throws IllegalStateException if the totalFee is not known.
+   */
+  public long getTotalFeeAsLong() {
+    return toUnsignedLong(totalFee, "totalFee");
+  }
+
   /**
    * Number of transactions confirmed in this block. This does not count *embedded* transactions
    *
@@ -227,6 +258,16 @@ public class BlockInfo implements Stored {
     return height;
   }
 
+  /**
+   * Returns height of which the block was confirmed as a long.
+   *
+   * @return long
+   * @throws IllegalStateException if the height is not known.
+   */
+  public long getHeightAsLong() {
+    return toUnsignedLong(height, "height");
+  }
+
   /**
    * Returns the number of seconds elapsed since the creation of the nemesis blockchain.
    *
@@ -236,6 +277,16 @@ public class BlockInfo implements Stored {
     return timestamp;
   }
 
+  /**
+   * Returns the timestamp of the block as a long.
+   *
+   * @return long
+   * @throws IllegalStateException if the timestamp is not known.
+   */
+  public long getTimestampAsLong() {
+    return toUnsignedLong(timestamp, "timestamp");
+  }
+
   /**
    * Returns POI difficulty to harvest a block.
    *
@@ -245,6 +296,16 @@ public class BlockInfo implements Stored {
     return difficulty;
   }
 
+  /**
+   * Returns POI difficulty to harvest a block as a long.
+   *
+   * @return long
+   * @throws IllegalStateException if the difficulty is not known.
+   */
+  public long getDifficultyAsLong() {
+    return toUnsignedLong(difficulty, "difficulty");
+  }
+
   /**
    * Returns the feeMultiplier defined by the harvester.
    *
@@ -273,6 +334,15 @@ public class BlockInfo implements Stored {
     return previousBlockHash;
   }
 
+  /**
+   * Returns the last block hash, decoded from its hex.
+   *
+   * @return Hash256
+   */
+  public Hash256 getPreviousBlockHash256() {
+    return Hash256.fromHex(previousBlockHash);
+  }
+
   /**
    * Returns the block transaction hash.
    *
@@ -282,6 +352,15 @@ public class BlockInfo implements Stored {
     return blockTransactionsHash;
   }
 
+  /**
+   * Returns the block transaction hash, decoded from its hex.
+   *
+   * @return Hash256
+   */
+  public Hash256 getBlockTransactionsHash256() {
+    return Hash256.fromHex(blockTransactionsHash);
+  }
+
   /**
    * Returns the block receipts hash.
    *
@@ -291,6 +370,15 @@ public class BlockInfo implements Stored {
     return blockReceiptsHash;
   }
 
+  /**
+   * Returns the block receipts hash, decoded from its hex.
+   *
+   * @return Hash256
+   */
+  public Hash256 getBlockReceiptsHash256() {
+    return Hash256.fromHex(blockReceiptsHash);
+  }
+
   /**
    * Returns the block state hash.
    *
@@ -300,6 +388,15 @@ public class BlockInfo implements Stored {
     return stateHash;
   }
 
+  /**
+   * Returns the block state hash, decoded from its hex.
+   *
+   * @return Hash256
+   */
+  public Hash256 getStateHash256() {
+    return Hash256.fromHex(stateHash);
+  }
+
   /**
    * Returns the beneficiary address.
    *
@@ -349,4 +446,9 @@ public class BlockInfo implements Stored {
   public List<String> getStateHashSubCacheMerkleRoots() {
     return stateHashSubCacheMerkleRoots;
   }
+
+  private static long toUnsignedLong(BigInteger value, String name) {
+    Validate.validState(value != null, "%s is not known", name);
+    return ConvertUtils.toUnsignedLong(value);
+  }
 }
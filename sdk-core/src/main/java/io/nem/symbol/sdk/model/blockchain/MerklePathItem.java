@@ -15,10 +15,15 @@
  */
 package io.nem.symbol.sdk.model.blockchain;
 
+import io.nem.symbol.core.crypto.Hash256;
+
 public class MerklePathItem {
 
   private final Position position;
-  private final String hash;
+  /** The hex hash, lazily computed when the hash was provided as a {@link Hash256}. */
+  private volatile String hash;
+  /** The hash, lazily parsed when the hash was provided as hex. */
+  private volatile Hash256 hash256;
 
   /**
    * Constructor
@@ -31,6 +36,17 @@ public class MerklePathItem {
     this.hash = hash;
   }
 
+  /**
+   * Constructor
+   *
+   * @param position the position in the path.
+   * @param hash the hash.
+   */
+  public MerklePathItem(Position position, Hash256 hash) {
+    this.position = position;
+    this.hash256 = hash;
+  }
+
   /**
    * Return position
    *
@@ -46,6 +62,26 @@ public class MerklePathItem {
    * @return String
    */
   public String getHash() {
-    return this.hash;
+    String theHash = hash;
+    if (theHash == null && hash256 != null) {
+      theHash = hash256.toHex();
+      hash = theHash;
+    }
+    return theHash;
+  }
+
+  /**
+   * Return hash
+   *
+   * @return Hash256
+   * @throws IllegalArgumentException if the hash was provided as a string that is not a hash.
+   */
+  public Hash256 getHash256() {
+    Hash256 theHash = hash256;
+    if (theHash == null && hash != null) {
+      theHash = Hash256.fromHex(hash);
+      hash256 = theHash;
+    }
+    return theHash;
   }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.blockchain;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/** The result of checking that a transaction or statement hash belongs to a block. */
+public class MerkleVerificationResult {
+
+  private final BigInteger height;
+
+  private final String hash;
+
+  private final boolean valid;
+
+  private final Throwable error;
+
+  /**
+   * Constructor
+   *
+   * @param height the height of the block.
+   * @param hash the verified transaction or statement hash.
+   * @param valid if the merkle path of the hash leads to the block's root hash.
+   * @param error the error that prevented the verification, null if the verification was done.
+   */
+  public MerkleVerificationResult(BigInteger height, String hash, boolean valid, Throwable error) {
+    Validate.notNull(height, "height is required");
+    Validate.notNull(hash, "hash is required");
+    Validate.isTrue(error == null || !valid, "a failed verification cannot be valid");
+    this.height = height;
+    this.hash = hash;
+    this.valid = valid;
+    this.error = error;
+  }
+
+  /**
+   * Creates the result of a verification that could be done.
+   *
+   * @param height the height of the block.
+   * @param hash the verified hash.
+   * @param valid if the merkle path of the hash leads to the block's root hash.
+   * @return the result.
+   */
+  public static MerkleVerificationResult of(BigInteger height, String hash, boolean valid) {
+    return new MerkleVerificationResult(height, hash, valid, null);
+  }
+
+  /**
+   * Creates the result of a verification that failed, for example because the block or the
+   * merkle path couldn't be retrieved.
+   *
+   * @param height the height of the block.
+   * @param hash the hash that couldn't be verified.
+   * @param error the cause of the failure.
+   * @return the result.
+   */
+  public static MerkleVerificationResult failed(BigInteger height, String hash, Throwable error) {
+    Validate.notNull(error, "error is required");
+    return new MerkleVerificationResult(height, hash, false, error);
+  }
+
+  public BigInteger getHeight() {
+    return height;
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  /** @return true if the hash belongs to the block, false if it doesn't or it couldn't be known. */
+  public boolean isValid() {
+    return valid;
+  }
+
+  /** @return the error that prevented the verification, empty if the verification was done. */
+  public Optional<Throwable> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MerkleVerificationResult that = (MerkleVerificationResult) o;
+    return valid == that.valid
+        && Objects.equals(height, that.height)
+        && Objects.equals(hash, that.hash)
+        && Objects.equals(error, that.error);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(height, hash, valid, error);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.message;
+
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/** The result of decrypting the {@link EncryptedMessage} of a transfer transaction. */
+public class DecryptedMessage {
+
+  private final TransferTransaction transaction;
+
+  private final String plainText;
+
+  private final Throwable error;
+
+  /**
+   * Constructor
+   *
+   * @param transaction the transfer transaction holding the encrypted message.
+   * @param plainText the decrypted text, null if the message couldn't be decrypted.
+   * @param error the error that prevented the decryption, null if the message was decrypted.
+   */
+  public DecryptedMessage(TransferTransaction transaction, String plainText, Throwable error) {
+    Validate.notNull(transaction, "transaction is required");
+    Validate.isTrue(
+        (plainText == null) != (error == null), "either plainText or error must be provided");
+    this.transaction = transaction;
+    this.plainText = plainText;
+    this.error = error;
+  }
+
+  /**
+   * Creates the result of a message that could be decrypted.
+   *
+   * @param transaction the transfer transaction holding the encrypted message.
+   * @param plainText the decrypted text.
+   * @return the result.
+   */
+  public static DecryptedMessage of(TransferTransaction transaction, String plainText) {
+    Validate.notNull(plainText, "plainText is required");
+    return new DecryptedMessage(transaction, plainText, null);
+  }
+
+  /**
+   * Creates the result of a message that couldn't be decrypted, for example because it wasn't
+   * encrypted for the given key.
+   *
+   * @param transaction the transfer transaction holding the encrypted message.
+   * @param error the cause of the failure.
+   * @return the result.
+   */
+  public static DecryptedMessage failed(TransferTransaction transaction, Throwable error) {
+    Validate.notNull(error, "error is required");
+    return new DecryptedMessage(transaction, null, error);
+  }
+
+  public TransferTransaction getTransaction() {
+    return transaction;
+  }
+
+  /** @return the decrypted text, empty if the message couldn't be decrypted. */
+  public Optional<String> getPlainText() {
+    return Optional.ofNullable(plainText);
+  }
+
+  /** @return the error that prevented the decryption, empty if the message was decrypted. */
+  public Optional<Throwable> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    DecryptedMessage that = (DecryptedMessage) o;
+    return Objects.equals(transaction, that.transaction)
+        && Objects.equals(plainText, that.plainText)
+        && Objects.equals(error, that.error);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(transaction, plainText, error);
+  }
+}
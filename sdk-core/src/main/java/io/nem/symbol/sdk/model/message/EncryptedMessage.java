@@ -55,8 +55,26 @@ public class EncryptedMessage extends TypedMessage {
    */
   public static EncryptedMessage create(
       String plainTextMessage, PrivateKey senderPrivateKey, PublicKey recipientPublicKey) {
-    CryptoEngine engine = CryptoEngines.defaultEngine();
-    KeyPair sender = KeyPair.fromPrivate(senderPrivateKey);
+    return create(
+        plainTextMessage,
+        KeyPair.fromPrivate(senderPrivateKey),
+        recipientPublicKey,
+        CryptoEngines.defaultEngine());
+  }
+
+  /**
+   * Encrypts a message with the block cipher of the given engine. Using an engine with a shared key
+   * cache, the shared key of the sender and the recipient is only derived once for all the
+   * messages.
+   *
+   * @param plainTextMessage Plain message to be encrypted
+   * @param sender Sender key pair, it must have the private key.
+   * @param recipientPublicKey Recipient public key
+   * @param engine the engine creating the block cipher.
+   * @return EncryptedMessage
+   */
+  public static EncryptedMessage create(
+      String plainTextMessage, KeyPair sender, PublicKey recipientPublicKey, CryptoEngine engine) {
     KeyPair recipient = KeyPair.onlyPublic(recipientPublicKey, engine);
     BlockCipher blockCipher = engine.createBlockCipher(sender, recipient);
     return new EncryptedMessage(
@@ -72,9 +90,21 @@ public class EncryptedMessage extends TypedMessage {
    * @return plain string message.
    */
   public String decryptPayload(PublicKey senderPublicKey, PrivateKey recipientPrivateKey) {
-    CryptoEngine engine = CryptoEngines.defaultEngine();
+    return decryptPayload(
+        senderPublicKey, KeyPair.fromPrivate(recipientPrivateKey), CryptoEngines.defaultEngine());
+  }
+
+  /**
+   * Decrypts the message with the block cipher of the given engine. Using an engine with a shared
+   * key cache, decrypting the messages of known senders only costs the AES-GCM decryption.
+   *
+   * @param senderPublicKey Sender public key.
+   * @param recipient Recipient key pair, it must have the private key.
+   * @param engine the engine creating the block cipher.
+   * @return plain string message.
+   */
+  public String decryptPayload(PublicKey senderPublicKey, KeyPair recipient, CryptoEngine engine) {
     KeyPair sender = KeyPair.onlyPublic(senderPublicKey, engine);
-    KeyPair recipient = KeyPair.fromPrivate(recipientPrivateKey);
     BlockCipher blockCipher = engine.createBlockCipher(sender, recipient);
     return StringEncoder.getString(blockCipher.decrypt(ConvertUtils.fromHexToBytes(getText())));
   }
@@ -30,12 +30,24 @@ public class Mosaic {
 
   private final UnresolvedMosaicId id;
 
-  private final BigInteger amount;
+  /** The amount as an unsigned long, the {@link BigInteger} is only created on request. */
+  private final long amount;
 
   public Mosaic(UnresolvedMosaicId id, BigInteger amount) {
     Validate.notNull(id, "Id must not be null");
     Validate.notNull(amount, "Amount must not be null");
-    ConvertUtils.validateNotNegative(amount);
+    this.id = id;
+    this.amount = ConvertUtils.toUnsignedLong(amount);
+  }
+
+  /**
+   * Creates a mosaic from a primitive amount.
+   *
+   * @param id the mosaic identifier.
+   * @param amount the amount as an unsigned long, values above {@link Long#MAX_VALUE} are negative.
+   */
+  public Mosaic(UnresolvedMosaicId id, long amount) {
+    Validate.notNull(id, "Id must not be null");
     this.id = id;
     this.amount = amount;
   }
@@ -65,6 +77,15 @@ public class Mosaic {
    * @return amount of mosaic
    */
   public BigInteger getAmount() {
+    return ConvertUtils.toUnsignedBigInteger(amount);
+  }
+
+  /**
+   * Return mosaic amount as an unsigned long without creating a {@link BigInteger}.
+   *
+   * @return amount of mosaic, values above {@link Long#MAX_VALUE} are negative.
+   */
+  public long getAmountAsLong() {
     return amount;
   }
 
@@ -77,11 +98,11 @@ public class Mosaic {
       return false;
     }
     Mosaic mosaic = (Mosaic) o;
-    return Objects.equals(id, mosaic.id) && Objects.equals(amount, mosaic.amount);
+    return amount == mosaic.amount && Objects.equals(id, mosaic.id);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, amount);
+    return 31 * Objects.hashCode(id) + Long.hashCode(amount);
   }
 }
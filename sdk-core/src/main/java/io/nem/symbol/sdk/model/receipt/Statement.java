@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.receipt;
+
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * All the statements of a block. The lists are expected in block order: transaction statements
+ * sorted by receipt source and resolution statements sorted by unresolved value, the order in
+ * which the server returns them.
+ */
+public class Statement {
+
+  private final List<TransactionStatement> transactionsStatements;
+
+  private final List<AddressResolutionStatement> addressResolutionStatements;
+
+  private final List<MosaicResolutionStatement> mosaicResolutionStatements;
+
+  /**
+   * Constructor
+   *
+   * @param transactionsStatements the transaction statements.
+   * @param addressResolutionStatements the address resolution statements.
+   * @param mosaicResolutionStatements the mosaic resolution statements.
+   */
+  public Statement(
+      List<TransactionStatement> transactionsStatements,
+      List<AddressResolutionStatement> addressResolutionStatements,
+      List<MosaicResolutionStatement> mosaicResolutionStatements) {
+    Validate.notNull(transactionsStatements, "transactionsStatements is required");
+    Validate.notNull(addressResolutionStatements, "addressResolutionStatements is required");
+    Validate.notNull(mosaicResolutionStatements, "mosaicResolutionStatements is required");
+    this.transactionsStatements = Collections.unmodifiableList(transactionsStatements);
+    this.addressResolutionStatements = Collections.unmodifiableList(addressResolutionStatements);
+    this.mosaicResolutionStatements = Collections.unmodifiableList(mosaicResolutionStatements);
+  }
+
+  /** @return the transaction statements. */
+  public List<TransactionStatement> getTransactionsStatements() {
+    return transactionsStatements;
+  }
+
+  /** @return the address resolution statements. */
+  public List<AddressResolutionStatement> getAddressResolutionStatements() {
+    return addressResolutionStatements;
+  }
+
+  /** @return the mosaic resolution statements. */
+  public List<MosaicResolutionStatement> getMosaicResolutionStatements() {
+    return mosaicResolutionStatements;
+  }
+
+  /**
+   * Generates the merkle root hash of the statements, the block receipts hash. The leaves are the
+   * transaction statement hashes followed by the address and then the mosaic resolution statement
+   * hashes.
+   *
+   * @param networkType the network type.
+   * @return the block receipts hash.
+   */
+  public String generateHash(NetworkType networkType) {
+    MerkleHashBuilder builder =
+        new MerkleHashBuilder(
+            transactionsStatements.size()
+                + addressResolutionStatements.size()
+                + mosaicResolutionStatements.size());
+    transactionsStatements.forEach(
+        statement -> builder.update(ConvertUtils.fromHexToBytes(statement.generateHash())));
+    addressResolutionStatements.forEach(
+        statement ->
+            builder.update(ConvertUtils.fromHexToBytes(statement.generateHash(networkType))));
+    mosaicResolutionStatements.forEach(
+        statement ->
+            builder.update(ConvertUtils.fromHexToBytes(statement.generateHash(networkType))));
+    return ConvertUtils.toHex(builder.getRootHash());
+  }
+}
@@ -15,17 +15,18 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.catapult.builders.CosignatureBuilder;
-import io.nem.symbol.catapult.builders.SignatureDto;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.SigningContext;
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by
@@ -35,8 +36,20 @@ import org.apache.commons.lang3.ArrayUtils;
  */
 public class AggregateTransaction extends Transaction {
 
+  /** The size of the cosignature signatures. */
+  private static final int SIGNATURE_SIZE = 64;
+
+  /** The size of each cosignature in the payload, the version, the signer and the signature. */
+  private static final int COSIGNATURE_SIZE = 8 + PublicKey.SIZE + SIGNATURE_SIZE;
+
   private final String transactionsHash;
 
+  /**
+   * The padded embedded transactions the transactions hash was computed from, null when the hash
+   * was provided.
+   */
+  private final ByteBuffer embeddedTransactionsPayload;
+
   private final List<Transaction> innerTransactions;
 
   private final List<AggregateTransactionCosignature> cosignatures;
@@ -45,6 +58,7 @@ public class AggregateTransaction extends Transaction {
   AggregateTransaction(AggregateTransactionFactory factory) {
     super(factory);
     this.transactionsHash = factory.getTransactionsHash();
+    this.embeddedTransactionsPayload = factory.getEmbeddedTransactionsPayload().orElse(null);
     this.innerTransactions = Collections.unmodifiableList(factory.getInnerTransactions());
     this.cosignatures = Collections.unmodifiableList(factory.getCosignatures());
   }
@@ -72,6 +86,17 @@ public class AggregateTransaction extends Transaction {
     return transactionsHash;
   }
 
+  /**
+   * Returns the padded embedded transactions serialized when the transactions hash was computed,
+   * so the payload is written without serializing the inner transactions again.
+   *
+   * @return a read-only view of the serialized inner transactions, empty if the transactions hash
+   *     was provided.
+   */
+  public Optional<ByteBuffer> getEmbeddedTransactionsPayload() {
+    return Optional.ofNullable(embeddedTransactionsPayload).map(ByteBuffer::duplicate);
+  }
+
   /**
    * Sign transaction with cosignatories creating a new SignedTransaction.
    *
@@ -87,9 +112,41 @@ public class AggregateTransaction extends Transaction {
     SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
     List<CosignatureSignedTransaction> cosignatures =
         cosignatories.stream()
-            .map(cosignatory -> cosignatory.signCosignatureTransaction(signedTransaction.getHash()))
+            .map(
+                cosignatory ->
+                    CosignatureTransaction.signHash(
+                        cosignatory.getSigningContext(),
+                        cosignatory.getPublicAccount(),
+                        signedTransaction.getHash256()))
+            .collect(Collectors.toList());
+    return appendCosignatures(signedTransaction, cosignatures);
+  }
+
+  /**
+   * Sign transaction with cosignatories creating a new SignedTransaction. Reusing the signing
+   * contexts of the accounts avoids preparing their private keys on every signature.
+   *
+   * @param initiatorSigningContext The signing context of the initiator account.
+   * @param cosignatorySigningContexts The signing contexts of the accounts that will cosign the
+   *     transaction.
+   * @param generationHash the block 1 generation hash used to sign.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signTransactionWithCosigners(
+      final SigningContext initiatorSigningContext,
+      final List<SigningContext> cosignatorySigningContexts,
+      final String generationHash) {
+    SignedTransaction signedTransaction = this.signWith(initiatorSigningContext, generationHash);
+    List<CosignatureSignedTransaction> cosignatures =
+        cosignatorySigningContexts.stream()
+            .map(
+                cosignatory ->
+                    CosignatureTransaction.signHash(
+                        cosignatory,
+                        new PublicAccount(cosignatory.getPublicKey().toHex(), getNetworkType()),
+                        signedTransaction.getHash256()))
             .collect(Collectors.toList());
-    return signTransactionGivenSignatures(initiatorAccount, cosignatures, generationHash);
+    return appendCosignatures(signedTransaction, cosignatures);
   }
 
   /**
@@ -104,47 +161,57 @@ public class AggregateTransaction extends Transaction {
       final Account initiatorAccount,
       final List<? extends AggregateTransactionCosignature> cosignatures,
       final String generationHash) {
-    SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
-    StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
-
-    for (AggregateTransactionCosignature cosignatory : cosignatures) {
-      SignatureDto signature = SerializationUtils.toSignatureDto(cosignatory.getSignature());
-      CosignatureBuilder builder =
-          CosignatureBuilder.create(
-              cosignatory.getVersion().longValue(),
-              SerializationUtils.toKeyDto(cosignatory.getSigner().getPublicKey()),
-              signature);
-      payload.append(ConvertUtils.toHex(builder.serialize()));
-    }
+    return appendCosignatures(this.signWith(initiatorAccount, generationHash), cosignatures);
+  }
 
-    byte[] payloadBytes = ConvertUtils.fromHexToBytes(payload.toString());
-    byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-    ArrayUtils.reverse(size);
-    System.arraycopy(size, 0, payloadBytes, 0, size.length);
-    return new SignedTransaction(
-        initiatorAccount.getPublicAccount(),
-        ConvertUtils.toHex(payloadBytes),
-        signedTransaction.getHash(),
-        getType());
+  /**
+   * Sign transaction with cosignatures creating a new SignedTransaction.
+   *
+   * @param initiatorSigningContext The signing context of the initiator account.
+   * @param cosignatures The list of precreated cosignatures.
+   * @param generationHash the block 1 generation hash used to sign.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signTransactionGivenSignatures(
+      final SigningContext initiatorSigningContext,
+      final List<? extends AggregateTransactionCosignature> cosignatures,
+      final String generationHash) {
+    return appendCosignatures(this.signWith(initiatorSigningContext, generationHash), cosignatures);
   }
 
   /**
-   * Get the bytes required for signing.
+   * Appends the cosignatures to the payload of the signed aggregate.
    *
-   * @param payloadBytes Payload bytes.
-   * @param generationHashBytes Generation hash bytes.
-   * @return Bytes to sign.
+   * @param signedTransaction the signed aggregate.
+   * @param cosignatures the cosignatures.
+   * @return the signed aggregate including the cosignatures.
    */
+  private SignedTransaction appendCosignatures(
+      final SignedTransaction signedTransaction,
+      final List<? extends AggregateTransactionCosignature> cosignatures) {
+    byte[] payload = signedTransaction.getPayloadBytes();
+    ByteBuffer buffer =
+        ByteBuffer.allocate(payload.length + cosignatures.size() * COSIGNATURE_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(payload);
+    for (AggregateTransactionCosignature cosignatory : cosignatures) {
+      byte[] signature = ConvertUtils.getBytes(cosignatory.getSignature());
+      Validate.isTrue(
+          signature.length == SIGNATURE_SIZE,
+          "Cosignature signature size " + signature.length + " is not " + SIGNATURE_SIZE);
+      buffer.putLong(cosignatory.getVersion().longValue());
+      buffer.put(cosignatory.getSigner().getPublicKey().getBytes());
+      buffer.put(signature);
+    }
+    buffer.putInt(0, buffer.capacity());
+    return new SignedTransaction(
+        signedTransaction.getSigner(), buffer.array(), signedTransaction.getHash256(), getType());
+  }
+
   @Override
-  public byte[] getSignBytes(final byte[] payloadBytes, final byte[] generationHashBytes) {
-    final short headerSize = 4 + 32 + 64 + 8;
-    // Aggregate tx only require to sign the body.
-    final short signingBytesSize = 52;
-    final byte[] signingBytes = new byte[signingBytesSize + generationHashBytes.length];
-    System.arraycopy(generationHashBytes, 0, signingBytes, 0, generationHashBytes.length);
-    System.arraycopy(
-        payloadBytes, headerSize, signingBytes, generationHashBytes.length, signingBytesSize);
-    return signingBytes;
+  protected int getSigningDataSize(final int payloadSize) {
+    // Aggregate tx only require to sign the header and the transactions hash.
+    return 52;
   }
 
   /**
@@ -15,17 +15,15 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.Hasher;
-import io.nem.symbol.core.crypto.Hashes;
-import io.nem.symbol.core.crypto.MerkleHashBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
 import io.nem.symbol.sdk.model.network.NetworkType;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.Validate;
 
 /** Factory of {@link AggregateTransaction} */
@@ -35,6 +33,12 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
 
   private final String transactionsHash;
 
+  /**
+   * The padded embedded transactions the transactions hash was computed from, null when the hash
+   * was provided.
+   */
+  private final ByteBuffer embeddedTransactionsPayload;
+
   private final List<Transaction> innerTransactions;
 
   private final List<AggregateTransactionCosignature> cosignatures;
@@ -47,14 +51,27 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
       List<Transaction> innerTransactions,
       List<AggregateTransactionCosignature> cosignatures) {
     super(type, networkType, deadline);
-    // Remove this once rest provides the transactionsHash
-    String theTransactionsHash =
-        transactionsHash == null ? calculateTransactionsHash(innerTransactions) : transactionsHash;
-    Validate.notNull(theTransactionsHash, "transactionsHash must not be null");
     Validate.notNull(innerTransactions, "InnerTransactions must not be null");
     Validate.notNull(cosignatures, "Cosignatures must not be null");
-    ConvertUtils.validateIsHexString(theTransactionsHash, 64);
-    this.transactionsHash = theTransactionsHash;
+    // Remove this once rest provides the transactionsHash
+    if (transactionsHash == null) {
+      // The serialized inner transactions are kept, the aggregate payload reuses them.
+      final BinarySerializationImpl transactionSerialization =
+          (BinarySerializationImpl) BinarySerializationImpl.INSTANCE;
+      final ByteBuffer payload =
+          ByteBuffer.allocate(
+              transactionSerialization.getEmbeddedTransactionsSize(innerTransactions));
+      this.transactionsHash =
+          transactionSerialization
+              .serializeEmbeddedTransactions(innerTransactions, payload)
+              .toHex();
+      payload.flip();
+      this.embeddedTransactionsPayload = payload.asReadOnlyBuffer();
+    } else {
+      ConvertUtils.validateIsHexString(transactionsHash, 64);
+      this.transactionsHash = transactionsHash;
+      this.embeddedTransactionsPayload = null;
+    }
     this.innerTransactions = Collections.unmodifiableList(innerTransactions);
     this.cosignatures = new ArrayList<>(cosignatures);
   }
@@ -97,13 +114,7 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
       Deadline deadline,
       List<Transaction> innerTransactions,
       List<AggregateTransactionCosignature> cosignatures) {
-    return create(
-        type,
-        networkType,
-        deadline,
-        calculateTransactionsHash(innerTransactions),
-        innerTransactions,
-        cosignatures);
+    return create(type, networkType, deadline, null, innerTransactions, cosignatures);
   }
 
   /**
@@ -142,29 +153,6 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
         new ArrayList<>());
   }
 
-  /**
-   * It generates the hash of the transactions that are going to be included in the {@link
-   * AggregateTransaction}
-   *
-   * @param transactions the inner transaction
-   * @return the added transaction hash.
-   */
-  private static String calculateTransactionsHash(final List<Transaction> transactions) {
-
-    final MerkleHashBuilder transactionsHashBuilder = new MerkleHashBuilder();
-    final BinarySerializationImpl transactionSerialization = new BinarySerializationImpl();
-
-    Hasher hasher = Hashes::sha3_256;
-    for (final Transaction transaction : transactions) {
-      final byte[] bytes = transactionSerialization.serializeEmbedded(transaction);
-      byte[] transactionHash = hasher.hash(bytes);
-      transactionsHashBuilder.update(transactionHash);
-    }
-
-    final byte[] hash = transactionsHashBuilder.getRootHash();
-    return ConvertUtils.toHex(hash);
-  }
-
   /**
    * Builder method used to to re-calculate the max fee based on the configured feeMultiplier.
    *
@@ -196,8 +184,7 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
     // Remove current cosignature length and use the calculated one.
     long calculatedSize =
         this.getSize() + (calculatedCosignatures - this.cosignatures.size()) * COSIGNATURE_SIZE;
-    return (AggregateTransactionFactory)
-        maxFee(BigInteger.valueOf(calculatedSize).multiply(BigInteger.valueOf(feeMultiplier)));
+    return (AggregateTransactionFactory) maxFee(Math.multiplyExact(calculatedSize, feeMultiplier));
   }
 
   /**
@@ -236,6 +223,17 @@ public class AggregateTransactionFactory extends TransactionFactory<AggregateTra
     return transactionsHash;
   }
 
+  /**
+   * Returns the padded embedded transactions serialized when the transactions hash was computed,
+   * so the aggregate payload is written without serializing the inner transactions again.
+   *
+   * @return a read-only view of the serialized inner transactions, empty if the transactions hash
+   *     was provided to the factory.
+   */
+  public Optional<ByteBuffer> getEmbeddedTransactionsPayload() {
+    return Optional.ofNullable(embeddedTransactionsPayload).map(ByteBuffer::duplicate);
+  }
+
   @Override
   public AggregateTransaction build() {
     return new AggregateTransaction(this);
@@ -15,7 +15,11 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.crypto.SigningContext;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.PublicAccount;
 
 /**
  * The cosignature transaction is used to sign an aggregate transactions with missing cosignatures.
@@ -72,4 +76,57 @@ public class CosignatureTransaction {
   public CosignatureSignedTransaction signWith(Account account) {
     return account.signCosignatureTransaction(this.transactionHash);
   }
+
+  /**
+   * Serialize and sign transaction creating a new CosignatureSignedTransaction. Reusing the signing
+   * context of an account avoids preparing its private key on every signature.
+   *
+   * @param signingContext the signing context of the cosignatory account.
+   * @return {@link CosignatureSignedTransaction}
+   */
+  public CosignatureSignedTransaction signWith(SigningContext signingContext) {
+    return signHash(
+        signingContext,
+        new PublicAccount(
+            signingContext.getPublicKey().toHex(), transactionToCosign.getNetworkType()),
+        this.transactionHash);
+  }
+
+  /**
+   * Signs the hash of an aggregate transaction creating a new CosignatureSignedTransaction.
+   *
+   * @param signingContext the signing context of the cosignatory account.
+   * @param signer the cosignatory account.
+   * @param transactionHash the hash of the aggregate transaction.
+   * @return {@link CosignatureSignedTransaction}
+   */
+  public static CosignatureSignedTransaction signHash(
+      SigningContext signingContext, PublicAccount signer, String transactionHash) {
+    byte[] bytes = ConvertUtils.fromHexToBytes(transactionHash);
+    byte[] signatureBytes = signingContext.sign(bytes).getBytes();
+    return new CosignatureSignedTransaction(
+        AggregateTransactionCosignature.DEFAULT_VERSION,
+        transactionHash,
+        ConvertUtils.toHex(signatureBytes),
+        signer);
+  }
+
+  /**
+   * Signs the hash of an aggregate transaction creating a new CosignatureSignedTransaction. The
+   * hash bytes are signed directly, no hex is parsed.
+   *
+   * @param signingContext the signing context of the cosignatory account.
+   * @param signer the cosignatory account.
+   * @param transactionHash the hash of the aggregate transaction.
+   * @return {@link CosignatureSignedTransaction}
+   */
+  public static CosignatureSignedTransaction signHash(
+      SigningContext signingContext, PublicAccount signer, Hash256 transactionHash) {
+    byte[] signatureBytes = signingContext.sign(transactionHash.getBytes()).getBytes();
+    return new CosignatureSignedTransaction(
+        AggregateTransactionCosignature.DEFAULT_VERSION,
+        transactionHash.toHex(),
+        ConvertUtils.toHex(signatureBytes),
+        signer);
+  }
 }
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
@@ -32,7 +33,7 @@ import java.time.temporal.ChronoUnit;
 public class Deadline {
 
   /** number of millis elapsed since the creation of the nemesis block */
-  private final BigInteger value;
+  private final long value;
 
   /**
    * Constructor
@@ -40,6 +41,15 @@ public class Deadline {
    * @param input Deadline in BigInteger format
    */
   public Deadline(BigInteger input) {
+    this.value = ConvertUtils.toUnsignedLong(input);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param input Deadline as the number of millis elapsed since the creation of the nemesis block.
+   */
+  public Deadline(long input) {
     this.value = input;
   }
 
@@ -57,7 +67,7 @@ public class Deadline {
             .plus(units, chronoUnit)
             .minusMillis(epochAdjustment.toMillis())
             .toEpochMilli();
-    return new Deadline(BigInteger.valueOf(millis));
+    return new Deadline(millis);
   }
 
   /**
@@ -72,7 +82,7 @@ public class Deadline {
 
   /** @return the BigInteger representation of the duration. */
   public BigInteger toBigInteger() {
-    return value;
+    return ConvertUtils.toUnsignedBigInteger(value);
   }
 
   /**
@@ -81,7 +91,7 @@ public class Deadline {
    * @return long
    */
   public long getValue() {
-    return value.longValue();
+    return value;
   }
 
   /**
@@ -91,7 +101,7 @@ public class Deadline {
    * @return the instant time from the creation of the nemesis block.
    */
   public Instant getInstant(Duration epochAdjustment) {
-    return Instant.ofEpochMilli(value.longValue()).plusMillis(epochAdjustment.toMillis());
+    return Instant.ofEpochMilli(value).plusMillis(epochAdjustment.toMillis());
   }
 
   /**
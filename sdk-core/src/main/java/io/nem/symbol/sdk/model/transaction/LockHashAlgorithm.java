@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.crypto.DigestEngine;
 import io.nem.symbol.core.crypto.Hasher;
 import io.nem.symbol.core.crypto.Hashes;
 import java.util.Arrays;
@@ -27,7 +28,7 @@ import java.util.Arrays;
 public enum LockHashAlgorithm implements Hasher {
 
   /** hashed using SHA3-256 (Catapult Native) */
-  SHA3_256(0, Hashes::sha3_256),
+  SHA3_256(0, DigestEngine.SHA3_256),
   /** hashed twice: first with SHA-256 and then with RIPEMD-160 (BTC Compat) */
   HASH_160(1, Hashes::hash160),
   /** Hashed twice with SHA-256 (BTC Compat) */
@@ -15,19 +15,32 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.PublicAccount;
+import java.nio.ByteBuffer;
 
 /**
  * The signed transaction object is used to transfer the transaction data and the signature to NIS
  * in order to initiate and broadcast a transaction.
  *
+ * <p>The payload and the hash are kept in the form they were provided. Signed transactions created
+ * by the SDK are binary, their hex payload and hash are only created if they are requested and
+ * then cached.
+ *
  * @since 1.0
  */
 public class SignedTransaction {
 
   private final PublicAccount signer;
-  private final String payload;
-  private final String hash;
+  /** The hex payload, lazily computed when the payload was provided as bytes. */
+  private volatile String payload;
+  /** The payload bytes, lazily computed when the payload was provided as hex. */
+  private volatile byte[] payloadBytes;
+  /** The hex hash, lazily computed when the hash was provided as a {@link Hash256}. */
+  private volatile String hash;
+  /** The hash, lazily parsed when the hash was provided as hex. */
+  private volatile Hash256 hash256;
   private final TransactionType type;
 
   /**
@@ -46,6 +59,38 @@ public class SignedTransaction {
     this.type = type;
   }
 
+  /**
+   * The SignedTransaction constructor.
+   *
+   * @param signer the signer of the transaction.
+   * @param payload the payload.
+   * @param hash the hash of the transaction.
+   * @param type the transaction type.
+   */
+  public SignedTransaction(
+      PublicAccount signer, String payload, Hash256 hash, TransactionType type) {
+    this.signer = signer;
+    this.payload = payload;
+    this.hash256 = hash;
+    this.type = type;
+  }
+
+  /**
+   * The SignedTransaction constructor. The hex of the payload is only created if it's requested.
+   *
+   * @param signer the signer of the transaction.
+   * @param payloadBytes the serialized payload, it's not copied and must not be modified.
+   * @param hash the hash of the transaction.
+   * @param type the transaction type.
+   */
+  public SignedTransaction(
+      PublicAccount signer, byte[] payloadBytes, Hash256 hash, TransactionType type) {
+    this.signer = signer;
+    this.payloadBytes = payloadBytes;
+    this.hash256 = hash;
+    this.type = type;
+  }
+
   /**
    * Returns the signer of this transaction.
    *
@@ -61,7 +106,35 @@ public class SignedTransaction {
    * @return transaction serialized data
    */
   public String getPayload() {
-    return payload;
+    String theHex = payload;
+    if (theHex == null) {
+      theHex = ConvertUtils.toHex(payloadBytes);
+      payload = theHex;
+    }
+    return theHex;
+  }
+
+  /**
+   * Returns transaction serialized data. The returned array is shared and must not be modified.
+   *
+   * @return transaction serialized data
+   */
+  public byte[] getPayloadBytes() {
+    byte[] theBytes = payloadBytes;
+    if (theBytes == null) {
+      theBytes = ConvertUtils.fromHexToBytes(payload);
+      payloadBytes = theBytes;
+    }
+    return theBytes;
+  }
+
+  /**
+   * Returns the transaction serialized data as a read-only buffer, without copying it.
+   *
+   * @return transaction serialized data
+   */
+  public ByteBuffer getPayloadByteBuffer() {
+    return ByteBuffer.wrap(getPayloadBytes()).asReadOnlyBuffer();
   }
 
   /**
@@ -70,7 +143,27 @@ public class SignedTransaction {
    * @return transaction hash
    */
   public String getHash() {
-    return hash;
+    String theHash = hash;
+    if (theHash == null) {
+      theHash = hash256 == null ? null : hash256.toHex();
+      hash = theHash;
+    }
+    return theHash;
+  }
+
+  /**
+   * Returns transaction hash.
+   *
+   * @return transaction hash
+   * @throws IllegalArgumentException if the hash was provided as a string that is not a hash.
+   */
+  public Hash256 getHash256() {
+    Hash256 theHash = hash256;
+    if (theHash == null && hash != null) {
+      theHash = Hash256.fromHex(hash);
+      hash256 = theHash;
+    }
+    return theHash;
   }
 
   /**
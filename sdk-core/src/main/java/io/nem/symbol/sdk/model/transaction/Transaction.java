@@ -15,10 +15,11 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
-import io.nem.symbol.core.crypto.DsaSigner;
-import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.DigestEngine;
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SigningContext;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.StringUtils;
 import io.nem.symbol.sdk.api.BinarySerialization;
@@ -28,6 +29,8 @@ import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -40,11 +43,23 @@ public abstract class Transaction implements Stored {
   /** The BinarySerialization object. */
   private static final BinarySerialization BINARY_SERIALIZATION = BinarySerializationImpl.INSTANCE;
 
+  /** The offset of the signature in the payload. */
+  private static final int SIGNATURE_OFFSET = 8;
+
+  /** The size of the signature. */
+  private static final int SIGNATURE_SIZE = 64;
+
+  /** The offset of the signer in the payload. */
+  private static final int SIGNER_OFFSET = SIGNATURE_OFFSET + SIGNATURE_SIZE;
+
+  /** The offset of the signed data, after the size, the signature, the signer and the reserved. */
+  private static final int SIGNING_DATA_OFFSET = SIGNER_OFFSET + PublicKey.SIZE + 4;
+
   private final TransactionType type;
   private final NetworkType networkType;
   private final Integer version;
   private final Deadline deadline;
-  private final BigInteger maxFee;
+  private final long maxFee;
   private final Optional<Long> size;
   private final Optional<TransactionGroup> group;
   private final Optional<String> signature;
@@ -57,7 +72,7 @@ public abstract class Transaction implements Stored {
     this.networkType = factory.getNetworkType();
     this.version = factory.getVersion();
     this.deadline = factory.getDeadline();
-    this.maxFee = factory.getMaxFee();
+    this.maxFee = factory.getMaxFeeAsLong();
     this.group = factory.getGroup();
     this.signature = factory.getSignature();
     this.signer = factory.getSigner();
@@ -109,6 +124,15 @@ public abstract class Transaction implements Stored {
    * @return fee amount
    */
   public BigInteger getMaxFee() {
+    return ConvertUtils.toUnsignedBigInteger(maxFee);
+  }
+
+  /**
+   * Returns the fee for the transaction as an unsigned long without creating a {@link BigInteger}.
+   *
+   * @return fee amount
+   */
+  public long getMaxFeeAsLong() {
     return maxFee;
   }
 
@@ -166,15 +190,26 @@ public abstract class Transaction implements Stored {
    * @return generated transaction hash.
    */
   public String createTransactionHash(String transactionPayload, final byte[] generationHashBytes) {
-    byte[] bytes = ConvertUtils.fromHexToBytes(transactionPayload);
-    final byte[] dataBytes = getSignBytes(bytes, generationHashBytes);
-    final int sizeOfSignatureAndSignerPublicKey = 96;
-    byte[] signingBytes = new byte[dataBytes.length + sizeOfSignatureAndSignerPublicKey];
-    System.arraycopy(bytes, 8, signingBytes, 0, sizeOfSignatureAndSignerPublicKey);
-    System.arraycopy(
-        dataBytes, 0, signingBytes, sizeOfSignatureAndSignerPublicKey, dataBytes.length);
-    byte[] result = Hashes.sha3_256(signingBytes);
-    return ConvertUtils.toHex(result);
+    return createTransactionHash(
+            ConvertUtils.fromHexToBytes(transactionPayload), generationHashBytes)
+        .toHex();
+  }
+
+  /**
+   * Generates hash for a serialized transaction payload.
+   *
+   * @param payloadBytes Transaction payload bytes
+   * @param generationHashBytes the generation hash.
+   * @return generated transaction hash.
+   */
+  public Hash256 createTransactionHash(
+      final byte[] payloadBytes, final byte[] generationHashBytes) {
+    return Hash256.fromBytes(
+        DigestEngine.SHA3_256.hash(
+            ByteBuffer.wrap(payloadBytes, SIGNATURE_OFFSET, SIGNATURE_SIZE + PublicKey.SIZE),
+            ByteBuffer.wrap(generationHashBytes),
+            ByteBuffer.wrap(
+                payloadBytes, SIGNING_DATA_OFFSET, getSigningDataSize(payloadBytes.length))));
   }
 
   /**
@@ -185,19 +220,28 @@ public abstract class Transaction implements Stored {
    * @return Bytes to sign.
    */
   public byte[] getSignBytes(final byte[] payloadBytes, final byte[] generationHashBytes) {
-    final short headerSize = 4 + 32 + 64 + 8;
-    final byte[] signingBytes =
-        new byte[payloadBytes.length + generationHashBytes.length - headerSize];
+    final int signingDataSize = getSigningDataSize(payloadBytes.length);
+    final byte[] signingBytes = new byte[generationHashBytes.length + signingDataSize];
     System.arraycopy(generationHashBytes, 0, signingBytes, 0, generationHashBytes.length);
     System.arraycopy(
         payloadBytes,
-        headerSize,
+        SIGNING_DATA_OFFSET,
         signingBytes,
         generationHashBytes.length,
-        payloadBytes.length - headerSize);
+        signingDataSize);
     return signingBytes;
   }
 
+  /**
+   * Gets the size of the signed part of the payload, it starts right after the signer.
+   *
+   * @param payloadSize the size of the payload.
+   * @return the size of the signed data.
+   */
+  protected int getSigningDataSize(final int payloadSize) {
+    return payloadSize - SIGNING_DATA_OFFSET;
+  }
+
   /**
    * Serialize and sign transaction creating a new SignedTransaction.
    *
@@ -206,27 +250,68 @@ public abstract class Transaction implements Stored {
    * @return {@link SignedTransaction}
    */
   public SignedTransaction signWith(final Account account, final String generationHash) {
-    final DsaSigner theSigner = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
-    final byte[] bytes = this.serialize();
-    final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
-    final byte[] signingBytes = getSignBytes(bytes, generationHashBytes);
-    final Signature theSignature = theSigner.sign(signingBytes);
-
-    final byte[] payload = new byte[bytes.length];
-    System.arraycopy(bytes, 0, payload, 0, 8); // Size
-    System.arraycopy(
-        theSignature.getBytes(), 0, payload, 8, theSignature.getBytes().length); // Signature
+    return signWith(account.getSigningContext(), account.getPublicAccount(), generationHash);
+  }
+
+  /**
+   * Serialize and sign transaction creating a new SignedTransaction. Reusing the signing context
+   * of an account avoids preparing its private key on every signature.
+   *
+   * @param signingContext The signing context of the account that signs the transaction.
+   * @param generationHash The generation hash for the network.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signWith(
+      final SigningContext signingContext, final String generationHash) {
+    return signWith(
+        signingContext,
+        new PublicAccount(signingContext.getPublicKey().toHex(), getNetworkType()),
+        generationHash);
+  }
+
+  private SignedTransaction signWith(
+      final SigningContext signingContext,
+      final PublicAccount signer,
+      final String generationHash) {
+    return signPayload(
+        this.serialize(), signingContext, signer, ConvertUtils.getBytes(generationHash));
+  }
+
+  /**
+   * Signs a serialized payload of this transaction in place and hashes it.
+   *
+   * @param payload the serialized payload, it's modified and owned by the signed transaction.
+   * @param signingContext the signing context of the signer.
+   * @param signer the signer account.
+   * @param generationHashBytes the generation hash of the network.
+   * @return {@link SignedTransaction}
+   */
+  SignedTransaction signPayload(
+      final byte[] payload,
+      final SigningContext signingContext,
+      final PublicAccount signer,
+      final byte[] generationHashBytes) {
+    final int signingDataSize = getSigningDataSize(payload.length);
+    final int generationHashOffset = SIGNING_DATA_OFFSET - generationHashBytes.length;
+    final Signature theSignature;
+    if (generationHashOffset >= SIGNATURE_OFFSET) {
+      // The generation hash is written right before the signed data, over the signature and the
+      // signer that are set once the payload is signed, so the signing bytes are not copied.
+      System.arraycopy(
+          generationHashBytes, 0, payload, generationHashOffset, generationHashBytes.length);
+      theSignature =
+          signingContext.sign(
+              payload, generationHashOffset, generationHashBytes.length + signingDataSize);
+      Arrays.fill(payload, generationHashOffset, SIGNING_DATA_OFFSET, (byte) 0);
+    } else {
+      theSignature = signingContext.sign(getSignBytes(payload, generationHashBytes));
+    }
+    System.arraycopy(theSignature.getBytes(), 0, payload, SIGNATURE_OFFSET, SIGNATURE_SIZE);
     System.arraycopy(
-        account.getKeyPair().getPublicKey().getBytes(),
-        0,
-        payload,
-        64 + 8,
-        account.getKeyPair().getPublicKey().getBytes().length); // Signer
-    System.arraycopy(bytes, 104, payload, 104, bytes.length - 104);
-
-    final String hash = createTransactionHash(ConvertUtils.toHex(payload), generationHashBytes);
-    return new SignedTransaction(
-        account.getPublicAccount(), ConvertUtils.toHex(payload), hash, type);
+        signer.getPublicKey().getBytes(), 0, payload, SIGNER_OFFSET, PublicKey.SIZE);
+
+    final Hash256 hash = createTransactionHash(payload, generationHashBytes);
+    return new SignedTransaction(signer, payload, hash, type);
   }
 
   /**
@@ -267,7 +352,7 @@ public abstract class Transaction implements Stored {
     return this.getTransactionInfo()
         .filter(
             info ->
-                info.getHeight().equals(BigInteger.valueOf(0))
+                info.getHeightAsLong() == 0
                     && !StringUtils.equalsIgnoreCase(info.getHash(), info.getMerkleComponentHash()))
         .isPresent();
   }
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
@@ -54,8 +55,8 @@ public abstract class TransactionFactory<T extends Transaction> {
   /** The version of the new transaction, by default the {@link TransactionType} default version. */
   private Integer version;
 
-  /** The max fee of the new transaction. Zero by default. */
-  private BigInteger maxFee = BigInteger.ZERO;
+  /** The max fee of the new transaction as an unsigned long. Zero by default. */
+  private long maxFee;
 
   /**
    * The signature of the new transaction. This is generally set when mapping transaction coming
@@ -121,6 +122,17 @@ public abstract class TransactionFactory<T extends Transaction> {
    */
   public TransactionFactory<T> maxFee(BigInteger maxFee) {
     Validate.notNull(maxFee, "MaxFee must not be null");
+    this.maxFee = ConvertUtils.toUnsignedLong(maxFee);
+    return this;
+  }
+
+  /**
+   * Builder method used to change the default maxFee without creating a {@link BigInteger}.
+   *
+   * @param maxFee a new maxFee as an unsigned long.
+   * @return this factory to continue building the transaction.
+   */
+  public TransactionFactory<T> maxFee(long maxFee) {
     this.maxFee = maxFee;
     return this;
   }
@@ -132,7 +144,7 @@ public abstract class TransactionFactory<T extends Transaction> {
    * @return this factory to continue building the transaction.
    */
   public TransactionFactory<T> calculateMaxFeeFromMultiplier(long feeMultiplier) {
-    return maxFee(BigInteger.valueOf(getSize()).multiply(BigInteger.valueOf(feeMultiplier)));
+    return maxFee(Math.multiplyExact(getSize(), feeMultiplier));
   }
 
   /**
@@ -234,6 +246,11 @@ public abstract class TransactionFactory<T extends Transaction> {
 
   /** @return the transaction type. */
   public BigInteger getMaxFee() {
+    return ConvertUtils.toUnsignedBigInteger(maxFee);
+  }
+
+  /** @return the max fee as an unsigned long. */
+  public long getMaxFeeAsLong() {
     return maxFee;
   }
 
@@ -15,36 +15,46 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.utils.ConvertUtils;
 import java.math.BigInteger;
 import java.util.Optional;
 import org.apache.commons.lang3.Validate;
 
-/** The transaction information model included in all transactions. */
+/**
+ * The transaction information model included in all transactions.
+ *
+ * <p>The hashes are kept in the form they are provided, either the hex strings of the REST and
+ * listener payloads or {@link Hash256}s, and converted to the other form only when requested.
+ */
 public class TransactionInfo {
 
-  private final BigInteger height;
+  private final long height;
   private final Optional<Integer> index;
   private final Optional<String> id;
-  private final Optional<String> hash;
-  private final Optional<String> merkleComponentHash;
-  private final Optional<String> aggregateHash;
+  /** The hex hash, lazily computed when the hash was provided as a {@link Hash256}. */
+  private volatile String hash;
+  /** The hash, lazily parsed when the hash was provided as hex. */
+  private volatile Hash256 hash256;
+  /** The hex merkle component hash, lazily computed when it was provided as a {@link Hash256}. */
+  private volatile String merkleComponentHash;
+  /** The merkle component hash, lazily parsed when it was provided as hex. */
+  private volatile Hash256 merkleComponentHash256;
+  /** The hex aggregate hash, lazily computed when it was provided as a {@link Hash256}. */
+  private volatile String aggregateHash;
+  /** The aggregate hash, lazily parsed when it was provided as hex. */
+  private volatile Hash256 aggregateHash256;
   private final Optional<String> aggregateId;
 
   private TransactionInfo(
       BigInteger height,
       Optional<Integer> index,
       Optional<String> id,
-      Optional<String> hash,
-      Optional<String> merkleComponentHash,
-      Optional<String> aggregateHash,
       Optional<String> aggregateId) {
     Validate.notNull(height, "Height must not be null");
-    this.height = height;
+    this.height = ConvertUtils.toUnsignedLong(height);
     this.index = index;
     this.id = id;
-    this.hash = hash;
-    this.merkleComponentHash = merkleComponentHash;
-    this.aggregateHash = aggregateHash;
     this.aggregateId = aggregateId;
   }
 
@@ -60,14 +70,30 @@ public class TransactionInfo {
    */
   public static TransactionInfo createAggregate(
       BigInteger height, Integer index, String id, String aggregateHash, String aggregateId) {
-    return new TransactionInfo(
-        height,
-        Optional.of(index),
-        Optional.ofNullable(id),
-        Optional.empty(),
-        Optional.empty(),
-        Optional.of(aggregateHash),
-        Optional.of(aggregateId));
+    TransactionInfo info =
+        new TransactionInfo(
+            height, Optional.of(index), Optional.ofNullable(id), Optional.of(aggregateId));
+    info.aggregateHash = Validate.notNull(aggregateHash);
+    return info;
+  }
+
+  /**
+   * Create transaction info object for aggregate transaction inner transaction.
+   *
+   * @param height Block height in which the transaction was included.
+   * @param index The transaction index.
+   * @param id transaction id.
+   * @param aggregateHash The hash of the aggregate transaction.
+   * @param aggregateId The id of the aggregate transaction.
+   * @return instance of TransactionInfo
+   */
+  public static TransactionInfo createAggregate(
+      BigInteger height, Integer index, String id, Hash256 aggregateHash, String aggregateId) {
+    TransactionInfo info =
+        new TransactionInfo(
+            height, Optional.of(index), Optional.ofNullable(id), Optional.of(aggregateId));
+    info.aggregateHash256 = Validate.notNull(aggregateHash);
+    return info;
   }
 
   /**
@@ -82,14 +108,32 @@ public class TransactionInfo {
    */
   public static TransactionInfo create(
       BigInteger height, Integer index, String id, String hash, String merkleComponentHash) {
-    return new TransactionInfo(
-        height,
-        Optional.ofNullable(index),
-        Optional.ofNullable(id),
-        Optional.of(hash),
-        Optional.of(merkleComponentHash),
-        Optional.empty(),
-        Optional.empty());
+    TransactionInfo info =
+        new TransactionInfo(
+            height, Optional.ofNullable(index), Optional.ofNullable(id), Optional.empty());
+    info.hash = Validate.notNull(hash);
+    info.merkleComponentHash = Validate.notNull(merkleComponentHash);
+    return info;
+  }
+
+  /**
+   * Create transaction info object for a transaction.
+   *
+   * @param height Block height in which the transaction was included.
+   * @param index The transaction index.
+   * @param id The transaction database id.
+   * @param hash The transaction hash.
+   * @param merkleComponentHash The transaction merkle component hash.
+   * @return instance of TransactionInfo
+   */
+  public static TransactionInfo create(
+      BigInteger height, Integer index, String id, Hash256 hash, Hash256 merkleComponentHash) {
+    TransactionInfo info =
+        new TransactionInfo(
+            height, Optional.ofNullable(index), Optional.ofNullable(id), Optional.empty());
+    info.hash256 = Validate.notNull(hash);
+    info.merkleComponentHash256 = Validate.notNull(merkleComponentHash);
+    return info;
   }
 
   /**
@@ -101,14 +145,28 @@ public class TransactionInfo {
    * @return instance of TransactionInfo
    */
   public static TransactionInfo create(BigInteger height, String hash, String merkleComponentHash) {
-    return new TransactionInfo(
-        height,
-        Optional.empty(),
-        Optional.empty(),
-        Optional.of(hash),
-        Optional.of(merkleComponentHash),
-        Optional.empty(),
-        Optional.empty());
+    TransactionInfo info =
+        new TransactionInfo(height, Optional.empty(), Optional.empty(), Optional.empty());
+    info.hash = Validate.notNull(hash);
+    info.merkleComponentHash = Validate.notNull(merkleComponentHash);
+    return info;
+  }
+
+  /**
+   * Create transaction info retrieved by listener.
+   *
+   * @param height Block height in which the transaction was included.
+   * @param hash The transaction hash
+   * @param merkleComponentHash The transaction merkle component hash.
+   * @return instance of TransactionInfo
+   */
+  public static TransactionInfo create(
+      BigInteger height, Hash256 hash, Hash256 merkleComponentHash) {
+    TransactionInfo info =
+        new TransactionInfo(height, Optional.empty(), Optional.empty(), Optional.empty());
+    info.hash256 = Validate.notNull(hash);
+    info.merkleComponentHash256 = Validate.notNull(merkleComponentHash);
+    return info;
   }
 
   /**
@@ -117,6 +175,16 @@ public class TransactionInfo {
    * @return block height
    */
   public BigInteger getHeight() {
+    return ConvertUtils.toUnsignedBigInteger(height);
+  }
+
+  /**
+   * Returns block height in which the transaction was included without creating a {@link
+   * BigInteger}.
+   *
+   * @return block height
+   */
+  public long getHeightAsLong() {
     return height;
   }
 
@@ -145,7 +213,38 @@ public class TransactionInfo {
    * @return transaction hash
    */
   public Optional<String> getHash() {
-    return hash;
+    String theHash = hash;
+    if (theHash == null && hash256 != null) {
+      theHash = hash256.toHex();
+      hash = theHash;
+    }
+    return Optional.ofNullable(theHash);
+  }
+
+  /**
+   * Returns transaction hash.
+   *
+   * @return transaction hash
+   * @throws IllegalArgumentException if the hash was provided as a string that is not a hash.
+   */
+  public Optional<Hash256> getHash256() {
+    Hash256 theHash = hash256;
+    if (theHash == null && hash != null) {
+      theHash = Hash256.fromHex(hash);
+      hash256 = theHash;
+    }
+    return Optional.ofNullable(theHash);
+  }
+
+  /**
+   * Checks if the transaction hash is the given one without converting the hash.
+   *
+   * @param transactionHash the expected transaction hash.
+   * @return true if this info has the given transaction hash.
+   */
+  public boolean hasHash(Hash256 transactionHash) {
+    Hash256 theHash = hash256;
+    return theHash != null ? theHash.equals(transactionHash) : transactionHash.equalsHex(hash);
   }
 
   /**
@@ -154,7 +253,27 @@ public class TransactionInfo {
    * @return transaction merkle component hash
    */
   public Optional<String> getMerkleComponentHash() {
-    return merkleComponentHash;
+    String theHash = merkleComponentHash;
+    if (theHash == null && merkleComponentHash256 != null) {
+      theHash = merkleComponentHash256.toHex();
+      merkleComponentHash = theHash;
+    }
+    return Optional.ofNullable(theHash);
+  }
+
+  /**
+   * Returns transaction merkle component hash.
+   *
+   * @return transaction merkle component hash
+   * @throws IllegalArgumentException if the hash was provided as a string that is not a hash.
+   */
+  public Optional<Hash256> getMerkleComponentHash256() {
+    Hash256 theHash = merkleComponentHash256;
+    if (theHash == null && merkleComponentHash != null) {
+      theHash = Hash256.fromHex(merkleComponentHash);
+      merkleComponentHash256 = theHash;
+    }
+    return Optional.ofNullable(theHash);
   }
 
   /**
@@ -163,7 +282,27 @@ public class TransactionInfo {
    * @return aggregate transaction hash
    */
   public Optional<String> getAggregateHash() {
-    return aggregateHash;
+    String theHash = aggregateHash;
+    if (theHash == null && aggregateHash256 != null) {
+      theHash = aggregateHash256.toHex();
+      aggregateHash = theHash;
+    }
+    return Optional.ofNullable(theHash);
+  }
+
+  /**
+   * Returns hash of the aggregate transaction.
+   *
+   * @return aggregate transaction hash
+   * @throws IllegalArgumentException if the hash was provided as a string that is not a hash.
+   */
+  public Optional<Hash256> getAggregateHash256() {
+    Hash256 theHash = aggregateHash256;
+    if (theHash == null && aggregateHash != null) {
+      theHash = Hash256.fromHex(aggregateHash);
+      aggregateHash256 = theHash;
+    }
+    return Optional.ofNullable(theHash);
   }
 
   /**
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.core.crypto.SigningContext;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.SerializationUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A {@link TransferTransaction} serialized once whose recipient, mosaic amounts, deadline and max
+ * fee are patched in place. Signing a template costs a copy of the payload and one signature, the
+ * transaction is not built nor serialized again. Templates are meant to create large amounts of
+ * similar transfers, for example payouts.
+ *
+ * <p>The patches change the template, every transaction signed afterwards uses them. Templates are
+ * not thread safe.
+ */
+public class TransferTransactionTemplate {
+
+  /** The offset of the max fee in the payload. */
+  private static final int MAX_FEE_OFFSET = 112;
+
+  /** The offset of the deadline in the payload. */
+  private static final int DEADLINE_OFFSET = 120;
+
+  /** The offset of the recipient in the payload. */
+  private static final int RECIPIENT_OFFSET = 128;
+
+  /** The size of the recipient. */
+  private static final int RECIPIENT_SIZE = 24;
+
+  /** The offset of the mosaics count in the payload. */
+  private static final int MOSAICS_COUNT_OFFSET = RECIPIENT_OFFSET + 26;
+
+  /** The offset of the first mosaic in the payload. */
+  private static final int MOSAICS_OFFSET = RECIPIENT_OFFSET + 32;
+
+  /** The size of each mosaic, the id and the amount. */
+  private static final int MOSAIC_SIZE = 16;
+
+  /** The transaction the template was created from, it knows how the payload is signed. */
+  private final TransferTransaction transaction;
+
+  /** The patched payload. */
+  private final byte[] payload;
+
+  /** The little endian view of the payload used to patch the numbers. */
+  private final ByteBuffer buffer;
+
+  /** The signing context of the last signature. */
+  private SigningContext lastSigningContext;
+
+  /** The signer of the last signature. */
+  private PublicAccount lastSigner;
+
+  /** The generation hash of the last signature. */
+  private String lastGenerationHash;
+
+  /** The generation hash bytes of the last signature. */
+  private byte[] lastGenerationHashBytes;
+
+  private TransferTransactionTemplate(TransferTransaction transaction) {
+    this.transaction = transaction;
+    this.payload = transaction.serialize();
+    this.buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Creates a template serializing a transfer transaction.
+   *
+   * @param transaction the transfer with the values shared by all the transactions.
+   * @return the template.
+   */
+  public static TransferTransactionTemplate create(TransferTransaction transaction) {
+    Validate.notNull(transaction, "transaction must not be null");
+    return new TransferTransactionTemplate(transaction);
+  }
+
+  /**
+   * Patches the recipient.
+   *
+   * @param recipient the recipient, an {@link Address} or a namespace id.
+   * @return this template.
+   */
+  public TransferTransactionTemplate recipient(UnresolvedAddress recipient) {
+    Validate.notNull(recipient, "recipient must not be null");
+    if (recipient instanceof Address) {
+      ((Address) recipient).writeRawBytes(payload, RECIPIENT_OFFSET);
+    } else {
+      System.arraycopy(
+          SerializationUtils.fromUnresolvedAddressToByteBuffer(
+                  recipient, transaction.getNetworkType())
+              .array(),
+          0,
+          payload,
+          RECIPIENT_OFFSET,
+          RECIPIENT_SIZE);
+    }
+    return this;
+  }
+
+  /**
+   * Patches the amount of one of the mosaics of the template.
+   *
+   * @param mosaicId the id of the mosaic.
+   * @param amount the amount as an unsigned long.
+   * @return this template.
+   * @throws IllegalArgumentException if the template doesn't transfer the mosaic.
+   */
+  public TransferTransactionTemplate mosaicAmount(UnresolvedMosaicId mosaicId, long amount) {
+    Validate.notNull(mosaicId, "mosaicId must not be null");
+    // the mosaics are serialized sorted by id, they are looked up in the payload.
+    int count = payload[MOSAICS_COUNT_OFFSET] & 0xFF;
+    long id = mosaicId.getIdAsLong();
+    for (int i = 0; i < count; i++) {
+      int offset = MOSAICS_OFFSET + i * MOSAIC_SIZE;
+      if (buffer.getLong(offset) == id) {
+        buffer.putLong(offset + 8, amount);
+        return this;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Mosaic " + mosaicId.getIdAsHex() + " is not transferred by the template");
+  }
+
+  /**
+   * Patches the deadline.
+   *
+   * @param deadline the deadline.
+   * @return this template.
+   */
+  public TransferTransactionTemplate deadline(Deadline deadline) {
+    Validate.notNull(deadline, "deadline must not be null");
+    buffer.putLong(DEADLINE_OFFSET, deadline.getValue());
+    return this;
+  }
+
+  /**
+   * Patches the max fee.
+   *
+   * @param maxFee the max fee as an unsigned long.
+   * @return this template.
+   */
+  public TransferTransactionTemplate maxFee(long maxFee) {
+    buffer.putLong(MAX_FEE_OFFSET, maxFee);
+    return this;
+  }
+
+  /**
+   * Signs a copy of the patched payload.
+   *
+   * @param account the account signing the transaction.
+   * @param generationHash the generation hash of the network.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signWith(Account account, String generationHash) {
+    Validate.notNull(account, "account must not be null");
+    return sign(account.getSigningContext(), account.getPublicAccount(), generationHash);
+  }
+
+  /**
+   * Signs a copy of the patched payload.
+   *
+   * @param signingContext the signing context of the account signing the transaction.
+   * @param generationHash the generation hash of the network.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signWith(SigningContext signingContext, String generationHash) {
+    Validate.notNull(signingContext, "signingContext must not be null");
+    if (signingContext != lastSigningContext) {
+      lastSigner =
+          new PublicAccount(signingContext.getPublicKey().toHex(), transaction.getNetworkType());
+      lastSigningContext = signingContext;
+    }
+    return sign(signingContext, lastSigner, generationHash);
+  }
+
+  private SignedTransaction sign(
+      SigningContext signingContext, PublicAccount signer, String generationHash) {
+    Validate.notNull(generationHash, "generationHash must not be null");
+    if (!generationHash.equals(lastGenerationHash)) {
+      lastGenerationHashBytes = ConvertUtils.getBytes(generationHash);
+      lastGenerationHash = generationHash;
+    }
+    return transaction.signPayload(
+        payload.clone(), signingContext, signer, lastGenerationHashBytes);
+  }
+}
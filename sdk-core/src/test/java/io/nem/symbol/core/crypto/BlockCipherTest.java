@@ -17,6 +17,7 @@ package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
@@ -152,6 +153,102 @@ public abstract class BlockCipherTest {
         e2.getMessage());
   }
 
+  @Test
+  void encryptedBuffersCanBeDecrypted() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair skp = KeyPair.random(engine);
+    final KeyPair rkp = KeyPair.random(engine);
+    final BlockCipher blockCipher1 =
+        this.getBlockCipher(skp, KeyPair.onlyPublic(rkp.getPublicKey(), engine));
+    final BlockCipher blockCipher2 =
+        this.getBlockCipher(KeyPair.onlyPublic(skp.getPublicKey(), engine), rkp);
+
+    for (final int size : new int[] {0, 1, 15, 16, 17, 1000, 5000}) {
+      final byte[] input = RandomUtils.generateRandomBytes(size);
+      final ByteBuffer encrypted = ByteBuffer.allocate(blockCipher1.getEncryptedSize(size));
+      final ByteBuffer decrypted = ByteBuffer.allocate(size);
+
+      // Act:
+      final int encryptedSize = blockCipher1.encrypt(ByteBuffer.wrap(input), encrypted);
+      encrypted.flip();
+      final int decryptedSize = blockCipher2.decrypt(encrypted, decrypted);
+
+      // Assert:
+      Assertions.assertEquals(blockCipher1.getEncryptedSize(size), encryptedSize);
+      Assertions.assertEquals(size, decryptedSize);
+      Assertions.assertEquals(size, blockCipher1.getDecryptedSize(encryptedSize));
+      Assertions.assertFalse(encrypted.hasRemaining());
+      Assertions.assertArrayEquals(input, decrypted.array());
+    }
+  }
+
+  @Test
+  void directBuffersCanBeEncryptedAndDecryptedAtAnyPosition() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair kp = KeyPair.random(engine);
+    final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+    final byte[] input = RandomUtils.generateRandomBytes(3000);
+    final ByteBuffer plainText = ByteBuffer.allocateDirect(input.length + 10);
+    plainText.position(10);
+    plainText.put(input).flip().position(10);
+    final ByteBuffer encrypted =
+        ByteBuffer.allocateDirect(blockCipher.getEncryptedSize(input.length) + 5);
+    encrypted.position(5);
+    final ByteBuffer decrypted = ByteBuffer.allocateDirect(input.length + 7);
+    decrypted.position(7);
+
+    // Act:
+    blockCipher.encrypt(plainText, encrypted);
+    encrypted.flip().position(5);
+    final byte[] encryptedBytes = new byte[encrypted.remaining()];
+    encrypted.duplicate().get(encryptedBytes);
+    blockCipher.decrypt(encrypted, decrypted);
+    decrypted.flip().position(7);
+    final byte[] decryptedBytes = new byte[decrypted.remaining()];
+    decrypted.get(decryptedBytes);
+
+    // Assert:
+    Assertions.assertArrayEquals(input, decryptedBytes);
+    Assertions.assertArrayEquals(input, blockCipher.decrypt(encryptedBytes));
+  }
+
+  @Test
+  void decryptBufferWithWrongKeyLeavesNoPlainTextInOutput() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final BlockCipher blockCipher1 =
+        this.getBlockCipher(KeyPair.random(engine), KeyPair.random(engine));
+    final BlockCipher blockCipher2 =
+        this.getBlockCipher(KeyPair.random(engine), KeyPair.random(engine));
+    final byte[] input = RandomUtils.generateRandomBytes(100);
+    final ByteBuffer encrypted = ByteBuffer.wrap(blockCipher1.encrypt(input));
+    final ByteBuffer decrypted = ByteBuffer.allocate(input.length);
+
+    // Act:
+    Assertions.assertThrows(
+        CryptoException.class, () -> blockCipher2.decrypt(encrypted, decrypted));
+
+    // Assert:
+    Assertions.assertEquals(0, decrypted.position());
+    Assertions.assertArrayEquals(new byte[input.length], decrypted.array());
+  }
+
+  @Test
+  void encryptFailsIfOutputIsTooSmall() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair kp = KeyPair.random(engine);
+    final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+    final ByteBuffer output = ByteBuffer.allocate(blockCipher.getEncryptedSize(10) - 1);
+
+    // Act + Assert:
+    Assertions.assertThrows(
+        CryptoException.class, () -> blockCipher.encrypt(ByteBuffer.allocate(10), output));
+    Assertions.assertEquals(0, output.position());
+  }
+
   protected BlockCipher getBlockCipher(
       final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
     return this.getCryptoEngine().createBlockCipher(senderKeyPair, recipientKeyPair);
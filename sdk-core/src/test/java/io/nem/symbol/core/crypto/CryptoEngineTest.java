@@ -40,6 +40,15 @@ public abstract class CryptoEngineTest {
     MatcherAssert.assertThat(signer, IsInstanceOf.instanceOf(DsaSigner.class));
   }
 
+  @Test
+  public void canCreateDsaBatchVerifier() {
+    // Act:
+    final DsaBatchVerifier verifier = this.getCryptoEngine().createDsaBatchVerifier();
+
+    // Assert:
+    MatcherAssert.assertThat(verifier, IsInstanceOf.instanceOf(DsaBatchVerifier.class));
+  }
+
   @Test
   public void canCreateKeyGenerator() {
     // Act:
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DigestEngineTest {
+
+  static {
+    Security.addProvider(new BouncyCastleProvider());
+  }
+
+  private static byte[] expectedHash(final DigestEngine engine, final byte[]... inputs)
+      throws Exception {
+    final MessageDigest digest = MessageDigest.getInstance(getAlgorithm(engine), "BC");
+    for (final byte[] input : inputs) {
+      digest.update(input);
+    }
+    return digest.digest();
+  }
+
+  private static String getAlgorithm(final DigestEngine engine) {
+    switch (engine) {
+      case SHA3_256:
+        return "SHA3-256";
+      case SHA3_512:
+        return "SHA3-512";
+      case KECCAK_256:
+        return "KECCAK-256";
+      case KECCAK_512:
+        return "KECCAK-512";
+      case SHA_256:
+        return "SHA256";
+      case SHA_512:
+        return "SHA512";
+      default:
+        return "RIPEMD160";
+    }
+  }
+
+  @Test
+  public void hashReturnsSameResultAsProviderDigest() throws Exception {
+    for (final DigestEngine engine : DigestEngine.values()) {
+      for (int i = 0; i < 20; i++) {
+        // Arrange:
+        final byte[] input1 = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(500));
+        final byte[] input2 = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(500));
+
+        // Act:
+        final byte[] hash = engine.hash(input1, input2);
+
+        // Assert:
+        Assertions.assertArrayEquals(expectedHash(engine, input1, input2), hash);
+        Assertions.assertEquals(engine.getDigestSize(), hash.length);
+      }
+    }
+  }
+
+  @Test
+  public void hashOfSliceHashesOnlyTheSlice() throws Exception {
+    for (final DigestEngine engine : DigestEngine.values()) {
+      // Arrange:
+      final byte[] input = RandomUtils.generateRandomBytes(300);
+      final byte[] expected = expectedHash(engine, Arrays.copyOfRange(input, 17, 217));
+      final byte[] output = new byte[engine.getDigestSize() + 3];
+
+      // Act:
+      engine.hash(input, 17, 200, output, 3);
+
+      // Assert:
+      Assertions.assertArrayEquals(expected, engine.hash(input, 17, 200));
+      Assertions.assertArrayEquals(expected, Arrays.copyOfRange(output, 3, output.length));
+    }
+  }
+
+  @Test
+  public void hashOfBuffersHashesRemainingBytesWithoutMovingPosition() throws Exception {
+    for (final DigestEngine engine : DigestEngine.values()) {
+      // Arrange:
+      final byte[] input1 = RandomUtils.generateRandomBytes(1000);
+      final byte[] input2 = RandomUtils.generateRandomBytes(50);
+      final ByteBuffer heap = ByteBuffer.wrap(input1, 100, 800).slice();
+      heap.position(10);
+      final ByteBuffer direct = ByteBuffer.allocateDirect(input2.length);
+      direct.put(input2);
+      direct.flip();
+      final ByteBuffer readOnly = ByteBuffer.wrap(input2).asReadOnlyBuffer();
+
+      // Act:
+      final byte[] hash = engine.hash(heap, direct, readOnly);
+
+      // Assert:
+      Assertions.assertArrayEquals(
+          expectedHash(engine, Arrays.copyOfRange(input1, 110, 900), input2, input2), hash);
+      Assertions.assertEquals(10, heap.position());
+      Assertions.assertEquals(0, direct.position());
+      Assertions.assertEquals(0, readOnly.position());
+    }
+  }
+
+  @Test
+  public void defaultHasherSliceMethodsCopyTheData() {
+    // Arrange:
+    final Hasher hasher = Hashes::sha3_256;
+    final byte[] input = RandomUtils.generateRandomBytes(100);
+    final byte[] expected = Hashes.sha3_256(Arrays.copyOfRange(input, 10, 60));
+
+    // Assert:
+    Assertions.assertArrayEquals(expected, hasher.hash(input, 10, 50));
+    Assertions.assertArrayEquals(expected, hasher.hash(ByteBuffer.wrap(input, 10, 50)));
+  }
+
+  @Test
+  public void hashCanBeUsedConcurrently() throws Exception {
+    // Arrange:
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<byte[]> inputs = new ArrayList<>();
+    final List<Future<byte[]>> futures = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      final byte[] input = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(200));
+      inputs.add(input);
+      futures.add(executor.submit(() -> DigestEngine.SHA3_256.hash(input)));
+    }
+
+    // Assert:
+    try {
+      for (int i = 0; i < inputs.size(); i++) {
+        Assertions.assertArrayEquals(
+            expectedHash(DigestEngine.SHA3_256, inputs.get(i)), futures.get(i).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void providerIsJdkOrBouncyCastle() {
+    for (final DigestEngine engine : DigestEngine.values()) {
+      Assertions.assertTrue(
+          Arrays.asList("SUN", "BC").contains(engine.getProviderName()), engine.name());
+    }
+    Assertions.assertEquals("BC", DigestEngine.KECCAK_256.getProviderName());
+    Assertions.assertEquals("SUN", DigestEngine.SHA_256.getProviderName());
+  }
+}
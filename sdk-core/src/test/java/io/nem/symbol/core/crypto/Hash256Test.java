@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Hash256Test {
+
+  private static final String HEX =
+      "B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F";
+
+  @Test
+  public void canCreateFromBytes() {
+    // Arrange:
+    final byte[] bytes = RandomUtils.generateRandomBytes(Hash256.SIZE);
+
+    // Act:
+    final Hash256 hash = Hash256.fromBytes(bytes);
+
+    // Assert:
+    MatcherAssert.assertThat(hash.getBytes(), IsEqual.equalTo(bytes));
+    MatcherAssert.assertThat(hash.toHex(), IsEqual.equalTo(ConvertUtils.toHex(bytes)));
+  }
+
+  @Test
+  public void canCreateFromBytesAtOffset() {
+    // Arrange:
+    final byte[] bytes = new byte[Hash256.SIZE + 10];
+    System.arraycopy(ConvertUtils.fromHexToBytes(HEX), 0, bytes, 7, Hash256.SIZE);
+
+    // Act:
+    final Hash256 fromArray = Hash256.fromBytes(bytes, 7);
+    final Hash256 fromBuffer = Hash256.fromByteBuffer(ByteBuffer.wrap(bytes), 7);
+
+    // Assert:
+    MatcherAssert.assertThat(fromArray.toHex(), IsEqual.equalTo(HEX));
+    MatcherAssert.assertThat(fromBuffer, IsEqual.equalTo(fromArray));
+  }
+
+  @Test
+  public void canCreateFromHex() {
+    // Act:
+    final Hash256 upper = Hash256.fromHex(HEX);
+    final Hash256 lower = Hash256.fromHex(HEX.toLowerCase());
+
+    // Assert:
+    MatcherAssert.assertThat(upper.getBytes(), IsEqual.equalTo(ConvertUtils.fromHexToBytes(HEX)));
+    MatcherAssert.assertThat(upper, IsEqual.equalTo(lower));
+    MatcherAssert.assertThat(upper.toHex(), IsEqual.equalTo(HEX));
+    MatcherAssert.assertThat(lower.toHex(), IsEqual.equalTo(HEX));
+    MatcherAssert.assertThat(lower.toString(), IsEqual.equalTo(HEX));
+  }
+
+  @Test
+  public void cannotCreateFromInvalidInput() {
+    // Assert:
+    Assertions.assertEquals(
+        "ABC is not a 32 bytes hex",
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Hash256.fromHex("ABC"))
+            .getMessage());
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Hash256.fromHex(HEX.replace('B', 'G')));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Hash256.fromBytes(new byte[Hash256.SIZE - 1]));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Hash256.fromBytes(new byte[Hash256.SIZE], 1));
+  }
+
+  @Test
+  public void canWriteBytesAtOffset() {
+    // Arrange:
+    final Hash256 hash = Hash256.fromHex(HEX);
+    final byte[] bytes = new byte[Hash256.SIZE + 2];
+
+    // Act:
+    hash.writeBytes(bytes, 1);
+
+    // Assert:
+    MatcherAssert.assertThat(Hash256.fromBytes(bytes, 1), IsEqual.equalTo(hash));
+    MatcherAssert.assertThat(bytes[0], IsEqual.equalTo((byte) 0));
+    MatcherAssert.assertThat(bytes[Hash256.SIZE + 1], IsEqual.equalTo((byte) 0));
+  }
+
+  @Test
+  public void equalsOnlyReturnsTrueForEquivalentHashes() {
+    // Arrange:
+    final Hash256 hash = Hash256.fromHex(HEX);
+    final byte[] modified = ConvertUtils.fromHexToBytes(HEX);
+    modified[31] ^= 1;
+
+    // Assert:
+    MatcherAssert.assertThat(Hash256.fromHex(HEX.toLowerCase()), IsEqual.equalTo(hash));
+    MatcherAssert.assertThat(
+        Hash256.fromBytes(hash.getBytes()).hashCode(), IsEqual.equalTo(hash.hashCode()));
+    MatcherAssert.assertThat(Hash256.fromBytes(modified), IsNot.not(IsEqual.equalTo(hash)));
+    MatcherAssert.assertThat(hash, IsNot.not(IsEqual.equalTo((Object) HEX)));
+  }
+
+  @Test
+  public void equalsHexComparesWithoutCase() {
+    // Arrange:
+    final Hash256 hash = Hash256.fromHex(HEX);
+
+    // Assert:
+    Assertions.assertTrue(hash.equalsHex(HEX));
+    Assertions.assertTrue(hash.equalsHex(HEX.toLowerCase()));
+    Assertions.assertFalse(hash.equalsHex(HEX.replace('F', 'E')));
+    Assertions.assertFalse(hash.equalsHex(HEX.substring(2)));
+    Assertions.assertFalse(hash.equalsHex(HEX.replace('B', 'G')));
+    Assertions.assertFalse(hash.equalsHex(null));
+  }
+}
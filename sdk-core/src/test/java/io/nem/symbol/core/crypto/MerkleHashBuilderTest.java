@@ -16,6 +16,13 @@
 package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
+import io.nem.symbol.sdk.model.blockchain.Position;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -73,7 +80,166 @@ public class MerkleHashBuilderTest {
             "e926cc323886d47234bb0b49219c81e280e8a65748b437c2ae83b09b37a5aaf2"));
 
     Assertions.assertEquals(
-        "5DC17B2409D50BCC7C1FAA720D0EC8B79A1705D0C517BCC0BDBD316540974D5E",
+        "15646372A7FD76613EAFA6FCEB5A7605C895E7F46FC59C00E5C61073F2481D81",
         ConvertUtils.toHex(builder.getRootHash()));
   }
+
+  @Test
+  public void testManyMatchesReferenceImplementation() {
+    for (int count : new int[] {4, 5, 7, 8, 9, 33, 100, 10_001}) {
+      // Arrange:
+      MerkleHashBuilder builder = new MerkleHashBuilder();
+      List<byte[]> hashes = createHashes(count);
+      hashes.forEach(builder::update);
+
+      // Act:
+      byte[] rootHash = builder.getRootHash();
+
+      // Assert:
+      Assertions.assertArrayEquals(getReferenceRootHash(hashes), rootHash);
+    }
+  }
+
+  @Test
+  public void testGetRootHashCanBeCalledAgainAfterUpdate() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder(1);
+    List<byte[]> hashes = createHashes(6);
+    hashes.subList(0, 3).forEach(builder::update);
+    byte[] firstRootHash = builder.getRootHash();
+
+    // Act:
+    hashes.subList(3, 6).forEach(builder::update);
+
+    // Assert:
+    Assertions.assertArrayEquals(getReferenceRootHash(hashes.subList(0, 3)), firstRootHash);
+    Assertions.assertEquals(6, builder.getSize());
+    Assertions.assertArrayEquals(getReferenceRootHash(hashes), builder.getRootHash());
+  }
+
+  @Test
+  public void testMerklePathOfSingleLeafIsEmpty() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    builder.update(createHashes(1).get(0));
+
+    // Act:
+    List<MerklePathItem> path = builder.getMerklePath(0);
+
+    // Assert:
+    Assertions.assertTrue(path.isEmpty());
+  }
+
+  @Test
+  public void testMerklePathPositions() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    List<byte[]> hashes = createHashes(3);
+    hashes.forEach(builder::update);
+
+    // Act:
+    List<MerklePathItem> path = builder.getMerklePath(2);
+
+    // Assert: the lone last leaf is paired with itself
+    Assertions.assertEquals(2, path.size());
+    Assertions.assertEquals(Position.RIGHT, path.get(0).getPosition());
+    Assertions.assertEquals(ConvertUtils.toHex(hashes.get(2)), path.get(0).getHash());
+    Assertions.assertEquals(Position.LEFT, path.get(1).getPosition());
+    Assertions.assertEquals(
+        ConvertUtils.toHex(Hashes.sha3_256(hashes.get(0), hashes.get(1))), path.get(1).getHash());
+  }
+
+  @Test
+  public void testMerklePathOfEveryLeafLeadsToRoot() {
+    for (int count : new int[] {2, 3, 5, 8, 13}) {
+      // Arrange:
+      MerkleHashBuilder builder = new MerkleHashBuilder();
+      List<byte[]> hashes = createHashes(count);
+      hashes.forEach(builder::update);
+      byte[] rootHash = builder.getRootHash();
+
+      for (int i = 0; i < count; i++) {
+        // Act:
+        List<MerklePathItem> path = builder.getMerklePath(i);
+
+        // Assert:
+        Assertions.assertArrayEquals(
+            rootHash, MerkleHashBuilder.computeRootHash(hashes.get(i), path));
+      }
+    }
+  }
+
+  @Test
+  public void testMerklePathDoesNotLeadToRootForOtherLeaf() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    List<byte[]> hashes = createHashes(4);
+    hashes.forEach(builder::update);
+
+    // Act:
+    byte[] rootHash = MerkleHashBuilder.computeRootHash(hashes.get(1), builder.getMerklePath(0));
+
+    // Assert:
+    Assertions.assertFalse(Arrays.equals(builder.getRootHash(), rootHash));
+  }
+
+  @Test
+  public void testMerklePathFailsForInvalidIndex() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    builder.update(createHashes(1).get(0));
+
+    // Act + Assert:
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.getMerklePath(1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.getMerklePath(-1));
+  }
+
+  @Test
+  public void testComputeRootHashFailsForInvalidHashSize() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    List<byte[]> hashes = createHashes(2);
+    hashes.forEach(builder::update);
+    List<MerklePathItem> invalidPath =
+        Collections.singletonList(new MerklePathItem(Position.RIGHT, "ABCD"));
+
+    // Act + Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> MerkleHashBuilder.computeRootHash(new byte[31], builder.getMerklePath(0)));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> MerkleHashBuilder.computeRootHash(hashes.get(0), invalidPath));
+  }
+
+  @Test
+  public void testUpdateFailsForInvalidHashSize() {
+    // Arrange:
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+
+    // Act + Assert:
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.update(new byte[31]));
+  }
+
+  private static List<byte[]> createHashes(int count) {
+    List<byte[]> hashes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      hashes.add(Hashes.sha3_256(Integer.toString(i).getBytes(StandardCharsets.UTF_8)));
+    }
+    return hashes;
+  }
+
+  /** Builds the tree one level list at a time. */
+  private static byte[] getReferenceRootHash(List<byte[]> leaves) {
+    List<byte[]> level = leaves;
+    while (level.size() > 1) {
+      List<byte[]> next = new ArrayList<>();
+      for (int i = 0; i < level.size(); i += 2) {
+        byte[] right = i + 1 < level.size() ? level.get(i + 1) : level.get(i);
+        next.add(Hashes.sha3_256(level.get(i), right));
+      }
+      level = next;
+    }
+    return level.get(0);
+  }
 }
@@ -21,6 +21,9 @@ import io.nem.symbol.core.crypto.CryptoEngine;
 import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.utils.ArrayUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +60,28 @@ public class Ed25519BlockCipherTest extends BlockCipherTest {
     Assertions.assertEquals("Cannot decrypt. Input is required.", exception.getMessage());
   }
 
+  @Test
+  public void bufferAndArrayEncryptionsMatchForSameIv() {
+    // Arrange:
+    final KeyPair skp = KeyPair.random();
+    final KeyPair rkp = KeyPair.random();
+    final Ed25519BlockCipher blockCipher =
+        new Ed25519BlockCipher(skp, KeyPair.onlyPublic(rkp.getPublicKey()));
+    final byte[] input = RandomUtils.generateRandomBytes(100);
+    final byte[] iv = AESGCM.generateIV();
+    final ByteBuffer output = ByteBuffer.allocate(blockCipher.getEncryptedSize(input.length));
+
+    // Act:
+    final byte[] encrypted = blockCipher.encrypt(input, iv);
+    blockCipher.encrypt(ByteBuffer.wrap(input), iv, output);
+    final AuthenticatedCipherText encoded = blockCipher.encode(input, iv);
+
+    // Assert:
+    Assertions.assertArrayEquals(encrypted, output.array());
+    Assertions.assertArrayEquals(
+        ArrayUtils.concat(encoded.getAuthenticationTag(), iv, encoded.getCipherText()), encrypted);
+  }
+
   @Override
   protected BlockCipher getBlockCipher(
       final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
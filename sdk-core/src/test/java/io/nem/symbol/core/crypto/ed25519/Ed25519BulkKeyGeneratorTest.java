@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.RawAddress;
+import io.nem.symbol.core.utils.Base32Encoder;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519BulkKeyGeneratorTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void generatedKeysAndAddressesMatchSingleKeyDerivation() {
+    // Arrange:
+    final Ed25519BulkKeyGenerator generator =
+        new Ed25519BulkKeyGenerator(NetworkType.TEST_NET, executor, 3, 16);
+    final List<byte[][]> generated = new CopyOnWriteArrayList<>();
+
+    // Act:
+    generator.generate(
+        100, (priv, pub, address) -> generated.add(new byte[][] {priv, pub, address}));
+
+    // Assert:
+    Assertions.assertEquals(100, generated.size());
+    final Set<String> privateKeys = new HashSet<>();
+    for (final byte[][] key : generated) {
+      final KeyPair keyPair = KeyPair.fromPrivate(new PrivateKey(key[0]));
+      privateKeys.add(keyPair.getPrivateKey().toHex());
+      Assertions.assertArrayEquals(keyPair.getPublicKey().getBytes(), key[1]);
+      Assertions.assertEquals(
+          RawAddress.generateAddress(keyPair.getPublicKey().toHex(), NetworkType.TEST_NET),
+          plainAddress(key[2]));
+    }
+    Assertions.assertEquals(100, privateKeys.size());
+  }
+
+  @Test
+  public void generateZeroKeys() {
+    // Arrange:
+    final Ed25519BulkKeyGenerator generator =
+        new Ed25519BulkKeyGenerator(NetworkType.TEST_NET, executor, 3, 16);
+    final AtomicInteger count = new AtomicInteger();
+
+    // Act:
+    generator.generate(0, (priv, pub, address) -> count.incrementAndGet());
+
+    // Assert:
+    Assertions.assertEquals(0, count.get());
+  }
+
+  @Test
+  public void generateVanityOnlyReturnsMatchingAddresses() {
+    // Arrange:
+    final Ed25519BulkKeyGenerator generator =
+        new Ed25519BulkKeyGenerator(NetworkType.TEST_NET, executor, 3, 16);
+    final List<String> addresses = new CopyOnWriteArrayList<>();
+
+    // Act:
+    generator.generateVanity(
+        "tb", 10, (priv, pub, address) -> addresses.add(plainAddress(address)));
+
+    // Assert:
+    Assertions.assertEquals(10, addresses.size());
+    addresses.forEach(address -> Assertions.assertTrue(address.startsWith("TB"), address));
+  }
+
+  @Test
+  public void generateVanityRejectsInvalidPrefixes() {
+    // Arrange:
+    final Ed25519BulkKeyGenerator generator =
+        new Ed25519BulkKeyGenerator(NetworkType.TEST_NET, executor, 3, 16);
+
+    // Act + Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.generateVanity("T1", 1, (priv, pub, address) -> {}));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.generateVanity("NA", 1, (priv, pub, address) -> {}));
+  }
+
+  @Test
+  public void sinkFailureStopsTheGeneration() {
+    // Arrange:
+    final Ed25519BulkKeyGenerator generator =
+        new Ed25519BulkKeyGenerator(NetworkType.TEST_NET, executor, 3, 16);
+
+    // Act:
+    final IllegalStateException exception =
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () ->
+                generator.generate(
+                    1000,
+                    (priv, pub, address) -> {
+                      throw new IllegalStateException("sink is full");
+                    }));
+
+    // Assert:
+    Assertions.assertEquals("sink is full", exception.getMessage());
+  }
+
+  private static String plainAddress(final byte[] rawAddress) {
+    final String base32 = Base32Encoder.getString(rawAddress);
+    return base32.substring(0, base32.length() - 1);
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaBatchVerifier;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519DsaBatchVerifierTest {
+
+  /** The point (0, -1), of order 2. */
+  private static final Ed25519GroupElement ORDER_TWO =
+      new Ed25519EncodedGroupElement(
+              ConvertUtils.getBytes(
+                  "ecffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff7f"))
+          .decode();
+
+  private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+  private final List<byte[]> data = new ArrayList<>();
+
+  private final List<Signature> signatures = new ArrayList<>();
+
+  private final List<PublicKey> publicKeys = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    for (int i = 0; i < 100; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] input = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(300));
+      data.add(input);
+      signatures.add(engine.createDsaSigner(keyPair).sign(input));
+      publicKeys.add(keyPair.getPublicKey());
+    }
+  }
+
+  @Test
+  public void validSignaturesCanBeVerifiedInBatch() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+
+    // Assert:
+    Assertions.assertTrue(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(-1, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void emptyBatchIsValid() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+
+    // Assert:
+    Assertions.assertTrue(
+        verifier.verifyBatch(
+            Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+  }
+
+  @Test
+  public void batchWithModifiedDataIsInvalid() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    final byte[] modified = RandomUtils.generateRandomBytes(10);
+    data.set(70, modified);
+
+    // Assert:
+    Assertions.assertFalse(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(70, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void batchWithSwappedSignaturesIsInvalid() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    Collections.swap(signatures, 3, 90);
+
+    // Assert:
+    Assertions.assertFalse(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(3, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void batchWithNonCanonicalSignatureIsInvalid() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    final Signature signature = signatures.get(20);
+    signatures.set(
+        20,
+        new Signature(
+            signature.getR(), engine.getCurve().getGroupOrder().add(signature.getS())));
+
+    // Assert:
+    Assertions.assertFalse(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(20, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void batchWithZeroPublicKeyIsInvalid() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    publicKeys.set(50, new PublicKey(new byte[32]));
+
+    // Assert:
+    Assertions.assertFalse(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(50, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void batchResultMatchesSingleVerification() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    final KeyPair keyPair = KeyPair.random(engine);
+    data.set(10, RandomUtils.generateRandomBytes(10));
+    publicKeys.set(60, keyPair.getPublicKey());
+
+    // Assert:
+    for (int i = 0; i < data.size(); i++) {
+      final boolean expected =
+          engine
+              .createDsaSigner(KeyPair.onlyPublic(publicKeys.get(i), engine))
+              .verify(data.get(i), signatures.get(i));
+      Assertions.assertEquals(
+          expected,
+          verifier.verifyBatch(
+              data.subList(i, i + 1), signatures.subList(i, i + 1), publicKeys.subList(i, i + 1)));
+    }
+    Assertions.assertEquals(10, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void batchAcceptsSmallOrderComponentsWithCofactoredSemantics() {
+    // Arrange: A = a * B + T and R = r * B + T, the cofactor clears T so the batch accepts all the
+    // signatures while the single verification rejects some of them
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    final Ed25519EncodedFieldElement a =
+        Ed25519Utils.prepareForScalarMultiply(KeyPair.random(engine).getPrivateKey());
+    final Ed25519GroupElement torsionedA =
+        Ed25519Group.BASE_POINT.scalarMultiply(a).add(ORDER_TWO.toCached()).toP3();
+    final PublicKey torsionedPublicKey = new PublicKey(torsionedA.encode().getRaw());
+    final KeyPair keyPair = KeyPair.random(engine);
+    final Ed25519EncodedFieldElement b =
+        Ed25519Utils.prepareForScalarMultiply(keyPair.getPrivateKey());
+    int singleRejected = 0;
+    for (int i = 0; i < 10; i++) {
+      final byte[] input = RandomUtils.generateRandomBytes(32);
+      final boolean torsionedKey = i % 2 == 0;
+      final PublicKey publicKey = torsionedKey ? torsionedPublicKey : keyPair.getPublicKey();
+      final Signature signature =
+          torsionedKey ? sign(a, publicKey, null, input) : sign(b, publicKey, ORDER_TWO, input);
+      data.set(10 * i, input);
+      signatures.set(10 * i, signature);
+      publicKeys.set(10 * i, publicKey);
+      if (!verifySingle(input, signature, publicKey)) {
+        singleRejected++;
+      }
+    }
+
+    // Assert:
+    Assertions.assertTrue(singleRejected >= 5);
+    Assertions.assertTrue(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(-1, verifier.findFirstInvalid(data, signatures, publicKeys));
+    data.set(70, RandomUtils.generateRandomBytes(10));
+    Assertions.assertFalse(verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(70, verifier.findFirstInvalid(data, signatures, publicKeys));
+  }
+
+  @Test
+  public void batchDoesOneScalarMultiplicationPerChunk() {
+    // Arrange: a single verification does one scalar multiplication per signature
+    final AtomicInteger multiplications = new AtomicInteger();
+    final DsaBatchVerifier verifier =
+        new Ed25519DsaBatchVerifier() {
+          @Override
+          Ed25519GroupElement multiScalarMultiply(
+              final Ed25519GroupElement[] groupElements,
+              final Ed25519EncodedFieldElement[] fieldElements,
+              final Ed25519EncodedFieldElement sSum) {
+            multiplications.incrementAndGet();
+            return super.multiScalarMultiply(groupElements, fieldElements, sSum);
+          }
+        };
+
+    // Act:
+    final boolean valid = verifier.verifyBatch(data, signatures, publicKeys);
+
+    // Assert: 100 signatures in chunks of 64
+    Assertions.assertTrue(valid);
+    Assertions.assertEquals(2, multiplications.get());
+    Assertions.assertTrue(multiplications.get() < data.size());
+  }
+
+  private boolean verifySingle(
+      final byte[] input, final Signature signature, final PublicKey publicKey) {
+    return engine.createDsaSigner(KeyPair.onlyPublic(publicKey, engine)).verify(input, signature);
+  }
+
+  /** Signs like {@link Ed25519DsaSigner} with an arbitrary public key and R torsion. */
+  private static Signature sign(
+      final Ed25519EncodedFieldElement a,
+      final PublicKey publicKey,
+      final Ed25519GroupElement rTorsion,
+      final byte[] input) {
+    final Ed25519EncodedFieldElement r =
+        new Ed25519EncodedFieldElement(RandomUtils.generateRandomBytes(64)).modQ();
+    Ed25519GroupElement groupElementR = Ed25519Group.BASE_POINT.scalarMultiply(r);
+    if (rTorsion != null) {
+      groupElementR = groupElementR.add(rTorsion.toCached()).toP3();
+    }
+    final byte[] encodedR = groupElementR.encode().getRaw();
+    final Ed25519EncodedFieldElement h =
+        new Ed25519EncodedFieldElement(Hashes.sha512(encodedR, publicKey.getBytes(), input))
+            .modQ();
+    return new Signature(encodedR, h.multiplyAndAddModQ(a, r).getRaw());
+  }
+
+  @Test
+  public void listsMustHaveTheSameSize() {
+    // Arrange:
+    final DsaBatchVerifier verifier = engine.createDsaBatchVerifier();
+    publicKeys.remove(0);
+
+    // Assert:
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> verifier.verifyBatch(data, signatures, publicKeys));
+    Assertions.assertEquals(
+        "data, signatures and publicKeys must have the same size", exception.getMessage());
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.BlockCipher;
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519GroupElementCacheTest {
+
+  @Test
+  public void cachedElementsArePrecomputedOnDemand() {
+    // Arrange:
+    final Ed25519GroupElementCache cache = new Ed25519GroupElementCache(10);
+    final PublicKey publicKey = KeyPair.random().getPublicKey();
+
+    // Act:
+    final Ed25519GroupElement decoded = cache.getDecoded(publicKey);
+    final Ed25519GroupElement forDouble = cache.getForDoubleScalarMultiplication(publicKey);
+    final Ed25519GroupElement forSingle = cache.getForScalarMultiplication(publicKey);
+
+    // Assert:
+    Assertions.assertSame(decoded, forDouble);
+    Assertions.assertSame(decoded, forSingle);
+    Assertions.assertTrue(forDouble.isPrecomputedForDoubleScalarMultiplication());
+    Assertions.assertNotNull(forSingle.getPrecomputedForSingle());
+    Assertions.assertEquals(new Ed25519EncodedGroupElement(publicKey.getBytes()).decode(), decoded);
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertEquals(1, cache.getMissCount());
+    Assertions.assertEquals(2, cache.getHitCount());
+  }
+
+  @Test
+  public void cacheIsBounded() {
+    // Arrange:
+    final Ed25519GroupElementCache cache = new Ed25519GroupElementCache(2);
+
+    // Act:
+    for (int i = 0; i < 5; i++) {
+      cache.getDecoded(KeyPair.random().getPublicKey());
+    }
+
+    // Assert:
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals(5, cache.getMissCount());
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void engineWithCacheSignsVerifiesAndEncrypts() {
+    // Arrange:
+    final Ed25519GroupElementCache cache = new Ed25519GroupElementCache();
+    final CryptoEngine engine = new Ed25519CryptoEngine(cache);
+    final KeyPair sender = KeyPair.random(engine);
+    final KeyPair recipient = KeyPair.random(engine);
+    final byte[] input = RandomUtils.generateRandomBytes();
+
+    // Act:
+    final DsaSigner signer = engine.createDsaSigner(sender);
+    final Signature signature = signer.sign(input);
+    final BlockCipher senderCipher = engine.createBlockCipher(sender, recipient);
+    final BlockCipher recipientCipher = engine.createBlockCipher(recipient, sender);
+    final byte[] encrypted = senderCipher.encrypt(input);
+
+    // Assert:
+    Assertions.assertTrue(signer.verify(input, signature));
+    Assertions.assertTrue(signer.verify(input, signature));
+    Assertions.assertTrue(
+        engine
+            .createDsaBatchVerifier()
+            .verifyBatch(
+                Collections.singletonList(input),
+                Collections.singletonList(signature),
+                Collections.singletonList(sender.getPublicKey())));
+    Assertions.assertArrayEquals(input, recipientCipher.decrypt(encrypted));
+    Assertions.assertArrayEquals(
+        Ed25519BlockCipher.getSharedKey(sender.getPrivateKey(), recipient.getPublicKey()),
+        Ed25519BlockCipher.getSharedKey(sender.getPrivateKey(), recipient.getPublicKey(), cache));
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals(2, cache.getMissCount());
+    Assertions.assertEquals(4, cache.getHitCount());
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.utils.ArrayUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519InPlaceOperationsTest {
+
+  private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+  @Test
+  public void derivePublicKeyReturnsSameKeyAsKeyGenerator() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final byte[] publicKey = new byte[32];
+    for (int i = 0; i < 50; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+
+      // Act:
+      operations.derivePublicKey(keyPair.getPrivateKey().getBytes(), publicKey);
+
+      // Assert:
+      Assertions.assertArrayEquals(keyPair.getPublicKey().getBytes(), publicKey);
+    }
+  }
+
+  @Test
+  public void derivePublicKeysReturnsSameKeysAsKeyGenerator() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final int count = 40;
+    final KeyPair[] keyPairs = new KeyPair[count];
+    final byte[] privateKeys = new byte[count * 32];
+    for (int i = 0; i < count; i++) {
+      keyPairs[i] = KeyPair.random(engine);
+      System.arraycopy(keyPairs[i].getPrivateKey().getBytes(), 0, privateKeys, i * 32, 32);
+    }
+    final byte[] publicKeys = new byte[count * 32];
+
+    // Act:
+    operations.derivePublicKeys(privateKeys, count, publicKeys);
+
+    // Assert:
+    for (int i = 0; i < count; i++) {
+      Assertions.assertArrayEquals(
+          keyPairs[i].getPublicKey().getBytes(),
+          Arrays.copyOfRange(publicKeys, i * 32, i * 32 + 32));
+    }
+  }
+
+  @Test
+  public void signReturnsSameSignatureAsDsaSigner() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final byte[] signature = new byte[64];
+    for (int i = 0; i < 50; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] data = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(300));
+
+      // Act:
+      operations.sign(
+          keyPair.getPrivateKey().getBytes(),
+          keyPair.getPublicKey().getBytes(),
+          data,
+          0,
+          data.length,
+          signature);
+
+      // Assert:
+      Assertions.assertArrayEquals(
+          engine.createDsaSigner(keyPair).sign(data).getBytes(), signature);
+    }
+  }
+
+  @Test
+  public void signExpandedReturnsSameSignatureAsSign() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final byte[] expandedKey = new byte[64];
+    final byte[] signature = new byte[64];
+    final byte[] expectedSignature = new byte[64];
+    for (int i = 0; i < 20; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] data = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(300));
+      operations.sign(
+          keyPair.getPrivateKey().getBytes(),
+          keyPair.getPublicKey().getBytes(),
+          data,
+          0,
+          data.length,
+          expectedSignature);
+
+      // Act:
+      operations.expandPrivateKey(keyPair.getPrivateKey().getBytes(), expandedKey);
+      operations.signExpanded(
+          expandedKey, keyPair.getPublicKey().getBytes(), data, 0, data.length, signature);
+
+      // Assert:
+      Assertions.assertArrayEquals(expectedSignature, signature);
+    }
+  }
+
+  @Test
+  public void signUsesOnlyTheGivenRangeOfData() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final KeyPair keyPair = KeyPair.random(engine);
+    final byte[] data = RandomUtils.generateRandomBytes(100);
+    final byte[] signature = new byte[64];
+
+    // Act:
+    operations.sign(
+        keyPair.getPrivateKey().getBytes(),
+        keyPair.getPublicKey().getBytes(),
+        data,
+        10,
+        50,
+        signature);
+
+    // Assert:
+    final byte[] range = Arrays.copyOfRange(data, 10, 60);
+    Assertions.assertArrayEquals(
+        engine.createDsaSigner(keyPair).sign(range).getBytes(), signature);
+    Assertions.assertTrue(
+        operations.verify(keyPair.getPublicKey().getBytes(), data, 10, 50, signature));
+  }
+
+  @Test
+  public void verifyReturnsSameResultAsDsaSigner() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    for (int i = 0; i < 50; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] data = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(300));
+      final byte[] signature = engine.createDsaSigner(keyPair).sign(data).getBytes();
+      final byte[] publicKey = keyPair.getPublicKey().getBytes();
+      final byte[] modifiedData = Arrays.copyOf(data, data.length + 1);
+
+      // Assert:
+      Assertions.assertTrue(operations.verify(publicKey, data, 0, data.length, signature));
+      Assertions.assertFalse(
+          operations.verify(publicKey, modifiedData, 0, modifiedData.length, signature));
+      Assertions.assertFalse(
+          engine.createDsaSigner(keyPair).verify(modifiedData, new Signature(signature)));
+    }
+  }
+
+  @Test
+  public void verifyReturnsFalseForNonCanonicalSignature() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final KeyPair keyPair = KeyPair.random(engine);
+    final byte[] data = RandomUtils.generateRandomBytes(100);
+    final byte[] signature = engine.createDsaSigner(keyPair).sign(data).getBytes();
+
+    // Act: S = S + group order
+    final byte[] order = ArrayUtils.toByteArray(Ed25519Group.GROUP_ORDER, 32);
+    int carry = 0;
+    for (int i = 0; i < 32; i++) {
+      final int sum = (signature[32 + i] & 0xFF) + (order[i] & 0xFF) + carry;
+      signature[32 + i] = (byte) sum;
+      carry = sum >> 8;
+    }
+
+    // Assert:
+    Assertions.assertFalse(
+        operations.verify(keyPair.getPublicKey().getBytes(), data, 0, data.length, signature));
+  }
+
+  @Test
+  public void verifyReturnsFalseForZeroOrInvalidPublicKey() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final KeyPair keyPair = KeyPair.random(engine);
+    final byte[] data = RandomUtils.generateRandomBytes(100);
+    final byte[] signature = engine.createDsaSigner(keyPair).sign(data).getBytes();
+    final byte[] invalidPublicKey = new byte[32];
+    invalidPublicKey[0] = 2;
+
+    // Assert:
+    Assertions.assertFalse(operations.verify(new byte[32], data, 0, data.length, signature));
+    Assertions.assertFalse(operations.verify(invalidPublicKey, data, 0, data.length, signature));
+  }
+
+  @Test
+  public void getSharedSecretReturnsSameSecretAsBlockCipher() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final byte[] sharedSecret = new byte[32];
+    for (int i = 0; i < 20; i++) {
+      final KeyPair sender = KeyPair.random(engine);
+      final KeyPair recipient = KeyPair.random(engine);
+
+      // Act:
+      operations.getSharedSecret(
+          sender.getPrivateKey().getBytes(), recipient.getPublicKey().getBytes(), sharedSecret);
+
+      // Assert:
+      Assertions.assertArrayEquals(
+          Ed25519BlockCipher.getSharedSecret(sender.getPrivateKey(), recipient.getPublicKey()),
+          sharedSecret);
+    }
+  }
+
+  @Test
+  public void getSharedSecretThrowsForInvalidPublicKey() {
+    // Arrange:
+    final Ed25519InPlaceOperations operations = Ed25519InPlaceOperations.current();
+    final byte[] invalidPublicKey = new byte[32];
+    invalidPublicKey[0] = 2;
+
+    // Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            operations.getSharedSecret(
+                KeyPair.random(engine).getPrivateKey().getBytes(),
+                invalidPublicKey,
+                new byte[32]));
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.BlockCipher;
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519SharedKeyCacheTest {
+
+  @Test
+  public void sharedKeyIsDerivedOnce() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+    final KeyPair local = KeyPair.random();
+    final KeyPair remote = KeyPair.random();
+    final AtomicInteger derivations = new AtomicInteger();
+    final byte[] expected =
+        Ed25519BlockCipher.getSharedKey(local.getPrivateKey(), remote.getPublicKey());
+
+    // Act:
+    for (int i = 0; i < 3; i++) {
+      final byte[] sharedKey =
+          cache.getSharedKey(
+              local.getPrivateKey(),
+              remote.getPublicKey(),
+              () -> {
+                derivations.incrementAndGet();
+                return Ed25519BlockCipher.getSharedKey(
+                    local.getPrivateKey(), remote.getPublicKey());
+              });
+
+      // Assert:
+      Assertions.assertArrayEquals(expected, sharedKey);
+    }
+    Assertions.assertEquals(1, derivations.get());
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertEquals(2, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void callersGetCopiesOfTheCachedKey() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+    final KeyPair local = KeyPair.random();
+    final KeyPair remote = KeyPair.random();
+    final byte[] first =
+        cache.getSharedKey(local.getPrivateKey(), remote.getPublicKey(), () -> new byte[] {1, 2});
+
+    // Act:
+    first[0] = 0;
+    final byte[] second =
+        cache.getSharedKey(local.getPrivateKey(), remote.getPublicKey(), () -> new byte[] {3, 4});
+
+    // Assert:
+    Assertions.assertArrayEquals(new byte[] {1, 2}, second);
+  }
+
+  @Test
+  public void keysAreSpecificToBothKeys() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+    final KeyPair local = KeyPair.random();
+    final KeyPair remote1 = KeyPair.random();
+    final KeyPair remote2 = KeyPair.random();
+    cache.getSharedKey(local.getPrivateKey(), remote1.getPublicKey(), () -> new byte[] {1});
+
+    // Act:
+    final byte[] sharedKey =
+        cache.getSharedKey(local.getPrivateKey(), remote2.getPublicKey(), () -> new byte[] {2});
+
+    // Assert:
+    Assertions.assertArrayEquals(new byte[] {2}, sharedKey);
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedKeyIsEvicted() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(1);
+    final KeyPair local = KeyPair.random();
+    final KeyPair remote1 = KeyPair.random();
+    final KeyPair remote2 = KeyPair.random();
+    cache.getSharedKey(local.getPrivateKey(), remote1.getPublicKey(), () -> new byte[] {1});
+    cache.getSharedKey(local.getPrivateKey(), remote2.getPublicKey(), () -> new byte[] {2});
+
+    // Act:
+    final byte[] sharedKey =
+        cache.getSharedKey(local.getPrivateKey(), remote1.getPublicKey(), () -> new byte[] {3});
+
+    // Assert:
+    Assertions.assertArrayEquals(new byte[] {3}, sharedKey);
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertEquals(3, cache.getMissCount());
+  }
+
+  @Test
+  public void clearRemovesAllKeys() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+    final KeyPair local = KeyPair.random();
+    cache.getSharedKey(local.getPrivateKey(), local.getPublicKey(), () -> new byte[] {1});
+
+    // Act:
+    cache.clear();
+
+    // Assert:
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void blockCipherWithCacheCanDecryptMessagesOfCipherWithoutCache() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache();
+    final CryptoEngine engine = new Ed25519CryptoEngine(null, cache);
+    final KeyPair sender = KeyPair.random();
+    final KeyPair recipient = KeyPair.random();
+    final BlockCipher encryptCipher =
+        new Ed25519BlockCipher(sender, KeyPair.onlyPublic(recipient.getPublicKey()));
+    final BlockCipher decryptCipher =
+        engine.createBlockCipher(KeyPair.onlyPublic(sender.getPublicKey()), recipient);
+
+    for (int i = 0; i < 5; i++) {
+      final byte[] input = RandomUtils.generateRandomBytes(100);
+
+      // Act:
+      final byte[] decrypted = decryptCipher.decrypt(encryptCipher.encrypt(input));
+
+      // Assert:
+      Assertions.assertArrayEquals(input, decrypted);
+    }
+    Assertions.assertEquals(1, cache.getMissCount());
+    Assertions.assertEquals(4, cache.getHitCount());
+  }
+}
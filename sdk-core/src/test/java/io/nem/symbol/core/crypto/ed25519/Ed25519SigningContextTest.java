@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SigningContext;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519SigningContextTest {
+
+  private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+  @Test
+  public void signReturnsSameSignatureAsDsaSigner() {
+    for (int i = 0; i < 20; i++) {
+      // Arrange:
+      final KeyPair keyPair = KeyPair.random(engine);
+      final SigningContext context = engine.createSigningContext(keyPair);
+      final byte[] data = RandomUtils.generateRandomBytes(RandomUtils.generateRandomInt(300));
+
+      // Act:
+      final Signature signature = context.sign(data);
+
+      // Assert:
+      Assertions.assertEquals(engine.createDsaSigner(keyPair).sign(data), signature);
+      Assertions.assertTrue(context.verify(data, signature));
+    }
+  }
+
+  @Test
+  public void signUsesOnlyTheGivenRangeOfData() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+    final SigningContext context = engine.createSigningContext(keyPair);
+    final byte[] data = RandomUtils.generateRandomBytes(100);
+
+    // Act:
+    final Signature signature = context.sign(data, 10, 50);
+
+    // Assert:
+    Assertions.assertEquals(context.sign(Arrays.copyOfRange(data, 10, 60)), signature);
+  }
+
+  @Test
+  public void contextCanBeReusedForManySignatures() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+    final SigningContext context = engine.createSigningContext(keyPair);
+    final byte[] data1 = RandomUtils.generateRandomBytes(32);
+    final byte[] data2 = RandomUtils.generateRandomBytes(32);
+
+    // Act:
+    final Signature signature1 = context.sign(data1);
+    final Signature signature2 = context.sign(data2);
+
+    // Assert:
+    Assertions.assertEquals(context.sign(data1), signature1);
+    Assertions.assertTrue(context.verify(data2, signature2));
+    Assertions.assertFalse(context.verify(data1, signature2));
+  }
+
+  @Test
+  public void getPublicKeyReturnsKeyPairPublicKey() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+
+    // Act:
+    final SigningContext context = engine.createSigningContext(keyPair);
+
+    // Assert:
+    Assertions.assertEquals(keyPair.getPublicKey(), context.getPublicKey());
+  }
+
+  @Test
+  public void keyPairReusesItsSigningContext() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+
+    // Act:
+    final SigningContext context = keyPair.getSigningContext();
+
+    // Assert:
+    Assertions.assertSame(context, keyPair.getSigningContext());
+  }
+
+  @Test
+  public void cannotCreateContextWithoutPrivateKey() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.onlyPublic(KeyPair.random(engine).getPublicKey(), engine);
+
+    // Act + Assert:
+    Assertions.assertThrows(IllegalStateException.class, keyPair::getSigningContext);
+  }
+}
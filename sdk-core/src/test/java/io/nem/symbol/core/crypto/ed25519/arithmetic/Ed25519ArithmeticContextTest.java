@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519ArithmeticContextTest {
+
+  private final Ed25519ArithmeticContext context = new Ed25519ArithmeticContext();
+
+  private static Ed25519EncodedFieldElement getRandomScalar() {
+    return MathUtils.getRandomEncodedFieldElement(64).modQ();
+  }
+
+  @Test
+  public void scalarMultiplyBaseReturnsSameResultAsGroupElement() {
+    final byte[] encoded = new byte[32];
+    for (int i = 0; i < 100; i++) {
+      // Arrange:
+      final Ed25519EncodedFieldElement a = getRandomScalar();
+
+      // Act:
+      context.scalarMultiplyBase(a.getRaw(), encoded);
+
+      // Assert:
+      Assertions.assertArrayEquals(
+          Ed25519Group.BASE_POINT.scalarMultiply(a).encode().getRaw(), encoded);
+    }
+  }
+
+  @Test
+  public void scalarMultiplyBaseBatchReturnsSameResultAsSingleMultiplications() {
+    for (final int count : new int[] {1, 2, 7, 64, 3}) {
+      // Arrange:
+      final byte[] scalars = new byte[count * 32];
+      final byte[] expected = new byte[count * 32];
+      final byte[] encoded = new byte[32];
+      for (int i = 0; i < count; i++) {
+        final byte[] a = getRandomScalar().getRaw();
+        System.arraycopy(a, 0, scalars, i * 32, 32);
+        context.scalarMultiplyBase(a, encoded);
+        System.arraycopy(encoded, 0, expected, i * 32, 32);
+      }
+      final byte[] batch = new byte[count * 32];
+
+      // Act:
+      context.scalarMultiplyBaseBatch(scalars, count, batch);
+
+      // Assert:
+      Assertions.assertArrayEquals(expected, batch);
+    }
+  }
+
+  @Test
+  public void scalarMultiplyReturnsSameResultAsGroupElement() {
+    final byte[] encoded = new byte[32];
+    for (int i = 0; i < 20; i++) {
+      // Arrange:
+      final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+      final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+      g.precomputeForScalarMultiplication();
+
+      // Act:
+      context.scalarMultiply(g.encode().getRaw(), a.getRaw(), encoded);
+
+      // Assert:
+      Assertions.assertArrayEquals(g.scalarMultiply(a).encode().getRaw(), encoded);
+    }
+  }
+
+  @Test
+  public void scalarMultiplyHandlesZeroScalar() {
+    // Arrange:
+    final byte[] encoded = new byte[32];
+
+    // Act:
+    context.scalarMultiply(
+        MathUtils.getRandomEncodedGroupElement().getRaw(), new byte[32], encoded);
+
+    // Assert:
+    Assertions.assertArrayEquals(Ed25519Group.ZERO_P3.encode().getRaw(), encoded);
+  }
+
+  @Test
+  public void doubleScalarMultiplyVariableTimeReturnsSameResultAsGroupElement() {
+    final byte[] encoded = new byte[32];
+    for (int i = 0; i < 100; i++) {
+      // Arrange:
+      final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+      final Ed25519EncodedFieldElement a = getRandomScalar();
+      final Ed25519EncodedFieldElement b = getRandomScalar();
+      g.precomputeForDoubleScalarMultiplication();
+
+      // Act:
+      context.doubleScalarMultiplyVariableTime(
+          g.encode().getRaw(), a.getRaw(), b.getRaw(), encoded);
+
+      // Assert:
+      Assertions.assertArrayEquals(
+          Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(g, a, b).encode().getRaw(),
+          encoded);
+    }
+  }
+
+  @Test
+  public void invalidEncodedGroupElementIsRejected() {
+    // Arrange:
+    final byte[] invalid = new byte[32];
+    invalid[0] = 2;
+
+    // Assert:
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> context.scalarMultiply(invalid, new byte[32], new byte[32]));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            context.doubleScalarMultiplyVariableTime(
+                invalid, new byte[32], new byte[32], new byte[32]));
+  }
+}
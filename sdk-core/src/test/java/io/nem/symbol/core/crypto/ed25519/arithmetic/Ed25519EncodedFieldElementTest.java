@@ -295,4 +295,29 @@ public class Ed25519EncodedFieldElementTest {
   }
 
   // endregion
+
+  // region in place arithmetic
+
+  @Test
+  public void inPlaceModQAndMultiplyAndAddModQReturnSameResultAsInstanceMethods() {
+    for (int i = 0; i < 1000; i++) {
+      // Arrange:
+      final Ed25519EncodedFieldElement value = MathUtils.getRandomEncodedFieldElement(64);
+      final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+      final Ed25519EncodedFieldElement b = MathUtils.getRandomEncodedFieldElement(32);
+      final Ed25519EncodedFieldElement c = MathUtils.getRandomEncodedFieldElement(32);
+      final byte[] result = new byte[32];
+      final int[] decoded = new int[10];
+
+      // Assert:
+      Ed25519EncodedFieldElement.modQ(value.getRaw(), result);
+      Assertions.assertArrayEquals(value.modQ().getRaw(), result);
+      Ed25519EncodedFieldElement.multiplyAndAddModQ(a.getRaw(), b.getRaw(), c.getRaw(), result);
+      Assertions.assertArrayEquals(a.multiplyAndAddModQ(b, c).getRaw(), result);
+      Ed25519EncodedFieldElement.decode(a.getRaw(), decoded);
+      Assertions.assertArrayEquals(a.decode().getRaw(), decoded);
+    }
+  }
+
+  // endregion
 }
@@ -359,4 +359,85 @@ public class Ed25519FieldElementTest {
   }
 
   // endregion
+
+  // region in place arithmetic
+
+  @Test
+  public void inPlaceArithmeticReturnsSameLimbsAsInstanceArithmetic() {
+    for (int i = 0; i < 1000; i++) {
+      // Arrange:
+      final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+      final Ed25519FieldElement g = MathUtils.getRandomFieldElement();
+      final int[] h = new int[10];
+
+      // Assert:
+      Ed25519FieldElement.add(f.getRaw(), g.getRaw(), h);
+      Assertions.assertArrayEquals(f.add(g).getRaw(), h);
+      Ed25519FieldElement.subtract(f.getRaw(), g.getRaw(), h);
+      Assertions.assertArrayEquals(f.subtract(g).getRaw(), h);
+      Ed25519FieldElement.negate(f.getRaw(), h);
+      Assertions.assertArrayEquals(f.negate().getRaw(), h);
+      Ed25519FieldElement.multiply(f.getRaw(), g.getRaw(), h);
+      Assertions.assertArrayEquals(f.multiply(g).getRaw(), h);
+      Ed25519FieldElement.square(f.getRaw(), h);
+      Assertions.assertArrayEquals(f.square().getRaw(), h);
+      Ed25519FieldElement.squareAndDouble(f.getRaw(), h);
+      Assertions.assertArrayEquals(f.squareAndDouble().getRaw(), h);
+    }
+  }
+
+  @Test
+  public void inPlaceArithmeticSupportsAliasing() {
+    // Arrange:
+    final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+    final Ed25519FieldElement g = MathUtils.getRandomFieldElement();
+    final int[] h = f.getRaw().clone();
+
+    // Act:
+    Ed25519FieldElement.multiply(h, g.getRaw(), h);
+    Ed25519FieldElement.square(h, h);
+
+    // Assert:
+    Assertions.assertArrayEquals(f.multiply(g).square().getRaw(), h);
+  }
+
+  @Test
+  public void inPlaceInvertAndEncodeReturnSameValuesAsInstanceMethods() {
+    for (int i = 0; i < 100; i++) {
+      // Arrange:
+      final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+      final int[] h = new int[10];
+      final byte[] encoded = new byte[32];
+
+      // Act:
+      Ed25519FieldElement.invert(
+          f.getRaw(), h, new int[10], new int[10], new int[10], new int[10]);
+      Ed25519FieldElement.encode(h, encoded);
+
+      // Assert:
+      Assertions.assertArrayEquals(f.invert().encode().getRaw(), encoded);
+      MatcherAssert.assertThat(
+          Ed25519FieldElement.isNegative(f.getRaw(), new byte[32]),
+          IsEqual.equalTo(f.isNegative()));
+      MatcherAssert.assertThat(
+          Ed25519FieldElement.isNonZero(f.getRaw(), new byte[32]),
+          IsEqual.equalTo(f.isNonZero()));
+    }
+  }
+
+  @Test
+  public void cmovReplacesOnlyIfFlagIsSet() {
+    // Arrange:
+    final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+    final Ed25519FieldElement g = MathUtils.getRandomFieldElement();
+    final int[] h = f.getRaw().clone();
+
+    // Act + Assert:
+    Ed25519FieldElement.cmov(h, g.getRaw(), 0);
+    Assertions.assertArrayEquals(f.getRaw(), h);
+    Ed25519FieldElement.cmov(h, g.getRaw(), 1);
+    Assertions.assertArrayEquals(g.getRaw(), h);
+  }
+
+  // endregion
 }
@@ -613,6 +613,45 @@ public class Ed25519GroupElementTest {
     }
   }
 
+  @Test
+  public void multiScalarMultiplyVariableTimeReturnsExpectedResult() {
+    for (int i = 0; i < 10; i++) {
+      // Arrange:
+      final Ed25519GroupElement basePoint = Ed25519Group.BASE_POINT;
+      final Ed25519GroupElement g1 = MathUtils.getRandomGroupElement();
+      final Ed25519GroupElement g2 = MathUtils.getRandomGroupElement();
+      final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+      final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+      final Ed25519FieldElement f3 = MathUtils.getRandomFieldElement();
+
+      // Act:
+      final Ed25519GroupElement h1 =
+          basePoint.multiScalarMultiplyVariableTime(
+              new Ed25519GroupElement[] {g1, g2},
+              new Ed25519EncodedFieldElement[] {f2.encode(), f3.encode()},
+              f1.encode());
+      final Ed25519GroupElement h2 =
+          MathUtils.addGroupElements(
+              MathUtils.doubleScalarMultiplyGroupElements(basePoint, f1, g1, f2),
+              MathUtils.scalarMultiplyGroupElement(g2, f3).negate());
+
+      // Assert:
+      MatcherAssert.assertThat(h1, IsEqual.equalTo(h2));
+    }
+  }
+
+  @Test
+  public void isNeutralReturnsTrueOnlyForNeutralElement() {
+    // Arrange:
+    final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+
+    // Assert:
+    MatcherAssert.assertThat(Ed25519Group.ZERO_P3.isNeutral(), IsEqual.equalTo(true));
+    MatcherAssert.assertThat(Ed25519Group.ZERO_P2.isNeutral(), IsEqual.equalTo(true));
+    MatcherAssert.assertThat(g.isNeutral(), IsEqual.equalTo(false));
+    MatcherAssert.assertThat(g.subtract(g.toCached()).isNeutral(), IsEqual.equalTo(true));
+  }
+
   // endregion
 
   @Test
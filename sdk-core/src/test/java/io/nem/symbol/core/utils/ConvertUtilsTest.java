@@ -118,6 +118,20 @@ public class ConvertUtilsTest {
     assertGetStringConversion(new byte[] {}, "");
   }
 
+  @Test
+  void getStringCanConvertBytesRangeToHexString() {
+    // Arrange:
+    final byte[] input = new byte[] {0x00, (byte) 0xFF, 0x0d, (byte) 0xA0, 0x54, 0x57};
+
+    // Act:
+    final String output = ConvertUtils.toHex(input, 1, 3);
+
+    // Assert:
+    MatcherAssert.assertThat(output, IsEqual.equalTo("FF0DA0"));
+    Assertions.assertEquals("", ConvertUtils.toHex(input, 6, 0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ConvertUtils.toHex(input, 4, 3));
+  }
+
   @Test
   void fromStringToHexToString() {
     // Assert:
@@ -185,6 +199,29 @@ public class ConvertUtilsTest {
         ConvertUtils.toUnsignedBigInteger(biggerThanLongInteger.longValue()).toString());
   }
 
+  @Test
+  void toUnsignedLong() {
+    BigInteger biggerThanLongInteger = new BigInteger("9223372036854775817");
+    long value = ConvertUtils.toUnsignedLong(biggerThanLongInteger);
+    Assertions.assertEquals(biggerThanLongInteger, ConvertUtils.toUnsignedBigInteger(value));
+    Assertions.assertEquals(10L, ConvertUtils.toUnsignedLong(BigInteger.TEN));
+
+    IllegalArgumentException error =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> ConvertUtils.toUnsignedLong(BigInteger.valueOf(-5)));
+    Assertions.assertEquals("BigInteger '-5' must not be negative", error.getMessage());
+
+    BigInteger maxUnsignedLong = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    Assertions.assertEquals(-1L, ConvertUtils.toUnsignedLong(maxUnsignedLong));
+    error =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> ConvertUtils.toUnsignedLong(maxUnsignedLong.add(BigInteger.ONE)));
+    Assertions.assertEquals(
+        "BigInteger '18446744073709551616' must fit in 64 bits", error.getMessage());
+  }
+
   @Test
   void testIsHexString() {
     Assertions.assertTrue(ConvertUtils.isHexString("026ee415fc15"));
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link LruCache}. */
+public class LruCacheTest {
+
+  @Test
+  public void computeIfAbsentComputesOnlyMissingValues() {
+    AtomicInteger calledTimes = new AtomicInteger();
+    LruCache<String, String> cache = new LruCache<>(10);
+
+    Assertions.assertEquals(
+        "A1",
+        cache.computeIfAbsent(
+            "A",
+            k -> {
+              calledTimes.incrementAndGet();
+              return k + "1";
+            }));
+    Assertions.assertEquals(
+        "A1",
+        cache.computeIfAbsent(
+            "A",
+            k -> {
+              calledTimes.incrementAndGet();
+              return k + "2";
+            }));
+
+    Assertions.assertEquals(1, calledTimes.get());
+    Assertions.assertEquals(1, cache.getHitCount());
+    Assertions.assertEquals(1, cache.getMissCount());
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvicted() {
+    LruCache<String, String> cache = new LruCache<>(2);
+    cache.computeIfAbsent("A", k -> k);
+    cache.computeIfAbsent("B", k -> k);
+    cache.computeIfAbsent("A", k -> k);
+    cache.computeIfAbsent("C", k -> k);
+
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals("A", cache.get("A"));
+    Assertions.assertNull(cache.get("B"));
+    Assertions.assertEquals("C", cache.get("C"));
+    Assertions.assertEquals(2, cache.getMaxSize());
+  }
+
+  @Test
+  public void clearRemovesAllEntries() {
+    LruCache<String, String> cache = new LruCache<>(2);
+    cache.computeIfAbsent("A", k -> k);
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertNull(cache.get("A"));
+  }
+
+  @Test
+  public void maxSizeMustBePositive() {
+    IllegalArgumentException exception =
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    Assertions.assertEquals("maxSize must be greater than 0", exception.getMessage());
+  }
+
+  @Test
+  public void evictionListenerGetsEvictedAndClearedValues() {
+    List<String> evicted = new ArrayList<>();
+    LruCache<String, String> cache = new LruCache<>(2, evicted::add);
+    cache.computeIfAbsent("A", k -> k);
+    cache.computeIfAbsent("B", k -> k);
+    cache.computeIfAbsent("A", k -> k);
+    Assertions.assertEquals(Collections.emptyList(), evicted);
+
+    cache.computeIfAbsent("C", k -> k);
+    Assertions.assertEquals(Collections.singletonList("B"), evicted);
+
+    cache.clear();
+    Assertions.assertEquals(3, evicted.size());
+    Assertions.assertTrue(evicted.containsAll(Arrays.asList("A", "B", "C")));
+  }
+
+  @Test
+  public void evictionListenerGetsDiscardedComputedValue() {
+    List<String> evicted = new ArrayList<>();
+    LruCache<String, String> cache = new LruCache<>(2, evicted::add);
+
+    String value =
+        cache.computeIfAbsent(
+            "A",
+            k -> {
+              // another thread stores the key while this value is computed.
+              cache.computeIfAbsent(k, key -> "A1");
+              return "A2";
+            });
+
+    Assertions.assertEquals("A1", value);
+    Assertions.assertEquals(Collections.singletonList("A2"), evicted);
+  }
+}
@@ -44,4 +44,20 @@ public class StringEncoderTest {
         StringEncoder.getString(ENCODED_CURRENCY_SYMBOLS_BYTES),
         IsEqual.equalTo("\u0024\u00a2\u20ac"));
   }
+
+  @Test
+  public void byteLengthMatchesEncodedLength() {
+    // Arrange:
+    final String[] inputs = {
+      "", "Sigma", "\u0024\u00a2\u20ac", "\ud83d\ude00 smile", "unpaired \ud83d", "\ude00 low"
+    };
+
+    for (final String input : inputs) {
+      // Act:
+      final int length = StringEncoder.getByteLength(input);
+
+      // Assert:
+      MatcherAssert.assertThat(length, IsEqual.equalTo(StringEncoder.getBytes(input).length));
+    }
+  }
 }
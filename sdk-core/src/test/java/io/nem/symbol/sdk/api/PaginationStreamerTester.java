@@ -16,6 +16,7 @@
 package io.nem.symbol.sdk.api;
 
 import io.reactivex.Observable;
+import io.reactivex.subscribers.TestSubscriber;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -100,6 +101,31 @@ public class PaginationStreamerTester<E, C extends SearchCriteria<C>> {
     }
   }
 
+  public void flowableOnlyLoadsRequestedPages() {
+    int pageSize = 20;
+    int totalEntries = 110;
+    criteria.setPageSize(pageSize);
+    List<E> infos =
+        IntStream.range(0, totalEntries)
+            .mapToObj((i) -> Mockito.mock(entityClass))
+            .collect(Collectors.toList());
+    List<Observable<Page<E>>> pages = toPages(infos, criteria.getPageSize());
+    Mockito.when(repository.search(Mockito.eq(criteria))).thenAnswer(new ReturnsElementsOf(pages));
+
+    TestSubscriber<E> subscriber = streamer.searchFlowable(criteria).test(pageSize - 1);
+    subscriber.assertValueCount(pageSize - 1);
+    Mockito.verify(repository, Mockito.times(1)).search(Mockito.eq(criteria));
+
+    subscriber.requestMore(2);
+    subscriber.assertValueCount(pageSize + 1);
+    Mockito.verify(repository, Mockito.times(2)).search(Mockito.eq(criteria));
+
+    subscriber.requestMore(Long.MAX_VALUE);
+    subscriber.assertValueSequence(infos);
+    subscriber.assertComplete();
+    Mockito.verify(repository, Mockito.times(pages.size())).search(Mockito.eq(criteria));
+  }
+
   private <T> List<Observable<Page<T>>> toPages(List<T> infos, Integer pageSize) {
     List<List<T>> partitions = new ArrayList<>();
     for (int i = 0; i < infos.size(); i += pageSize) {
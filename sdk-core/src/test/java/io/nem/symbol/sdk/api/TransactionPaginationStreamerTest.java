@@ -43,6 +43,11 @@ public class TransactionPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void flowableOnlyLoadsRequestedPages() {
+    tester().flowableOnlyLoadsRequestedPages();
+  }
+
   private PaginationStreamerTester<Transaction, TransactionSearchCriteria> tester() {
     TransactionRepository repository = Mockito.mock(TransactionRepository.class);
     TransactionPaginationStreamer streamer = new TransactionPaginationStreamer(repository);
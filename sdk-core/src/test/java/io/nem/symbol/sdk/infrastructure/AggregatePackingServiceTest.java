@@ -0,0 +1,298 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AggregatePackingPolicy;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.AggregateNetworkProperties;
+import io.nem.symbol.sdk.model.network.NetworkConfiguration;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.network.PluginsProperties;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test of {@link AggregatePackingServiceImpl} */
+public class AggregatePackingServiceTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+  private final Account account1 = Account.generateNewAccount(networkType);
+  private final Account account2 = Account.generateNewAccount(networkType);
+  private final Account account3 = Account.generateNewAccount(networkType);
+  private final TestScheduler scheduler = new TestScheduler();
+  private AggregatePackingServiceImpl service;
+  private AggregateNetworkProperties aggregateNetworkProperties;
+
+  @BeforeEach
+  void setup() {
+    RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+    NetworkRepository networkRepository = Mockito.mock(NetworkRepository.class);
+    NetworkConfiguration configuration = Mockito.mock(NetworkConfiguration.class);
+    PluginsProperties pluginsProperties = Mockito.mock(PluginsProperties.class);
+    aggregateNetworkProperties = Mockito.mock(AggregateNetworkProperties.class);
+
+    Mockito.when(aggregateNetworkProperties.getMaxTransactionsPerAggregate()).thenReturn("3");
+    Mockito.when(aggregateNetworkProperties.getMaxCosignaturesPerAggregate()).thenReturn("2");
+    Mockito.when(pluginsProperties.getAggregate()).thenReturn(aggregateNetworkProperties);
+    Mockito.when(configuration.getPlugins()).thenReturn(pluginsProperties);
+    Mockito.when(networkRepository.getNetworkProperties())
+        .thenReturn(Observable.just(configuration));
+    Mockito.when(factory.createNetworkRepository()).thenReturn(networkRepository);
+    Mockito.when(factory.getNetworkType()).thenReturn(Observable.just(networkType));
+    Mockito.when(factory.getEpochAdjustment())
+        .thenReturn(Observable.just(Duration.ofSeconds(1573430400L)));
+
+    service = new AggregatePackingServiceImpl(factory, scheduler);
+  }
+
+  private Transaction createTransfer(Account signer, long amount) {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.ONE),
+            Address.generateRandom(networkType),
+            Collections.emptyList())
+        .message(new PlainMessage("transfer " + amount))
+        .build()
+        .toAggregate(signer.getPublicAccount());
+  }
+
+  private List<Transaction> createTransfers(Account signer, int count) {
+    List<Transaction> transactions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      transactions.add(createTransfer(signer, i));
+    }
+    return transactions;
+  }
+
+  private static List<Integer> getSizes(List<AggregateTransaction> aggregates) {
+    return aggregates.stream()
+        .map(aggregate -> aggregate.getInnerTransactions().size())
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void packBySize() {
+    List<Transaction> transactions = createTransfers(account1, 7);
+
+    List<AggregateTransaction> aggregates =
+        service
+            .packCompleteTransactions(
+                Observable.fromIterable(transactions),
+                AggregatePackingPolicy.flushBySize().feeMultiplier(10))
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(3, aggregates.size());
+    Assertions.assertEquals(
+        transactions,
+        aggregates.stream()
+            .flatMap(aggregate -> aggregate.getInnerTransactions().stream())
+            .collect(Collectors.toList()));
+    for (AggregateTransaction aggregate : aggregates) {
+      Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, aggregate.getType());
+      Assertions.assertEquals(networkType, aggregate.getNetworkType());
+      AggregateTransaction expected =
+          AggregateTransactionFactory.createComplete(
+                  networkType, aggregate.getDeadline(), aggregate.getInnerTransactions())
+              .calculateMaxFeeForAggregate(10, 0)
+              .build();
+      Assertions.assertEquals(expected.getMaxFee(), aggregate.getMaxFee());
+    }
+    Assertions.assertEquals(
+        BigInteger.valueOf(aggregates.get(0).getSize() * 10), aggregates.get(0).getMaxFee());
+  }
+
+  @Test
+  void packBySizeWithPolicyMaxTransactions() {
+    Mockito.when(aggregateNetworkProperties.getMaxTransactionsPerAggregate()).thenReturn("1'000");
+
+    List<AggregateTransaction> aggregates =
+        service
+            .packCompleteTransactions(
+                Observable.fromIterable(createTransfers(account1, 5)),
+                AggregatePackingPolicy.flushBySize().maxTransactionsPerAggregate(2))
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(3, aggregates.size());
+    Assertions.assertEquals(2, aggregates.get(0).getInnerTransactions().size());
+    Assertions.assertEquals(2, aggregates.get(1).getInnerTransactions().size());
+    Assertions.assertEquals(1, aggregates.get(2).getInnerTransactions().size());
+  }
+
+  @Test
+  void packBySizeSplitsOnMaxCosignatures() {
+    Mockito.when(aggregateNetworkProperties.getMaxCosignaturesPerAggregate()).thenReturn("1");
+    List<Transaction> transactions = new ArrayList<>();
+    transactions.add(createTransfer(account1, 1));
+    transactions.add(createTransfer(account2, 2));
+    transactions.add(createTransfer(account3, 3));
+    transactions.add(createTransfer(account3, 4));
+    transactions.add(createTransfer(account3, 5));
+
+    List<AggregateTransaction> aggregates =
+        service
+            .packCompleteTransactions(
+                Observable.fromIterable(transactions),
+                AggregatePackingPolicy.flushBySize().feeMultiplier(10))
+            .toList()
+            .blockingGet();
+
+    // The third signer would need a second cosignature, it starts a new aggregate.
+    Assertions.assertEquals(2, aggregates.size());
+    Assertions.assertEquals(transactions.subList(0, 2), aggregates.get(0).getInnerTransactions());
+    Assertions.assertEquals(transactions.subList(2, 5), aggregates.get(1).getInnerTransactions());
+    // Two signers, the fee covers one cosignature.
+    Assertions.assertEquals(
+        BigInteger.valueOf(
+            (aggregates.get(0).getSize() + AggregateTransactionFactory.COSIGNATURE_SIZE) * 10),
+        aggregates.get(0).getMaxFee());
+    Assertions.assertEquals(
+        BigInteger.valueOf(aggregates.get(1).getSize() * 10), aggregates.get(1).getMaxFee());
+  }
+
+  @Test
+  void packByTime() {
+    PublishSubject<Transaction> transactions = PublishSubject.create();
+    TestObserver<AggregateTransaction> observer =
+        service
+            .packCompleteTransactions(
+                transactions, AggregatePackingPolicy.flushByTime(Duration.ofSeconds(1)))
+            .test();
+
+    transactions.onNext(createTransfer(account1, 1));
+    transactions.onNext(createTransfer(account1, 2));
+    observer.assertValueCount(0);
+
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    observer.assertValueCount(1);
+
+    // Nothing is emitted when there are no pending transactions.
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    observer.assertValueCount(1);
+
+    transactions.onNext(createTransfer(account1, 3));
+    transactions.onNext(createTransfer(account1, 4));
+    transactions.onNext(createTransfer(account1, 5));
+    observer.assertValueCount(2);
+
+    transactions.onNext(createTransfer(account1, 6));
+    transactions.onComplete();
+    observer.assertComplete();
+    Assertions.assertEquals(Arrays.asList(2, 3, 1), getSizes(observer.values()));
+  }
+
+  @Test
+  void missingNetworkProperty() {
+    Mockito.when(aggregateNetworkProperties.getMaxTransactionsPerAggregate()).thenReturn(null);
+
+    service
+        .packCompleteTransactions(
+            Observable.fromIterable(createTransfers(account1, 1)),
+            AggregatePackingPolicy.flushBySize())
+        .test()
+        .assertError(
+            error ->
+                error instanceof IllegalStateException
+                    && error
+                        .getMessage()
+                        .equals("Cannot get maxTransactionsPerAggregate from network properties."));
+  }
+
+  @Test
+  void packBySizeAllowsOneMoreSignerThanMaxCosignatures() {
+    List<Transaction> transactions =
+        Arrays.asList(
+            createTransfer(account1, 1), createTransfer(account2, 2), createTransfer(account3, 3));
+
+    List<AggregateTransaction> aggregates =
+        service
+            .packCompleteTransactions(
+                Observable.fromIterable(transactions),
+                AggregatePackingPolicy.flushBySize().feeMultiplier(10))
+            .toList()
+            .blockingGet();
+
+    // Signed by one of the three signers, the other two are the max two cosignatures.
+    Assertions.assertEquals(1, aggregates.size());
+    Assertions.assertEquals(transactions, aggregates.get(0).getInnerTransactions());
+    Assertions.assertEquals(
+        BigInteger.valueOf(
+            (aggregates.get(0).getSize() + 2 * AggregateTransactionFactory.COSIGNATURE_SIZE) * 10),
+        aggregates.get(0).getMaxFee());
+  }
+
+  @Test
+  void requiredCosignaturesUpToMaxCosignatures() {
+    service
+        .packCompleteTransactions(
+            Observable.fromIterable(createTransfers(account1, 1)),
+            AggregatePackingPolicy.flushBySize().requiredCosignatures(2))
+        .test()
+        .assertValueCount(1)
+        .assertComplete();
+  }
+
+  @Test
+  void tooManyRequiredCosignatures() {
+    service
+        .packCompleteTransactions(
+            Observable.fromIterable(createTransfers(account1, 1)),
+            AggregatePackingPolicy.flushBySize().requiredCosignatures(3))
+        .test()
+        .assertError(IllegalArgumentException.class);
+  }
+
+  @Test
+  void innerTransactionWithoutSigner() {
+    Transaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(networkType),
+                Collections.emptyList())
+            .build();
+
+    service
+        .packCompleteTransactions(
+            Observable.just(transaction), AggregatePackingPolicy.flushBySize())
+        .test()
+        .assertError(IllegalArgumentException.class);
+  }
+}
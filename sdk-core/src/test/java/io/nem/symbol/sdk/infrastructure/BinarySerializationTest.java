@@ -15,6 +15,9 @@
  */
 package io.nem.symbol.sdk.infrastructure;
 
+import io.nem.symbol.core.crypto.Hash256;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
@@ -23,6 +26,8 @@ import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.mosaic.Mosaic;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.Deadline;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
@@ -30,6 +35,9 @@ import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -141,4 +149,234 @@ class BinarySerializationTest {
     Assertions.assertFalse(deserializeWithoutSignature.getSignature().isPresent());
     Assertions.assertFalse(deserializeWithoutSignature.getSigner().isPresent());
   }
+
+  @Test
+  void testSerializeIntoByteBuffer() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(
+                        new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))))
+            .message(new PlainMessage("Some Message"))
+            .maxFee(BigInteger.TEN)
+            .build();
+
+    byte[] expected = binarySerialization.serialize(transaction);
+    int size = binarySerialization.serializedSize(transaction);
+    Assertions.assertEquals(expected.length, size);
+    Assertions.assertEquals(transaction.getSize(), size);
+
+    ByteBuffer heapBuffer = ByteBuffer.allocate(size + 10);
+    heapBuffer.position(10);
+    Assertions.assertEquals(size, binarySerialization.serialize(transaction, heapBuffer));
+    Assertions.assertEquals(size + 10, heapBuffer.position());
+    Assertions.assertEquals(ByteOrder.BIG_ENDIAN, heapBuffer.order());
+    Assertions.assertArrayEquals(
+        expected, Arrays.copyOfRange(heapBuffer.array(), 10, heapBuffer.position()));
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(size);
+    Assertions.assertEquals(size, binarySerialization.serialize(transaction, directBuffer));
+    byte[] directBytes = new byte[size];
+    directBuffer.flip();
+    directBuffer.get(directBytes);
+    Assertions.assertArrayEquals(expected, directBytes);
+  }
+
+  @Test
+  void testSerializeIntoShortByteBufferWritesNothing() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(
+                        new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))))
+            .message(new PlainMessage("Some Message"))
+            .signer(account.getPublicAccount())
+            .build();
+
+    int size = binarySerialization.serializedSize(transaction);
+    ByteBuffer buffer = ByteBuffer.allocate(size - 1);
+    Assertions.assertThrows(
+        BufferOverflowException.class,
+        () -> binarySerialization.serialize(transaction, buffer));
+    Assertions.assertEquals(0, buffer.position());
+    Assertions.assertArrayEquals(new byte[size - 1], buffer.array());
+
+    buffer.limit(10);
+    Assertions.assertThrows(
+        BufferOverflowException.class,
+        () -> binarySerialization.serializeEmbedded(transaction, buffer));
+    Assertions.assertEquals(0, buffer.position());
+    Assertions.assertArrayEquals(new byte[size - 1], buffer.array());
+  }
+
+  @Test
+  void testSerializeEmbeddedIntoByteBuffer() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(
+                        new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))))
+            .message(new PlainMessage("Some Message"))
+            .signer(account.getPublicAccount())
+            .build();
+
+    byte[] expected = binarySerialization.serializeEmbedded(transaction);
+    ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+    Assertions.assertEquals(
+        expected.length, binarySerialization.serializeEmbedded(transaction, buffer));
+    Assertions.assertArrayEquals(expected, buffer.array());
+    Assertions.assertEquals(
+        ConvertUtils.toHex(binarySerialization.serialize(transaction)).substring(256),
+        ConvertUtils.toHex(expected).substring(96));
+  }
+
+  @Test
+  void testSizeIsComputedFromTheFields() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(new MosaicId(new BigInteger("95442763262823")), 100L),
+                    new Mosaic(new MosaicId(new BigInteger("95442763262824")), 200L)))
+            .message(new PlainMessage("Some Message \u20ac"))
+            .signer(account.getPublicAccount())
+            .build();
+
+    Assertions.assertEquals(
+        binarySerialization.serialize(transaction).length,
+        binarySerialization.getSize(transaction));
+    Assertions.assertEquals(
+        binarySerialization.serializeEmbedded(transaction).length,
+        binarySerialization.getEmbeddedSize(transaction));
+    Assertions.assertEquals(8, BinarySerializationImpl.padSize(1));
+    Assertions.assertEquals(8, BinarySerializationImpl.padSize(8));
+    Assertions.assertEquals(16, BinarySerializationImpl.padSize(9));
+  }
+
+  @Test
+  void testSerializeEmbeddedTransactionsAndTransactionsHash() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction first =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(new Mosaic(new MosaicId(new BigInteger("95442763262823")), 100L)))
+            .message(new PlainMessage("Some Message"))
+            .signer(account.getPublicAccount())
+            .build();
+    TransferTransaction second =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList())
+            .signer(account.getPublicAccount())
+            .build();
+    List<Transaction> innerTransactions = Arrays.asList(first, second);
+    AggregateTransaction aggregateTransaction =
+        AggregateTransactionFactory.createComplete(
+                NetworkType.MIJIN_TEST, new Deadline(BigInteger.ONE), innerTransactions)
+            .build();
+
+    int size = binarySerialization.getEmbeddedTransactionsSize(innerTransactions);
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    Hash256 transactionsHash =
+        binarySerialization.serializeEmbeddedTransactions(innerTransactions, buffer);
+
+    Assertions.assertEquals(size, buffer.position());
+    Assertions.assertEquals(aggregateTransaction.getTransactionsHash(), transactionsHash.toHex());
+    byte[] firstBytes = binarySerialization.serializeEmbedded(first);
+    Assertions.assertArrayEquals(
+        firstBytes, Arrays.copyOfRange(buffer.array(), 0, firstBytes.length));
+    Assertions.assertEquals(
+        BinarySerializationImpl.padSize(firstBytes.length)
+            + BinarySerializationImpl.padSize(binarySerialization.serializeEmbedded(second).length),
+        size);
+
+    byte[] aggregateBytes = binarySerialization.serialize(aggregateTransaction);
+    Assertions.assertEquals(aggregateTransaction.getSize(), aggregateBytes.length);
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(aggregateBytes.length);
+    binarySerialization.serialize(aggregateTransaction, directBuffer);
+    byte[] directBytes = new byte[aggregateBytes.length];
+    directBuffer.flip();
+    directBuffer.get(directBytes);
+    Assertions.assertArrayEquals(aggregateBytes, directBytes);
+  }
+
+  @Test
+  void testAggregatePayloadReusesTheTransactionsHashPass() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction first =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(new Mosaic(new MosaicId(new BigInteger("95442763262823")), 100L)))
+            .message(new PlainMessage("Some Message"))
+            .signer(account.getPublicAccount())
+            .build();
+    TransferTransaction second =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList())
+            .signer(account.getPublicAccount())
+            .build();
+    List<Transaction> innerTransactions = Arrays.asList(first, second);
+    AggregateTransaction aggregateTransaction =
+        AggregateTransactionFactory.createComplete(
+                NetworkType.MIJIN_TEST, new Deadline(BigInteger.ONE), innerTransactions)
+            .build();
+
+    // The transactions hash is the merkle root of the kept embedded transactions.
+    ByteBuffer payload = aggregateTransaction.getEmbeddedTransactionsPayload().get();
+    Assertions.assertTrue(payload.isReadOnly());
+    byte[] payloadBytes = new byte[payload.remaining()];
+    payload.get(payloadBytes);
+    Assertions.assertEquals(
+        binarySerialization.getEmbeddedTransactionsSize(innerTransactions), payloadBytes.length);
+    MerkleHashBuilder transactionsHashBuilder = new MerkleHashBuilder();
+    ByteBuffer entities = ByteBuffer.wrap(payloadBytes).order(ByteOrder.LITTLE_ENDIAN);
+    while (entities.hasRemaining()) {
+      int start = entities.position();
+      int entitySize = entities.getInt(start);
+      transactionsHashBuilder.update(
+          Hashes.sha3_256(Arrays.copyOfRange(payloadBytes, start, start + entitySize)));
+      entities.position(start + BinarySerializationImpl.padSize(entitySize));
+    }
+    Assertions.assertEquals(
+        aggregateTransaction.getTransactionsHash(),
+        ConvertUtils.toHex(transactionsHashBuilder.getRootHash()));
+
+    // The aggregate payload embeds the same bytes after the header, the transactions hash and
+    // the payload size.
+    byte[] aggregateBytes = binarySerialization.serialize(aggregateTransaction);
+    int embeddedStart = 128 + 32 + 4 + 4;
+    Assertions.assertArrayEquals(
+        payloadBytes,
+        Arrays.copyOfRange(aggregateBytes, embeddedStart, embeddedStart + payloadBytes.length));
+
+    // A deserialized aggregate has a provided hash and serializes its inner transactions again.
+    AggregateTransaction deserialized =
+        (AggregateTransaction) binarySerialization.deserialize(aggregateBytes);
+    Assertions.assertFalse(deserialized.getEmbeddedTransactionsPayload().isPresent());
+    Assertions.assertArrayEquals(aggregateBytes, binarySerialization.serialize(deserialized));
+  }
 }
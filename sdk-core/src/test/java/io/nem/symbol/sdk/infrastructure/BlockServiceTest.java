@@ -15,17 +15,29 @@
  */
 package io.nem.symbol.sdk.infrastructure;
 
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
 import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleVerificationResult;
 import io.nem.symbol.sdk.model.blockchain.Position;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.Statement;
+import io.nem.symbol.sdk.model.receipt.TransactionStatement;
 import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -270,4 +282,182 @@ class BlockServiceTest {
 
     Assertions.assertFalse(service.isValidStatementInBlock(height, leaf).toFuture().get());
   }
+
+  @Test
+  void isValidTransactionsInBlocks() {
+
+    BigInteger height1 = BigInteger.ONE;
+    BigInteger height2 = BigInteger.valueOf(2);
+    List<String> hashes1 = createHashes(5, 0);
+    List<String> hashes2 = createHashes(3, 5);
+    mockTransactionsBlock(height1, hashes1);
+    mockTransactionsBlock(height2, hashes2);
+
+    String unknownHash = createHashes(1, 10).get(0);
+    Mockito.when(blockRepositoryMock.getMerkleTransaction(height2, unknownHash))
+        .thenReturn(Observable.just(new MerkleProofInfo(new ArrayList<>())));
+
+    Map<BigInteger, List<String>> hashesByHeight = new HashMap<>();
+    hashesByHeight.put(height1, hashes1);
+    List<String> requestedHashes2 = new ArrayList<>(hashes2);
+    requestedHashes2.add(unknownHash);
+    hashesByHeight.put(height2, requestedHashes2);
+
+    List<MerkleVerificationResult> results =
+        service.isValidTransactionsInBlocks(hashesByHeight).toList().blockingGet();
+
+    Assertions.assertEquals(9, results.size());
+    results.forEach(result -> Assertions.assertFalse(result.getError().isPresent()));
+    results.forEach(
+        result ->
+            Assertions.assertEquals(!result.getHash().equals(unknownHash), result.isValid()));
+
+    Mockito.verify(blockRepositoryMock, Mockito.times(1)).getBlockByHeight(height1);
+    Mockito.verify(blockRepositoryMock, Mockito.times(1)).getBlockByHeight(height2);
+  }
+
+  @Test
+  void isValidTransactionsInBlocksReportsErrors() {
+
+    BigInteger height1 = BigInteger.ONE;
+    BigInteger height2 = BigInteger.valueOf(2);
+    List<String> hashes1 = createHashes(2, 0);
+    List<String> hashes2 = createHashes(2, 2);
+    mockTransactionsBlock(height1, hashes1);
+    RuntimeException blockError = new RuntimeException("Some Error When getting Block");
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height2))
+        .thenReturn(Observable.error(blockError));
+    RuntimeException merkleError = new RuntimeException("Some Error When getMerkleTransaction");
+    Mockito.when(blockRepositoryMock.getMerkleTransaction(height1, hashes1.get(1)))
+        .thenReturn(Observable.error(merkleError));
+
+    Map<BigInteger, List<String>> hashesByHeight = new HashMap<>();
+    hashesByHeight.put(height1, hashes1);
+    hashesByHeight.put(height2, hashes2);
+
+    List<MerkleVerificationResult> results =
+        service.isValidTransactionsInBlocks(hashesByHeight).toList().blockingGet();
+
+    List<MerkleVerificationResult> expected =
+        new ArrayList<>(
+            Arrays.asList(
+                MerkleVerificationResult.of(height1, hashes1.get(0), true),
+                MerkleVerificationResult.failed(height1, hashes1.get(1), merkleError),
+                MerkleVerificationResult.failed(height2, hashes2.get(0), blockError),
+                MerkleVerificationResult.failed(height2, hashes2.get(1), blockError)));
+    expected.sort(Comparator.comparing(MerkleVerificationResult::getHash));
+    results.sort(Comparator.comparing(MerkleVerificationResult::getHash));
+    Assertions.assertEquals(expected, results);
+    Mockito.verify(blockRepositoryMock, Mockito.never())
+        .getMerkleTransaction(Mockito.eq(height2), Mockito.anyString());
+  }
+
+  @Test
+  void isValidStatementsInBlocks() {
+
+    BigInteger height = BigInteger.ONE;
+    List<String> hashes = createHashes(4, 0);
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    hashes.forEach(hash -> builder.update(ConvertUtils.fromHexToBytes(hash)));
+
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getBlockReceiptsHash())
+        .thenReturn(ConvertUtils.toHex(builder.getRootHash()));
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+        .thenReturn(Observable.just(blockInfo));
+    for (int i = 0; i < hashes.size(); i++) {
+      Mockito.when(blockRepositoryMock.getMerkleReceipts(height, hashes.get(i)))
+          .thenReturn(Observable.just(new MerkleProofInfo(builder.getMerklePath(i))));
+    }
+
+    Map<BigInteger, List<String>> hashesByHeight = new HashMap<>();
+    hashesByHeight.put(height, hashes);
+
+    List<MerkleVerificationResult> results =
+        service.isValidStatementsInBlocks(hashesByHeight).toList().blockingGet();
+
+    Assertions.assertEquals(4, results.size());
+    results.forEach(result -> Assertions.assertTrue(result.isValid()));
+  }
+
+  @Test
+  void isValidBlockTransactions() {
+    // The second transaction is an aggregate cosigned by
+    // 68B3FBB18729C1FDE225C57F8CE080FA828F0067E451A3FD81FA628842B0B763, its merkle component hash
+    // is sha3_256(hash || cosigner public key).
+    List<String> transactionHashes =
+        Arrays.asList(
+            "215B158F0BD416B596271BCE527CD9DC8E4A639CC271D896F9156AF6F441EEB9",
+            "976C5CE6BF3F797113E5A3A094C7801C885DAF783C50563FFD3CA6A5EF580E25",
+            "E926CC323886D47234BB0B49219C81E280E8A65748B437C2AE83B09B37A5AAF2");
+    List<String> merkleComponentHashes =
+        Arrays.asList(
+            transactionHashes.get(0),
+            "195FC22805653FCBEFBC91FF29D87AF0D5C13532FE9A01CBF78965FCC1A57CA5",
+            transactionHashes.get(2));
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getBlockTransactionsHash())
+        .thenReturn("8100c4aa1d0684faaa45bcd4124911b45738370387c7f1cd49bdc73d4caa4a83");
+
+    Assertions.assertTrue(service.isValidBlockTransactions(blockInfo, merkleComponentHashes));
+    Assertions.assertFalse(service.isValidBlockTransactions(blockInfo, transactionHashes));
+    Assertions.assertFalse(
+        service.isValidBlockTransactions(blockInfo, merkleComponentHashes.subList(0, 2)));
+    Mockito.verifyZeroInteractions(blockRepositoryMock);
+  }
+
+  @Test
+  void isValidBlockStatement() {
+
+    List<String> hashes = createHashes(2, 0);
+    List<TransactionStatement> transactionStatements = new ArrayList<>();
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    for (String hash : hashes) {
+      TransactionStatement transactionStatement = Mockito.mock(TransactionStatement.class);
+      Mockito.when(transactionStatement.generateHash()).thenReturn(hash);
+      transactionStatements.add(transactionStatement);
+      builder.update(ConvertUtils.fromHexToBytes(hash));
+    }
+    Statement statement =
+        new Statement(transactionStatements, Collections.emptyList(), Collections.emptyList());
+    Statement otherStatement =
+        new Statement(
+            transactionStatements.subList(0, 1), Collections.emptyList(), Collections.emptyList());
+
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getNetworkType()).thenReturn(NetworkType.MIJIN_TEST);
+    Mockito.when(blockInfo.getBlockReceiptsHash())
+        .thenReturn(ConvertUtils.toHex(builder.getRootHash()));
+    Mockito.when(blockInfo.getBlockTransactionsHash()).thenReturn(hashes.get(0));
+
+    Assertions.assertTrue(service.isValidBlockStatement(blockInfo, statement));
+    Assertions.assertFalse(service.isValidBlockStatement(blockInfo, otherStatement));
+    Assertions.assertTrue(
+        service.isValidBlock(blockInfo, Collections.singletonList(hashes.get(0)), statement));
+    Assertions.assertFalse(service.isValidBlock(blockInfo, hashes, statement));
+    Mockito.verifyZeroInteractions(blockRepositoryMock);
+  }
+
+  private void mockTransactionsBlock(BigInteger height, List<String> hashes) {
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    hashes.forEach(hash -> builder.update(ConvertUtils.fromHexToBytes(hash)));
+
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getBlockTransactionsHash())
+        .thenReturn(ConvertUtils.toHex(builder.getRootHash()));
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+        .thenReturn(Observable.just(blockInfo));
+    for (int i = 0; i < hashes.size(); i++) {
+      Mockito.when(blockRepositoryMock.getMerkleTransaction(height, hashes.get(i)))
+          .thenReturn(Observable.just(new MerkleProofInfo(builder.getMerklePath(i))));
+    }
+  }
+
+  private static List<String> createHashes(int count, int start) {
+    List<String> hashes = new ArrayList<>();
+    for (int i = start; i < start + count; i++) {
+      hashes.add(ConvertUtils.toHex(Hashes.sha3_256(BigInteger.valueOf(i).toByteArray())));
+    }
+    return hashes;
+  }
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.sdk.api.MessageDecryptionService;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.message.DecryptedMessage;
+import io.nem.symbol.sdk.model.message.EncryptedMessage;
+import io.nem.symbol.sdk.model.message.Message;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.NamespaceRegistrationTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link MessageDecryptionServiceImpl}. */
+class MessageDecryptionServiceTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private final MessageDecryptionService service =
+      new MessageDecryptionServiceImpl(executor, 8, CryptoEngines.defaultEngine());
+
+  private final Account recipient = Account.generateNewAccount(networkType);
+
+  private final Account sender = Account.generateNewAccount(networkType);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void decryptMessagesInOrder() {
+    List<TransferTransaction> transactions =
+        IntStream.range(0, 50)
+            .mapToObj(i -> createTransfer(sender, encrypt(sender, "secret " + i)))
+            .collect(Collectors.toList());
+
+    List<DecryptedMessage> decrypted =
+        service
+            .decryptMessages(Flowable.fromIterable(transactions), recipient.getKeyPair())
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(
+        IntStream.range(0, 50).mapToObj(i -> "secret " + i).collect(Collectors.toList()),
+        decrypted.stream().map(d -> d.getPlainText().get()).collect(Collectors.toList()));
+    Assertions.assertEquals(
+        transactions,
+        decrypted.stream().map(DecryptedMessage::getTransaction).collect(Collectors.toList()));
+  }
+
+  @Test
+  void skipNonEncryptedMessages() {
+    TransferTransaction encrypted = createTransfer(sender, encrypt(sender, "secret"));
+    TransferTransaction plain = createTransfer(sender, new PlainMessage("hello"));
+    TransferTransaction noMessage = createTransfer(sender, null);
+    TransferTransaction unsigned =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                recipient.getAddress(),
+                Collections.emptyList())
+            .message(encrypt(sender, "unsigned"))
+            .build();
+    Transaction namespace =
+        NamespaceRegistrationTransactionFactory.createRootNamespace(
+                networkType, new Deadline(BigInteger.ONE), "name", BigInteger.TEN)
+            .signer(sender.getPublicAccount())
+            .build();
+
+    List<DecryptedMessage> decrypted =
+        service
+            .decryptMessages(
+                Observable.fromIterable(
+                    Arrays.asList(plain, namespace, encrypted, noMessage, unsigned)),
+                recipient.getKeyPair())
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(
+        Collections.singletonList(DecryptedMessage.of(encrypted, "secret")), decrypted);
+  }
+
+  @Test
+  void failedDecryptionDoesNotStopTheStream() {
+    Account other = Account.generateNewAccount(networkType);
+    TransferTransaction forOther =
+        createTransfer(
+            sender,
+            EncryptedMessage.create(
+                "other",
+                sender.getKeyPair(),
+                other.getPublicAccount().getPublicKey(),
+                CryptoEngines.defaultEngine()));
+    TransferTransaction forRecipient = createTransfer(sender, encrypt(sender, "mine"));
+
+    List<DecryptedMessage> decrypted =
+        service
+            .decryptMessages(Flowable.just(forOther, forRecipient), recipient.getKeyPair())
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(2, decrypted.size());
+    Assertions.assertTrue(decrypted.get(0).getError().isPresent());
+    Assertions.assertFalse(decrypted.get(0).getPlainText().isPresent());
+    Assertions.assertEquals(DecryptedMessage.of(forRecipient, "mine"), decrypted.get(1));
+  }
+
+  @Test
+  void decryptInnerTransfersOfAggregates() {
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Arrays.asList(
+                    createTransfer(sender, encrypt(sender, "inner 1"))
+                        .toAggregate(sender.getPublicAccount()),
+                    createTransfer(sender, new PlainMessage("plain"))
+                        .toAggregate(sender.getPublicAccount()),
+                    createTransfer(sender, encrypt(sender, "inner 2"))
+                        .toAggregate(sender.getPublicAccount())))
+            .signer(sender.getPublicAccount())
+            .build();
+    TransferTransaction topLevel = createTransfer(sender, encrypt(sender, "top level"));
+
+    List<DecryptedMessage> decrypted =
+        service
+            .decryptMessages(Flowable.just(aggregate, topLevel), recipient.getKeyPair())
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(
+        Arrays.asList("inner 1", "inner 2", "top level"),
+        decrypted.stream().map(d -> d.getPlainText().get()).collect(Collectors.toList()));
+    Assertions.assertSame(
+        aggregate.getInnerTransactions().get(2), decrypted.get(1).getTransaction());
+  }
+
+  @Test
+  void decryptSentMessagesWithTheRecipientPublicKey() {
+    Account other = Account.generateNewAccount(networkType);
+    TransferTransaction sent = createTransfer(sender, encrypt(sender, "sent"));
+    TransferTransaction received =
+        createTransfer(
+            other,
+            EncryptedMessage.create(
+                "received",
+                other.getKeyPair(),
+                sender.getPublicAccount().getPublicKey(),
+                CryptoEngines.defaultEngine()));
+
+    List<DecryptedMessage> decrypted =
+        service
+            .decryptMessages(
+                Flowable.just(sent, received),
+                sender.getKeyPair(),
+                address ->
+                    address.equals(recipient.getAddress())
+                        ? Optional.of(recipient.getPublicAccount().getPublicKey())
+                        : Optional.empty())
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(
+        Arrays.asList(DecryptedMessage.of(sent, "sent"), DecryptedMessage.of(received, "received")),
+        decrypted);
+  }
+
+  @Test
+  void sentMessagesFailWhenTheRecipientPublicKeyIsNotKnown() {
+    TransferTransaction sent = createTransfer(sender, encrypt(sender, "sent"));
+
+    List<DecryptedMessage> decrypted =
+        service.decryptMessages(Flowable.just(sent), sender.getKeyPair()).toList().blockingGet();
+
+    Assertions.assertEquals(1, decrypted.size());
+    Assertions.assertEquals(
+        "Public key of recipient " + recipient.getAddress().encoded(networkType) + " is not known",
+        decrypted.get(0).getError().get().getMessage());
+  }
+
+  @Test
+  void decryptMessagesConsumesInputLazily() {
+    List<TransferTransaction> transactions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      transactions.add(createTransfer(sender, encrypt(sender, "secret " + i)));
+    }
+    AtomicInteger requested = new AtomicInteger();
+
+    DecryptedMessage first =
+        service
+            .decryptMessages(
+                Flowable.fromIterable(transactions).doOnNext(t -> requested.incrementAndGet()),
+                recipient.getKeyPair())
+            .take(1)
+            .blockingFirst();
+
+    Assertions.assertEquals("secret 0", first.getPlainText().get());
+    Assertions.assertTrue(requested.get() <= 16, "requested " + requested.get());
+  }
+
+  private EncryptedMessage encrypt(Account sender, String text) {
+    return EncryptedMessage.create(
+        text,
+        sender.getKeyPair(),
+        recipient.getPublicAccount().getPublicKey(),
+        CryptoEngines.defaultEngine());
+  }
+
+  private TransferTransaction createTransfer(Account sender, Message message) {
+    TransferTransactionFactory factory =
+        TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.ONE),
+            recipient.getAddress(),
+            Collections.singletonList(
+                new Mosaic(new MosaicId(new BigInteger("95442763262823")), BigInteger.ONE)));
+    factory.signer(sender.getPublicAccount());
+    if (message != null) {
+      factory.message(message);
+    }
+    return factory.build();
+  }
+}
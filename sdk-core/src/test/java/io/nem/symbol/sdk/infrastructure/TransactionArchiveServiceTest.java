@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.TransactionArchiveService;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionArchiveServiceImpl}. */
+class TransactionArchiveServiceTest {
+
+  private final String generationHash =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private final List<Path> files = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws IOException {
+    executor.shutdownNow();
+    for (Path file : files) {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /** Creates signed transfers of different sizes. */
+  private List<String> createPayloads(int count) {
+    Account account = Account.generateNewAccount(networkType);
+    List<String> payloads = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      payloads.add(
+          TransferTransactionFactory.create(
+                  networkType,
+                  new Deadline(BigInteger.valueOf(i)),
+                  Address.generateRandom(networkType),
+                  Collections.singletonList(
+                      new Mosaic(new MosaicId(new BigInteger("95442763262823")), i)))
+              .message(new PlainMessage(String.join("", Collections.nCopies(i % 7, "message"))))
+              .build()
+              .signWith(account, generationHash)
+              .getPayload());
+    }
+    return payloads;
+  }
+
+  private byte[] concat(List<String> payloads) {
+    ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    for (String payload : payloads) {
+      byte[] bytes = ConvertUtils.fromHexToBytes(payload);
+      archive.write(bytes, 0, bytes.length);
+    }
+    return archive.toByteArray();
+  }
+
+  private FileChannel write(byte[] archive) throws IOException {
+    Path file = Files.createTempFile("archive", ".bin");
+    files.add(file);
+    Files.write(file, archive);
+    return FileChannel.open(file, StandardOpenOption.READ);
+  }
+
+  private static List<String> toPayloads(List<Transaction> transactions) {
+    return transactions.stream()
+        .map(transaction -> ConvertUtils.toHex(transaction.serialize()))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void readTransactionsInArchiveOrder() throws IOException {
+    List<String> payloads = createPayloads(200);
+    // small chunks and windows so the archive is cut and remapped many times.
+    TransactionArchiveService service =
+        new TransactionArchiveServiceImpl(
+            BinarySerializationImpl.INSTANCE, executor, 1000, 4, 5000);
+
+    try (FileChannel channel = write(concat(payloads))) {
+      List<Transaction> transactions = service.readTransactions(channel).toList().blockingGet();
+
+      Assertions.assertEquals(payloads, toPayloads(transactions));
+    }
+  }
+
+  @Test
+  void readTransactionFactories() throws IOException {
+    List<String> payloads = createPayloads(20);
+    TransactionArchiveService service = new TransactionArchiveServiceImpl(executor, 1000, 4);
+
+    try (FileChannel channel = write(concat(payloads))) {
+      List<TransactionFactory<?>> factories =
+          service.readTransactionFactories(channel).toList().blockingGet();
+
+      Assertions.assertEquals(
+          payloads,
+          toPayloads(
+              factories.stream().map(TransactionFactory::build).collect(Collectors.toList())));
+    }
+  }
+
+  @Test
+  void readTransactionsFromBuffer() {
+    List<String> payloads = createPayloads(50);
+    byte[] archive = concat(payloads);
+    ByteBuffer buffer = ByteBuffer.allocate(archive.length + 10);
+    buffer.position(10);
+    buffer.put(archive);
+    buffer.position(10);
+    TransactionArchiveService service = new TransactionArchiveServiceImpl(executor, 500, 4);
+
+    List<Transaction> transactions = service.readTransactions(buffer).toList().blockingGet();
+
+    Assertions.assertEquals(payloads, toPayloads(transactions));
+    Assertions.assertEquals(10, buffer.position());
+  }
+
+  @Test
+  void emptyArchive() throws IOException {
+    TransactionArchiveService service = new TransactionArchiveServiceImpl(executor, 1000, 4);
+
+    try (FileChannel channel = write(new byte[0])) {
+      Assertions.assertEquals(0, service.readTransactions(channel).count().blockingGet());
+    }
+  }
+
+  @Test
+  void truncatedArchive() throws IOException {
+    byte[] archive = concat(createPayloads(10));
+    TransactionArchiveService service =
+        new TransactionArchiveServiceImpl(
+            BinarySerializationImpl.INSTANCE, executor, 1000, 4, 5000);
+
+    try (FileChannel channel = write(Arrays.copyOf(archive, archive.length - 1))) {
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> service.readTransactions(channel).toList().blockingGet());
+    }
+  }
+}
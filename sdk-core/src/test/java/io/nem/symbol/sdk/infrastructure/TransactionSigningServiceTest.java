@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.TransactionSigningService;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionSigningServiceImpl}. */
+class TransactionSigningServiceTest {
+
+  private final String generationHash =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private final TransactionSigningService service =
+      new TransactionSigningServiceImpl(executor, 8);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void signTransactionsInInputOrder() {
+    Account account = Account.generateNewAccount(networkType);
+    List<TransferTransaction> transactions = createTransactions(100);
+
+    List<SignedTransaction> signedTransactions =
+        service
+            .signTransactions(transactions, account.getSigningContext(), generationHash)
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(
+        transactions.stream()
+            .map(transaction -> transaction.signWith(account, generationHash).getPayload())
+            .collect(Collectors.toList()),
+        signedTransactions.stream()
+            .map(SignedTransaction::getPayload)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void signTransactionsConsumesInputLazily() {
+    Account account = Account.generateNewAccount(networkType);
+    List<TransferTransaction> transactions = createTransactions(100);
+    AtomicInteger consumed = new AtomicInteger();
+    Iterable<TransferTransaction> inputs =
+        () -> {
+          Iterator<TransferTransaction> iterator = transactions.iterator();
+          return new Iterator<TransferTransaction>() {
+            @Override
+            public boolean hasNext() {
+              return iterator.hasNext();
+            }
+
+            @Override
+            public TransferTransaction next() {
+              consumed.incrementAndGet();
+              return iterator.next();
+            }
+          };
+        };
+
+    SignedTransaction first =
+        service
+            .signTransactions(inputs, account.getSigningContext(), generationHash)
+            .take(1)
+            .blockingFirst();
+
+    Assertions.assertEquals(
+        transactions.get(0).signWith(account, generationHash).getPayload(), first.getPayload());
+    Assertions.assertTrue(consumed.get() <= 16, "consumed " + consumed.get());
+  }
+
+  @Test
+  void signAggregateTransactions() {
+    Account initiator = Account.generateNewAccount(networkType);
+    Account cosignatory = Account.generateNewAccount(networkType);
+    List<AggregateTransaction> aggregates =
+        createTransactions(10).stream()
+            .map(
+                transaction ->
+                    AggregateTransactionFactory.createComplete(
+                            networkType,
+                            new Deadline(BigInteger.ONE),
+                            Collections.singletonList(
+                                transaction.toAggregate(initiator.getPublicAccount())))
+                        .build())
+            .collect(Collectors.toList());
+
+    List<SignedTransaction> signedTransactions =
+        service
+            .signAggregateTransactions(
+                aggregates,
+                initiator.getSigningContext(),
+                Collections.singletonList(cosignatory.getSigningContext()),
+                generationHash)
+            .toList()
+            .blockingGet();
+
+    Assertions.assertEquals(
+        aggregates.stream()
+            .map(
+                aggregate ->
+                    aggregate
+                        .signTransactionWithCosigners(
+                            initiator, Collections.singletonList(cosignatory), generationHash)
+                        .getPayload())
+            .collect(Collectors.toList()),
+        signedTransactions.stream()
+            .map(SignedTransaction::getPayload)
+            .collect(Collectors.toList()));
+    signedTransactions.forEach(
+        signed -> Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, signed.getType()));
+  }
+
+  private List<TransferTransaction> createTransactions(int count) {
+    List<TransferTransaction> transactions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      transactions.add(
+          TransferTransactionFactory.create(
+                  networkType,
+                  new Deadline(BigInteger.ONE),
+                  Account.generateNewAccount(networkType).getAddress(),
+                  Collections.singletonList(
+                      new Mosaic(
+                          new MosaicId(new BigInteger("95442763262823")),
+                          BigInteger.valueOf(i + 1))))
+              .message(new PlainMessage("payout " + i))
+              .build());
+    }
+    return transactions;
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link TransactionView} and its typed views. */
+class TransactionViewTest {
+
+  private static final String GENERATION_HASH =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private final Account account =
+      new Account(
+          "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+          NetworkType.MIJIN_TEST);
+
+  private final Account cosigner = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+
+  private final Address recipient = Address.generateRandom(NetworkType.MIJIN_TEST);
+
+  private TransferTransaction createTransfer(long amount) {
+    return TransferTransactionFactory.create(
+            NetworkType.MIJIN_TEST,
+            new Deadline(BigInteger.valueOf(1000)),
+            recipient,
+            Arrays.asList(
+                new Mosaic(new MosaicId(new BigInteger("95442763262823")), amount),
+                new Mosaic(new MosaicId(new BigInteger("95442763262824")), amount + 1)))
+        .message(new PlainMessage("Some Message"))
+        .maxFee(BigInteger.valueOf(2000))
+        .signer(account.getPublicAccount())
+        .build();
+  }
+
+  @Test
+  void transferView() {
+    TransferTransaction transaction = createTransfer(100);
+    SignedTransaction signedTransaction = transaction.signWith(account, GENERATION_HASH);
+    byte[] payload = ConvertUtils.fromHexToBytes(signedTransaction.getPayload());
+
+    TransactionView view = TransactionView.wrap(ByteBuffer.wrap(payload));
+
+    Assertions.assertFalse(view.isEmbedded());
+    Assertions.assertEquals(payload.length, view.getSize());
+    Assertions.assertEquals(TransactionType.TRANSFER, view.getType());
+    Assertions.assertTrue(view.isType(TransactionType.TRANSFER));
+    Assertions.assertEquals(NetworkType.MIJIN_TEST, view.getNetworkType());
+    Assertions.assertEquals(transaction.getVersion(), view.getVersion());
+    Assertions.assertEquals(2000L, view.getMaxFee());
+    Assertions.assertEquals(1000L, view.getDeadline());
+    Assertions.assertEquals(account.getPublicAccount().getPublicKey(), view.getSigner());
+    Assertions.assertTrue(view.isSigner(account.getPublicAccount().getPublicKey()));
+    Assertions.assertFalse(view.isSigner(cosigner.getPublicAccount().getPublicKey()));
+    Assertions.assertArrayEquals(Arrays.copyOfRange(payload, 8, 72), view.getSignature());
+    Assertions.assertArrayEquals(payload, view.getPayload());
+
+    TransferTransactionView transferView = view.asTransfer();
+    Assertions.assertEquals(recipient, transferView.getRecipient());
+    Assertions.assertTrue(transferView.isRecipient(recipient));
+    Assertions.assertFalse(transferView.isRecipient(account.getAddress()));
+    Assertions.assertEquals(2, transferView.getMosaicsCount());
+    Assertions.assertEquals(95442763262824L, transferView.getMosaicId(1));
+    Assertions.assertEquals(101L, transferView.getMosaicAmount(1));
+    Assertions.assertEquals(transaction.getMosaics().get(1), transferView.getMosaic(1));
+    Assertions.assertEquals(transaction.getMessage(), transferView.getMessage());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> transferView.getMosaicId(2));
+    Assertions.assertThrows(IllegalArgumentException.class, view::asAggregate);
+
+    TransferTransaction deserialized = (TransferTransaction) view.toTransaction();
+    Assertions.assertEquals(transaction.getRecipient(), deserialized.getRecipient());
+    Assertions.assertEquals(transaction.getMosaics(), deserialized.getMosaics());
+  }
+
+  @Test
+  void transferViewWithNamespaceRecipient() {
+    NamespaceId namespaceId = NamespaceId.createFromName("some.alias");
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                namespaceId,
+                Collections.emptyList())
+            .build();
+
+    TransferTransactionView view =
+        TransferTransactionView.wrap(
+            ByteBuffer.wrap(BinarySerializationImpl.INSTANCE.serialize(transaction)));
+
+    Assertions.assertEquals(
+        namespaceId.getIdAsLong(), ((NamespaceId) view.getRecipient()).getIdAsLong());
+    Assertions.assertFalse(view.isRecipient(recipient));
+    Assertions.assertEquals(0, view.getMosaicsCount());
+    Assertions.assertFalse(view.getMessage().isPresent());
+  }
+
+  @Test
+  void aggregateView() {
+    TransferTransaction first = createTransfer(100);
+    TransferTransaction second = createTransfer(200);
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Arrays.asList(first, second))
+            .build();
+    SignedTransaction signedTransaction =
+        aggregate.signTransactionWithCosigners(
+            account, Collections.singletonList(cosigner), GENERATION_HASH);
+    byte[] payload = ConvertUtils.fromHexToBytes(signedTransaction.getPayload());
+
+    // the views index the whole buffer, the aggregate doesn't need to start at 0.
+    ByteBuffer buffer = ByteBuffer.allocate(payload.length + 8);
+    buffer.position(8);
+    buffer.put(payload);
+    buffer.position(8);
+    AggregateTransactionView view = AggregateTransactionView.wrap(buffer);
+
+    Assertions.assertEquals(8, view.getOffset());
+    Assertions.assertEquals(8, buffer.position());
+    Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, view.getType());
+    Assertions.assertEquals(aggregate.getTransactionsHash(), view.getTransactionsHash().toHex());
+    Assertions.assertEquals(1, view.getCosignaturesCount());
+    Assertions.assertEquals(cosigner.getPublicAccount().getPublicKey(), view.getCosigner(0));
+    Assertions.assertTrue(view.isCosigner(cosigner.getPublicAccount().getPublicKey()));
+    Assertions.assertFalse(view.isCosigner(account.getPublicAccount().getPublicKey()));
+
+    List<Long> amounts = new ArrayList<>();
+    for (TransactionView innerView : view.getInnerTransactions()) {
+      Assertions.assertTrue(innerView.isEmbedded());
+      Assertions.assertTrue(innerView.isSigner(account.getPublicAccount().getPublicKey()));
+      Assertions.assertThrows(IllegalStateException.class, innerView::getMaxFee);
+      amounts.add(innerView.asTransfer().getMosaicAmount(0));
+    }
+    Assertions.assertEquals(Arrays.asList(100L, 200L), amounts);
+
+    List<Integer> offsets = new ArrayList<>();
+    view.forEachInnerTransaction(innerView -> offsets.add(innerView.getOffset()));
+    int firstSize = BinarySerializationImpl.padSize(first.getSize() - 80);
+    Assertions.assertEquals(Arrays.asList(8 + 168, 8 + 168 + firstSize), offsets);
+
+    Transaction inner = view.getInnerTransactions().iterator().next().toTransaction();
+    Assertions.assertEquals(first.getRecipient(), ((TransferTransaction) inner).getRecipient());
+  }
+
+  @Test
+  void invalidBuffers() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> TransactionView.wrap(ByteBuffer.allocate(100)));
+    ByteBuffer buffer = ByteBuffer.allocate(128);
+    buffer.put(0, (byte) 129);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> TransactionView.wrap(buffer));
+    byte[] payload = BinarySerializationImpl.INSTANCE.serialize(createTransfer(1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> AggregateTransactionView.wrap(ByteBuffer.wrap(payload)));
+  }
+}
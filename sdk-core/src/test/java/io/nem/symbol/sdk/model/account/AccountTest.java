@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
@@ -129,6 +130,36 @@ class AccountTest {
         signedTransaction.getHash());
   }
 
+  @Test
+  void shouldSignTransactionWithSigningContext() {
+    Account account =
+        new Account(
+            "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+            NetworkType.MIJIN_TEST);
+    TransferTransaction transferTransaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                new Address("SDZWZJUAYNOWGBTCUDBY3SE5JF4NCC2RDM6SIGQ", NetworkType.MIJIN_TEST),
+                Collections.singletonList(
+                    new Mosaic(
+                        new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))))
+            .message(new PlainMessage(""))
+            .build();
+
+    SignedTransaction signedTransaction =
+        transferTransaction.signWith(account.getSigningContext(), generationHash);
+
+    assertEquals(
+        account.sign(transferTransaction, generationHash).getPayload(),
+        signedTransaction.getPayload());
+    assertEquals(
+        "58D649ABF9A26AFB3F070E26F157920DAB6423415B4344108B93EDD80DE330E5",
+        signedTransaction.getHash());
+    assertEquals(account.getPublicAccount(), signedTransaction.getSigner());
+    assertSame(account.getSigningContext(), account.getSigningContext());
+  }
+
   @Test
   void shouldAcceptKeyPairAsConstructor() {
     NetworkType networkType = NetworkType.MIJIN_TEST;
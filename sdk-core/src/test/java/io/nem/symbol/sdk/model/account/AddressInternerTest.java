@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.sdk.model.network.NetworkType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AddressInternerTest {
+
+  @Test
+  void shouldReturnTheFirstInstance() {
+    AddressInterner interner = new AddressInterner();
+    Address address = Address.generateRandom(NetworkType.MIJIN_TEST);
+    Address copy = Address.createFromRawAddress(address.plain());
+
+    Assertions.assertNotSame(address, copy);
+    Assertions.assertSame(address, interner.intern(address));
+    Assertions.assertSame(address, interner.intern(copy));
+    Assertions.assertSame(address, interner.intern(address.getRawBytes(), 0));
+    Assertions.assertEquals(1, interner.size());
+  }
+
+  @Test
+  void shouldDropTheLeastRecentlyUsedAddresses() {
+    AddressInterner interner = new AddressInterner(2);
+    Address address1 = interner.intern(Address.generateRandom(NetworkType.MIJIN_TEST));
+    Address address2 = interner.intern(Address.generateRandom(NetworkType.MIJIN_TEST));
+    interner.intern(address1);
+    interner.intern(Address.generateRandom(NetworkType.MIJIN_TEST));
+
+    Assertions.assertEquals(2, interner.size());
+    Assertions.assertSame(
+        address1, interner.intern(Address.createFromRawAddress(address1.plain())));
+    Assertions.assertNotSame(
+        address2, interner.intern(Address.createFromRawAddress(address2.plain())));
+
+    interner.clear();
+    Assertions.assertEquals(0, interner.size());
+  }
+}
@@ -284,4 +284,51 @@ class AddressTest {
         "Plain address 'SDRDGFTDLLCB67D4HPGIMIHPNSRYRJRT7DOBGGA' checksum is incorrect. Address checksum is 'DC1318' when 'DC135B' is expected",
         Address.validatePlainAddress("SDRDGFTDLLCB67D4HPGIMIHPNSRYRJRT7DOBGGA").get());
   }
+
+  @ParameterizedTest
+  @EnumSource(NetworkType.class)
+  void shouldCreateFromRawBytes(NetworkType networkType) {
+    Address address = generateAddress(networkType);
+    Address fromBytes = Address.createFromRawBytes(address.getRawBytes());
+    assertEquals(address, fromBytes);
+    assertEquals(address.hashCode(), fromBytes.hashCode());
+    assertEquals(address.plain(), fromBytes.plain());
+    assertEquals(address.encoded(), fromBytes.encoded());
+    assertEquals(networkType, fromBytes.getNetworkType());
+  }
+
+  @Test
+  void shouldCreateFromRawBytesAtOffset() {
+    Address address = Address.createFromRawAddress("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA");
+    byte[] buffer = new byte[30];
+    address.writeRawBytes(buffer, 4);
+    Address fromBytes = Address.createFromRawBytes(buffer, 4);
+    assertEquals(address, fromBytes);
+    assertEquals("6823BB7C3C089D996585466380EDBDC19D4959184893E38C", fromBytes.encoded());
+    assertEquals("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA", fromBytes.plain());
+    assertEquals("NAR3W7-B4BCOZ-SZMFIZ-RYB3N5-YGOUSW-IYJCJ6-HDA", fromBytes.pretty());
+  }
+
+  @Test
+  void shouldCreateFromRawBytesFailWhenInvalid() {
+    byte[] rawAddress = Address.generateRandom(NetworkType.MIJIN_TEST).getRawBytes();
+    rawAddress[23] ^= 1;
+    assertTrue(
+        assertThrows(IllegalArgumentException.class, () -> Address.createFromRawBytes(rawAddress))
+            .getMessage()
+            .contains("checksum is incorrect"));
+    assertEquals(
+        "rawAddress doesn't have 24 bytes at offset 8",
+        assertThrows(
+                IllegalArgumentException.class, () -> Address.createFromRawBytes(rawAddress, 8))
+            .getMessage());
+  }
+
+  @Test
+  void shouldReturnRawBytesCopy() {
+    Address address = Address.generateRandom(NetworkType.MIJIN_TEST);
+    byte[] rawAddress = address.getRawBytes();
+    rawAddress[0] = 0;
+    assertEquals(NetworkType.MIJIN_TEST.getValue(), address.getRawBytes()[0] & 0xFF);
+  }
 }
@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.model.blockchain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.nem.symbol.core.crypto.Hash256;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
@@ -110,5 +111,57 @@ class BlockInfoTest {
     assertEquals(proofVerificationHash, blockInfo.getProofVerificationHash());
     assertEquals("abc", blockInfo.getRecordId().get());
     assertEquals(stateHashSubCacheMerkleRoots, blockInfo.getStateHashSubCacheMerkleRoots());
+
+    assertEquals(Hash256.fromHex(hash), blockInfo.getHash256());
+    assertEquals(Hash256.fromHex(generationHash), blockInfo.getGenerationHash256());
+    assertEquals(Hash256.fromHex(previousBlockHash), blockInfo.getPreviousBlockHash256());
+    assertEquals(Hash256.fromHex(blockTransactionsHash), blockInfo.getBlockTransactionsHash256());
+    assertEquals(Hash256.fromHex(blockReceiptsHash), blockInfo.getBlockReceiptsHash256());
+    assertEquals(Hash256.fromHex(stateHash), blockInfo.getStateHash256());
+
+    assertEquals(0L, blockInfo.getTotalFeeAsLong());
+    assertEquals(1L, blockInfo.getHeightAsLong());
+    assertEquals(0L, blockInfo.getTimestampAsLong());
+    assertEquals(276447232L, blockInfo.getDifficultyAsLong());
+  }
+
+  @Test
+  void longGettersRejectMissingAndOversizedValues() {
+    BlockInfo blockInfo =
+        new BlockInfo(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            NetworkType.MIJIN_TEST,
+            1,
+            32768,
+            new BigInteger("18446744073709551615"),
+            new BigInteger("18446744073709551616"),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+
+    assertEquals(-1L, blockInfo.getHeightAsLong());
+    Assertions.assertThrows(IllegalArgumentException.class, blockInfo::getTimestampAsLong);
+    IllegalStateException exception =
+        Assertions.assertThrows(IllegalStateException.class, blockInfo::getTotalFeeAsLong);
+    assertEquals("totalFee is not known", exception.getMessage());
+    Assertions.assertThrows(IllegalStateException.class, blockInfo::getDifficultyAsLong);
   }
 }
@@ -16,6 +16,7 @@
 package io.nem.symbol.sdk.model.mosaic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigInteger;
 import org.junit.jupiter.api.Test;
@@ -29,4 +30,38 @@ class MosaicTest {
     assertEquals(mosaicId, mosaic.getId());
     assertEquals(BigInteger.valueOf(24), mosaic.getAmount());
   }
+
+  @Test
+  void createANewMosaicFromLong() {
+    MosaicId mosaicId = new MosaicId(new BigInteger("-3087871471161192663"));
+    Mosaic mosaic = new Mosaic(mosaicId, 24L);
+    assertEquals(24L, mosaic.getAmountAsLong());
+    assertEquals(BigInteger.valueOf(24), mosaic.getAmount());
+    assertEquals(new Mosaic(mosaicId, BigInteger.valueOf(24)), mosaic);
+    assertEquals(new Mosaic(mosaicId, BigInteger.valueOf(24)).hashCode(), mosaic.hashCode());
+  }
+
+  @Test
+  void amountAboveLongMaxValue() {
+    MosaicId mosaicId = new MosaicId(new BigInteger("-3087871471161192663"));
+    BigInteger amount = new BigInteger("18446744073709551615");
+    Mosaic mosaic = new Mosaic(mosaicId, amount);
+    assertEquals(-1L, mosaic.getAmountAsLong());
+    assertEquals(amount, mosaic.getAmount());
+    assertEquals(amount, new Mosaic(mosaicId, -1L).getAmount());
+  }
+
+  @Test
+  void amountAboveUnsignedLongMaxValue() {
+    MosaicId mosaicId = new MosaicId(new BigInteger("-3087871471161192663"));
+    BigInteger amount = new BigInteger("18446744073709551616");
+    assertThrows(IllegalArgumentException.class, () -> new Mosaic(mosaicId, amount));
+  }
+
+  @Test
+  void negativeAmountIsRejected() {
+    MosaicId mosaicId = new MosaicId(new BigInteger("-3087871471161192663"));
+    assertThrows(
+        IllegalArgumentException.class, () -> new Mosaic(mosaicId, BigInteger.ONE.negate()));
+  }
 }
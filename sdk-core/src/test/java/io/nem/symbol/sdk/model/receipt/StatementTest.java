@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.receipt;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link Statement}. */
+class StatementTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  @Test
+  void emptyStatementHashIsZero() {
+    Statement statement =
+        new Statement(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    Assertions.assertEquals(
+        "0000000000000000000000000000000000000000000000000000000000000000",
+        statement.generateHash(networkType));
+  }
+
+  @Test
+  void generateHashUsesTransactionThenAddressThenMosaicStatements() {
+    TransactionStatement transactionStatement = Mockito.mock(TransactionStatement.class);
+    Mockito.when(transactionStatement.generateHash()).thenReturn(hash(1));
+    AddressResolutionStatement addressStatement = Mockito.mock(AddressResolutionStatement.class);
+    Mockito.when(addressStatement.generateHash(networkType)).thenReturn(hash(2));
+    MosaicResolutionStatement mosaicStatement = Mockito.mock(MosaicResolutionStatement.class);
+    Mockito.when(mosaicStatement.generateHash(networkType)).thenReturn(hash(3));
+
+    Statement statement =
+        new Statement(
+            Collections.singletonList(transactionStatement),
+            Collections.singletonList(addressStatement),
+            Collections.singletonList(mosaicStatement));
+
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    Arrays.asList(hash(1), hash(2), hash(3))
+        .forEach(hash -> builder.update(ConvertUtils.fromHexToBytes(hash)));
+    Assertions.assertEquals(
+        ConvertUtils.toHex(builder.getRootHash()), statement.generateHash(networkType));
+  }
+
+  @Test
+  void singleStatementHashIsItsHash() {
+    TransactionStatement transactionStatement = Mockito.mock(TransactionStatement.class);
+    Mockito.when(transactionStatement.generateHash()).thenReturn(hash(1));
+
+    Statement statement =
+        new Statement(
+            Collections.singletonList(transactionStatement),
+            Collections.emptyList(),
+            Collections.emptyList());
+
+    Assertions.assertEquals(hash(1), statement.generateHash(networkType));
+  }
+
+  private static String hash(int value) {
+    return ConvertUtils.toHex(Hashes.sha3_256(BigInteger.valueOf(value).toByteArray()));
+  }
+}
@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.nem.symbol.core.crypto.Hash256;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
@@ -37,4 +38,21 @@ public class CosignatureSignedTransactionTest {
     assertEquals("signature", cosignatureSignedTransaction.getSignature());
     assertEquals(signer, cosignatureSignedTransaction.getSigner());
   }
+
+  @Test
+  void signBinaryHashLikeHexHash() {
+    Account cosignatory = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    String hash = "B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F";
+
+    CosignatureSignedTransaction fromHex =
+        CosignatureTransaction.signHash(
+            cosignatory.getSigningContext(), cosignatory.getPublicAccount(), hash);
+    CosignatureSignedTransaction fromBinary =
+        CosignatureTransaction.signHash(
+            cosignatory.getSigningContext(), cosignatory.getPublicAccount(), Hash256.fromHex(hash));
+
+    assertEquals(fromHex.getParentHash(), fromBinary.getParentHash());
+    assertEquals(fromHex.getSignature(), fromBinary.getSignature());
+    assertEquals(fromHex.getSigner(), fromBinary.getSigner());
+  }
 }
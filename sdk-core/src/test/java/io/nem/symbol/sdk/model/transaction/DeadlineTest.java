@@ -77,6 +77,16 @@ class DeadlineTest {
             .toString());
   }
 
+  @Test
+  void createFromLong() {
+    Deadline deadline = new Deadline(10L);
+    Assertions.assertEquals(10L, deadline.getValue());
+    Assertions.assertEquals(BigInteger.TEN, deadline.toBigInteger());
+    Assertions.assertEquals(
+        deadline.getInstant(epochAdjustment),
+        new Deadline(BigInteger.TEN).getInstant(epochAdjustment));
+  }
+
   @Test
   void compareWith2Hours() {
     Duration twoHours = Duration.ofHours(2);
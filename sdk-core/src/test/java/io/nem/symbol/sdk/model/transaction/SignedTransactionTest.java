@@ -15,10 +15,15 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.core.crypto.Hash256;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import java.nio.ByteBuffer;
 import org.junit.jupiter.api.Test;
 
 public class SignedTransactionTest {
@@ -35,4 +40,79 @@ public class SignedTransactionTest {
     assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
     assertEquals(signer.getPublicAccount(), signedTransaction.getSigner());
   }
+
+  @Test
+  void createASignedTransactionWithHash256() {
+    Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    Hash256 hash =
+        Hash256.fromHex("B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F");
+    SignedTransaction signedTransaction =
+        new SignedTransaction(signer.getPublicAccount(), "payload", hash, TransactionType.TRANSFER);
+
+    assertEquals(hash, signedTransaction.getHash256());
+    assertEquals(
+        "B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F",
+        signedTransaction.getHash());
+  }
+
+  @Test
+  void getHash256FromHexHash() {
+    Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    SignedTransaction signedTransaction =
+        new SignedTransaction(
+            signer.getPublicAccount(),
+            "payload",
+            "b6c7648a3ddf71415650805e9e7801424fe03bbee7d21f9c57b60220d3e95b2f",
+            TransactionType.TRANSFER);
+
+    assertEquals(
+        Hash256.fromHex("B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F"),
+        signedTransaction.getHash256());
+  }
+
+  @Test
+  void createASignedTransactionWithPayloadBytes() {
+    Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    Hash256 hash =
+        Hash256.fromHex("B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F");
+    byte[] payload = new byte[] {1, 2, 10, (byte) 0xFF};
+    SignedTransaction signedTransaction =
+        new SignedTransaction(signer.getPublicAccount(), payload, hash, TransactionType.TRANSFER);
+
+    assertSame(payload, signedTransaction.getPayloadBytes());
+    assertEquals("01020AFF", signedTransaction.getPayload());
+    assertSame(signedTransaction.getPayload(), signedTransaction.getPayload());
+    assertEquals(hash, signedTransaction.getHash256());
+  }
+
+  @Test
+  void getPayloadBytesFromHexPayload() {
+    Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    SignedTransaction signedTransaction =
+        new SignedTransaction(
+            signer.getPublicAccount(), "01020aff", "hash", TransactionType.TRANSFER);
+
+    assertArrayEquals(new byte[] {1, 2, 10, (byte) 0xFF}, signedTransaction.getPayloadBytes());
+    assertEquals("01020aff", signedTransaction.getPayload());
+  }
+
+  @Test
+  void getPayloadByteBufferIsReadOnly() {
+    Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    Hash256 hash =
+        Hash256.fromHex("B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F");
+    SignedTransaction signedTransaction =
+        new SignedTransaction(
+            signer.getPublicAccount(), new byte[] {1, 2, 3}, hash, TransactionType.TRANSFER);
+
+    ByteBuffer buffer = signedTransaction.getPayloadByteBuffer();
+
+    assertTrue(buffer.isReadOnly());
+    assertEquals(3, buffer.remaining());
+    assertEquals(2, buffer.get(1));
+    assertSame(signedTransaction.getHash(), signedTransaction.getHash());
+    assertEquals(
+        "B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F",
+        signedTransaction.getHash());
+  }
 }
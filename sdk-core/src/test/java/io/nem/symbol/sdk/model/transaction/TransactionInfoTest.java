@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.core.crypto.Hash256;
 import java.math.BigInteger;
 import org.junit.jupiter.api.Test;
 
@@ -98,4 +99,62 @@ public class TransactionInfoTest {
         transactionInfo.getAggregateHash().get());
     assertEquals("5A0069D83F17CF0001777E55", transactionInfo.getAggregateId().get());
   }
+
+  @Test
+  void createATransactionInfoWithHash256() {
+    Hash256 hash =
+        Hash256.fromHex("B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F");
+    Hash256 merkleComponentHash =
+        Hash256.fromHex("3D28C804EDD07D5A728E5C5FFEC01AB07AFA5766AE6997B38526D36015A4D006");
+    TransactionInfo transactionInfo =
+        TransactionInfo.create(new BigInteger("121855"), 1, "ABC", hash, merkleComponentHash);
+
+    assertEquals(hash, transactionInfo.getHash256().get());
+    assertEquals(merkleComponentHash, transactionInfo.getMerkleComponentHash256().get());
+    assertFalse(transactionInfo.getAggregateHash256().isPresent());
+    assertEquals(hash.toHex(), transactionInfo.getHash().get());
+    assertEquals(merkleComponentHash.toHex(), transactionInfo.getMerkleComponentHash().get());
+    assertTrue(transactionInfo.hasHash(hash));
+    assertFalse(transactionInfo.hasHash(merkleComponentHash));
+
+    TransactionInfo aggregateInfo =
+        TransactionInfo.createAggregate(
+            new BigInteger("121855"),
+            1,
+            "5A3D23889CD1E800015929A9",
+            hash,
+            "5A0069D83F17CF0001777E55");
+    assertEquals(hash, aggregateInfo.getAggregateHash256().get());
+    assertEquals(hash.toHex(), aggregateInfo.getAggregateHash().get());
+    assertFalse(aggregateInfo.getHash256().isPresent());
+    assertFalse(aggregateInfo.hasHash(hash));
+  }
+
+  @Test
+  void getHash256FromHexHashes() {
+    TransactionInfo transactionInfo =
+        TransactionInfo.create(
+            new BigInteger("121855"),
+            "b6c7648a3ddf71415650805e9e7801424fe03bbee7d21f9c57b60220d3e95b2f",
+            "3D28C804EDD07D5A728E5C5FFEC01AB07AFA5766AE6997B38526D36015A4D006");
+
+    Hash256 hash =
+        Hash256.fromHex("B6C7648A3DDF71415650805E9E7801424FE03BBEE7D21F9C57B60220D3E95B2F");
+    assertEquals(hash, transactionInfo.getHash256().get());
+    assertEquals(
+        "b6c7648a3ddf71415650805e9e7801424fe03bbee7d21f9c57b60220d3e95b2f",
+        transactionInfo.getHash().get());
+    assertTrue(transactionInfo.hasHash(hash));
+    assertEquals(
+        "3D28C804EDD07D5A728E5C5FFEC01AB07AFA5766AE6997B38526D36015A4D006",
+        transactionInfo.getMerkleComponentHash256().get().toHex());
+  }
+
+  @Test
+  void getHeightAsLong() {
+    TransactionInfo transactionInfo =
+        TransactionInfo.create(new BigInteger("121855"), "hash", "merkleComponentHash");
+    assertEquals(121855L, transactionInfo.getHeightAsLong());
+    assertEquals(new BigInteger("121855"), transactionInfo.getHeight());
+  }
 }
@@ -15,13 +15,19 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.Collections;
@@ -136,4 +142,58 @@ public class TransactionTest {
 
     assertTrue(fakeTransaction.hasMissingSignatures());
   }
+
+  @Test
+  void signWithSignsAndHashesThePayloadInPlace() {
+    Account account = Account.generateNewAccount(networkType);
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                deadline,
+                Address.generateRandom(networkType),
+                Collections.singletonList(
+                    new Mosaic(new MosaicId(new BigInteger("95442763262823")), 100L)))
+            .message(new PlainMessage("Some Message"))
+            .build();
+
+    SignedTransaction signedTransaction = transaction.signWith(account, generationHash);
+
+    assertSignedPayload(transaction, account, signedTransaction);
+  }
+
+  @Test
+  void signWithSignsTheAggregateHeaderInPlace() {
+    Account account = Account.generateNewAccount(networkType);
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType, deadline, Address.generateRandom(networkType), Collections.emptyList())
+            .signer(account.getPublicAccount())
+            .build();
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                networkType, deadline, Collections.singletonList(transaction))
+            .build();
+
+    SignedTransaction signedTransaction = aggregate.signWith(account, generationHash);
+
+    assertSignedPayload(aggregate, account, signedTransaction);
+  }
+
+  /** Compares the signed payload with the one created copying the signing bytes. */
+  private void assertSignedPayload(
+      Transaction transaction, Account account, SignedTransaction signedTransaction) {
+    byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
+    byte[] expected = transaction.serialize();
+    Signature signature =
+        account.getSigningContext().sign(transaction.getSignBytes(expected, generationHashBytes));
+    System.arraycopy(signature.getBytes(), 0, expected, 8, 64);
+    System.arraycopy(account.getPublicAccount().getPublicKey().getBytes(), 0, expected, 72, 32);
+
+    assertArrayEquals(expected, signedTransaction.getPayloadBytes());
+    assertEquals(ConvertUtils.toHex(expected), signedTransaction.getPayload());
+    assertEquals(
+        transaction.createTransactionHash(ConvertUtils.toHex(expected), generationHashBytes),
+        signedTransaction.getHash());
+    assertEquals(account.getPublicAccount(), signedTransaction.getSigner());
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TransferTransactionTemplateTest extends AbstractTransactionTester {
+
+  static Account account;
+  static String generationHash;
+  static MosaicId mosaicId1 = new MosaicId(new BigInteger("95442763262823"));
+  static MosaicId mosaicId2 = new MosaicId(new BigInteger("1234567890"));
+
+  @BeforeAll
+  public static void setup() {
+    account =
+        new Account(
+            "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d", networkType);
+    generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+  }
+
+  private static TransferTransaction createTransfer(
+      UnresolvedAddress recipient, long amount1, long amount2, long deadline, long maxFee) {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.valueOf(deadline)),
+            recipient,
+            Arrays.asList(
+                new Mosaic(mosaicId1, BigInteger.valueOf(amount1)),
+                new Mosaic(mosaicId2, BigInteger.valueOf(amount2))))
+        .message(new PlainMessage("payout"))
+        .maxFee(BigInteger.valueOf(maxFee))
+        .build();
+  }
+
+  private static void assertSameSignedTransaction(
+      SignedTransaction expected, SignedTransaction actual) {
+    Assertions.assertEquals(expected.getPayload(), actual.getPayload());
+    Assertions.assertEquals(expected.getHash(), actual.getHash());
+    Assertions.assertEquals(expected.getSigner(), actual.getSigner());
+    Assertions.assertEquals(expected.getType(), actual.getType());
+  }
+
+  @Test
+  void signWithoutPatches() {
+    Address recipient = Address.generateRandom(networkType);
+    TransferTransaction transaction = createTransfer(recipient, 1, 2, 3, 4);
+
+    SignedTransaction signedTransaction =
+        TransferTransactionTemplate.create(transaction).signWith(account, generationHash);
+
+    assertSameSignedTransaction(transaction.signWith(account, generationHash), signedTransaction);
+  }
+
+  @Test
+  void signPatchedTransactions() {
+    TransferTransactionTemplate template =
+        TransferTransactionTemplate.create(
+            createTransfer(Address.generateRandom(networkType), 1, 2, 3, 4));
+
+    Address recipient = Address.generateRandom(networkType);
+    SignedTransaction signedTransaction =
+        template
+            .recipient(recipient)
+            .mosaicAmount(mosaicId1, 100)
+            .mosaicAmount(mosaicId2, 200)
+            .deadline(new Deadline(BigInteger.valueOf(300)))
+            .maxFee(400)
+            .signWith(account, generationHash);
+    assertSameSignedTransaction(
+        createTransfer(recipient, 100, 200, 300, 400).signWith(account, generationHash),
+        signedTransaction);
+
+    NamespaceId namespaceId = NamespaceId.createFromName("testaccount2");
+    SignedTransaction namespaceSignedTransaction =
+        template
+            .recipient(namespaceId)
+            .mosaicAmount(mosaicId2, 201)
+            .signWith(account.getSigningContext(), generationHash);
+    assertSameSignedTransaction(
+        createTransfer(namespaceId, 100, 201, 300, 400).signWith(account, generationHash),
+        namespaceSignedTransaction);
+
+    // the previous signed transaction is not affected by the patches.
+    assertSameSignedTransaction(
+        createTransfer(recipient, 100, 200, 300, 400).signWith(account, generationHash),
+        signedTransaction);
+  }
+
+  @Test
+  void mosaicAmountOfUnknownMosaic() {
+    TransferTransactionTemplate template =
+        TransferTransactionTemplate.create(
+            createTransfer(Address.generateRandom(networkType), 1, 2, 3, 4));
+
+    IllegalArgumentException exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> template.mosaicAmount(new MosaicId(BigInteger.TEN), 100));
+    Assertions.assertEquals(
+        "Mosaic 000000000000000A is not transferred by the template", exception.getMessage());
+  }
+}